@@ -162,6 +162,40 @@ public final class CCCardinalityNetworks {
         result.addClause(output.get(rhs - 1));
     }
 
+    /**
+     * Returns the size of the at-most-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize amkSize(final int n, final int rhs) {
+        if (rhs > n / 2) {
+            final int geq = n - rhs;
+            return CCSorting.sortSize(geq, n, OUTPUT_TO_INPUT).plus(new CCEncodingSize(geq, 0));
+        }
+        return CCSorting.sortSize(rhs + 1, n, INPUT_TO_OUTPUT).plus(new CCEncodingSize(1, 0));
+    }
+
+    /**
+     * Returns the size of the at-least-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize alkSize(final int n, final int rhs) {
+        return amkSize(n, n - rhs);
+    }
+
+    /**
+     * Returns the size of the exactly-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize exkSize(final int n, final int rhs) {
+        return CCSorting.sortSize(rhs + 1, n, BOTH).plus(new CCEncodingSize(2, 0));
+    }
+
     CCIncrementalData incrementalData() {
         return this.incData;
     }
@@ -33,7 +33,7 @@ import org.logicng.configurations.ConfigurationType;
 
 /**
  * The configuration for a cardinality constraint encoder.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.1
  */
 public final class CCConfig extends Configuration {
@@ -46,24 +46,32 @@ public final class CCConfig extends Configuration {
     }
 
     /**
-     * The encoder for at-most-k constraints.
+     * The encoder for at-most-k constraints.  {@code SMALLEST} predicts the size of each encoding for the number of
+     * variables and the right-hand side of the constraint and chooses the one with the fewest clauses and then the
+     * fewest variables.  For incremental encodings the sequential counter, the pairwise cardinality network, and
+     * {@code SMALLEST} fall back to the modular totalizer.
      */
     public enum AMK_ENCODER {
-        TOTALIZER, MODULAR_TOTALIZER, CARDINALITY_NETWORK, BEST
+        TOTALIZER, MODULAR_TOTALIZER, CARDINALITY_NETWORK, BEST, SEQUENTIAL_COUNTER, PAIRWISE_CARDINALITY_NETWORK, SMALLEST
     }
 
     /**
-     * The encoder for at-least-k constraints.
+     * The encoder for at-least-k constraints.  {@code SMALLEST} predicts the size of each encoding for the number of
+     * variables and the right-hand side of the constraint and chooses the one with the fewest clauses and then the
+     * fewest variables.  For incremental encodings the sequential counter, the pairwise cardinality network, and
+     * {@code SMALLEST} fall back to the modular totalizer.
      */
     public enum ALK_ENCODER {
-        TOTALIZER, MODULAR_TOTALIZER, CARDINALITY_NETWORK, BEST
+        TOTALIZER, MODULAR_TOTALIZER, CARDINALITY_NETWORK, BEST, SEQUENTIAL_COUNTER, PAIRWISE_CARDINALITY_NETWORK, SMALLEST
     }
 
     /**
-     * The encoder for exactly-k constraints.
+     * The encoder for exactly-k constraints.  {@code SMALLEST} predicts the size of each encoding for the number of
+     * variables and the right-hand side of the constraint and chooses the one with the fewest clauses and then the
+     * fewest variables.
      */
     public enum EXK_ENCODER {
-        TOTALIZER, CARDINALITY_NETWORK, BEST
+        TOTALIZER, CARDINALITY_NETWORK, BEST, SEQUENTIAL_COUNTER, PAIRWISE_CARDINALITY_NETWORK, SMALLEST
     }
 
     /**
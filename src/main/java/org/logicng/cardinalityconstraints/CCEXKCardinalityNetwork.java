@@ -34,10 +34,10 @@ import org.logicng.formulas.Variable;
 /**
  * Encodes that exactly 'rhs' variables are assigned value true.  Uses the cardinality network
  * encoding due to Asín, Nieuwenhuis, Oliveras, and Rodríguez-Carbonell .
- * @version 1.1
+ * @version 2.5.0
  * @since 1.1
  */
-public final class CCEXKCardinalityNetwork implements CCAtMostK {
+public final class CCEXKCardinalityNetwork implements CCExactlyK {
 
     private final CCCardinalityNetworks cardinalityNetwork;
 
@@ -53,7 +53,7 @@ import java.util.List;
  * has no associated cardinality constraint encoder configuration.  If you change the configuration in the factory,
  * all encoders constructed for this factory will be affected.</li>
  * </ol>
- * @version 2.3.0
+ * @version 2.5.0
  * @since 1.1
  */
 public class CCEncoder {
@@ -72,13 +72,19 @@ public class CCEncoder {
     protected CCAMKCardinalityNetwork amkCardinalityNetwork;
     protected CCAMKModularTotalizer amkModularTotalizer;
     protected CCAMKTotalizer amkTotalizer;
+    protected CCAMKSequentialCounter amkSequentialCounter;
+    protected CCAMKPairwiseCardinalityNetwork amkPairwiseCardinalityNetwork;
 
     protected CCALKTotalizer alkTotalizer;
     protected CCALKModularTotalizer alkModularTotalizer;
     protected CCALKCardinalityNetwork alkCardinalityNetwork;
+    protected CCALKSequentialCounter alkSequentialCounter;
+    protected CCALKPairwiseCardinalityNetwork alkPairwiseCardinalityNetwork;
 
     protected CCEXKTotalizer exkTotalizer;
     protected CCEXKCardinalityNetwork exkCardinalityNetwork;
+    protected CCEXKSequentialCounter exkSequentialCounter;
+    protected CCEXKPairwiseCardinalityNetwork exkPairwiseCardinalityNetwork;
 
     /**
      * Constructs a new cardinality constraint encoder with a given configuration.
@@ -338,9 +344,24 @@ public class CCEncoder {
                 }
                 this.amkCardinalityNetwork.build(result, vars, rhs);
                 break;
+            case SEQUENTIAL_COUNTER:
+                if (this.amkSequentialCounter == null) {
+                    this.amkSequentialCounter = new CCAMKSequentialCounter();
+                }
+                this.amkSequentialCounter.build(result, vars, rhs);
+                break;
+            case PAIRWISE_CARDINALITY_NETWORK:
+                if (this.amkPairwiseCardinalityNetwork == null) {
+                    this.amkPairwiseCardinalityNetwork = new CCAMKPairwiseCardinalityNetwork();
+                }
+                this.amkPairwiseCardinalityNetwork.build(result, vars, rhs);
+                break;
             case BEST:
                 this.bestAMK(vars.length).build(result, vars, rhs);
                 break;
+            case SMALLEST:
+                this.amkEncoder(this.smallestAMK(vars.length, rhs)).build(result, vars, rhs);
+                break;
             default:
                 throw new IllegalStateException("Unknown at-most-k encoder: " + this.config().amkEncoder);
         }
@@ -386,7 +407,10 @@ public class CCEncoder {
                 }
                 this.amkCardinalityNetwork.buildForIncremental(result, vars, rhs);
                 return this.amkCardinalityNetwork.incrementalData();
+            case SEQUENTIAL_COUNTER:
+            case PAIRWISE_CARDINALITY_NETWORK:
             case BEST:
+            case SMALLEST:
                 this.bestAMK(vars.length).build(result, vars, rhs);
                 return this.bestAMK(vars.length).incrementalData();
             default:
@@ -440,9 +464,24 @@ public class CCEncoder {
                 }
                 this.alkCardinalityNetwork.build(result, vars, rhs);
                 break;
+            case SEQUENTIAL_COUNTER:
+                if (this.alkSequentialCounter == null) {
+                    this.alkSequentialCounter = new CCALKSequentialCounter();
+                }
+                this.alkSequentialCounter.build(result, vars, rhs);
+                break;
+            case PAIRWISE_CARDINALITY_NETWORK:
+                if (this.alkPairwiseCardinalityNetwork == null) {
+                    this.alkPairwiseCardinalityNetwork = new CCALKPairwiseCardinalityNetwork();
+                }
+                this.alkPairwiseCardinalityNetwork.build(result, vars, rhs);
+                break;
             case BEST:
                 this.bestALK(vars.length).build(result, vars, rhs);
                 break;
+            case SMALLEST:
+                this.alkEncoder(this.smallestALK(vars.length, rhs)).build(result, vars, rhs);
+                break;
             default:
                 throw new IllegalStateException("Unknown at-least-k encoder: " + this.config().alkEncoder);
         }
@@ -495,7 +534,10 @@ public class CCEncoder {
                 }
                 this.alkCardinalityNetwork.buildForIncremental(result, vars, rhs);
                 return this.alkCardinalityNetwork.incrementalData();
+            case SEQUENTIAL_COUNTER:
+            case PAIRWISE_CARDINALITY_NETWORK:
             case BEST:
+            case SMALLEST:
                 this.bestALK(vars.length).build(result, vars, rhs);
                 return this.bestALK(vars.length).incrementalData();
             default:
@@ -542,9 +584,24 @@ public class CCEncoder {
                 }
                 this.exkCardinalityNetwork.build(result, vars, rhs);
                 break;
+            case SEQUENTIAL_COUNTER:
+                if (this.exkSequentialCounter == null) {
+                    this.exkSequentialCounter = new CCEXKSequentialCounter();
+                }
+                this.exkSequentialCounter.build(result, vars, rhs);
+                break;
+            case PAIRWISE_CARDINALITY_NETWORK:
+                if (this.exkPairwiseCardinalityNetwork == null) {
+                    this.exkPairwiseCardinalityNetwork = new CCEXKPairwiseCardinalityNetwork();
+                }
+                this.exkPairwiseCardinalityNetwork.build(result, vars, rhs);
+                break;
             case BEST:
                 this.bestEXK(vars.length).build(result, vars, rhs);
                 break;
+            case SMALLEST:
+                this.exkEncoder(this.smallestEXK(vars.length, rhs)).build(result, vars, rhs);
+                break;
             default:
                 throw new IllegalStateException("Unknown exactly-k encoder: " + this.config().exkEncoder);
         }
@@ -613,6 +670,320 @@ public class CCEncoder {
         return this.exkTotalizer;
     }
 
+    /**
+     * Predicts the size of the encoding of an at-most-k constraint {@code var_1 + ... + var_n <= rhs} with the given
+     * encoder, i.e. the number of clauses and auxiliary variables which {@link #encode(CardinalityConstraint)} would
+     * generate for it if {@code rhs > 1}.  The sizes are computed by closed or counting formulas without encoding the constraint.
+     * @param encoder the at-most-k encoder
+     * @param n       the number of variables
+     * @param rhs     the right-hand side
+     * @return the predicted size of the encoding
+     * @throws IllegalArgumentException if the right-hand side is negative
+     */
+    public CCEncodingSize predictAMKSize(final CCConfig.AMK_ENCODER encoder, final int n, final int rhs) {
+        if (rhs < 0) {
+            throw new IllegalArgumentException("Invalid right hand side of cardinality constraint: " + rhs);
+        }
+        if (rhs >= n) {
+            return new CCEncodingSize(0, 0);
+        }
+        if (rhs == 0) {
+            return new CCEncodingSize(n, 0);
+        }
+        switch (encoder) {
+            case BEST:
+                return this.predictAMKSize(CCConfig.AMK_ENCODER.MODULAR_TOTALIZER, n, rhs);
+            case SMALLEST:
+                return this.predictAMKSize(this.smallestAMK(n, rhs), n, rhs);
+            default:
+                return computeAMKSize(encoder, n, rhs);
+        }
+    }
+
+    /**
+     * Predicts the size of the encoding of an at-least-k constraint {@code var_1 + ... + var_n >= rhs} with the given
+     * encoder, i.e. the number of clauses and auxiliary variables which {@link #encode(CardinalityConstraint)} would
+     * generate for it.  The sizes are computed by closed or counting formulas without encoding the constraint.
+     * @param encoder the at-least-k encoder
+     * @param n       the number of variables
+     * @param rhs     the right-hand side
+     * @return the predicted size of the encoding
+     * @throws IllegalArgumentException if the right-hand side is negative
+     */
+    public CCEncodingSize predictALKSize(final CCConfig.ALK_ENCODER encoder, final int n, final int rhs) {
+        if (rhs < 0) {
+            throw new IllegalArgumentException("Invalid right hand side of cardinality constraint: " + rhs);
+        }
+        if (rhs > n || rhs == 1) {
+            return new CCEncodingSize(1, 0);
+        }
+        if (rhs == 0) {
+            return new CCEncodingSize(0, 0);
+        }
+        if (rhs == n) {
+            return new CCEncodingSize(n, 0);
+        }
+        switch (encoder) {
+            case BEST:
+                return this.predictALKSize(CCConfig.ALK_ENCODER.MODULAR_TOTALIZER, n, rhs);
+            case SMALLEST:
+                return this.predictALKSize(this.smallestALK(n, rhs), n, rhs);
+            default:
+                return computeALKSize(encoder, n, rhs);
+        }
+    }
+
+    /**
+     * Predicts the size of the encoding of an exactly-k constraint {@code var_1 + ... + var_n = rhs} with the given
+     * encoder, i.e. the number of clauses and auxiliary variables which {@link #encode(CardinalityConstraint)} would
+     * generate for it if {@code rhs > 1}.  The sizes are computed by closed or counting formulas without encoding the constraint.
+     * @param encoder the exactly-k encoder
+     * @param n       the number of variables
+     * @param rhs     the right-hand side
+     * @return the predicted size of the encoding
+     * @throws IllegalArgumentException if the right-hand side is negative
+     */
+    public CCEncodingSize predictEXKSize(final CCConfig.EXK_ENCODER encoder, final int n, final int rhs) {
+        if (rhs < 0) {
+            throw new IllegalArgumentException("Invalid right hand side of cardinality constraint: " + rhs);
+        }
+        if (rhs > n) {
+            return new CCEncodingSize(1, 0);
+        }
+        if (rhs == 0 || rhs == n) {
+            return new CCEncodingSize(n, 0);
+        }
+        switch (encoder) {
+            case BEST:
+                return this.predictEXKSize(CCConfig.EXK_ENCODER.TOTALIZER, n, rhs);
+            case SMALLEST:
+                return this.predictEXKSize(this.smallestEXK(n, rhs), n, rhs);
+            default:
+                return computeEXKSize(encoder, n, rhs);
+        }
+    }
+
+    /**
+     * Returns the at-most-k encoder with the smallest predicted encoding for a given number of variables and
+     * right-hand side.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the at-most-k encoder with the smallest encoding
+     */
+    protected CCConfig.AMK_ENCODER smallestAMK(final int n, final int rhs) {
+        CCConfig.AMK_ENCODER smallest = null;
+        CCEncodingSize smallestSize = null;
+        for (final CCConfig.AMK_ENCODER encoder : CCConfig.AMK_ENCODER.values()) {
+            if (encoder != CCConfig.AMK_ENCODER.BEST && encoder != CCConfig.AMK_ENCODER.SMALLEST) {
+                final CCEncodingSize size = this.predictAMKSize(encoder, n, rhs);
+                if (smallestSize == null || size.compareTo(smallestSize) < 0) {
+                    smallest = encoder;
+                    smallestSize = size;
+                }
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * Returns the at-least-k encoder with the smallest predicted encoding for a given number of variables and
+     * right-hand side.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the at-least-k encoder with the smallest encoding
+     */
+    protected CCConfig.ALK_ENCODER smallestALK(final int n, final int rhs) {
+        CCConfig.ALK_ENCODER smallest = null;
+        CCEncodingSize smallestSize = null;
+        for (final CCConfig.ALK_ENCODER encoder : CCConfig.ALK_ENCODER.values()) {
+            if (encoder != CCConfig.ALK_ENCODER.BEST && encoder != CCConfig.ALK_ENCODER.SMALLEST) {
+                final CCEncodingSize size = this.predictALKSize(encoder, n, rhs);
+                if (smallestSize == null || size.compareTo(smallestSize) < 0) {
+                    smallest = encoder;
+                    smallestSize = size;
+                }
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * Returns the exactly-k encoder with the smallest predicted encoding for a given number of variables and
+     * right-hand side.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the exactly-k encoder with the smallest encoding
+     */
+    protected CCConfig.EXK_ENCODER smallestEXK(final int n, final int rhs) {
+        CCConfig.EXK_ENCODER smallest = null;
+        CCEncodingSize smallestSize = null;
+        for (final CCConfig.EXK_ENCODER encoder : CCConfig.EXK_ENCODER.values()) {
+            if (encoder != CCConfig.EXK_ENCODER.BEST && encoder != CCConfig.EXK_ENCODER.SMALLEST) {
+                final CCEncodingSize size = this.predictEXKSize(encoder, n, rhs);
+                if (smallestSize == null || size.compareTo(smallestSize) < 0) {
+                    smallest = encoder;
+                    smallestSize = size;
+                }
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * Returns the at-most-k encoder for the given encoder type.
+     * @param encoder the encoder type
+     * @return the at-most-k encoder
+     */
+    protected CCAtMostK amkEncoder(final CCConfig.AMK_ENCODER encoder) {
+        switch (encoder) {
+            case TOTALIZER:
+                if (this.amkTotalizer == null) {
+                    this.amkTotalizer = new CCAMKTotalizer();
+                }
+                return this.amkTotalizer;
+            case MODULAR_TOTALIZER:
+                if (this.amkModularTotalizer == null) {
+                    this.amkModularTotalizer = new CCAMKModularTotalizer(this.f);
+                }
+                return this.amkModularTotalizer;
+            case CARDINALITY_NETWORK:
+                if (this.amkCardinalityNetwork == null) {
+                    this.amkCardinalityNetwork = new CCAMKCardinalityNetwork();
+                }
+                return this.amkCardinalityNetwork;
+            case SEQUENTIAL_COUNTER:
+                if (this.amkSequentialCounter == null) {
+                    this.amkSequentialCounter = new CCAMKSequentialCounter();
+                }
+                return this.amkSequentialCounter;
+            case PAIRWISE_CARDINALITY_NETWORK:
+                if (this.amkPairwiseCardinalityNetwork == null) {
+                    this.amkPairwiseCardinalityNetwork = new CCAMKPairwiseCardinalityNetwork();
+                }
+                return this.amkPairwiseCardinalityNetwork;
+            default:
+                throw new IllegalStateException("Unknown at-most-k encoder: " + encoder);
+        }
+    }
+
+    /**
+     * Returns the at-least-k encoder for the given encoder type.
+     * @param encoder the encoder type
+     * @return the at-least-k encoder
+     */
+    protected CCAtLeastK alkEncoder(final CCConfig.ALK_ENCODER encoder) {
+        switch (encoder) {
+            case TOTALIZER:
+                if (this.alkTotalizer == null) {
+                    this.alkTotalizer = new CCALKTotalizer();
+                }
+                return this.alkTotalizer;
+            case MODULAR_TOTALIZER:
+                if (this.alkModularTotalizer == null) {
+                    this.alkModularTotalizer = new CCALKModularTotalizer(this.f);
+                }
+                return this.alkModularTotalizer;
+            case CARDINALITY_NETWORK:
+                if (this.alkCardinalityNetwork == null) {
+                    this.alkCardinalityNetwork = new CCALKCardinalityNetwork();
+                }
+                return this.alkCardinalityNetwork;
+            case SEQUENTIAL_COUNTER:
+                if (this.alkSequentialCounter == null) {
+                    this.alkSequentialCounter = new CCALKSequentialCounter();
+                }
+                return this.alkSequentialCounter;
+            case PAIRWISE_CARDINALITY_NETWORK:
+                if (this.alkPairwiseCardinalityNetwork == null) {
+                    this.alkPairwiseCardinalityNetwork = new CCALKPairwiseCardinalityNetwork();
+                }
+                return this.alkPairwiseCardinalityNetwork;
+            default:
+                throw new IllegalStateException("Unknown at-least-k encoder: " + encoder);
+        }
+    }
+
+    /**
+     * Returns the exactly-k encoder for the given encoder type.
+     * @param encoder the encoder type
+     * @return the exactly-k encoder
+     */
+    protected CCExactlyK exkEncoder(final CCConfig.EXK_ENCODER encoder) {
+        switch (encoder) {
+            case TOTALIZER:
+                if (this.exkTotalizer == null) {
+                    this.exkTotalizer = new CCEXKTotalizer();
+                }
+                return this.exkTotalizer;
+            case CARDINALITY_NETWORK:
+                if (this.exkCardinalityNetwork == null) {
+                    this.exkCardinalityNetwork = new CCEXKCardinalityNetwork();
+                }
+                return this.exkCardinalityNetwork;
+            case SEQUENTIAL_COUNTER:
+                if (this.exkSequentialCounter == null) {
+                    this.exkSequentialCounter = new CCEXKSequentialCounter();
+                }
+                return this.exkSequentialCounter;
+            case PAIRWISE_CARDINALITY_NETWORK:
+                if (this.exkPairwiseCardinalityNetwork == null) {
+                    this.exkPairwiseCardinalityNetwork = new CCEXKPairwiseCardinalityNetwork();
+                }
+                return this.exkPairwiseCardinalityNetwork;
+            default:
+                throw new IllegalStateException("Unknown exactly-k encoder: " + encoder);
+        }
+    }
+
+    private static CCEncodingSize computeAMKSize(final CCConfig.AMK_ENCODER encoder, final int n, final int rhs) {
+        switch (encoder) {
+            case TOTALIZER:
+                return CCTotalizer.amkSize(n, rhs);
+            case MODULAR_TOTALIZER:
+                return CCModularTotalizer.amkSize(n, rhs);
+            case CARDINALITY_NETWORK:
+                return CCCardinalityNetworks.amkSize(n, rhs);
+            case SEQUENTIAL_COUNTER:
+                return CCSequentialCounter.amkSize(n, rhs);
+            case PAIRWISE_CARDINALITY_NETWORK:
+                return CCPairwiseCardinalityNetworks.amkSize(n, rhs);
+            default:
+                throw new IllegalStateException("Unknown at-most-k encoder: " + encoder);
+        }
+    }
+
+    private static CCEncodingSize computeALKSize(final CCConfig.ALK_ENCODER encoder, final int n, final int rhs) {
+        switch (encoder) {
+            case TOTALIZER:
+                return CCTotalizer.alkSize(n, rhs);
+            case MODULAR_TOTALIZER:
+                return CCModularTotalizer.alkSize(n, rhs);
+            case CARDINALITY_NETWORK:
+                return CCCardinalityNetworks.alkSize(n, rhs);
+            case SEQUENTIAL_COUNTER:
+                return CCSequentialCounter.alkSize(n, rhs);
+            case PAIRWISE_CARDINALITY_NETWORK:
+                return CCPairwiseCardinalityNetworks.alkSize(n, rhs);
+            default:
+                throw new IllegalStateException("Unknown at-least-k encoder: " + encoder);
+        }
+    }
+
+    private static CCEncodingSize computeEXKSize(final CCConfig.EXK_ENCODER encoder, final int n, final int rhs) {
+        switch (encoder) {
+            case TOTALIZER:
+                return CCTotalizer.exkSize(n, rhs);
+            case CARDINALITY_NETWORK:
+                return CCCardinalityNetworks.exkSize(n, rhs);
+            case SEQUENTIAL_COUNTER:
+                return CCSequentialCounter.exkSize(n, rhs);
+            case PAIRWISE_CARDINALITY_NETWORK:
+                return CCPairwiseCardinalityNetworks.exkSize(n, rhs);
+            default:
+                throw new IllegalStateException("Unknown exactly-k encoder: " + encoder);
+        }
+    }
+
     @Override
     public String toString() {
         return this.config().toString();
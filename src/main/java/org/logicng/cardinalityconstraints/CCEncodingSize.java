@@ -0,0 +1,106 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.cardinalityconstraints;
+
+import java.util.Objects;
+
+/**
+ * The size of the CNF encoding of a cardinality constraint, i.e. the number of generated clauses and the number of
+ * generated auxiliary variables.  Sizes are ordered by their number of clauses first and their number of variables
+ * second.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class CCEncodingSize implements Comparable<CCEncodingSize> {
+
+    private final long clauses;
+    private final long variables;
+
+    /**
+     * Constructs a new encoding size.
+     * @param clauses   the number of clauses
+     * @param variables the number of auxiliary variables
+     */
+    public CCEncodingSize(final long clauses, final long variables) {
+        this.clauses = clauses;
+        this.variables = variables;
+    }
+
+    /**
+     * Returns the number of clauses of the encoding.
+     * @return the number of clauses
+     */
+    public long clauses() {
+        return this.clauses;
+    }
+
+    /**
+     * Returns the number of auxiliary variables of the encoding.
+     * @return the number of auxiliary variables
+     */
+    public long variables() {
+        return this.variables;
+    }
+
+    /**
+     * Returns the sum of this size and the given size.
+     * @param other the other size
+     * @return the sum of both sizes
+     */
+    CCEncodingSize plus(final CCEncodingSize other) {
+        return new CCEncodingSize(this.clauses + other.clauses, this.variables + other.variables);
+    }
+
+    @Override
+    public int compareTo(final CCEncodingSize other) {
+        final int cmp = Long.compare(this.clauses, other.clauses);
+        return cmp != 0 ? cmp : Long.compare(this.variables, other.variables);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof CCEncodingSize) {
+            final CCEncodingSize o = (CCEncodingSize) other;
+            return this.clauses == o.clauses && this.variables == o.variables;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.clauses, this.variables);
+    }
+
+    @Override
+    public String toString() {
+        return "CCEncodingSize{clauses=" + this.clauses + ", variables=" + this.variables + "}";
+    }
+}
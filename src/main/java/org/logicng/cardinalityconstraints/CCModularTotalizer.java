@@ -55,6 +55,9 @@ import org.logicng.formulas.FormulaFactory;
 import org.logicng.formulas.Literal;
 import org.logicng.formulas.Variable;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Modular Totalizer.
  * @version 2.0.0
@@ -348,6 +351,128 @@ public final class CCModularTotalizer {
         }
     }
 
+    /**
+     * Returns the size of the at-most-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize amkSize(final int n, final int rhs) {
+        return size(n, rhs);
+    }
+
+    /**
+     * Returns the size of the at-least-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize alkSize(final int n, final int rhs) {
+        return size(n, n - rhs);
+    }
+
+    /**
+     * Returns the number of clauses and auxiliary variables generated by {@link #initialize}, {@link #toCNF} and
+     * {@link #encodeOutput} for an at-most-{@code rhs} constraint over {@code n} literals.  The counts follow the
+     * encoding step by step without generating any formulas.
+     */
+    private static CCEncodingSize size(final int n, final int rhs) {
+        final int mod = (int) Math.ceil(Math.sqrt(rhs + 1.0));
+        final int upper = n / mod;
+        final int lower = mod - 1;
+        final int ulimit = (rhs + 1) / mod;
+        final int llimit = (rhs + 1) - ulimit * mod;
+        long clauses = Math.max(0, Math.max(upper, 1) - ulimit);
+        if (ulimit == 0 || llimit != 0) {
+            clauses += Math.max(0, lower - llimit + 1);
+        } else {
+            clauses++;
+        }
+        return new CCEncodingSize(clauses, upper + lower).plus(nodeSize(mod, rhs + 1, upper, lower, n, new HashMap<>()));
+    }
+
+    /**
+     * Returns the size of a node generated by {@link #toCNF} for a sub-tree with the given number of inputs.  The
+     * upper and lower output variables of such a node only depend on its number of inputs, so the sizes are cached
+     * by the number of inputs.
+     */
+    private static CCEncodingSize childSize(final int mod, final int cardinalityRhs, final int inputs,
+                                            final Map<Integer, CCEncodingSize> cache) {
+        final CCEncodingSize cached = cache.get(inputs);
+        if (cached != null) {
+            return cached;
+        }
+        final int[] outputs = childOutputs(mod, inputs);
+        final CCEncodingSize size = nodeSize(mod, cardinalityRhs, outputs[0], outputs[1], inputs, cache);
+        cache.put(inputs, size);
+        return size;
+    }
+
+    /**
+     * Returns the number of upper and lower output literals of a sub-tree with the given number of inputs.  An upper
+     * size of 0 represents the single undefined literal, a sub-tree with one input has this input as lower output.
+     */
+    private static int[] childOutputs(final int mod, final int inputs) {
+        if (inputs == 1) {
+            return new int[]{0, 1};
+        }
+        final int upper = inputs / mod;
+        final int lower = upper % mod == 0 && inputs < mod - 1 ? inputs : mod - 1;
+        return new int[]{upper, lower};
+    }
+
+    /**
+     * Returns the size of the encoding of {@link #toCNF} for a node with the given output sizes.  An upper size of 0
+     * represents the single undefined literal.
+     */
+    private static CCEncodingSize nodeSize(final int mod, final int cardinalityRhs, final int upper, final int lower,
+                                           final int inputs, final Map<Integer, CCEncodingSize> cache) {
+        final int split = inputs / 2;
+        final int[] left = childOutputs(mod, split);
+        final int[] right = childOutputs(mod, inputs - split);
+        long variables = 0;
+        if (split != 1) {
+            variables += left[0] + left[1];
+        }
+        if (inputs - split != 1) {
+            variables += right[0] + right[1];
+        }
+        long clauses = 0;
+        for (int i = 0; i <= right[1]; i++) {
+            for (int j = 0; j <= left[1]; j++) {
+                if ((i + j <= cardinalityRhs + 1 || cardinalityRhs + 1 >= mod) && i + j != 0) {
+                    clauses++;
+                }
+            }
+        }
+        if (upper != 0) {
+            variables++;
+            final int closeMod = cardinalityRhs / mod + (cardinalityRhs % mod != 0 ? 1 : 0);
+            for (int i = 0; i <= Math.max(right[0], 1); i++) {
+                for (int j = 0; j <= Math.max(left[0], 1); j++) {
+                    if (i + j > closeMod) {
+                        continue;
+                    }
+                    final boolean inputLiterals = i != 0 && right[0] != 0 || j != 0 && left[0] != 0;
+                    if (inputLiterals && i + j != 0 && i + j - 1 < upper) {
+                        clauses++;
+                    }
+                    if (inputLiterals || i + j < upper) {
+                        clauses++;
+                    }
+                }
+            }
+        }
+        CCEncodingSize size = new CCEncodingSize(clauses, variables);
+        if (split > 1) {
+            size = size.plus(childSize(mod, cardinalityRhs, split, cache));
+        }
+        if (inputs - split > 1) {
+            size = size.plus(childSize(mod, cardinalityRhs, inputs - split, cache));
+        }
+        return size;
+    }
+
     @Override
     public String toString() {
         return this.getClass().getSimpleName();
@@ -0,0 +1,317 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.cardinalityconstraints;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.EncodingResult;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+
+/**
+ * Pairwise cardinality networks due to Codish and Zazon-Ivry.
+ * <p>
+ * The variables are sorted by Parberry's pairwise sorting network, padded with constant false inputs to the next
+ * power of two.  Only the comparators in the cone of influence of the output wires which decide the constraint are
+ * encoded, and each comparator output is encoded only in the direction required by the constraint (one clause for
+ * the minimum and two clauses for the maximum, or vice versa).  Since an at-most-k constraint over the variables is
+ * equivalent to an at-least-(n-k) constraint over the negated variables, both variants are measured and the smaller
+ * one is encoded.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class CCPairwiseCardinalityNetworks {
+
+    /**
+     * Constructs a new pairwise cardinality network encoder.
+     */
+    CCPairwiseCardinalityNetworks() {
+        // intentionally left empty
+    }
+
+    /**
+     * Builds an at-most-k constraint.
+     * @param result the result
+     * @param vars   the variables
+     * @param rhs    the right-hand side
+     */
+    void buildAMK(final EncodingResult result, final Variable[] vars, final int rhs) {
+        result.reset();
+        final int n = vars.length;
+        new Network(n).encode(result, vars, 0, rhs + 1, n - rhs, 0);
+    }
+
+    /**
+     * Builds an at-least-k constraint.
+     * @param result the result
+     * @param vars   the variables
+     * @param rhs    the right-hand side
+     */
+    void buildALK(final EncodingResult result, final Variable[] vars, final int rhs) {
+        result.reset();
+        final int n = vars.length;
+        new Network(n).encode(result, vars, rhs, 0, 0, n - rhs + 1);
+    }
+
+    /**
+     * Builds an exactly-k constraint.
+     * @param result the result
+     * @param vars   the variables
+     * @param rhs    the right-hand side
+     */
+    void buildEXK(final EncodingResult result, final Variable[] vars, final int rhs) {
+        result.reset();
+        final int n = vars.length;
+        new Network(n).encode(result, vars, rhs, rhs + 1, n - rhs, n - rhs + 1);
+    }
+
+    /**
+     * Returns the size of the at-most-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize amkSize(final int n, final int rhs) {
+        return new Network(n).size(0, rhs + 1, n - rhs, 0);
+    }
+
+    /**
+     * Returns the size of the at-least-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize alkSize(final int n, final int rhs) {
+        return new Network(n).size(rhs, 0, 0, n - rhs + 1);
+    }
+
+    /**
+     * Returns the size of the exactly-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize exkSize(final int n, final int rhs) {
+        return new Network(n).size(rhs, rhs + 1, n - rhs, n - rhs + 1);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+
+    /**
+     * The comparator graph of a pairwise sorting network.  Nodes {@code 0..n-1} are the inputs, each further node
+     * is the minimum or maximum output of a comparator.  The network sorts ascending, i.e. at least {@code t} inputs
+     * are true iff the output wire {@code size - t} is true.
+     */
+    private static final class Network {
+        private static final int FALSE = -1;
+        private static final int UP = 1;
+        private static final int DOWN = 2;
+
+        private final int n;
+        private final LNGIntVector fanin0;
+        private final LNGIntVector fanin1;
+        private final boolean[] isMax;
+        private final int[] wires;
+
+        private Network(final int n) {
+            this.n = n;
+            int size = 1;
+            while (size < n) {
+                size <<= 1;
+            }
+            this.wires = new int[size];
+            this.fanin0 = new LNGIntVector();
+            this.fanin1 = new LNGIntVector();
+            for (int i = 0; i < size; i++) {
+                this.wires[i] = i < size - n ? FALSE : this.addNode(FALSE, FALSE);
+            }
+            final LNGIntVector maxNodes = new LNGIntVector();
+            int a = 1;
+            while (a < size) {
+                this.addLayer(a, a, a, maxNodes);
+                a *= 2;
+            }
+            a /= 4;
+            int e = 1;
+            while (a > 0) {
+                for (int d = e; d > 0; d /= 2) {
+                    this.addLayer(a, d * a, (d + 1) * a, maxNodes);
+                }
+                a /= 2;
+                e = e * 2 + 1;
+            }
+            this.isMax = new boolean[this.fanin0.size()];
+            for (int i = 0; i < maxNodes.size(); i++) {
+                this.isMax[maxNodes.get(i)] = true;
+            }
+        }
+
+        private void addLayer(final int a, final int distance, final int start, final LNGIntVector maxNodes) {
+            int b = start;
+            int c = 0;
+            while (b < this.wires.length) {
+                this.addComparator(b - distance, b, maxNodes);
+                b++;
+                c = (c + 1) % a;
+                if (c == 0) {
+                    b += a;
+                }
+            }
+        }
+
+        private void addComparator(final int i, final int j, final LNGIntVector maxNodes) {
+            final int x = this.wires[i];
+            final int y = this.wires[j];
+            if (x == FALSE || y == FALSE) {
+                this.wires[i] = FALSE;
+                this.wires[j] = x == FALSE ? y : x;
+            } else {
+                this.wires[i] = this.addNode(x, y);
+                this.wires[j] = this.addNode(x, y);
+                maxNodes.push(this.wires[j]);
+            }
+        }
+
+        private int addNode(final int x, final int y) {
+            this.fanin0.push(x);
+            this.fanin1.push(y);
+            return this.fanin0.size() - 1;
+        }
+
+        private int target(final int t) {
+            return t <= 0 || t > this.n ? FALSE : this.wires[this.wires.length - t];
+        }
+
+        /**
+         * Marks the cone of influence of the constraint "at least {@code atLeast} and less than {@code lessThan}
+         * inputs are true", where a value of 0 disables the respective bound.
+         * @param atLeast  the lower bound
+         * @param lessThan the upper bound
+         * @return the marks of the nodes
+         */
+        private int[] mark(final int atLeast, final int lessThan) {
+            final int[] marks = new int[this.fanin0.size()];
+            if (lessThan > 0 && this.target(lessThan) != FALSE) {
+                marks[this.target(lessThan)] |= UP;
+            }
+            if (atLeast > 0 && this.target(atLeast) != FALSE) {
+                marks[this.target(atLeast)] |= DOWN;
+            }
+            for (int i = marks.length - 1; i >= this.n; i--) {
+                if (marks[i] != 0) {
+                    marks[this.fanin0.get(i)] |= marks[i];
+                    marks[this.fanin1.get(i)] |= marks[i];
+                }
+            }
+            return marks;
+        }
+
+        private CCEncodingSize size(final int atLeast, final int lessThan) {
+            final int[] marks = this.mark(atLeast, lessThan);
+            long clauses = 0;
+            long variables = 0;
+            for (int i = this.n; i < marks.length; i++) {
+                if (marks[i] != 0) {
+                    variables++;
+                }
+                if ((marks[i] & UP) != 0) {
+                    clauses += this.isMax[i] ? 2 : 1;
+                }
+                if ((marks[i] & DOWN) != 0) {
+                    clauses += this.isMax[i] ? 1 : 2;
+                }
+            }
+            if (lessThan > 0 && this.target(lessThan) != FALSE) {
+                clauses++;
+            }
+            if (atLeast > 0) {
+                clauses++;
+            }
+            return new CCEncodingSize(clauses, variables);
+        }
+
+        private boolean encodeNegated(final int atLeast, final int lessThan, final int negAtLeast, final int negLessThan) {
+            return this.size(negAtLeast, negLessThan).compareTo(this.size(atLeast, lessThan)) < 0;
+        }
+
+        private CCEncodingSize size(final int atLeast, final int lessThan, final int negAtLeast, final int negLessThan) {
+            return this.encodeNegated(atLeast, lessThan, negAtLeast, negLessThan)
+                    ? this.size(negAtLeast, negLessThan)
+                    : this.size(atLeast, lessThan);
+        }
+
+        private void encode(final EncodingResult result, final Variable[] vars, final int atLeast, final int lessThan,
+                            final int negAtLeast, final int negLessThan) {
+            final boolean negated = this.encodeNegated(atLeast, lessThan, negAtLeast, negLessThan);
+            final int lower = negated ? negAtLeast : atLeast;
+            final int upper = negated ? negLessThan : lessThan;
+            final int[] marks = this.mark(lower, upper);
+            final Literal[] lits = new Literal[marks.length];
+            for (int i = 0; i < this.n; i++) {
+                lits[i] = negated ? vars[i].negate() : vars[i];
+            }
+            for (int i = this.n; i < marks.length; i++) {
+                if (marks[i] == 0) {
+                    continue;
+                }
+                final Literal out = result.newVariable();
+                final Literal x = lits[this.fanin0.get(i)];
+                final Literal y = lits[this.fanin1.get(i)];
+                lits[i] = out;
+                if ((marks[i] & UP) != 0) {
+                    if (this.isMax[i]) {
+                        result.addClause(x.negate(), out);
+                        result.addClause(y.negate(), out);
+                    } else {
+                        result.addClause(x.negate(), y.negate(), out);
+                    }
+                }
+                if ((marks[i] & DOWN) != 0) {
+                    if (this.isMax[i]) {
+                        result.addClause(out.negate(), x, y);
+                    } else {
+                        result.addClause(out.negate(), x);
+                        result.addClause(out.negate(), y);
+                    }
+                }
+            }
+            if (upper > 0 && this.target(upper) != FALSE) {
+                result.addClause(lits[this.target(upper)].negate());
+            }
+            if (lower > 0) {
+                if (this.target(lower) == FALSE) {
+                    result.addClause();
+                } else {
+                    result.addClause(lits[this.target(lower)]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.cardinalityconstraints;
+
+import org.logicng.datastructures.EncodingResult;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+
+/**
+ * The sequential counter encoding due to Sinz.
+ * <p>
+ * An at-most-k constraint over n variables is encoded with (n-1)k auxiliary variables and 2nk + n - 3k - 1 clauses.
+ * An at-least-k constraint is encoded as an at-most-(n-k) constraint over the negated variables.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class CCSequentialCounter {
+
+    /**
+     * Constructs a new sequential counter.
+     */
+    CCSequentialCounter() {
+        // intentionally left empty
+    }
+
+    /**
+     * Builds an at-most-k constraint.
+     * @param result the result
+     * @param vars   the variables
+     * @param rhs    the right-hand side
+     */
+    void buildAMK(final EncodingResult result, final Variable[] vars, final int rhs) {
+        result.reset();
+        this.encodeAMK(result, vars, rhs);
+    }
+
+    /**
+     * Builds an at-least-k constraint.
+     * @param result the result
+     * @param vars   the variables
+     * @param rhs    the right-hand side
+     */
+    void buildALK(final EncodingResult result, final Variable[] vars, final int rhs) {
+        result.reset();
+        this.encodeAMK(result, negate(vars), vars.length - rhs);
+    }
+
+    /**
+     * Builds an exactly-k constraint.
+     * @param result the result
+     * @param vars   the variables
+     * @param rhs    the right-hand side
+     */
+    void buildEXK(final EncodingResult result, final Variable[] vars, final int rhs) {
+        result.reset();
+        this.encodeAMK(result, vars, rhs);
+        this.encodeAMK(result, negate(vars), vars.length - rhs);
+    }
+
+    /**
+     * Returns the size of the at-most-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize amkSize(final int n, final int rhs) {
+        final long k = rhs;
+        return new CCEncodingSize(2 * n * k + n - 3 * k - 1, (n - 1) * k);
+    }
+
+    /**
+     * Returns the size of the at-least-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize alkSize(final int n, final int rhs) {
+        return amkSize(n, n - rhs);
+    }
+
+    /**
+     * Returns the size of the exactly-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize exkSize(final int n, final int rhs) {
+        return amkSize(n, rhs).plus(amkSize(n, n - rhs));
+    }
+
+    private void encodeAMK(final EncodingResult result, final Literal[] lits, final int rhs) {
+        final int n = lits.length;
+        assert rhs > 0 && rhs < n;
+        final Variable[][] s = new Variable[n - 1][rhs];
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < rhs; j++) {
+                s[i][j] = result.newVariable();
+            }
+        }
+        result.addClause(lits[0].negate(), s[0][0]);
+        for (int j = 1; j < rhs; j++) {
+            result.addClause(s[0][j].negate());
+        }
+        for (int i = 1; i < n - 1; i++) {
+            result.addClause(lits[i].negate(), s[i][0]);
+            result.addClause(s[i - 1][0].negate(), s[i][0]);
+            for (int j = 1; j < rhs; j++) {
+                result.addClause(lits[i].negate(), s[i - 1][j - 1].negate(), s[i][j]);
+                result.addClause(s[i - 1][j].negate(), s[i][j]);
+            }
+            result.addClause(lits[i].negate(), s[i - 1][rhs - 1].negate());
+        }
+        result.addClause(lits[n - 1].negate(), s[n - 2][rhs - 1].negate());
+    }
+
+    private static Literal[] negate(final Variable[] vars) {
+        final Literal[] lits = new Literal[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            lits[i] = vars[i].negate();
+        }
+        return lits;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+}
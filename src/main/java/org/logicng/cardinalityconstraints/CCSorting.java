@@ -151,6 +151,124 @@ public final class CCSorting {
         }
     }
 
+    /**
+     * Returns the number of clauses and auxiliary variables which {@link #sort} generates for the given number of
+     * inputs without generating them.
+     * @param m         the counter
+     * @param n         the number of inputs
+     * @param direction the sorting direction
+     * @return the size of the sorting network
+     */
+    static CCEncodingSize sortSize(final int m, final int n, final ImplicationDirection direction) {
+        final long[] size = new long[2];
+        sortSize(m, n, direction, size);
+        return new CCEncodingSize(size[0], size[1]);
+    }
+
+    /**
+     * Adds the number of clauses and auxiliary variables of {@link #sort} to {@code size} and returns the number of
+     * outputs.
+     */
+    private static int sortSize(final int m, final int n, final ImplicationDirection direction, final long[] size) {
+        if (m == 0 || n == 0) {
+            return 0;
+        }
+        final int m2 = Math.min(m, n);
+        if (n == 1) {
+            return 1;
+        }
+        if (n == 2) {
+            comparatorSize(m2, direction, size);
+            return m2;
+        }
+        if (direction != INPUT_TO_OUTPUT) {
+            final int l = n / 2;
+            final int a = sortSize(m2, l, direction, size);
+            final int b = sortSize(m2, n - l, direction, size);
+            return mergeSize(m2, a, b, direction, size);
+        }
+        if (counterSorterValue(m2, n) < directSorterValue(n)) {
+            for (int j = 0; j < m2; j++) {
+                size[1] += n - j;
+                size[0] += 2 * (n - j) - 1;
+            }
+        } else {
+            size[1] += m2;
+            long binomial = 1;
+            for (int count = 1; count <= m2; count++) {
+                binomial = binomial * (n - count + 1) / count;
+                size[0] += binomial;
+            }
+        }
+        return m2;
+    }
+
+    /**
+     * Adds the number of clauses and auxiliary variables of {@link #merge} to {@code size} and returns the number of
+     * outputs.
+     */
+    private static int mergeSize(final int m, final int a, final int b, final ImplicationDirection direction, final long[] size) {
+        if (m == 0) {
+            return 0;
+        }
+        if (a == 0 || b == 0) {
+            return a == 0 ? b : a;
+        }
+        final int m2 = Math.min(m, a + b);
+        if (direction == INPUT_TO_OUTPUT) {
+            size[1] += m2;
+            size[0] += Math.min(m2, a) + Math.min(m2, b);
+            for (int i = 0; i < a; i++) {
+                size[0] += Math.max(0, Math.min(b, m2 - i - 1));
+            }
+            return m2;
+        }
+        final int a2 = Math.min(a, m2);
+        final int b2 = Math.min(b, m2);
+        if (m2 == 1 || a2 == 1 && b2 == 1) {
+            comparatorSize(m2, direction, size);
+            return m2;
+        }
+        final int odd = mergeSize(m2 / 2 + 1, (a2 + 1) / 2, (b2 + 1) / 2, direction, size);
+        final int even = mergeSize(m2 / 2, a2 / 2, b2 / 2, direction, size);
+        int outputs = 1;
+        for (int i = 1, j = 0; ; i++, j++) {
+            if (i < odd && j < even) {
+                if (outputs + 2 <= m2) {
+                    comparatorSize(2, direction, size);
+                    outputs += 2;
+                    if (outputs == m2) {
+                        break;
+                    }
+                } else if (outputs + 1 == m2) {
+                    comparatorSize(1, direction, size);
+                    outputs++;
+                    break;
+                }
+            } else {
+                if (i < odd || j < even) {
+                    outputs++;
+                }
+                break;
+            }
+        }
+        return outputs;
+    }
+
+    /**
+     * Adds the number of clauses and auxiliary variables of a comparator with the given number of outputs to
+     * {@code size}.
+     */
+    private static void comparatorSize(final int outputs, final ImplicationDirection direction, final long[] size) {
+        size[1] += outputs;
+        if (direction == INPUT_TO_OUTPUT || direction == BOTH) {
+            size[0] += outputs == 2 ? 3 : 2;
+        }
+        if (direction == OUTPUT_TO_INPUT || direction == BOTH) {
+            size[0] += outputs == 2 ? 3 : 1;
+        }
+    }
+
     private void comparator(final Literal x1, final Literal x2, final Literal y, final EncodingResult result,
                             final ImplicationDirection direction) {
         assert !x1.equals(x2);
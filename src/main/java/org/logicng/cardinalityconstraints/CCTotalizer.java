@@ -53,9 +53,12 @@ import org.logicng.collections.LNGVector;
 import org.logicng.datastructures.EncodingResult;
 import org.logicng.formulas.Variable;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Totalizer due to Bailleux and Boufkhad.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.0
  */
 public final class CCTotalizer {
@@ -150,6 +153,68 @@ public final class CCTotalizer {
         return this.incData;
     }
 
+    /**
+     * Returns the size of the at-most-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize amkSize(final int n, final int rhs) {
+        return size(n, rhs, Bound.UPPER, new HashMap<>()).plus(new CCEncodingSize(n - rhs, n));
+    }
+
+    /**
+     * Returns the size of the at-least-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize alkSize(final int n, final int rhs) {
+        return size(n, rhs, Bound.LOWER, new HashMap<>()).plus(new CCEncodingSize(rhs, n));
+    }
+
+    /**
+     * Returns the size of the exactly-k encoding of this encoder.
+     * @param n   the number of variables
+     * @param rhs the right-hand side
+     * @return the size of the encoding
+     */
+    static CCEncodingSize exkSize(final int n, final int rhs) {
+        return size(n, rhs, Bound.BOTH, new HashMap<>()).plus(new CCEncodingSize(n, n));
+    }
+
+    /**
+     * Returns the number of clauses and inner auxiliary variables generated by {@link #toCNF} for a node with the
+     * given number of output variables.
+     */
+    private static CCEncodingSize size(final int numVars, final int rhs, final Bound bound, final Map<Integer, CCEncodingSize> cache) {
+        if (numVars <= 1) {
+            return new CCEncodingSize(0, 0);
+        }
+        final CCEncodingSize cached = cache.get(numVars);
+        if (cached != null) {
+            return cached;
+        }
+        final int left = numVars / 2;
+        final int right = numVars - left;
+        long clauses = 0;
+        if (bound == Bound.UPPER || bound == Bound.BOTH) {
+            for (int i = 0; i <= Math.min(left, rhs + 1); i++) {
+                clauses += Math.min(right, rhs + 1 - i) + 1;
+            }
+            clauses--;
+        }
+        if (bound == Bound.LOWER || bound == Bound.BOTH) {
+            clauses += (long) (left + 1) * (right + 1) - 1;
+        }
+        final long variables = (left > 1 ? left : 0) + (right > 1 ? right : 0);
+        final CCEncodingSize size = new CCEncodingSize(clauses, variables)
+                .plus(size(left, rhs, bound, cache))
+                .plus(size(right, rhs, bound, cache));
+        cache.put(numVars, size);
+        return size;
+    }
+
     private void toCNF(final LNGVector<Variable> vars, final int rhs, final Bound bound) {
         final LNGVector<Variable> left = new LNGVector<>();
         final LNGVector<Variable> right = new LNGVector<>();
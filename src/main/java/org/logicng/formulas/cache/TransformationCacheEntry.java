@@ -30,7 +30,7 @@ package org.logicng.formulas.cache;
 
 /**
  * The pre-defined transformation cache entries.
- * @version 2.3.0
+ * @version 2.5.0
  * @since 1.0
  */
 public enum TransformationCacheEntry implements CacheEntry {
@@ -42,6 +42,7 @@ public enum TransformationCacheEntry implements CacheEntry {
     TSEITIN_VARIABLE("Tseitin variable"),
     FACTORIZED_CNF("factorized conjunctive normal form"),
     BDD_CNF("conjunctive normal form via BDD"),
+    AIG_CNF("conjunctive normal form via and-inverter graph"),
     FACTORIZED_DNF("factorized disjunctive normal form"),
     BDD_DNF("disjunctive normal form via BDD"),
     AIG("and-inverter graph"),
@@ -0,0 +1,369 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.io.parsers;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Super class for the hand-written recursive-descent formula parsers.
+ * <p>
+ * These parsers accept exactly the same syntax as their ANTLR counterparts and produce the
+ * same formulas, but they do not need any generated lexer or parser code.  Errors are reported
+ * with the same messages as in {@link FormulaParser}; the cause of a {@link ParserException}
+ * contains the line (starting with 1) and the column (starting with 0) of the offending token,
+ * e.g. {@code line 1:4 mismatched input '<EOF>'}.
+ * <p>
+ * A parser does not hold any state between two calls of a {@code parse} method.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public abstract class FastFormulaParser extends FormulaParser {
+
+    private final boolean pseudoBoolean;
+
+    /**
+     * Constructor.
+     * @param f             the formula factory
+     * @param pseudoBoolean whether pseudo-Boolean constraints should be recognized
+     */
+    protected FastFormulaParser(final FormulaFactory f, final boolean pseudoBoolean) {
+        super(f);
+        this.pseudoBoolean = pseudoBoolean;
+    }
+
+    /**
+     * Parses and returns a given input stream.  The stream is expected to be UTF-8 encoded.
+     * @param inputStream an input stream
+     * @return the {@link Formula} representation of this stream
+     * @throws ParserException if there was a problem with the input stream
+     */
+    @Override
+    public Formula parse(final InputStream inputStream) throws ParserException {
+        if (inputStream == null) {
+            return factory().verum();
+        }
+        return parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses and returns a given string.
+     * @param in a string
+     * @return the {@link Formula} representation of this string
+     * @throws ParserException if the string was not a valid formula
+     */
+    @Override
+    public Formula parse(final String in) throws ParserException {
+        return parse((CharSequence) in);
+    }
+
+    /**
+     * Parses and returns a given char sequence.
+     * @param in a char sequence
+     * @return the {@link Formula} representation of this char sequence
+     * @throws ParserException if the char sequence was not a valid formula
+     */
+    public Formula parse(final CharSequence in) throws ParserException {
+        if (in == null || in.length() == 0) {
+            return factory().verum();
+        }
+        return parse(new FormulaScanner(this.pseudoBoolean, in));
+    }
+
+    /**
+     * Parses and returns the content of a given reader.  The reader is not closed.
+     * @param reader a reader
+     * @return the {@link Formula} representation of the content
+     * @throws ParserException if there was a problem with the reader or the content was not a valid formula
+     */
+    public Formula parse(final Reader reader) throws ParserException {
+        if (reader == null) {
+            return factory().verum();
+        }
+        return parse(new FormulaScanner(this.pseudoBoolean, reader));
+    }
+
+    /**
+     * Parses and returns the UTF-8 encoded bytes between the position and the limit of a given
+     * byte buffer.  The position of the buffer is not changed.
+     * @param buffer a byte buffer
+     * @return the {@link Formula} representation of the content
+     * @throws ParserException if the content was not a valid formula
+     */
+    public Formula parse(final ByteBuffer buffer) throws ParserException {
+        if (buffer == null) {
+            return factory().verum();
+        }
+        return parse(new FormulaScanner(this.pseudoBoolean, buffer));
+    }
+
+    private Formula parse(final FormulaScanner scanner) throws ParserException {
+        try {
+            scanner.advance();
+            if (scanner.type() == FormulaScanner.EOF) {
+                return factory().verum();
+            }
+            final Formula formula = equiv(scanner);
+            expect(scanner, FormulaScanner.EOF);
+            return formula;
+        } catch (final IOException e) {
+            throw new ParserException("IO exception when parsing the formula", e);
+        } catch (final SyntaxError e) {
+            throw new ParserException("Parse cancellation exception when parsing the formula", e);
+        } catch (final LexerException e) {
+            throw new ParserException("Lexer exception when parsing the formula.", e);
+        }
+    }
+
+    private Formula equiv(final FormulaScanner scanner) throws IOException {
+        final Formula first = impl(scanner);
+        if (scanner.type() != FormulaScanner.EQUIV) {
+            return first;
+        }
+        final List<Formula> operands = new ArrayList<>();
+        operands.add(first);
+        while (scanner.type() == FormulaScanner.EQUIV) {
+            scanner.advance();
+            operands.add(impl(scanner));
+        }
+        Formula result = operands.get(operands.size() - 1);
+        for (int i = operands.size() - 2; i >= 0; i--) {
+            result = factory().equivalence(operands.get(i), result);
+        }
+        return result;
+    }
+
+    private Formula impl(final FormulaScanner scanner) throws IOException {
+        final Formula first = disj(scanner);
+        if (scanner.type() != FormulaScanner.IMPL) {
+            return first;
+        }
+        final List<Formula> operands = new ArrayList<>();
+        operands.add(first);
+        while (scanner.type() == FormulaScanner.IMPL) {
+            scanner.advance();
+            operands.add(disj(scanner));
+        }
+        Formula result = operands.get(operands.size() - 1);
+        for (int i = operands.size() - 2; i >= 0; i--) {
+            result = factory().implication(operands.get(i), result);
+        }
+        return result;
+    }
+
+    private Formula disj(final FormulaScanner scanner) throws IOException {
+        final Formula first = conj(scanner);
+        if (scanner.type() != FormulaScanner.OR) {
+            return first;
+        }
+        final LinkedHashSet<Formula> conjunctions = new LinkedHashSet<>();
+        conjunctions.add(first);
+        while (scanner.type() == FormulaScanner.OR) {
+            scanner.advance();
+            conjunctions.add(conj(scanner));
+        }
+        return factory().or(conjunctions);
+    }
+
+    private Formula conj(final FormulaScanner scanner) throws IOException {
+        final Formula first = lit(scanner);
+        if (scanner.type() != FormulaScanner.AND) {
+            return first;
+        }
+        final LinkedHashSet<Formula> literals = new LinkedHashSet<>();
+        literals.add(first);
+        while (scanner.type() == FormulaScanner.AND) {
+            scanner.advance();
+            literals.add(lit(scanner));
+        }
+        return factory().and(literals);
+    }
+
+    private Formula lit(final FormulaScanner scanner) throws IOException {
+        int negations = 0;
+        while (scanner.type() == FormulaScanner.NOT) {
+            scanner.advance();
+            negations++;
+        }
+        Formula result = simp(scanner);
+        for (int i = 0; i < negations; i++) {
+            result = factory().not(result);
+        }
+        return result;
+    }
+
+    private Formula simp(final FormulaScanner scanner) throws IOException {
+        switch (scanner.type()) {
+            case FormulaScanner.LITERAL:
+            case FormulaScanner.NUMBER:
+                if (this.pseudoBoolean && startsComparison(scanner.peek())) {
+                    return comparison(scanner);
+                }
+                final Literal literal = literal(scanner.text());
+                scanner.advance();
+                return literal;
+            case FormulaScanner.TRUE:
+                scanner.advance();
+                return factory().verum();
+            case FormulaScanner.FALSE:
+                scanner.advance();
+                return factory().falsum();
+            case FormulaScanner.LBR:
+                scanner.advance();
+                final Formula formula = equiv(scanner);
+                expect(scanner, FormulaScanner.RBR);
+                return formula;
+            default:
+                throw new SyntaxError(scanner, "no viable alternative at input");
+        }
+    }
+
+    private Formula comparison(final FormulaScanner scanner) throws IOException {
+        final List<Literal> literals = new ArrayList<>();
+        final LNGIntVector coefficients = new LNGIntVector();
+        boolean negate = false;
+        do {
+            if (scanner.type() == FormulaScanner.ADD) {
+                negate = "-".equals(scanner.text());
+                scanner.advance();
+            }
+            final int coefficient = mul(scanner, literals);
+            coefficients.push(negate ? -coefficient : coefficient);
+        } while (scanner.type() == FormulaScanner.ADD);
+        final CType comparator;
+        switch (scanner.type()) {
+            case FormulaScanner.EQ:
+                comparator = CType.EQ;
+                break;
+            case FormulaScanner.LE:
+                comparator = CType.LE;
+                break;
+            case FormulaScanner.LT:
+                comparator = CType.LT;
+                break;
+            case FormulaScanner.GE:
+                comparator = CType.GE;
+                break;
+            case FormulaScanner.GT:
+                comparator = CType.GT;
+                break;
+            default:
+                throw new SyntaxError(scanner, "mismatched input");
+        }
+        scanner.advance();
+        final int rhs = number(scanner);
+        return factory().pbc(comparator, rhs, literals.toArray(new Literal[0]), coefficients.toArray());
+    }
+
+    private int mul(final FormulaScanner scanner, final List<Literal> literals) throws IOException {
+        if (scanner.type() == FormulaScanner.LITERAL) {
+            literals.add(literal(scanner.text()));
+            scanner.advance();
+            return 1;
+        }
+        if (scanner.type() != FormulaScanner.NUMBER) {
+            throw new SyntaxError(scanner, "no viable alternative at input");
+        }
+        if (scanner.peek() != FormulaScanner.MUL) {
+            literals.add(factory().literal(scanner.text(), true));
+            scanner.advance();
+            return 1;
+        }
+        final int coefficient = integer(scanner);
+        scanner.advance();
+        scanner.advance();
+        if (scanner.type() == FormulaScanner.LITERAL) {
+            literals.add(literal(scanner.text()));
+        } else if (scanner.type() == FormulaScanner.NUMBER) {
+            literals.add(factory().literal(scanner.text(), true));
+        } else {
+            throw new SyntaxError(scanner, "no viable alternative at input");
+        }
+        scanner.advance();
+        return coefficient;
+    }
+
+    private int number(final FormulaScanner scanner) throws IOException {
+        if (scanner.type() != FormulaScanner.NUMBER) {
+            throw new SyntaxError(scanner, "mismatched input");
+        }
+        final int value = integer(scanner);
+        scanner.advance();
+        return value;
+    }
+
+    private static int integer(final FormulaScanner scanner) {
+        try {
+            return Integer.parseInt(scanner.text());
+        } catch (final NumberFormatException e) {
+            throw new SyntaxError(scanner, "integer out of range");
+        }
+    }
+
+    private Literal literal(final String text) {
+        return text.charAt(0) == '~' ? factory().literal(text.substring(1), false) : factory().literal(text, true);
+    }
+
+    private static boolean startsComparison(final int type) {
+        return type == FormulaScanner.MUL || type == FormulaScanner.ADD || type >= FormulaScanner.EQ;
+    }
+
+    private static void expect(final FormulaScanner scanner, final int type) throws IOException {
+        if (scanner.type() != type) {
+            throw new SyntaxError(scanner, "mismatched input");
+        }
+        if (type != FormulaScanner.EOF) {
+            scanner.advance();
+        }
+    }
+
+    /**
+     * A syntax error at the current token of a scanner.
+     */
+    private static final class SyntaxError extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        private SyntaxError(final FormulaScanner scanner, final String message) {
+            super(String.format("line %d:%d %s '%s'", scanner.line(), scanner.column(), message, scanner.display()));
+        }
+    }
+}
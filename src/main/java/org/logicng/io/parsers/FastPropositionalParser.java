@@ -0,0 +1,50 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.io.parsers;
+
+import org.logicng.formulas.FormulaFactory;
+
+/**
+ * A hand-written parser for propositional formulas.
+ * <p>
+ * The parser accepts the same syntax as the {@link PropositionalParser} and produces the same
+ * formulas, but it is implemented as a recursive-descent parser without any ANTLR code.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class FastPropositionalParser extends FastFormulaParser {
+
+    /**
+     * Constructs a new parser.
+     * @param f the formula factory
+     */
+    public FastPropositionalParser(final FormulaFactory f) {
+        super(f, false);
+    }
+}
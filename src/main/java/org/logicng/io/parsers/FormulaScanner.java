@@ -0,0 +1,480 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.io.parsers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A hand-written scanner for the token sets of the propositional and the pseudo-Boolean grammar.
+ * <p>
+ * The scanner follows the rules of the ANTLR lexers: the longest match wins and on a tie the
+ * earlier rule of the grammar wins.  It reads its input in chunks into a char buffer and offers
+ * the current token and one token of lookahead.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+final class FormulaScanner {
+
+    static final int EOF = 0;
+    static final int LITERAL = 1;
+    static final int NUMBER = 2;
+    static final int TRUE = 3;
+    static final int FALSE = 4;
+    static final int LBR = 5;
+    static final int RBR = 6;
+    static final int NOT = 7;
+    static final int AND = 8;
+    static final int OR = 9;
+    static final int IMPL = 10;
+    static final int EQUIV = 11;
+    static final int MUL = 12;
+    static final int ADD = 13;
+    static final int EQ = 14;
+    static final int LE = 15;
+    static final int LT = 16;
+    static final int GE = 17;
+    static final int GT = 18;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final boolean pseudoBoolean;
+    private final CharSequence sequence;
+    private final Reader reader;
+    private final ByteBuffer bytes;
+    private final CharsetDecoder decoder;
+    private int sequencePos;
+    private boolean exhausted;
+
+    private char[] buffer;
+    private int start;
+    private int pos;
+    private int limit;
+    private int line;
+    private int column;
+
+    private int type;
+    private String text;
+    private int tokenLine;
+    private int tokenColumn;
+    private boolean hasLookahead;
+    private int nextType;
+    private String nextText;
+    private int nextLine;
+    private int nextColumn;
+
+    private FormulaScanner(final boolean pseudoBoolean, final CharSequence sequence, final Reader reader, final ByteBuffer bytes) {
+        this.pseudoBoolean = pseudoBoolean;
+        this.sequence = sequence;
+        this.reader = reader;
+        this.bytes = bytes == null ? null : bytes.duplicate();
+        this.decoder = bytes == null ? null : StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.buffer = new char[sequence == null ? BUFFER_SIZE : Math.max(16, Math.min(BUFFER_SIZE, sequence.length()))];
+        this.line = 1;
+    }
+
+    /**
+     * Constructs a new scanner on a char sequence.
+     * @param pseudoBoolean whether the tokens of the pseudo-Boolean grammar should be recognized
+     * @param sequence      the char sequence
+     */
+    FormulaScanner(final boolean pseudoBoolean, final CharSequence sequence) {
+        this(pseudoBoolean, sequence, null, null);
+    }
+
+    /**
+     * Constructs a new scanner on a reader.
+     * @param pseudoBoolean whether the tokens of the pseudo-Boolean grammar should be recognized
+     * @param reader        the reader
+     */
+    FormulaScanner(final boolean pseudoBoolean, final Reader reader) {
+        this(pseudoBoolean, null, reader, null);
+    }
+
+    /**
+     * Constructs a new scanner on the UTF-8 encoded bytes between position and limit of a byte buffer.
+     * The position of the given buffer is not changed.
+     * @param pseudoBoolean whether the tokens of the pseudo-Boolean grammar should be recognized
+     * @param bytes         the byte buffer
+     */
+    FormulaScanner(final boolean pseudoBoolean, final ByteBuffer bytes) {
+        this(pseudoBoolean, null, null, bytes);
+    }
+
+    /**
+     * Returns the type of the current token.
+     * @return the type of the current token
+     */
+    int type() {
+        return this.type;
+    }
+
+    /**
+     * Returns the text of the current token.  The text is only available for literals,
+     * numbers, and the additive operators.
+     * @return the text of the current token
+     */
+    String text() {
+        return this.text;
+    }
+
+    /**
+     * Returns the line (starting with 1) of the current token.
+     * @return the line of the current token
+     */
+    int line() {
+        return this.tokenLine;
+    }
+
+    /**
+     * Returns the column (starting with 0) of the current token.
+     * @return the column of the current token
+     */
+    int column() {
+        return this.tokenColumn;
+    }
+
+    /**
+     * Moves to the next token.
+     * @throws IOException    if the input could not be read
+     * @throws LexerException if the input contains an invalid token
+     */
+    void advance() throws IOException {
+        if (this.hasLookahead) {
+            this.hasLookahead = false;
+            this.type = this.nextType;
+            this.text = this.nextText;
+            this.tokenLine = this.nextLine;
+            this.tokenColumn = this.nextColumn;
+        } else {
+            scan();
+        }
+    }
+
+    /**
+     * Returns the type of the token after the current token.
+     * @return the type of the next token
+     * @throws IOException    if the input could not be read
+     * @throws LexerException if the input contains an invalid token
+     */
+    int peek() throws IOException {
+        if (!this.hasLookahead) {
+            final int currentType = this.type;
+            final String currentText = this.text;
+            final int currentLine = this.tokenLine;
+            final int currentColumn = this.tokenColumn;
+            scan();
+            this.nextType = this.type;
+            this.nextText = this.text;
+            this.nextLine = this.tokenLine;
+            this.nextColumn = this.tokenColumn;
+            this.type = currentType;
+            this.text = currentText;
+            this.tokenLine = currentLine;
+            this.tokenColumn = currentColumn;
+            this.hasLookahead = true;
+        }
+        return this.nextType;
+    }
+
+    /**
+     * Returns a human-readable representation of the current token.
+     * @return the display text of the current token
+     */
+    String display() {
+        switch (this.type) {
+            case EOF:
+                return "<EOF>";
+            case LITERAL:
+            case NUMBER:
+            case ADD:
+                return this.text;
+            case TRUE:
+                return "$true";
+            case FALSE:
+                return "$false";
+            case LBR:
+                return "(";
+            case RBR:
+                return ")";
+            case NOT:
+                return "~";
+            case AND:
+                return "&";
+            case OR:
+                return "|";
+            case IMPL:
+                return "=>";
+            case EQUIV:
+                return "<=>";
+            case MUL:
+                return "*";
+            case EQ:
+                return "=";
+            case LE:
+                return "<=";
+            case LT:
+                return "<";
+            case GE:
+                return ">=";
+            default:
+                return ">";
+        }
+    }
+
+    private void scan() throws IOException {
+        int c = charAt(0);
+        while (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+            if (c == '\n') {
+                this.line++;
+                this.column = 0;
+            } else {
+                this.column++;
+            }
+            this.pos++;
+            c = charAt(0);
+        }
+        this.start = this.pos;
+        this.tokenLine = this.line;
+        this.tokenColumn = this.column;
+        this.text = null;
+        switch (c) {
+            case -1:
+                this.type = EOF;
+                return;
+            case '(':
+                token(LBR, 1);
+                return;
+            case ')':
+                token(RBR, 1);
+                return;
+            case '&':
+                token(AND, 1);
+                return;
+            case '|':
+                token(OR, 1);
+                return;
+            case '~':
+                if (this.pseudoBoolean && isIdentifierStart(charAt(1))) {
+                    identifier(2);
+                } else {
+                    token(NOT, 1);
+                }
+                return;
+            case '=':
+                if (charAt(1) == '>') {
+                    token(IMPL, 2);
+                } else if (this.pseudoBoolean) {
+                    token(EQ, 1);
+                } else {
+                    throw error(1);
+                }
+                return;
+            case '<':
+                if (charAt(1) == '=') {
+                    if (charAt(2) == '>') {
+                        token(EQUIV, 3);
+                    } else if (this.pseudoBoolean) {
+                        token(LE, 2);
+                    } else {
+                        throw error(2);
+                    }
+                } else if (this.pseudoBoolean) {
+                    token(LT, 1);
+                } else {
+                    throw error(1);
+                }
+                return;
+            case '$':
+                keyword();
+                return;
+            default:
+                if (this.pseudoBoolean && operator(c)) {
+                    return;
+                }
+                if (!isIdentifierStart(c)) {
+                    throw error(0);
+                }
+                if (this.pseudoBoolean && c >= '0' && c <= '9') {
+                    int length = 1;
+                    while (isDigit(charAt(length))) {
+                        length++;
+                    }
+                    if (isIdentifierPart(charAt(length))) {
+                        identifier(length + 1);
+                    } else {
+                        textToken(NUMBER, length);
+                    }
+                } else {
+                    identifier(1);
+                }
+        }
+    }
+
+    private boolean operator(final int c) throws IOException {
+        switch (c) {
+            case '>':
+                if (charAt(1) == '=') {
+                    token(GE, 2);
+                } else {
+                    token(GT, 1);
+                }
+                return true;
+            case '*':
+                token(MUL, 1);
+                return true;
+            case '+':
+                textToken(ADD, 1);
+                return true;
+            case '-':
+                if (isDigit(charAt(1))) {
+                    int length = 2;
+                    while (isDigit(charAt(length))) {
+                        length++;
+                    }
+                    textToken(NUMBER, length);
+                } else {
+                    textToken(ADD, 1);
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void keyword() throws IOException {
+        final String keyword = charAt(1) == 'f' ? "$false" : "$true";
+        for (int i = 1; i < keyword.length(); i++) {
+            if (charAt(i) != keyword.charAt(i)) {
+                throw error(i);
+            }
+        }
+        token(keyword.length() == 5 ? TRUE : FALSE, keyword.length());
+    }
+
+    private void identifier(final int minLength) throws IOException {
+        int length = minLength;
+        while (isIdentifierPart(charAt(length))) {
+            length++;
+        }
+        textToken(LITERAL, length);
+    }
+
+    private void token(final int tokenType, final int length) {
+        this.type = tokenType;
+        this.pos += length;
+        this.column += length;
+    }
+
+    private void textToken(final int tokenType, final int length) {
+        this.text = new String(this.buffer, this.pos, length);
+        token(tokenType, length);
+    }
+
+    private LexerException error(final int offset) throws IOException {
+        final int end = charAt(offset) == -1 ? this.pos + offset : this.pos + offset + 1;
+        final String errorText = new String(this.buffer, this.pos, end - this.pos);
+        return new LexerException(String.format("line %d:%d token recognition error at: '%s'", this.line, this.column, errorText));
+    }
+
+    private static boolean isDigit(final int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(final int c) {
+        return c == '@' || isIdentifierPart(c);
+    }
+
+    private static boolean isIdentifierPart(final int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '#';
+    }
+
+    private int charAt(final int offset) throws IOException {
+        while (this.pos + offset >= this.limit) {
+            if (!fill()) {
+                return -1;
+            }
+        }
+        return this.buffer[this.pos + offset];
+    }
+
+    private boolean fill() throws IOException {
+        if (this.exhausted) {
+            return false;
+        }
+        if (this.start > 0) {
+            System.arraycopy(this.buffer, this.start, this.buffer, 0, this.limit - this.start);
+            this.pos -= this.start;
+            this.limit -= this.start;
+            this.start = 0;
+        }
+        if (this.buffer.length - this.limit < 2) {
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+        }
+        final int read = read(this.buffer, this.limit, this.buffer.length - this.limit);
+        if (read <= 0) {
+            this.exhausted = true;
+            return false;
+        }
+        this.limit += read;
+        return true;
+    }
+
+    private int read(final char[] target, final int offset, final int length) throws IOException {
+        if (this.sequence != null) {
+            final int count = Math.min(length, this.sequence.length() - this.sequencePos);
+            if (this.sequence instanceof String) {
+                ((String) this.sequence).getChars(this.sequencePos, this.sequencePos + count, target, offset);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    target[offset + i] = this.sequence.charAt(this.sequencePos + i);
+                }
+            }
+            this.sequencePos += count;
+            return count;
+        } else if (this.reader != null) {
+            return this.reader.read(target, offset, length);
+        } else {
+            if (!this.bytes.hasRemaining()) {
+                return -1;
+            }
+            final CharBuffer out = CharBuffer.wrap(target, offset, length);
+            this.decoder.decode(this.bytes, out, true);
+            return out.position() - offset;
+        }
+    }
+}
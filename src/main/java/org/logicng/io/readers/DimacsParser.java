@@ -0,0 +1,479 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.io.readers;
+
+import org.logicng.collections.LNGIntVector;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A streaming byte-level parser for DIMACS CNF and WCNF files.
+ * <p>
+ * In contrast to {@link DimacsReader#readCNF(File, org.logicng.formulas.FormulaFactory)} this parser creates no
+ * strings, variables or formulas.  The clauses are reported as vectors of DIMACS literals (positive or negative
+ * variable numbers) to a {@link ClauseConsumer} or a {@link WeightedClauseConsumer}, e.g. in order to load them
+ * directly into a solver.  The vector passed to the consumer is reused for the next clause, so a consumer must copy
+ * its content if it wants to keep it.
+ * <p>
+ * Clauses may span several lines and are terminated by {@code 0}.  Comment lines start with {@code c}, the problem
+ * line {@code p cnf <variables> <clauses>} is reported to the consumer's {@code header} method, and a line starting
+ * with {@code %} ends the input (as in the SATLIB benchmark files).  WCNF files can be given in the old format with a
+ * problem line {@code p wcnf <variables> <clauses> [<top>]} where clauses with a weight of at least {@code top} are
+ * hard, or in the format of the MaxSAT Evaluation 2022 without problem line where hard clauses start with {@code h}.
+ * A plain CNF file read as WCNF consists of soft clauses with weight 1.
+ * <p>
+ * Files are memory-mapped, gzip-compressed files and streams are detected by their magic number and decompressed on
+ * the fly.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class DimacsParser {
+
+    /**
+     * A consumer for the problem line and the clauses of a DIMACS CNF file.
+     * @version 2.5.0
+     * @since 2.5.0
+     */
+    @FunctionalInterface
+    public interface ClauseConsumer {
+
+        /**
+         * Is called for the problem line {@code p cnf <variables> <clauses>}.
+         * @param numVariables the number of variables given in the problem line
+         * @param numClauses   the number of clauses given in the problem line
+         */
+        default void header(final int numVariables, final int numClauses) {
+            // does nothing by default
+        }
+
+        /**
+         * Is called for each clause of the file.  The vector is reused by the parser after this method returns.
+         * @param literals the DIMACS literals of the clause (without the terminating {@code 0})
+         */
+        void clause(LNGIntVector literals);
+    }
+
+    /**
+     * A consumer for the problem line and the hard and soft clauses of a DIMACS WCNF file.
+     * @version 2.5.0
+     * @since 2.5.0
+     */
+    public interface WeightedClauseConsumer {
+
+        /**
+         * Is called for the problem line {@code p wcnf <variables> <clauses> [<top>]} or {@code p cnf <variables> <clauses>}.
+         * @param numVariables the number of variables given in the problem line
+         * @param numClauses   the number of clauses given in the problem line
+         */
+        default void header(final int numVariables, final int numClauses) {
+            // does nothing by default
+        }
+
+        /**
+         * Is called for each hard clause of the file.  The vector is reused by the parser after this method returns.
+         * @param literals the DIMACS literals of the clause (without the terminating {@code 0})
+         */
+        void hardClause(LNGIntVector literals);
+
+        /**
+         * Is called for each soft clause of the file.  The vector is reused by the parser after this method returns.
+         * @param literals the DIMACS literals of the clause (without the terminating {@code 0})
+         * @param weight   the weight of the clause
+         */
+        void softClause(LNGIntVector literals, long weight);
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long MAX_MAPPED_REGION = 1L << 30;
+
+    private static final int LINE_START = 0;
+    private static final int IN_LINE = 1;
+    private static final int NUMBER = 2;
+    private static final int COMMENT = 3;
+    private static final int PROBLEM_LINE = 4;
+    private static final int HARD_MARK = 5;
+    private static final int END = 6;
+
+    private final ClauseConsumer consumer;
+    private final WeightedClauseConsumer weightedConsumer;
+    private final boolean clausePerLine;
+    private final LNGIntVector clause;
+    private final StringBuilder problemLine;
+    private boolean weightedInput;
+    private long top;
+    private boolean weightRead;
+    private boolean hard;
+    private long weight;
+    private int state;
+    private int line;
+    private boolean negative;
+    private boolean hasDigits;
+    private long value;
+
+    private DimacsParser(final ClauseConsumer consumer, final WeightedClauseConsumer weightedConsumer, final boolean clausePerLine) {
+        this.consumer = consumer;
+        this.weightedConsumer = weightedConsumer;
+        this.clausePerLine = clausePerLine;
+        this.clause = new LNGIntVector();
+        this.problemLine = new StringBuilder();
+        this.weightedInput = weightedConsumer != null;
+        this.top = -1;
+        this.state = LINE_START;
+        this.line = 1;
+    }
+
+    /**
+     * Parses the given DIMACS CNF file and reports its clauses to the given consumer.  Uncompressed files are
+     * memory-mapped, gzip-compressed files are decompressed on the fly.
+     * @param file     the file
+     * @param consumer the consumer for the clauses
+     * @throws IOException              if there was a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid DIMACS CNF file
+     */
+    public static void parse(final File file, final ClauseConsumer consumer) throws IOException {
+        parse(file, consumer, false);
+    }
+
+    /**
+     * Parses the given DIMACS CNF input stream and reports its clauses to the given consumer.  A gzip-compressed stream
+     * is decompressed on the fly.  The stream is not closed by this method.
+     * @param inputStream the input stream
+     * @param consumer    the consumer for the clauses
+     * @throws IOException              if there was a problem reading the stream
+     * @throws IllegalArgumentException if the stream is not a valid DIMACS CNF file
+     */
+    public static void parse(final InputStream inputStream, final ClauseConsumer consumer) throws IOException {
+        new DimacsParser(consumer, null, false).parseStream(inputStream);
+    }
+
+    /**
+     * Parses the remaining bytes of the given (uncompressed) buffer and reports its clauses to the given consumer.
+     * @param buffer   the buffer
+     * @param consumer the consumer for the clauses
+     * @throws IllegalArgumentException if the buffer does not contain a valid DIMACS CNF file
+     */
+    public static void parse(final ByteBuffer buffer, final ClauseConsumer consumer) {
+        final DimacsParser parser = new DimacsParser(consumer, null, false);
+        parser.feed(buffer);
+        parser.finish();
+    }
+
+    /**
+     * Parses the given DIMACS WCNF file and reports its hard and soft clauses to the given consumer.  Uncompressed
+     * files are memory-mapped, gzip-compressed files are decompressed on the fly.
+     * @param file     the file
+     * @param consumer the consumer for the clauses
+     * @throws IOException              if there was a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid DIMACS WCNF file
+     */
+    public static void parseWCNF(final File file, final WeightedClauseConsumer consumer) throws IOException {
+        new DimacsParser(null, consumer, false).parseFile(file);
+    }
+
+    /**
+     * Parses the given DIMACS WCNF input stream and reports its hard and soft clauses to the given consumer.  A
+     * gzip-compressed stream is decompressed on the fly.  The stream is not closed by this method.
+     * @param inputStream the input stream
+     * @param consumer    the consumer for the clauses
+     * @throws IOException              if there was a problem reading the stream
+     * @throws IllegalArgumentException if the stream is not a valid DIMACS WCNF file
+     */
+    public static void parseWCNF(final InputStream inputStream, final WeightedClauseConsumer consumer) throws IOException {
+        new DimacsParser(null, consumer, false).parseStream(inputStream);
+    }
+
+    /**
+     * Parses the remaining bytes of the given (uncompressed) buffer and reports its hard and soft clauses to the given
+     * consumer.
+     * @param buffer   the buffer
+     * @param consumer the consumer for the clauses
+     * @throws IllegalArgumentException if the buffer does not contain a valid DIMACS WCNF file
+     */
+    public static void parseWCNF(final ByteBuffer buffer, final WeightedClauseConsumer consumer) {
+        final DimacsParser parser = new DimacsParser(null, consumer, false);
+        parser.feed(buffer);
+        parser.finish();
+    }
+
+    /**
+     * Parses the given DIMACS CNF file and reports its clauses to the given consumer.
+     * @param file          the file
+     * @param consumer      the consumer for the clauses
+     * @param clausePerLine {@code true} if every clause has to be in its own line and end with {@code 0}, in this
+     *                      case the problem line is not evaluated
+     * @throws IOException if there was a problem reading the file
+     */
+    static void parse(final File file, final ClauseConsumer consumer, final boolean clausePerLine) throws IOException {
+        new DimacsParser(consumer, null, clausePerLine).parseFile(file);
+    }
+
+    /**
+     * Returns the given input stream or a decompressing stream if it is gzip-compressed.
+     * @param inputStream the input stream
+     * @return the (decompressed) input stream
+     * @throws IOException if there was a problem reading the stream
+     */
+    static InputStream decompressIfNecessary(final InputStream inputStream) throws IOException {
+        final PushbackInputStream in = new PushbackInputStream(inputStream, 2);
+        final byte[] magic = new byte[2];
+        int read = 0;
+        int n;
+        while (read < 2 && (n = in.read(magic, read, 2 - read)) > 0) {
+            read += n;
+        }
+        in.unread(magic, 0, read);
+        return read == 2 && isGzipMagic(magic[0], magic[1]) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    private static boolean isGzipMagic(final byte first, final byte second) {
+        return (first & 0xff) == 0x1f && (second & 0xff) == 0x8b;
+    }
+
+    private void parseFile(final File file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final ByteBuffer magic = ByteBuffer.allocate(2);
+            while (magic.hasRemaining() && channel.read(magic, magic.position()) > 0) {
+                // read the first two bytes
+            }
+            if (size >= 2 && isGzipMagic(magic.get(0), magic.get(1))) {
+                try (final InputStream in = new GZIPInputStream(Channels.newInputStream(channel), BUFFER_SIZE)) {
+                    feedStream(in);
+                }
+            } else {
+                for (long position = 0; position < size; position += MAX_MAPPED_REGION) {
+                    feed(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPED_REGION, size - position)));
+                }
+            }
+        }
+        finish();
+    }
+
+    private void parseStream(final InputStream inputStream) throws IOException {
+        feedStream(decompressIfNecessary(inputStream));
+        finish();
+    }
+
+    private void feedStream(final InputStream in) throws IOException {
+        final byte[] bytes = new byte[BUFFER_SIZE];
+        int n;
+        while ((n = in.read(bytes)) >= 0) {
+            for (int i = 0; i < n; i++) {
+                consume(bytes[i]);
+            }
+        }
+    }
+
+    private void feed(final ByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            consume(buffer.get(i));
+        }
+        buffer.position(buffer.limit());
+    }
+
+    private void consume(final byte b) {
+        switch (this.state) {
+            case NUMBER:
+                if (b >= '0' && b <= '9') {
+                    final long limit = expectsWeight() ? Long.MAX_VALUE : Integer.MAX_VALUE;
+                    if (this.value > (limit - (b - '0')) / 10) {
+                        throw new IllegalArgumentException((expectsWeight() ? "Weight" : "Literal") + " out of range in line " + this.line + ".");
+                    }
+                    this.value = this.value * 10 + (b - '0');
+                    this.hasDigits = true;
+                } else if (b == '\n') {
+                    finishNumber();
+                    endLine();
+                } else if (isWhitespace(b)) {
+                    finishNumber();
+                    this.state = IN_LINE;
+                } else {
+                    throw unexpected(b);
+                }
+                break;
+            case IN_LINE:
+            case LINE_START:
+                if (b == '\n') {
+                    endLine();
+                } else if (isWhitespace(b)) {
+                    this.state = IN_LINE;
+                } else if (b >= '0' && b <= '9' || b == '-') {
+                    this.state = NUMBER;
+                    this.negative = b == '-';
+                    this.hasDigits = !this.negative;
+                    this.value = this.negative ? 0 : b - '0';
+                } else if (this.state == LINE_START && b == 'c') {
+                    this.state = COMMENT;
+                } else if (this.state == LINE_START && b == 'p') {
+                    this.state = PROBLEM_LINE;
+                    this.problemLine.setLength(0);
+                    this.problemLine.append('p');
+                } else if (this.state == LINE_START && b == '%') {
+                    this.state = END;
+                } else if (b == 'h' && expectsWeight()) {
+                    this.hard = true;
+                    this.weightRead = true;
+                    this.state = HARD_MARK;
+                } else {
+                    throw unexpected(b);
+                }
+                break;
+            case HARD_MARK:
+                if (b == '\n') {
+                    endLine();
+                } else if (isWhitespace(b)) {
+                    this.state = IN_LINE;
+                } else {
+                    throw unexpected(b);
+                }
+                break;
+            case COMMENT:
+                if (b == '\n') {
+                    this.line++;
+                    this.state = LINE_START;
+                }
+                break;
+            case PROBLEM_LINE:
+                if (b == '\n') {
+                    problemLine();
+                    this.line++;
+                    this.state = LINE_START;
+                } else if (this.problemLine.length() < 256) {
+                    this.problemLine.append((char) (b & 0xff));
+                } else {
+                    throw new IllegalArgumentException("Problem line " + this.line + " is too long.");
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean expectsWeight() {
+        return this.weightedInput && !this.weightRead;
+    }
+
+    private void finishNumber() {
+        if (!this.hasDigits) {
+            throw new IllegalArgumentException("Missing variable number after '-' in line " + this.line + ".");
+        }
+        if (expectsWeight()) {
+            if (this.negative) {
+                throw new IllegalArgumentException("Negative weight in line " + this.line + ".");
+            }
+            this.weight = this.value;
+            this.hard = this.top > 0 && this.weight >= this.top;
+            this.weightRead = true;
+        } else if (this.value == 0) {
+            if (this.weightedConsumer == null) {
+                this.consumer.clause(this.clause);
+            } else if (!this.weightedInput) {
+                this.weightedConsumer.softClause(this.clause, 1);
+            } else if (this.hard) {
+                this.weightedConsumer.hardClause(this.clause);
+            } else {
+                this.weightedConsumer.softClause(this.clause, this.weight);
+            }
+            this.clause.clear();
+            this.weightRead = false;
+        } else {
+            this.clause.push(this.negative ? (int) -this.value : (int) this.value);
+        }
+    }
+
+    private void endLine() {
+        if (this.clausePerLine && !this.clause.empty()) {
+            throw new IllegalArgumentException("Line '" + pendingClause() + "' did not end with 0.");
+        }
+        this.line++;
+        this.state = LINE_START;
+    }
+
+    private void finish() {
+        if (this.state == NUMBER) {
+            finishNumber();
+        } else if (this.state == PROBLEM_LINE) {
+            problemLine();
+        }
+        if (!this.clause.empty() || this.weightRead) {
+            if (this.clausePerLine) {
+                throw new IllegalArgumentException("Line '" + pendingClause() + "' did not end with 0.");
+            }
+            throw new IllegalArgumentException("The last clause in line " + this.line + " is not terminated by 0.");
+        }
+    }
+
+    private void problemLine() {
+        if (this.clausePerLine) {
+            return;
+        }
+        final String content = this.problemLine.toString().trim();
+        final String[] tokens = content.split("\\s+");
+        final boolean wcnf = this.weightedConsumer != null && tokens.length >= 2 && "wcnf".equals(tokens[1]);
+        if (!"p".equals(tokens[0]) || !(tokens.length == 4 && "cnf".equals(tokens[1]) || wcnf && (tokens.length == 4 || tokens.length == 5))) {
+            throw new IllegalArgumentException("Invalid problem line '" + content + "' in line " + this.line + ".");
+        }
+        try {
+            final int numVariables = Integer.parseInt(tokens[2]);
+            final int numClauses = Integer.parseInt(tokens[3]);
+            this.top = tokens.length == 5 ? Long.parseLong(tokens[4]) : -1;
+            this.weightedInput = wcnf;
+            if (this.weightedConsumer == null) {
+                this.consumer.header(numVariables, numClauses);
+            } else {
+                this.weightedConsumer.header(numVariables, numClauses);
+            }
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid problem line '" + content + "' in line " + this.line + ".");
+        }
+    }
+
+    private String pendingClause() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < this.clause.size(); i++) {
+            sb.append(i == 0 ? "" : " ").append(this.clause.get(i));
+        }
+        return sb.toString();
+    }
+
+    private IllegalArgumentException unexpected(final byte b) {
+        return new IllegalArgumentException("Unexpected character '" + (char) (b & 0xff) + "' in line " + this.line + ".");
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f';
+    }
+}
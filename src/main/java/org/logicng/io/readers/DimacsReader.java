@@ -28,13 +28,16 @@
 
 package org.logicng.io.readers;
 
+import org.logicng.collections.LNGIntVector;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MaxSATSolver;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.MiniSatStyleSolver;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
@@ -45,8 +48,13 @@ import java.util.List;
  * <p>
  * This reader reads all the clauses and variables - independent of the numbers given in the prefix. Also, it assumes
  * that every clause is in its own line and ends with '0'.  Comments are only allowed if the lines start with 'c'.  No
- * C style comments are supported (yes, we have actually seen these in DIMACS files).
- * @version 1.3
+ * C style comments are supported (yes, we have actually seen these in DIMACS files).  Gzip-compressed files are
+ * decompressed on the fly.
+ * <p>
+ * The {@code loadCNF} methods add the clauses of a DIMACS file directly to a SAT solver without creating any formulas,
+ * the {@code loadWCNF} methods add the hard and soft clauses of a WCNF file to a MaxSAT solver.  Clauses may span
+ * several lines there.  For other use cases of the streaming parser see {@link DimacsParser}.
+ * @version 2.5.0
  * @since 1.2
  */
 public final class DimacsReader {
@@ -79,29 +87,8 @@ public final class DimacsReader {
      */
     public static List<Formula> readCNF(final File file, final FormulaFactory f, final String prefix) throws IOException {
         final List<Formula> result = new ArrayList<>();
-        try (final BufferedReader br = new BufferedReader(new FileReader(file))) {
-            while (br.ready()) {
-                final String line = br.readLine();
-                if (!line.startsWith("c") && !line.startsWith("p") && !line.trim().isEmpty()) {
-                    final String[] split = line.split("\\s+");
-                    if (!"0".equals(split[split.length - 1].trim())) {
-                        throw new IllegalArgumentException("Line '" + line + "' did not end with 0.");
-                    }
-                    final LinkedHashSet<Literal> vars = new LinkedHashSet<>(split.length - 1);
-                    for (int i = 0; i < split.length - 1; i++) {
-                        final String lit = split[i].trim();
-                        if (!lit.isEmpty()) {
-                            if (lit.startsWith("-")) {
-                                vars.add(f.literal(prefix + split[i].trim().substring(1), false));
-                            } else {
-                                vars.add(f.variable(prefix + split[i].trim()));
-                            }
-                        }
-                    }
-                    result.add(f.or(vars));
-                }
-            }
-        }
+        final ClauseBuilder builder = new ClauseBuilder(f, prefix);
+        DimacsParser.parse(file, literals -> result.add(builder.clause(literals)), true);
         return result;
     }
 
@@ -128,4 +115,174 @@ public final class DimacsReader {
         return readCNF(new File(fileName), f, prefix);
     }
 
+    /**
+     * Adds the hard and soft clauses of a given DIMACS WCNF file to the given MaxSAT solver.  The prefix {@code v} is
+     * used for the variables names.
+     * @param file   the file
+     * @param solver the MaxSAT solver
+     * @throws IOException if there was a problem reading the file
+     */
+    public static void loadWCNF(final File file, final MaxSATSolver solver) throws IOException {
+        loadWCNF(file, solver, "v");
+    }
+
+    /**
+     * Adds the hard and soft clauses of a given DIMACS WCNF file to the given MaxSAT solver.  Both the old format with
+     * a {@code top} weight for hard clauses and the format of the MaxSAT Evaluation 2022 with hard clauses starting
+     * with {@code h} are supported, the clauses of a plain DIMACS CNF file are added as soft clauses with weight 1.
+     * Soft clauses with weight 0 are ignored.  The clauses are added one by one, the file is never materialized.
+     * @param file   the file
+     * @param solver the MaxSAT solver
+     * @param prefix the prefix for the variable names
+     * @throws IOException              if there was a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid WCNF file or contains weights which are too large
+     *                                  for the solver
+     */
+    public static void loadWCNF(final File file, final MaxSATSolver solver, final String prefix) throws IOException {
+        final ClauseBuilder builder = new ClauseBuilder(solver.factory(), prefix);
+        DimacsParser.parseWCNF(file, new DimacsParser.WeightedClauseConsumer() {
+            @Override
+            public void hardClause(final LNGIntVector literals) {
+                solver.addHardFormula(builder.clause(literals));
+            }
+
+            @Override
+            public void softClause(final LNGIntVector literals, final long weight) {
+                if (weight > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Weight " + weight + " exceeds the maximum weight of the MaxSAT solver.");
+                }
+                if (weight > 0) {
+                    solver.addSoftFormula(builder.clause(literals), (int) weight);
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds the hard and soft clauses of a given DIMACS WCNF file to the given MaxSAT solver.  The prefix {@code v} is
+     * used for the variables names.
+     * @param fileName the file name
+     * @param solver   the MaxSAT solver
+     * @throws IOException if there was a problem reading the file
+     */
+    public static void loadWCNF(final String fileName, final MaxSATSolver solver) throws IOException {
+        loadWCNF(new File(fileName), solver, "v");
+    }
+
+    /**
+     * Adds the clauses of a given DIMACS CNF file directly to the given solver without creating formulas.  The prefix
+     * {@code v} is used for the variables names.
+     * @param file   the file
+     * @param solver the solver
+     * @throws IOException if there was a problem reading the file
+     */
+    public static void loadCNF(final File file, final MiniSat solver) throws IOException {
+        loadCNF(file, solver, "v");
+    }
+
+    /**
+     * Adds the clauses of a given DIMACS CNF file directly to the given solver without creating formulas.  A DIMACS
+     * variable {@code n} is identified with the solver variable {@code prefix + n}, which is created if the solver
+     * does not know it yet.  Only one name is created per variable, the clauses are added as literal vectors.
+     * @param file   the file
+     * @param solver the solver
+     * @param prefix the prefix for the variable names
+     * @throws IOException if there was a problem reading the file
+     */
+    public static void loadCNF(final File file, final MiniSat solver, final String prefix) throws IOException {
+        final MiniSatStyleSolver underlyingSolver = solver.underlyingSolver();
+        final LNGIntVector clause = new LNGIntVector();
+        final LNGIntVector indices = new LNGIntVector();
+        solver.setSolverToUndef();
+        DimacsParser.parse(file, literals -> {
+            clause.clear();
+            for (int i = 0; i < literals.size(); i++) {
+                final int lit = literals.get(i);
+                final int var = Math.abs(lit);
+                while (indices.size() <= var) {
+                    indices.push(-1);
+                }
+                int index = indices.get(var);
+                if (index == -1) {
+                    final String name = prefix + var;
+                    index = underlyingSolver.idxForName(name);
+                    if (index == -1) {
+                        index = underlyingSolver.newVar(!solver.initialPhase(), true);
+                        underlyingSolver.addName(name, index);
+                    }
+                    indices.set(var, index);
+                }
+                clause.push(lit > 0 ? index * 2 : (index * 2) ^ 1);
+            }
+            underlyingSolver.addClause(clause, null);
+        });
+    }
+
+    /**
+     * Adds the clauses of a given DIMACS CNF file directly to the given solver without creating formulas.  The prefix
+     * {@code v} is used for the variables names.
+     * @param fileName the file name
+     * @param solver   the solver
+     * @throws IOException if there was a problem reading the file
+     */
+    public static void loadCNF(final String fileName, final MiniSat solver) throws IOException {
+        loadCNF(new File(fileName), solver, "v");
+    }
+
+    /**
+     * Adds the clauses of a given DIMACS CNF file directly to the given underlying solver.  A DIMACS variable
+     * {@code n} is identified with the solver variable with index {@code n - 1}, missing variables are created.  No
+     * variable names are registered.
+     * @param file   the file
+     * @param solver the solver
+     * @throws IOException if there was a problem reading the file
+     */
+    public static void loadCNF(final File file, final MiniSatStyleSolver solver) throws IOException {
+        final LNGIntVector clause = new LNGIntVector();
+        DimacsParser.parse(file, literals -> {
+            clause.clear();
+            for (int i = 0; i < literals.size(); i++) {
+                final int lit = literals.get(i);
+                final int index = Math.abs(lit) - 1;
+                while (solver.nVars() <= index) {
+                    solver.newVar(true, true);
+                }
+                clause.push(lit > 0 ? index * 2 : (index * 2) ^ 1);
+            }
+            solver.addClause(clause, null);
+        });
+    }
+
+    /**
+     * Creates clauses from DIMACS literals and caches the variable for each DIMACS variable number.
+     */
+    private static final class ClauseBuilder {
+        private final FormulaFactory f;
+        private final String prefix;
+        private final List<Variable> variables;
+
+        private ClauseBuilder(final FormulaFactory f, final String prefix) {
+            this.f = f;
+            this.prefix = prefix;
+            this.variables = new ArrayList<>();
+        }
+
+        private Formula clause(final LNGIntVector literals) {
+            final LinkedHashSet<Literal> lits = new LinkedHashSet<>(literals.size());
+            for (int i = 0; i < literals.size(); i++) {
+                final int lit = literals.get(i);
+                final int var = Math.abs(lit);
+                while (this.variables.size() <= var) {
+                    this.variables.add(null);
+                }
+                Variable variable = this.variables.get(var);
+                if (variable == null) {
+                    variable = this.f.variable(this.prefix + var);
+                    this.variables.set(var, variable);
+                }
+                lits.add(lit > 0 ? variable : variable.negate());
+            }
+            return this.f.or(lits);
+        }
+    }
 }
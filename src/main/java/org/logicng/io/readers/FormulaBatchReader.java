@@ -0,0 +1,423 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.io.readers;
+
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.io.parsers.FastFormulaParser;
+import org.logicng.io.parsers.FastPropositionalParser;
+import org.logicng.io.parsers.FastPseudoBooleanParser;
+import org.logicng.io.parsers.ParserException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A reader for large batches of formulas.
+ * <p>
+ * In contrast to the {@link FormulaReader}, this reader does not co-join all formulas of a file but streams
+ * them one by one to a consumer: either one formula per line of a file or one formula per file (in which case
+ * the lines of the file are co-joined like in the {@link FormulaReader}).  Blank lines are skipped.  A formula
+ * which cannot be parsed does not abort the batch, it is reported as a {@link ParseResult} with an error instead.
+ * <p>
+ * With more than one thread, lines (in chunks) and files are parsed in parallel.  Since a formula factory
+ * is not thread-safe, each parsing task uses its own worker factory and the parsed formulas are
+ * {@link FormulaFactory#importFormula(Formula) imported} into the target factory on the calling thread.
+ * The consumer is always called on the calling thread and in the order of the input.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class FormulaBatchReader {
+
+    private final FormulaFactory f;
+    private final boolean pseudoBoolean;
+    private final int numThreads;
+    private final int linesPerTask;
+    private final Supplier<FormulaFactory> workerFactories;
+
+    private FormulaBatchReader(final Builder builder) {
+        this.f = builder.f;
+        this.pseudoBoolean = builder.pseudoBoolean;
+        this.numThreads = builder.numThreads;
+        this.linesPerTask = builder.linesPerTask;
+        this.workerFactories = builder.workerFactories;
+    }
+
+    /**
+     * Returns a new builder for a batch reader.
+     * @param f the formula factory into which all formulas are read
+     * @return the builder
+     */
+    public static Builder builder(final FormulaFactory f) {
+        return new Builder(f);
+    }
+
+    /**
+     * Reads one formula per non-blank line of a given file.
+     * @param file     the file
+     * @param consumer the consumer for the parse results
+     * @return the number of lines which could not be parsed
+     * @throws IOException if there was a problem reading the file
+     */
+    public int readLines(final File file, final Consumer<? super ParseResult> consumer) throws IOException {
+        try (final BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            return readLines(file, reader, consumer);
+        }
+    }
+
+    /**
+     * Reads one formula per non-blank line of a given reader.  The reader is not closed.
+     * @param reader   the reader
+     * @param consumer the consumer for the parse results
+     * @return the number of lines which could not be parsed
+     * @throws IOException if there was a problem reading from the reader
+     */
+    public int readLines(final Reader reader, final Consumer<? super ParseResult> consumer) throws IOException {
+        return readLines(null, reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader), consumer);
+    }
+
+    /**
+     * Reads one formula per file.  The non-blank lines of each file are co-joined.  A file which cannot be read
+     * is reported as a parse result with an {@link IOException}.
+     * @param files    the files
+     * @param consumer the consumer for the parse results
+     * @return the number of files which could not be read or parsed
+     */
+    public int readFiles(final Collection<File> files, final Consumer<? super ParseResult> consumer) {
+        if (this.numThreads == 1) {
+            int errors = 0;
+            for (final File file : files) {
+                errors += deliver(parseFile(this.f, file), consumer);
+            }
+            return errors;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(this.numThreads);
+        try {
+            final ArrayDeque<Future<ParseResult>> pending = new ArrayDeque<>();
+            final Iterator<File> iterator = files.iterator();
+            int errors = 0;
+            while (true) {
+                while (iterator.hasNext() && pending.size() < 2 * this.numThreads) {
+                    final File file = iterator.next();
+                    pending.add(executor.submit(() -> parseFile(this.workerFactories.get(), file)));
+                }
+                if (pending.isEmpty()) {
+                    return errors;
+                }
+                errors += deliver(await(pending.poll()), consumer);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int readLines(final File file, final BufferedReader reader, final Consumer<? super ParseResult> consumer) throws IOException {
+        int errors = 0;
+        int lineNumber = 0;
+        String line;
+        if (this.numThreads == 1) {
+            final FastFormulaParser parser = parser(this.f);
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!isBlank(line)) {
+                    errors += deliver(parseLine(parser, file, lineNumber, line), consumer);
+                }
+            }
+            return errors;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(this.numThreads);
+        try {
+            final ArrayDeque<Future<List<ParseResult>>> pending = new ArrayDeque<>();
+            boolean exhausted = false;
+            while (true) {
+                while (!exhausted && pending.size() < 2 * this.numThreads) {
+                    final List<String> lines = new ArrayList<>(this.linesPerTask);
+                    final int firstLine = lineNumber + 1;
+                    while (lines.size() < this.linesPerTask && (line = reader.readLine()) != null) {
+                        lines.add(line);
+                        lineNumber++;
+                    }
+                    exhausted = lines.size() < this.linesPerTask;
+                    if (!lines.isEmpty()) {
+                        pending.add(executor.submit(parseLines(file, firstLine, lines)));
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return errors;
+                }
+                for (final ParseResult result : await(pending.poll())) {
+                    errors += deliver(result, consumer);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<List<ParseResult>> parseLines(final File file, final int firstLine, final List<String> lines) {
+        return () -> {
+            final FastFormulaParser parser = parser(this.workerFactories.get());
+            final List<ParseResult> results = new ArrayList<>(lines.size());
+            for (int i = 0; i < lines.size(); i++) {
+                if (!isBlank(lines.get(i))) {
+                    results.add(parseLine(parser, file, firstLine + i, lines.get(i)));
+                }
+            }
+            return results;
+        };
+    }
+
+    private ParseResult parseLine(final FastFormulaParser parser, final File file, final int lineNumber, final String line) {
+        try {
+            return new ParseResult(file, lineNumber, parser.parse(line), null);
+        } catch (final ParserException e) {
+            return new ParseResult(file, lineNumber, null, e);
+        }
+    }
+
+    private ParseResult parseFile(final FormulaFactory factory, final File file) {
+        final FastFormulaParser parser = parser(factory);
+        final LinkedHashSet<Formula> operands = new LinkedHashSet<>();
+        int lineNumber = 0;
+        try (final BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!isBlank(line)) {
+                    operands.add(parser.parse(line));
+                }
+            }
+        } catch (final IOException e) {
+            return new ParseResult(file, 0, null, e);
+        } catch (final ParserException e) {
+            return new ParseResult(file, lineNumber, null, e);
+        }
+        return new ParseResult(file, 0, factory.and(operands), null);
+    }
+
+    private int deliver(final ParseResult result, final Consumer<? super ParseResult> consumer) {
+        if (result.formula != null && result.formula.factory() != this.f) {
+            consumer.accept(new ParseResult(result.file, result.line, this.f.importFormula(result.formula), null));
+        } else {
+            consumer.accept(result);
+        }
+        return result.successful() ? 0 : 1;
+    }
+
+    private FastFormulaParser parser(final FormulaFactory factory) {
+        return this.pseudoBoolean ? new FastPseudoBooleanParser(factory) : new FastPropositionalParser(factory);
+    }
+
+    private static boolean isBlank(final String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel formula parsing was interrupted", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Parallel formula parsing failed", e.getCause());
+        }
+    }
+
+    /**
+     * The result of parsing a single formula: either a formula or an error.
+     * @version 2.5.0
+     * @since 2.5.0
+     */
+    public static final class ParseResult {
+        private final File file;
+        private final int line;
+        private final Formula formula;
+        private final Exception error;
+
+        private ParseResult(final File file, final int line, final Formula formula, final Exception error) {
+            this.file = file;
+            this.line = line;
+            this.formula = formula;
+            this.error = error;
+        }
+
+        /**
+         * Returns the file of the formula or {@code null} if the formula was read from a reader.
+         * @return the file of the formula
+         */
+        public File file() {
+            return this.file;
+        }
+
+        /**
+         * Returns the line of the formula (starting with 1).  If a whole file is read as one formula,
+         * this is the line of the first error or 0 if there was no parser error.
+         * @return the line of the formula
+         */
+        public int line() {
+            return this.line;
+        }
+
+        /**
+         * Returns the parsed formula or {@code null} if there was an error.
+         * @return the parsed formula
+         */
+        public Formula formula() {
+            return this.formula;
+        }
+
+        /**
+         * Returns the error, either a {@link ParserException} or an {@link IOException}, or {@code null}
+         * if the formula was parsed successfully.
+         * @return the error
+         */
+        public Exception error() {
+            return this.error;
+        }
+
+        /**
+         * Returns whether the formula was parsed successfully.
+         * @return {@code true} if the formula was parsed successfully, otherwise {@code false}
+         */
+        public boolean successful() {
+            return this.error == null;
+        }
+
+        @Override
+        public String toString() {
+            return "ParseResult{" +
+                    "file=" + this.file +
+                    ", line=" + this.line +
+                    ", formula=" + this.formula +
+                    ", error=" + this.error +
+                    '}';
+        }
+    }
+
+    /**
+     * The builder for a batch reader.
+     * @version 2.5.0
+     * @since 2.5.0
+     */
+    public static final class Builder {
+        private final FormulaFactory f;
+        private boolean pseudoBoolean = true;
+        private int numThreads = 1;
+        private int linesPerTask = 1000;
+        private Supplier<FormulaFactory> workerFactories = FormulaFactory::new;
+
+        private Builder(final FormulaFactory f) {
+            this.f = f;
+        }
+
+        /**
+         * Sets whether the formulas are pseudo-Boolean formulas or propositional formulas.  The default
+         * is {@code true}, i.e. the syntax of the {@link org.logicng.io.parsers.PseudoBooleanParser}.
+         * @param pseudoBoolean {@code true} for pseudo-Boolean formulas, {@code false} for propositional formulas
+         * @return the builder
+         */
+        public Builder pseudoBoolean(final boolean pseudoBoolean) {
+            this.pseudoBoolean = pseudoBoolean;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads.  The default is 1, i.e. all formulas are parsed on the calling thread.
+         * @param numThreads the number of threads
+         * @return the builder
+         * @throws IllegalArgumentException if the number of threads is not positive
+         */
+        public Builder numThreads(final int numThreads) {
+            if (numThreads < 1) {
+                throw new IllegalArgumentException("The number of threads must be positive: " + numThreads);
+            }
+            this.numThreads = numThreads;
+            return this;
+        }
+
+        /**
+         * Sets the number of lines which are parsed by one task when reading one formula per line with
+         * more than one thread.  The default is 1000.
+         * @param linesPerTask the number of lines per task
+         * @return the builder
+         * @throws IllegalArgumentException if the number of lines is not positive
+         */
+        public Builder linesPerTask(final int linesPerTask) {
+            if (linesPerTask < 1) {
+                throw new IllegalArgumentException("The number of lines per task must be positive: " + linesPerTask);
+            }
+            this.linesPerTask = linesPerTask;
+            return this;
+        }
+
+        /**
+         * Sets the supplier of the worker factories for parallel parsing.  Each task gets a new factory.
+         * The default creates factories with the default configuration.  If the target factory does not
+         * simplify complementary operands, the worker factories must not do it either.
+         * @param workerFactories the supplier of the worker factories
+         * @return the builder
+         */
+        public Builder workerFactories(final Supplier<FormulaFactory> workerFactories) {
+            this.workerFactories = workerFactories;
+            return this;
+        }
+
+        /**
+         * Builds the batch reader.
+         * @return the batch reader
+         */
+        public FormulaBatchReader build() {
+            return new FormulaBatchReader(this);
+        }
+    }
+}
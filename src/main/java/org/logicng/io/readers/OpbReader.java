@@ -0,0 +1,364 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.io.readers;
+
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.solvers.MaxSATSolver;
+import org.logicng.solvers.SATSolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A streaming reader for linear pseudo-Boolean instances in the OPB format of the pseudo-Boolean competitions.
+ * <p>
+ * An OPB file consists of an optional objective function {@code min: +2 x1 -1 ~x2 ;} and linear constraints like
+ * {@code +1 x1 +3 ~x3 >= 2 ;} with the relational operators {@code >=}, {@code =}, {@code <=}, {@code >} and
+ * {@code <}.  Comment lines start with {@code *}.  The variable names of the file are used as they are.  Non-linear
+ * terms are not supported.  The constraints are created as pseudo-Boolean constraints of the formula factory one by one
+ * and can be passed directly to a solver, the whole instance is never materialized.  Gzip-compressed files are
+ * decompressed on the fly.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class OpbReader {
+
+    /**
+     * The linear objective function of an OPB file.
+     * @version 2.5.0
+     * @since 2.5.0
+     */
+    public static final class Objective {
+        private final boolean minimize;
+        private final List<Literal> literals;
+        private final List<Integer> coefficients;
+
+        /**
+         * Constructs a new objective function.
+         * @param minimize     {@code true} if the function is minimized, {@code false} if it is maximized
+         * @param literals     the literals of the function
+         * @param coefficients the coefficients of the function
+         */
+        public Objective(final boolean minimize, final List<Literal> literals, final List<Integer> coefficients) {
+            this.minimize = minimize;
+            this.literals = Collections.unmodifiableList(literals);
+            this.coefficients = Collections.unmodifiableList(coefficients);
+        }
+
+        /**
+         * Returns whether the objective function is minimized.
+         * @return {@code true} if the function is minimized, {@code false} if it is maximized
+         */
+        public boolean minimize() {
+            return this.minimize;
+        }
+
+        /**
+         * Returns the literals of the objective function.
+         * @return the literals of the objective function
+         */
+        public List<Literal> literals() {
+            return this.literals;
+        }
+
+        /**
+         * Returns the coefficients of the objective function.
+         * @return the coefficients of the objective function
+         */
+        public List<Integer> coefficients() {
+            return this.coefficients;
+        }
+
+        @Override
+        public String toString() {
+            return "Objective{minimize=" + this.minimize + ", literals=" + this.literals + ", coefficients=" + this.coefficients + "}";
+        }
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FormulaFactory f;
+    private final Reader reader;
+    private final char[] buffer;
+    private final StringBuilder token;
+    private final List<Literal> literals;
+    private final List<Integer> coefficients;
+    private int position;
+    private int limit;
+    private int line;
+    private boolean lineStart;
+
+    private OpbReader(final FormulaFactory f, final Reader reader) {
+        this.f = f;
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.token = new StringBuilder();
+        this.literals = new ArrayList<>();
+        this.coefficients = new ArrayList<>();
+        this.line = 1;
+        this.lineStart = true;
+    }
+
+    /**
+     * Reads the constraints of a given OPB file and returns them as a list of formulas.  The objective function is
+     * ignored, use {@link #readOPB(File, FormulaFactory, Consumer)} to read it.
+     * @param file the file
+     * @param f    the formula factory
+     * @return the list of constraints
+     * @throws IOException              if there was a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid OPB file
+     */
+    public static List<Formula> readOPB(final File file, final FormulaFactory f) throws IOException {
+        final List<Formula> result = new ArrayList<>();
+        readOPB(file, f, result::add);
+        return result;
+    }
+
+    /**
+     * Reads a given OPB file, passes its constraints one by one to the given consumer and returns its objective
+     * function.
+     * @param file                the file
+     * @param f                   the formula factory
+     * @param constraintConsumer the consumer for the constraints
+     * @return the objective function or {@code null} if the file has no objective function
+     * @throws IOException              if there was a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid OPB file
+     */
+    public static Objective readOPB(final File file, final FormulaFactory f, final Consumer<? super Formula> constraintConsumer) throws IOException {
+        try (final InputStream in = Files.newInputStream(file.toPath())) {
+            return readOPB(in, f, constraintConsumer);
+        }
+    }
+
+    /**
+     * Reads an OPB instance from a given input stream, passes its constraints one by one to the given consumer and
+     * returns its objective function.  The stream is not closed by this method.
+     * @param inputStream         the input stream
+     * @param f                   the formula factory
+     * @param constraintConsumer the consumer for the constraints
+     * @return the objective function or {@code null} if the input has no objective function
+     * @throws IOException              if there was a problem reading the stream
+     * @throws IllegalArgumentException if the input is not a valid OPB instance
+     */
+    public static Objective readOPB(final InputStream inputStream, final FormulaFactory f, final Consumer<? super Formula> constraintConsumer)
+            throws IOException {
+        final Reader reader = new InputStreamReader(DimacsParser.decompressIfNecessary(inputStream), StandardCharsets.US_ASCII);
+        return new OpbReader(f, reader).read(constraintConsumer);
+    }
+
+    /**
+     * Adds the constraints of a given OPB file to the given solver and returns its objective function.
+     * @param file   the file
+     * @param solver the solver
+     * @return the objective function or {@code null} if the file has no objective function
+     * @throws IOException              if there was a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid OPB file
+     */
+    public static Objective loadOPB(final File file, final SATSolver solver) throws IOException {
+        return readOPB(file, solver.factory(), solver::add);
+    }
+
+    /**
+     * Adds the constraints of a given OPB file as hard formulas to the given MaxSAT solver and its objective function as
+     * soft formulas.  A term {@code c * l} of the objective function yields a soft formula {@code ~l} with weight
+     * {@code c} if {@code c} is positive and a soft formula {@code l} with weight {@code -c} if {@code c} is negative.
+     * In the latter case {@code c} is added to the returned offset, such that the minimum of the objective function is
+     * the result of the solver plus the offset.
+     * @param file   the file
+     * @param solver the MaxSAT solver
+     * @return the offset between the result of the MaxSAT solver and the value of the objective function
+     * @throws IOException              if there was a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid OPB file or its objective function is maximized
+     */
+    public static long loadOPB(final File file, final MaxSATSolver solver) throws IOException {
+        final Objective objective = readOPB(file, solver.factory(), solver::addHardFormula);
+        long offset = 0;
+        if (objective != null) {
+            if (!objective.minimize()) {
+                throw new IllegalArgumentException("Only objective functions which are minimized can be added to a MaxSAT solver.");
+            }
+            for (int i = 0; i < objective.literals().size(); i++) {
+                final Literal lit = objective.literals().get(i);
+                final int coefficient = objective.coefficients().get(i);
+                if (coefficient > 0) {
+                    solver.addSoftFormula(lit.negate(), coefficient);
+                } else if (coefficient < 0) {
+                    solver.addSoftFormula(lit, -coefficient);
+                    offset += coefficient;
+                }
+            }
+        }
+        return offset;
+    }
+
+    private Objective read(final Consumer<? super Formula> constraintConsumer) throws IOException {
+        Objective objective = null;
+        boolean first = true;
+        String tok;
+        while ((tok = nextToken()) != null) {
+            final int statementLine = this.line;
+            if ("min:".equals(tok) || "max:".equals(tok)) {
+                if (!first) {
+                    throw new IllegalArgumentException("The objective function in line " + statementLine + " must be the first statement.");
+                }
+                final boolean minimize = "min:".equals(tok);
+                if (!";".equals(readTerms(nextToken()))) {
+                    throw new IllegalArgumentException("Expected ';' after the objective function in line " + statementLine + ".");
+                }
+                objective = new Objective(minimize, new ArrayList<>(this.literals), new ArrayList<>(this.coefficients));
+            } else {
+                final CType comparator = comparator(readTerms(tok), statementLine);
+                final int rhs = integer(nextToken());
+                if (!";".equals(nextToken())) {
+                    throw new IllegalArgumentException("Expected ';' after the constraint in line " + statementLine + ".");
+                }
+                constraintConsumer.accept(this.f.pbc(comparator, rhs, this.literals, this.coefficients));
+            }
+            first = false;
+        }
+        return objective;
+    }
+
+    private String readTerms(final String firstToken) throws IOException {
+        this.literals.clear();
+        this.coefficients.clear();
+        String tok = firstToken;
+        while (tok != null && !";".equals(tok) && !isComparator(tok)) {
+            final int coefficient = integer(tok);
+            final String literal = nextToken();
+            if (literal == null || !isLiteral(literal)) {
+                throw new IllegalArgumentException("Expected a literal after the coefficient " + tok + " in line " + this.line + ".");
+            }
+            this.coefficients.add(coefficient);
+            this.literals.add(literal.charAt(0) == '~' ? this.f.literal(literal.substring(1), false) : this.f.variable(literal));
+            tok = nextToken();
+            if (tok != null && isLiteral(tok)) {
+                throw new IllegalArgumentException("Non-linear terms are not supported (line " + this.line + ").");
+            }
+        }
+        if (tok == null) {
+            throw new IllegalArgumentException("Unexpected end of input in line " + this.line + ".");
+        }
+        return tok;
+    }
+
+    private CType comparator(final String tok, final int statementLine) {
+        switch (tok) {
+            case ">=":
+                return CType.GE;
+            case "=":
+                return CType.EQ;
+            case "<=":
+                return CType.LE;
+            case ">":
+                return CType.GT;
+            case "<":
+                return CType.LT;
+            default:
+                throw new IllegalArgumentException("Missing relational operator in the constraint in line " + statementLine + ".");
+        }
+    }
+
+    private int integer(final String tok) {
+        if (tok == null) {
+            throw new IllegalArgumentException("Unexpected end of input in line " + this.line + ".");
+        }
+        try {
+            return Integer.parseInt(tok.charAt(0) == '+' ? tok.substring(1) : tok);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer '" + tok + "' in line " + this.line + ".");
+        }
+    }
+
+    private static boolean isComparator(final String tok) {
+        return ">=".equals(tok) || "=".equals(tok) || "<=".equals(tok) || ">".equals(tok) || "<".equals(tok);
+    }
+
+    private static boolean isLiteral(final String tok) {
+        final char c = tok.charAt(0);
+        return c == '~' || c == '_' || Character.isLetter(c);
+    }
+
+    private String nextToken() throws IOException {
+        int c = read();
+        while (c != -1) {
+            if (c == '\n') {
+                this.line++;
+                this.lineStart = true;
+            } else if (c == '*' && this.lineStart) {
+                while (c != -1 && c != '\n') {
+                    c = read();
+                }
+                continue;
+            } else if (!Character.isWhitespace(c)) {
+                break;
+            }
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        this.lineStart = false;
+        if (c == ';') {
+            return ";";
+        }
+        this.token.setLength(0);
+        while (c != -1 && c != ';' && !Character.isWhitespace(c)) {
+            this.token.append((char) c);
+            c = read();
+        }
+        if (c != -1) {
+            this.position--;
+        }
+        return this.token.toString();
+    }
+
+    private int read() throws IOException {
+        if (this.position == this.limit) {
+            this.limit = this.reader.read(this.buffer);
+            this.position = 0;
+            if (this.limit <= 0) {
+                this.limit = 0;
+                return -1;
+            }
+        }
+        return this.buffer[this.position++];
+    }
+}
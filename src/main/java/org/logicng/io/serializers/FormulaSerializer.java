@@ -0,0 +1,681 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.io.serializers;
+
+import org.logicng.formulas.BinaryOperator;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Not;
+import org.logicng.formulas.PBConstraint;
+import org.logicng.formulas.Variable;
+import org.logicng.propositions.ExtendedProposition;
+import org.logicng.propositions.Proposition;
+import org.logicng.propositions.PropositionBackpack;
+import org.logicng.propositions.StandardProposition;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A binary serializer for formulas and propositions.
+ * <p>
+ * One or more formulas are written together as a DAG, so sub-formulas shared within or between the formulas are only
+ * written once.  The binary format consists of a header (magic number and format version), the variable names, the
+ * inner nodes in topological order (children before parents), the root references, and the propositions.  A reference
+ * is {@code 0} for {@code $false}, {@code 1} for {@code $true}, {@code 2 + 2 * v} and {@code 3 + 2 * v} for the
+ * positive and negative literal of the v-th variable, and {@code 2 + 2 * n + i} for the i-th inner node if there are
+ * {@code n} variables.  An inner node is written as its type byte followed by the references of its operands; a
+ * pseudo-Boolean constraint additionally contains its comparator, right-hand side, and coefficients.  All integers are
+ * written in big-endian byte order.
+ * <p>
+ * Reading re-interns the nodes into a formula factory in a single pass over the nodes.  For propositions, the
+ * description of a {@link StandardProposition} is stored directly, the backpack of an {@link ExtendedProposition} is
+ * stored via a {@link BackpackSerializer}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class FormulaSerializer {
+
+    private static final int MAGIC = 0x4C4E4746; // "LNGF"
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final byte NODE_NOT = 0;
+    private static final byte NODE_IMPL = 1;
+    private static final byte NODE_EQUIV = 2;
+    private static final byte NODE_AND = 3;
+    private static final byte NODE_OR = 4;
+    private static final byte NODE_PBC = 5;
+
+    private static final byte STANDARD_PROPOSITION = 0;
+    private static final byte EXTENDED_PROPOSITION = 1;
+
+    /**
+     * A serializer for the backpacks of extended propositions.
+     * @param <T> the type of the backpacks
+     * @version 2.5.0
+     * @since 2.5.0
+     */
+    public interface BackpackSerializer<T extends PropositionBackpack> {
+
+        /**
+         * Serializes a backpack.
+         * @param backpack the backpack
+         * @return the bytes of the backpack
+         */
+        byte[] serialize(T backpack);
+
+        /**
+         * Deserializes a backpack.
+         * @param bytes the bytes of the backpack
+         * @return the backpack
+         */
+        T deserialize(byte[] bytes);
+    }
+
+    /**
+     * Private constructor.
+     */
+    private FormulaSerializer() {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Writes the given formula to a file.
+     * @param path    the path of the file
+     * @param formula the formula
+     * @throws IOException if there was a problem writing the file
+     */
+    public static void write(final Path path, final Formula formula) throws IOException {
+        write(path, Collections.singletonList(formula));
+    }
+
+    /**
+     * Writes the given formulas to a file.
+     * @param path     the path of the file
+     * @param formulas the formulas
+     * @throws IOException if there was a problem writing the file
+     */
+    public static void write(final Path path, final Collection<? extends Formula> formulas) throws IOException {
+        try (final FileChannel channel = open(path)) {
+            write(channel, formulas);
+        }
+    }
+
+    /**
+     * Writes the given formulas to a channel.  The channel is not closed by this method.
+     * @param channel  the channel
+     * @param formulas the formulas
+     * @throws IOException if there was a problem writing to the channel
+     */
+    public static void write(final WritableByteChannel channel, final Collection<? extends Formula> formulas) throws IOException {
+        new Writer(channel).write(new ArrayList<>(formulas), Collections.emptyList(), null);
+    }
+
+    /**
+     * Writes the given propositions to a file.
+     * @param path         the path of the file
+     * @param propositions the propositions
+     * @param backpacks    the serializer for the backpacks of extended propositions, may be {@code null} if there are
+     *                     only standard propositions
+     * @param <T>          the type of the backpacks
+     * @throws IOException              if there was a problem writing the file
+     * @throws IllegalArgumentException if a proposition is neither a standard nor an extended proposition or if there
+     *                                  is an extended proposition but no backpack serializer
+     */
+    public static <T extends PropositionBackpack> void writePropositions(final Path path, final Collection<? extends Proposition> propositions,
+                                                                          final BackpackSerializer<T> backpacks) throws IOException {
+        try (final FileChannel channel = open(path)) {
+            writePropositions(channel, propositions, backpacks);
+        }
+    }
+
+    /**
+     * Writes the given propositions to a channel.  The channel is not closed by this method.
+     * @param channel      the channel
+     * @param propositions the propositions
+     * @param backpacks    the serializer for the backpacks of extended propositions, may be {@code null} if there are
+     *                     only standard propositions
+     * @param <T>          the type of the backpacks
+     * @throws IOException              if there was a problem writing to the channel
+     * @throws IllegalArgumentException if a proposition is neither a standard nor an extended proposition or if there
+     *                                  is an extended proposition but no backpack serializer
+     */
+    public static <T extends PropositionBackpack> void writePropositions(final WritableByteChannel channel, final Collection<? extends Proposition> propositions,
+                                                                          final BackpackSerializer<T> backpacks) throws IOException {
+        final List<Formula> formulas = new ArrayList<>(propositions.size());
+        for (final Proposition proposition : propositions) {
+            if (!(proposition instanceof StandardProposition) && !(proposition instanceof ExtendedProposition)) {
+                throw new IllegalArgumentException("Unsupported proposition type: " + proposition.getClass().getName());
+            }
+            if (proposition instanceof ExtendedProposition && backpacks == null) {
+                throw new IllegalArgumentException("A backpack serializer is required to write extended propositions");
+            }
+            formulas.add(proposition.formula());
+        }
+        new Writer(channel).write(formulas, new ArrayList<>(propositions), backpacks);
+    }
+
+    /**
+     * Reads formulas from a file into the given formula factory.  The file is memory-mapped for reading if it is small
+     * enough, otherwise it is read via a file channel.
+     * @param path the path of the file
+     * @param f    the formula factory
+     * @return the formulas in the order they were written
+     * @throws IOException if there was a problem reading the file or the file is no valid formula file
+     */
+    public static List<Formula> read(final Path path, final FormulaFactory f) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return reader(channel).readFormulas(f);
+        }
+    }
+
+    /**
+     * Reads formulas from a byte buffer, e.g. a memory-mapped file, into the given formula factory.  The buffer's
+     * position is advanced to the end of the formulas.
+     * @param buffer the byte buffer
+     * @param f      the formula factory
+     * @return the formulas in the order they were written
+     * @throws IOException if the buffer does not contain valid formulas
+     */
+    public static List<Formula> read(final ByteBuffer buffer, final FormulaFactory f) throws IOException {
+        return new Reader(null, buffer).readFormulas(f);
+    }
+
+    /**
+     * Reads formulas from a channel into the given formula factory.  The channel is not closed by this method.
+     * @param channel the channel
+     * @param f       the formula factory
+     * @return the formulas in the order they were written
+     * @throws IOException if there was a problem reading from the channel or the channel does not contain valid formulas
+     */
+    public static List<Formula> read(final ReadableByteChannel channel, final FormulaFactory f) throws IOException {
+        return new Reader(channel, emptyBuffer()).readFormulas(f);
+    }
+
+    /**
+     * Reads propositions from a file into the given formula factory.  The file is memory-mapped for reading if it is
+     * small enough, otherwise it is read via a file channel.
+     * @param path      the path of the file
+     * @param f         the formula factory
+     * @param backpacks the serializer for the backpacks of extended propositions, may be {@code null} if there are
+     *                  only standard propositions
+     * @param <T>       the type of the backpacks
+     * @return the propositions in the order they were written
+     * @throws IOException              if there was a problem reading the file or the file is no valid proposition file
+     * @throws IllegalArgumentException if the file contains an extended proposition but no backpack serializer is given
+     */
+    public static <T extends PropositionBackpack> List<Proposition> readPropositions(final Path path, final FormulaFactory f,
+                                                                                   final BackpackSerializer<T> backpacks) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return reader(channel).readPropositions(f, backpacks);
+        }
+    }
+
+    /**
+     * Reads propositions from a byte buffer, e.g. a memory-mapped file, into the given formula factory.  The buffer's
+     * position is advanced to the end of the propositions.
+     * @param buffer    the byte buffer
+     * @param f         the formula factory
+     * @param backpacks the serializer for the backpacks of extended propositions, may be {@code null} if there are
+     *                  only standard propositions
+     * @param <T>       the type of the backpacks
+     * @return the propositions in the order they were written
+     * @throws IOException              if the buffer does not contain valid propositions
+     * @throws IllegalArgumentException if the buffer contains an extended proposition but no backpack serializer is given
+     */
+    public static <T extends PropositionBackpack> List<Proposition> readPropositions(final ByteBuffer buffer, final FormulaFactory f,
+                                                                                   final BackpackSerializer<T> backpacks) throws IOException {
+        return new Reader(null, buffer).readPropositions(f, backpacks);
+    }
+
+    /**
+     * Reads propositions from a channel into the given formula factory.  The channel is not closed by this method.
+     * @param channel   the channel
+     * @param f         the formula factory
+     * @param backpacks the serializer for the backpacks of extended propositions, may be {@code null} if there are
+     *                  only standard propositions
+     * @param <T>       the type of the backpacks
+     * @return the propositions in the order they were written
+     * @throws IOException              if there was a problem reading from the channel or the channel does not contain
+     *                                  valid propositions
+     * @throws IllegalArgumentException if the channel contains an extended proposition but no backpack serializer is given
+     */
+    public static <T extends PropositionBackpack> List<Proposition> readPropositions(final ReadableByteChannel channel, final FormulaFactory f,
+                                                                                   final BackpackSerializer<T> backpacks) throws IOException {
+        return new Reader(channel, emptyBuffer()).readPropositions(f, backpacks);
+    }
+
+    private static FileChannel open(final Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static Reader reader(final FileChannel channel) throws IOException {
+        if (channel.size() > Integer.MAX_VALUE) {
+            return new Reader(channel, emptyBuffer());
+        }
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        return new Reader(null, buffer);
+    }
+
+    private static ByteBuffer emptyBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * A writer for formulas which collects the DAG of the formulas and writes it to a channel.
+     */
+    private static final class Writer {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private final Map<String, Integer> variables;
+        private final List<String> variableNames;
+        private final IdentityHashMap<Formula, Integer> nodeIds;
+        private final List<Formula> nodes;
+
+        private Writer(final WritableByteChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.variables = new HashMap<>();
+            this.variableNames = new ArrayList<>();
+            this.nodeIds = new IdentityHashMap<>();
+            this.nodes = new ArrayList<>();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends PropositionBackpack> void write(final List<Formula> formulas, final List<Proposition> propositions,
+                                                          final BackpackSerializer<T> backpacks) throws IOException {
+            for (final Formula formula : formulas) {
+                collect(formula);
+            }
+            final int base = 2 + 2 * this.variableNames.size();
+            this.buffer.putInt(MAGIC).putInt(VERSION).putInt(this.variableNames.size());
+            for (final String name : this.variableNames) {
+                writeBytes(name.getBytes(StandardCharsets.UTF_8));
+            }
+            ensureRemaining(Integer.BYTES);
+            this.buffer.putInt(this.nodes.size());
+            for (final Formula node : this.nodes) {
+                writeNode(node, base);
+            }
+            ensureRemaining(Integer.BYTES);
+            this.buffer.putInt(formulas.size());
+            for (final Formula formula : formulas) {
+                ensureRemaining(Integer.BYTES);
+                this.buffer.putInt(reference(formula, base));
+            }
+            ensureRemaining(Integer.BYTES);
+            this.buffer.putInt(propositions.size());
+            for (final Proposition proposition : propositions) {
+                ensureRemaining(1);
+                if (proposition instanceof StandardProposition) {
+                    this.buffer.put(STANDARD_PROPOSITION);
+                    writeBytes(((StandardProposition) proposition).description().getBytes(StandardCharsets.UTF_8));
+                } else {
+                    this.buffer.put(EXTENDED_PROPOSITION);
+                    writeBytes(backpacks.serialize((T) ((ExtendedProposition<?>) proposition).backpack()));
+                }
+            }
+            flush();
+        }
+
+        private void collect(final Formula root) {
+            final ArrayDeque<Formula> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                final Formula formula = stack.peek();
+                if (formula.type() == FType.TRUE || formula.type() == FType.FALSE || this.nodeIds.containsKey(formula)) {
+                    stack.pop();
+                } else if (formula.type() == FType.LITERAL) {
+                    variable(((Literal) formula).name());
+                    stack.pop();
+                } else if (formula.type() == FType.PBC) {
+                    for (final Literal literal : ((PBConstraint) formula).operands()) {
+                        variable(literal.name());
+                    }
+                    addNode(stack.pop());
+                } else {
+                    boolean ready = true;
+                    for (final Formula operand : formula) {
+                        if (operand.type() != FType.TRUE && operand.type() != FType.FALSE && operand.type() != FType.LITERAL
+                                && !this.nodeIds.containsKey(operand)) {
+                            stack.push(operand);
+                            ready = false;
+                        } else if (operand.type() == FType.LITERAL) {
+                            variable(((Literal) operand).name());
+                        }
+                    }
+                    if (ready) {
+                        addNode(stack.pop());
+                    }
+                }
+            }
+        }
+
+        private void variable(final String name) {
+            if (!this.variables.containsKey(name)) {
+                this.variables.put(name, this.variableNames.size());
+                this.variableNames.add(name);
+            }
+        }
+
+        private void addNode(final Formula formula) {
+            this.nodeIds.put(formula, this.nodes.size());
+            this.nodes.add(formula);
+        }
+
+        private int reference(final Formula formula, final int base) {
+            switch (formula.type()) {
+                case FALSE:
+                    return 0;
+                case TRUE:
+                    return 1;
+                case LITERAL:
+                    final Literal literal = (Literal) formula;
+                    return 2 + 2 * this.variables.get(literal.name()) + (literal.phase() ? 0 : 1);
+                default:
+                    return base + this.nodeIds.get(formula);
+            }
+        }
+
+        private void writeNode(final Formula node, final int base) throws IOException {
+            ensureRemaining(1 + 2 * Integer.BYTES);
+            switch (node.type()) {
+                case NOT:
+                    this.buffer.put(NODE_NOT).putInt(reference(((Not) node).operand(), base));
+                    break;
+                case IMPL:
+                case EQUIV:
+                    final BinaryOperator binary = (BinaryOperator) node;
+                    this.buffer.put(node.type() == FType.IMPL ? NODE_IMPL : NODE_EQUIV)
+                            .putInt(reference(binary.left(), base)).putInt(reference(binary.right(), base));
+                    break;
+                case AND:
+                case OR:
+                    this.buffer.put(node.type() == FType.AND ? NODE_AND : NODE_OR).putInt(node.numberOfOperands());
+                    for (final Formula operand : node) {
+                        ensureRemaining(Integer.BYTES);
+                        this.buffer.putInt(reference(operand, base));
+                    }
+                    break;
+                case PBC:
+                    final PBConstraint pbc = (PBConstraint) node;
+                    this.buffer.put(NODE_PBC).put((byte) pbc.comparator().ordinal()).putInt(pbc.rhs());
+                    ensureRemaining(Integer.BYTES);
+                    this.buffer.putInt(pbc.operands().length);
+                    for (int i = 0; i < pbc.operands().length; i++) {
+                        ensureRemaining(2 * Integer.BYTES);
+                        this.buffer.putInt(reference(pbc.operands()[i], base)).putInt(pbc.coefficients()[i]);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown formula type: " + node.type());
+            }
+        }
+
+        private void writeBytes(final byte[] bytes) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            this.buffer.putInt(bytes.length);
+            int pos = 0;
+            while (pos < bytes.length) {
+                ensureRemaining(1);
+                final int len = Math.min(this.buffer.remaining(), bytes.length - pos);
+                this.buffer.put(bytes, pos, len);
+                pos += len;
+            }
+        }
+
+        private void ensureRemaining(final int bytes) throws IOException {
+            if (this.buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+    }
+
+    /**
+     * A reader for serialized formulas from a buffer which is refilled from a channel if a channel is given.
+     */
+    private static final class Reader {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        private Reader(final ReadableByteChannel channel, final ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private List<Formula> readFormulas(final FormulaFactory f) throws IOException {
+            final List<Formula> formulas = readDag(f);
+            final int numPropositions = readInt();
+            for (int i = 0; i < numPropositions; i++) {
+                readByte();
+                readBytes(checkSize(readInt()));
+            }
+            return formulas;
+        }
+
+        private <T extends PropositionBackpack> List<Proposition> readPropositions(final FormulaFactory f, final BackpackSerializer<T> backpacks)
+                throws IOException {
+            final List<Formula> formulas = readDag(f);
+            final int numPropositions = readInt();
+            if (numPropositions != formulas.size()) {
+                throw new IOException("The formula file does not contain propositions");
+            }
+            final List<Proposition> propositions = new ArrayList<>(numPropositions);
+            for (int i = 0; i < numPropositions; i++) {
+                final byte kind = readByte();
+                final byte[] bytes = readBytes(checkSize(readInt()));
+                if (kind == STANDARD_PROPOSITION) {
+                    propositions.add(new StandardProposition(new String(bytes, StandardCharsets.UTF_8), formulas.get(i)));
+                } else if (kind == EXTENDED_PROPOSITION) {
+                    if (backpacks == null) {
+                        throw new IllegalArgumentException("A backpack serializer is required to read extended propositions");
+                    }
+                    propositions.add(new ExtendedProposition<>(backpacks.deserialize(bytes), formulas.get(i)));
+                } else {
+                    throw new IOException("Invalid proposition type: " + kind);
+                }
+            }
+            return propositions;
+        }
+
+        private List<Formula> readDag(final FormulaFactory f) throws IOException {
+            if (readInt() != MAGIC) {
+                throw new IOException("Not a formula file");
+            }
+            final int version = readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported formula format version: " + version);
+            }
+            final int numVariables = checkCount(readInt(), Integer.BYTES);
+            if (numVariables > (Integer.MAX_VALUE - 2) / 2) {
+                throw new IOException("Invalid number of variables: " + numVariables);
+            }
+            final Formula[] literals = new Formula[2 + 2 * numVariables];
+            literals[0] = f.falsum();
+            literals[1] = f.verum();
+            for (int i = 0; i < numVariables; i++) {
+                final Variable variable = f.variable(new String(readBytes(checkSize(readInt())), StandardCharsets.UTF_8));
+                literals[2 + 2 * i] = variable;
+                literals[3 + 2 * i] = variable.negate();
+            }
+            final int numNodes = checkCount(readInt(), 1 + Integer.BYTES);
+            if (numNodes > Integer.MAX_VALUE - literals.length) {
+                throw new IOException("Invalid number of nodes: " + numNodes);
+            }
+            final Formula[] nodes = new Formula[numNodes];
+            for (int i = 0; i < numNodes; i++) {
+                nodes[i] = readNode(f, literals, nodes, i);
+            }
+            final int numRoots = checkCount(readInt(), Integer.BYTES);
+            final List<Formula> formulas = new ArrayList<>(numRoots);
+            for (int i = 0; i < numRoots; i++) {
+                formulas.add(resolve(readInt(), literals, nodes, numNodes));
+            }
+            return formulas;
+        }
+
+        private Formula readNode(final FormulaFactory f, final Formula[] literals, final Formula[] nodes, final int id) throws IOException {
+            final byte type = readByte();
+            switch (type) {
+                case NODE_NOT:
+                    return f.not(resolve(readInt(), literals, nodes, id));
+                case NODE_IMPL:
+                    return f.implication(resolve(readInt(), literals, nodes, id), resolve(readInt(), literals, nodes, id));
+                case NODE_EQUIV:
+                    return f.equivalence(resolve(readInt(), literals, nodes, id), resolve(readInt(), literals, nodes, id));
+                case NODE_AND:
+                case NODE_OR:
+                    final int numOperands = checkSize(readInt());
+                    final LinkedHashSet<Formula> operands = new LinkedHashSet<>();
+                    for (int i = 0; i < numOperands; i++) {
+                        operands.add(resolve(readInt(), literals, nodes, id));
+                    }
+                    return type == NODE_AND ? f.and(operands) : f.or(operands);
+                case NODE_PBC:
+                    final int comparator = readByte();
+                    if (comparator < 0 || comparator >= CType.values().length) {
+                        throw new IOException("Invalid comparator in node " + id + ": " + comparator);
+                    }
+                    final int rhs = readInt();
+                    final int size = checkCount(readInt(), 2 * Integer.BYTES);
+                    final Literal[] pbLiterals = new Literal[size];
+                    final int[] coefficients = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        final int reference = readInt();
+                        if (reference < 2 || reference >= literals.length) {
+                            throw new IOException("Invalid literal in node " + id + ": " + reference);
+                        }
+                        pbLiterals[i] = (Literal) literals[reference];
+                        coefficients[i] = readInt();
+                    }
+                    return f.pbc(CType.values()[comparator], rhs, pbLiterals, coefficients);
+                default:
+                    throw new IOException("Invalid type of node " + id + ": " + type);
+            }
+        }
+
+        private static Formula resolve(final int reference, final Formula[] literals, final Formula[] nodes, final int numKnownNodes) throws IOException {
+            if (reference >= 0 && reference < literals.length) {
+                return literals[reference];
+            }
+            final int node = reference - literals.length;
+            if (reference < 0 || node >= numKnownNodes) {
+                throw new IOException("Invalid reference: " + reference);
+            }
+            return nodes[node];
+        }
+
+        private static int checkSize(final int size) throws IOException {
+            if (size < 0) {
+                throw new IOException("Invalid size in formula file: " + size);
+            }
+            return size;
+        }
+
+        private int checkCount(final int count, final int bytesPerElement) throws IOException {
+            checkSize(count);
+            if (this.channel == null && (long) count * bytesPerElement > this.buffer.remaining()) {
+                throw new EOFException("Unexpected end of formula data");
+            }
+            return count;
+        }
+
+        private byte readByte() throws IOException {
+            fill(1);
+            return this.buffer.get();
+        }
+
+        private int readInt() throws IOException {
+            fill(Integer.BYTES);
+            return this.buffer.getInt();
+        }
+
+        private byte[] readBytes(final int length) throws IOException {
+            if (this.channel == null && length > this.buffer.remaining()) {
+                throw new EOFException("Unexpected end of formula data");
+            }
+            final byte[] bytes = new byte[length];
+            int pos = 0;
+            while (pos < length) {
+                fill(1);
+                final int len = Math.min(this.buffer.remaining(), length - pos);
+                this.buffer.get(bytes, pos, len);
+                pos += len;
+            }
+            return bytes;
+        }
+
+        private void fill(final int bytes) throws IOException {
+            if (this.buffer.remaining() >= bytes) {
+                return;
+            }
+            if (this.channel == null) {
+                throw new EOFException("Unexpected end of formula data");
+            }
+            this.buffer.compact();
+            while (this.buffer.position() < bytes) {
+                if (this.channel.read(this.buffer) < 0) {
+                    throw new EOFException("Unexpected end of formula stream");
+                }
+            }
+            this.buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.io.writers;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.transformations.cnf.ClauseSink;
+import org.logicng.transformations.cnf.StreamingCNFTransformation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+
+/**
+ * A writer which streams clauses to a DIMACS CNF or WCNF file one by one, so the written instance never has to be
+ * materialized as a single formula.
+ * <p>
+ * Variables are numbered in the order of their first occurrence, the mapping can be written with
+ * {@link #writeMapping(File)}.  In a CNF file the problem line is filled in when the writer is closed.  WCNF files are
+ * written in the format of the MaxSAT Evaluation 2022: hard clauses start with {@code h}, soft clauses with their
+ * weight, and there is no problem line.
+ * <p>
+ * The writer is also a {@link ClauseSink}, so a {@link StreamingCNFTransformation} can write the CNF of a formula
+ * directly to the file.  Auxiliary variables of the transformation get numbers, but do not appear in the mapping.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class DimacsStreamWriter extends StreamFileWriter implements ClauseSink {
+
+    private final boolean weighted;
+
+    /**
+     * Constructs a new writer for a DIMACS CNF file.
+     * @param file the file
+     * @throws IOException if there was a problem writing the file
+     */
+    public DimacsStreamWriter(final File file) throws IOException {
+        this(file, false);
+    }
+
+    /**
+     * Constructs a new writer for a DIMACS CNF or WCNF file.
+     * @param file     the file
+     * @param weighted {@code true} if a WCNF file with hard and soft clauses should be written, {@code false} for a
+     *                 CNF file
+     * @throws IOException if there was a problem writing the file
+     */
+    public DimacsStreamWriter(final File file, final boolean weighted) throws IOException {
+        super(file);
+        this.weighted = weighted;
+        writeHeader();
+    }
+
+    @Override
+    protected String header() {
+        return this.weighted ? "" : "p cnf " + field(this.numberOfIds) + " " + field(this.numberOfConstraints) + System.lineSeparator();
+    }
+
+    /**
+     * Returns the number of clauses written so far.
+     * @return the number of clauses written so far
+     */
+    public int numberOfClauses() {
+        return this.numberOfConstraints;
+    }
+
+    /**
+     * Writes the clauses of a formula in CNF (as hard clauses in a WCNF file).
+     * @param formula the formula in CNF
+     * @throws IOException              if there was a problem writing the file
+     * @throws IllegalArgumentException if the formula is not in CNF
+     */
+    public void add(final Formula formula) throws IOException {
+        if (!formula.isCNF()) {
+            throw new IllegalArgumentException("Cannot write a non-CNF formula to dimacs.  Convert to CNF first.");
+        }
+        if (formula.type() == FType.AND) {
+            for (final Formula clause : formula) {
+                writeClause(clause, -1);
+            }
+        } else if (formula.type() != FType.TRUE) {
+            writeClause(formula, -1);
+        }
+    }
+
+    /**
+     * Writes the clauses of the given formulas in CNF (as hard clauses in a WCNF file).
+     * @param formulas the formulas in CNF
+     * @throws IOException              if there was a problem writing the file
+     * @throws IllegalArgumentException if a formula is not in CNF
+     */
+    public void add(final Collection<? extends Formula> formulas) throws IOException {
+        for (final Formula formula : formulas) {
+            add(formula);
+        }
+    }
+
+    /**
+     * Writes a soft clause to a WCNF file.  A soft clause {@code $true} is not written.
+     * @param clause the clause
+     * @param weight the weight of the clause
+     * @throws IOException              if there was a problem writing the file
+     * @throws IllegalStateException    if this writer does not write a WCNF file
+     * @throws IllegalArgumentException if the formula is not a clause or the weight is not positive
+     */
+    public void addSoft(final Formula clause, final long weight) throws IOException {
+        if (!this.weighted) {
+            throw new IllegalStateException("Soft clauses can only be written to a WCNF file.");
+        }
+        if (weight < 1) {
+            throw new IllegalArgumentException("The weight of a soft clause must be > 0");
+        }
+        if (clause.type() != FType.LITERAL && clause.type() != FType.OR && clause.type() != FType.FALSE && clause.type() != FType.TRUE
+                || !clause.isCNF()) {
+            throw new IllegalArgumentException("A soft clause must be a clause: " + clause);
+        }
+        if (clause.type() != FType.TRUE) {
+            writeClause(clause, weight);
+        }
+    }
+
+    @Override
+    public int variable(final Variable variable) {
+        return id(variable) - 1;
+    }
+
+    @Override
+    public int newVariable() {
+        return freshId() - 1;
+    }
+
+    /**
+     * Writes a clause of a {@link StreamingCNFTransformation} (as hard clause in a WCNF file).
+     * @param clause the literals of the clause
+     * @throws UncheckedIOException if there was a problem writing the file
+     */
+    @Override
+    public void addClause(final LNGIntVector clause) {
+        try {
+            if (this.weighted) {
+                write((byte) 'h');
+                write((byte) ' ');
+            }
+            for (int i = 0; i < clause.size(); i++) {
+                final int lit = clause.get(i);
+                write((lit & 1) == 0 ? (lit >> 1) + 1 : -((lit >> 1) + 1));
+                write((byte) ' ');
+            }
+            write((byte) '0');
+            write(System.lineSeparator());
+            this.numberOfConstraints++;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeClause(final Formula clause, final long weight) throws IOException {
+        if (this.weighted) {
+            if (weight < 0) {
+                write((byte) 'h');
+            } else {
+                write(weight);
+            }
+            write((byte) ' ');
+        }
+        for (final Literal lit : clause.literals()) {
+            final int id = id(lit);
+            write(lit.phase() ? id : -id);
+            write((byte) ' ');
+        }
+        write((byte) '0');
+        write(System.lineSeparator());
+        this.numberOfConstraints++;
+    }
+}
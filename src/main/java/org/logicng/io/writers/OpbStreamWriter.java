@@ -0,0 +1,184 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.io.writers;
+
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.PBConstraint;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A writer which streams constraints to a file in the OPB format of the pseudo-Boolean competitions one by one, so the
+ * written instance never has to be materialized as a single formula.
+ * <p>
+ * Pseudo-Boolean constraints are written as linear constraints with the relational operators {@code >=} and {@code =},
+ * clauses as constraints {@code +1 l1 ... +1 ln >= 1}.  Variables are numbered in the order of their first occurrence
+ * and written as {@code x1, x2, ...}, the mapping can be written with {@link #writeMapping(File)}.  The header comment
+ * with the number of variables and constraints is filled in when the writer is closed.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class OpbStreamWriter extends StreamFileWriter {
+
+    /**
+     * Constructs a new writer for an OPB file.
+     * @param file the file
+     * @throws IOException if there was a problem writing the file
+     */
+    public OpbStreamWriter(final File file) throws IOException {
+        super(file);
+        writeHeader();
+    }
+
+    @Override
+    protected String header() {
+        return "* #variable= " + field(this.numberOfIds) + " #constraint= " + field(this.numberOfConstraints) + System.lineSeparator();
+    }
+
+    /**
+     * Returns the number of constraints written so far.
+     * @return the number of constraints written so far
+     */
+    public int numberOfConstraints() {
+        return this.numberOfConstraints;
+    }
+
+    /**
+     * Writes the objective function.  It has to be written before the first constraint.
+     * @param minimize     {@code true} if the function is minimized, {@code false} if it is maximized
+     * @param literals     the literals of the function
+     * @param coefficients the coefficients of the function
+     * @throws IOException              if there was a problem writing the file
+     * @throws IllegalStateException    if a constraint was already written
+     * @throws IllegalArgumentException if the number of literals and coefficients differ
+     */
+    public void writeObjective(final boolean minimize, final List<? extends Literal> literals, final List<Integer> coefficients) throws IOException {
+        if (this.numberOfConstraints > 0) {
+            throw new IllegalStateException("The objective function must be written before the constraints.");
+        }
+        if (literals.size() != coefficients.size()) {
+            throw new IllegalArgumentException("Cannot write an objective function with a different number of literals and coefficients.");
+        }
+        write(minimize ? "min:" : "max:");
+        for (int i = 0; i < literals.size(); i++) {
+            write((byte) ' ');
+            writeTerm(coefficients.get(i), literals.get(i));
+        }
+        write(" ;");
+        write(System.lineSeparator());
+    }
+
+    /**
+     * Writes a formula which is a pseudo-Boolean constraint, a formula in CNF, or a conjunction of those.
+     * @param formula the formula
+     * @throws IOException              if there was a problem writing the file
+     * @throws IllegalArgumentException if the formula cannot be written as linear constraints
+     */
+    public void add(final Formula formula) throws IOException {
+        switch (formula.type()) {
+            case TRUE:
+                break;
+            case FALSE:
+                final int id = freshId();
+                write("+1 x" + id + " >= 1 ;" + System.lineSeparator() + "+1 ~x" + id + " >= 1 ;" + System.lineSeparator());
+                this.numberOfConstraints += 2;
+                break;
+            case PBC:
+                final PBConstraint pbc = (PBConstraint) formula;
+                writeConstraint(pbc.operands(), pbc.coefficients(), pbc.comparator(), pbc.rhs());
+                break;
+            case LITERAL:
+            case OR:
+                if (!formula.isCNF()) {
+                    throw new IllegalArgumentException("Cannot write a formula which is no pseudo-Boolean constraint and not in CNF to OPB: " + formula);
+                }
+                final Literal[] literals = formula.literals().toArray(new Literal[0]);
+                final int[] coefficients = new int[literals.length];
+                Arrays.fill(coefficients, 1);
+                writeConstraint(literals, coefficients, CType.GE, 1);
+                break;
+            case AND:
+                for (final Formula op : formula) {
+                    add(op);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot write a formula which is no pseudo-Boolean constraint and not in CNF to OPB: " + formula);
+        }
+    }
+
+    /**
+     * Writes the given formulas.
+     * @param formulas the formulas
+     * @throws IOException              if there was a problem writing the file
+     * @throws IllegalArgumentException if a formula cannot be written as linear constraints
+     * @see #add(Formula)
+     */
+    public void add(final Collection<? extends Formula> formulas) throws IOException {
+        for (final Formula formula : formulas) {
+            add(formula);
+        }
+    }
+
+    private void writeConstraint(final Literal[] literals, final int[] coefficients, final CType comparator, final int rhs)
+            throws IOException {
+        final boolean negate = comparator == CType.LE || comparator == CType.LT;
+        long bound = rhs;
+        if (comparator == CType.GT) {
+            bound++;
+        } else if (comparator == CType.LT) {
+            bound--;
+        }
+        for (int i = 0; i < literals.length; i++) {
+            if (i > 0) {
+                write((byte) ' ');
+            }
+            writeTerm(negate ? -(long) coefficients[i] : coefficients[i], literals[i]);
+        }
+        write(comparator == CType.EQ ? " = " : " >= ");
+        write(negate ? -bound : bound);
+        write(" ;");
+        write(System.lineSeparator());
+        this.numberOfConstraints++;
+    }
+
+    private void writeTerm(final long coefficient, final Literal literal) throws IOException {
+        if (coefficient >= 0) {
+            write((byte) '+');
+        }
+        write(coefficient);
+        write(literal.phase() ? " x" : " ~x");
+        write(id(literal));
+    }
+}
@@ -0,0 +1,254 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.io.writers;
+
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Super class for writers which stream constraints to a file one by one.
+ * <p>
+ * Variables are numbered in the order of their first occurrence.  Since the number of variables and constraints is only
+ * known at the end, the header of the file is written with fixed-width fields which are filled in when the writer is
+ * closed.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+abstract class StreamFileWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    protected static final int FIELD_WIDTH = 10;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Map<Variable, Integer> var2id;
+    private final List<Variable> variables;
+    private int headerLength;
+    protected int numberOfConstraints;
+    protected int numberOfIds;
+    private boolean closed;
+
+    /**
+     * Constructs a new writer for the given file.  The constructor of a subclass must call {@link #writeHeader()}.
+     * @param file the file
+     * @throws IOException if there was a problem opening the file
+     */
+    protected StreamFileWriter(final File file) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.var2id = new HashMap<>();
+        this.variables = new ArrayList<>();
+    }
+
+    /**
+     * Writes the preliminary header of the file.
+     * @throws IOException if there was a problem writing the file
+     */
+    protected void writeHeader() throws IOException {
+        final String header = header();
+        this.headerLength = header.length();
+        write(header);
+    }
+
+    /**
+     * Returns the header of the file for the current number of variables and constraints.  The header must always
+     * have the same length.
+     * @return the header of the file
+     */
+    protected abstract String header();
+
+    /**
+     * Returns the number of variables written so far.
+     * @return the number of variables written so far
+     */
+    public int numberOfVariables() {
+        return this.numberOfIds;
+    }
+
+    /**
+     * Returns the mapping from the variables written so far to their numbers in the file.
+     * @return the mapping from variables to their numbers
+     */
+    public Map<Variable, Integer> variableMapping() {
+        final Map<Variable, Integer> mapping = new LinkedHashMap<>();
+        for (final Variable var : this.variables) {
+            mapping.put(var, this.var2id.get(var));
+        }
+        return Collections.unmodifiableMap(mapping);
+    }
+
+    /**
+     * Writes the mapping from variable names to their numbers in the file in the same format as
+     * {@link FormulaDimacsFileWriter}: one line {@code name;number} per variable.
+     * @param mappingFile the mapping file
+     * @throws IOException if there was a problem writing the file
+     */
+    public void writeMapping(final File mappingFile) throws IOException {
+        try (final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(mappingFile.toPath()), StandardCharsets.UTF_8))) {
+            for (final Variable var : this.variables) {
+                writer.append(var.name()).append(";").append(String.valueOf(this.var2id.get(var))).append(System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * Flushes the remaining output, fills in the final header and closes the file.
+     * @throws IOException if there was a problem writing the file
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            flush();
+            final String header = header();
+            if (header.length() != this.headerLength) {
+                throw new IllegalStateException("The length of the header changed from " + this.headerLength + " to " + header.length());
+            }
+            final ByteBuffer headerBytes = ByteBuffer.wrap(header.getBytes(StandardCharsets.US_ASCII));
+            long position = 0;
+            while (headerBytes.hasRemaining()) {
+                position += this.channel.write(headerBytes, position);
+            }
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Returns the number of the given literal's variable and registers the variable if it is new.
+     * @param literal the literal
+     * @return the number of the variable
+     */
+    protected int id(final Literal literal) {
+        final Variable var = literal.variable();
+        Integer id = this.var2id.get(var);
+        if (id == null) {
+            id = ++this.numberOfIds;
+            this.var2id.put(var, id);
+            this.variables.add(var);
+        }
+        return id;
+    }
+
+    /**
+     * Returns a fresh number which is not associated with a variable.
+     * @return a fresh number
+     */
+    protected int freshId() {
+        return ++this.numberOfIds;
+    }
+
+    /**
+     * Left-aligns the given number in a field of fixed width.
+     * @param number the number
+     * @return the padded number
+     */
+    protected static String field(final long number) {
+        final StringBuilder sb = new StringBuilder().append(number);
+        while (sb.length() < FIELD_WIDTH) {
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the given ASCII string.
+     * @param string the string
+     * @throws IOException if there was a problem writing the file
+     */
+    protected void write(final String string) throws IOException {
+        for (int i = 0; i < string.length(); i++) {
+            write((byte) string.charAt(i));
+        }
+    }
+
+    /**
+     * Writes the given number.
+     * @param number the number
+     * @throws IOException if there was a problem writing the file
+     */
+    protected void write(final long number) throws IOException {
+        if (number < 0) {
+            write((byte) '-');
+            if (number == Long.MIN_VALUE) {
+                write(String.valueOf(number).substring(1));
+                return;
+            }
+            writeDigits(-number);
+        } else {
+            writeDigits(number);
+        }
+    }
+
+    private void writeDigits(final long number) throws IOException {
+        if (number >= 10) {
+            writeDigits(number / 10);
+        }
+        write((byte) ('0' + number % 10));
+    }
+
+    /**
+     * Writes the given byte.
+     * @param b the byte
+     * @throws IOException if there was a problem writing the file
+     */
+    protected void write(final byte b) throws IOException {
+        if (!this.buffer.hasRemaining()) {
+            flush();
+        }
+        this.buffer.put(b);
+    }
+
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
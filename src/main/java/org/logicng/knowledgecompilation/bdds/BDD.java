@@ -40,24 +40,34 @@ import org.logicng.knowledgecompilation.bdds.functions.BDDModelEnumerationFuncti
 import org.logicng.knowledgecompilation.bdds.functions.LngBDDFunction;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDConstruction;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDModelIterator;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDOperations;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDReordering;
+import org.logicng.knowledgecompilation.semirings.Semiring;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * The internal representation of a BDD.
- * @version 2.4.0
+ * @version 2.5.0
  * @since 1.4.0
  */
 public class BDD {
@@ -225,6 +235,29 @@ public class BDD {
         return this.operations.satCount(this.index);
     }
 
+    /**
+     * Evaluates this BDD in the given semiring, i.e. computes the sum over all models of the product of the literal
+     * weights.  E.g. the {@link org.logicng.knowledgecompilation.semirings.ProbabilitySemiring probability semiring}
+     * yields the weighted model count and the {@link org.logicng.knowledgecompilation.semirings.MinCostSemiring min-cost
+     * semiring} yields the costs of a cheapest model.  Variable indices of the kernel which are not mapped to a variable
+     * are ignored.
+     * <p>
+     * The evaluation is a single non-recursive pass over the nodes of this BDD.
+     * @param semiring the semiring
+     * @param weights  the weight function for the literals
+     * @param <T>      the type of the semiring elements
+     * @return the value of this BDD in the semiring
+     */
+    public <T> T evaluate(final Semiring<T> semiring, final Function<Literal, T> weights) {
+        return this.operations.evaluate(this.index, semiring, (var, phase) -> {
+            final Variable variable = this.kernel.getVariableForIndex(var);
+            if (variable == null) {
+                return phase ? semiring.one() : semiring.zero();
+            }
+            return weights.apply(phase ? variable : variable.negate());
+        });
+    }
+
     /**
      * Enumerates all models of this BDD.
      * @return the list of all models
@@ -251,6 +284,50 @@ public class BDD {
         return this.apply(new BDDModelEnumerationFunction(variables));
     }
 
+    /**
+     * Returns an iterator over all models of this BDD projected to the given variables.  Each model is returned as
+     * a bit set in which bit {@code i} is set iff the {@code i}-th variable is true.  Variables which are not in the
+     * BDD take both values.
+     * <p>
+     * In contrast to {@link #enumerateAllModels(Collection)}, the models are computed lazily on the node table, so
+     * also BDDs with a huge number of models can be enumerated.  No other operations must be performed on the
+     * kernel of this BDD while the iterator is used.
+     * @param variables the variables
+     * @return the iterator over the models
+     */
+    public Iterator<BitSet> modelIterator(final List<Variable> variables) {
+        return projectedModelIterator(variables);
+    }
+
+    /**
+     * Passes all models of this BDD projected to the given variables to a consumer until the consumer returns
+     * {@code false}.  Each model is passed as a bit set in which bit {@code i} is set iff the {@code i}-th variable is
+     * true.  Variables which are not in the BDD take both values.  <b>The same bit set is passed for each model</b>,
+     * so it must be copied if it should be kept.
+     * <p>
+     * In contrast to {@link #enumerateAllModels(Collection)}, the models are not collected, so also BDDs with a huge
+     * number of models can be enumerated.  The consumer must not perform other operations on the kernel of this BDD.
+     * @param variables the variables
+     * @param consumer  the consumer of the models
+     * @return {@code true} if all models were enumerated, {@code false} if the consumer aborted the enumeration
+     */
+    public boolean enumerateModels(final List<Variable> variables, final Predicate<BitSet> consumer) {
+        return projectedModelIterator(variables).enumerate(consumer);
+    }
+
+    private BDDModelIterator projectedModelIterator(final List<Variable> variables) {
+        final SortedMap<Variable, Integer> var2idx = this.kernel.var2idx();
+        final int[] varIndices = new int[variables.size()];
+        for (int i = 0; i < varIndices.length; i++) {
+            final Integer idx = var2idx.get(variables.get(i));
+            varIndices[i] = idx == null ? -1 : idx;
+        }
+        final Set<Variable> relevant = new HashSet<>(variables);
+        final List<Variable> others = var2idx.keySet().stream().filter(v -> !relevant.contains(v)).collect(Collectors.toList());
+        final BDD projected = others.isEmpty() ? this : exists(others);
+        return new BDDModelIterator(this.kernel, projected.index, varIndices);
+    }
+
     /**
      * Returns a CNF formula for this BDD.
      * @return the CNF for the formula represented by this BDD
@@ -332,6 +409,105 @@ public class BDD {
         return forall(Arrays.asList(variables));
     }
 
+    /**
+     * Returns a new BDD which is the if-then-else of this BDD as condition and the two given BDDs as branches, i.e. the
+     * BDD for {@code (this & thenBDD) | (~this & elseBDD)}.  All BDDs must use the same kernel.
+     * @param thenBDD the then-branch
+     * @param elseBDD the else-branch
+     * @return the if-then-else of the three BDDs
+     * @throws IllegalArgumentException if the BDDs don't have the same kernel
+     */
+    public BDD ite(final BDD thenBDD, final BDD elseBDD) {
+        if (thenBDD.kernel != this.kernel || elseBDD.kernel != this.kernel) {
+            throw new IllegalArgumentException("Only BDDs with the same kernel can be processed");
+        }
+        return new BDD(this.kernel.addRef(this.construction.ite(this.index, thenBDD.index, elseBDD.index), null), this.kernel);
+    }
+
+    /**
+     * Returns a new BDD which is the relational product of this BDD and the given other BDD, i.e. the existential
+     * quantifier elimination of the given variables from the conjunction of both BDDs.  The conjunction is never
+     * built explicitly.  Both BDDs must use the same kernel.
+     * @param other     the other BDD
+     * @param variables the variables to eliminate
+     * @return the conjunction of the two BDDs with the eliminated variables
+     * @throws IllegalArgumentException if the two BDDs don't have the same kernel
+     */
+    public BDD andExists(final BDD other, final Collection<Variable> variables) {
+        if (other.kernel != this.kernel) {
+            throw new IllegalArgumentException("Only BDDs with the same kernel can be processed");
+        }
+        final BDD resBDD = BDDFactory.build(this.kernel.factory().and(variables), this.kernel);
+        return new BDD(this.kernel.addRef(this.construction.andExists(this.index, other.index, resBDD.index), null), this.kernel);
+    }
+
+    /**
+     * Returns a new BDD which is the relational product of this BDD and the given other BDD, i.e. the existential
+     * quantifier elimination of the given variables from the conjunction of both BDDs.  The conjunction is never
+     * built explicitly.  Both BDDs must use the same kernel.
+     * @param other     the other BDD
+     * @param variables the variables to eliminate
+     * @return the conjunction of the two BDDs with the eliminated variables
+     * @throws IllegalArgumentException if the two BDDs don't have the same kernel
+     */
+    public BDD andExists(final BDD other, final Variable... variables) {
+        return andExists(other, Arrays.asList(variables));
+    }
+
+    /**
+     * Returns a new BDD where the given variable is substituted by the given other BDD.  Both BDDs must use the same
+     * kernel.
+     * @param variable the variable to substitute
+     * @param other    the BDD to substitute the variable with
+     * @return the composition of the two BDDs
+     * @throws IllegalArgumentException if the two BDDs don't have the same kernel
+     */
+    public BDD compose(final Variable variable, final BDD other) {
+        if (other.kernel != this.kernel) {
+            throw new IllegalArgumentException("Only BDDs with the same kernel can be processed");
+        }
+        final int var = this.kernel.getIndexForVariable(variable);
+        final int res = var < 0 ? this.index : this.construction.compose(this.index, other.index, var);
+        return new BDD(this.kernel.addRef(res, null), this.kernel);
+    }
+
+    /**
+     * Returns a new BDD where all given variables are simultaneously substituted by their respective BDDs.  All BDDs
+     * must use the same kernel.
+     * @param substitution the mapping from variables to the BDDs to substitute them with
+     * @return the composition
+     * @throws IllegalArgumentException if the BDDs don't have the same kernel
+     */
+    public BDD compose(final Map<Variable, BDD> substitution) {
+        final int[] composition = new int[this.kernel.idx2var().isEmpty() ? 0 : this.kernel.idx2var().lastKey() + 1];
+        Arrays.fill(composition, -1);
+        for (final Map.Entry<Variable, BDD> entry : substitution.entrySet()) {
+            if (entry.getValue().kernel != this.kernel) {
+                throw new IllegalArgumentException("Only BDDs with the same kernel can be processed");
+            }
+            final int var = this.kernel.getIndexForVariable(entry.getKey());
+            if (var >= 0) {
+                composition[var] = entry.getValue().index;
+            }
+        }
+        return new BDD(this.kernel.addRef(this.construction.vectorCompose(this.index, composition), null), this.kernel);
+    }
+
+    /**
+     * Returns a new BDD which is the generalized cofactor of this BDD with respect to the given care set (also known
+     * as the constrain operator).  The result agrees with this BDD on all models of the care set and is often
+     * considerably smaller than this BDD.  Both BDDs must use the same kernel.
+     * @param careSet the care set
+     * @return the generalized cofactor of this BDD
+     * @throws IllegalArgumentException if the two BDDs don't have the same kernel
+     */
+    public BDD constrain(final BDD careSet) {
+        if (careSet.kernel != this.kernel) {
+            throw new IllegalArgumentException("Only BDDs with the same kernel can be processed");
+        }
+        return new BDD(this.kernel.addRef(this.construction.constrain(this.index, careSet.index), null), this.kernel);
+    }
+
     /**
      * Returns an arbitrary model of this BDD or {@code null} if there is none.
      * @return an arbitrary model of this BDD
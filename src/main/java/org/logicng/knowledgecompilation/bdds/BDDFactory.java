@@ -61,19 +61,31 @@ import static org.logicng.handlers.Handler.start;
 
 import org.logicng.formulas.And;
 import org.logicng.formulas.BinaryOperator;
+import org.logicng.formulas.FType;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.Implication;
 import org.logicng.formulas.Literal;
 import org.logicng.formulas.Not;
+import org.logicng.formulas.Variable;
 import org.logicng.handlers.BDDHandler;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDConstruction;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.predicates.ContainsPBCPredicate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The factory for the jBuddy implementation.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.4.0
  */
 public final class BDDFactory {
@@ -133,6 +145,124 @@ public final class BDDFactory {
         return new BDD(buildRec(formula, bddKernel, new BDDConstruction(bddKernel), handler), bddKernel);
     }
 
+    /**
+     * Builds a BDD for a given formula using multiple threads.
+     * <p>
+     * If the formula is a conjunction or disjunction, its operands are distributed over the given number of worker
+     * threads.  Each worker builds the BDDs of its operands in its own private BDD kernel (with the same variable order
+     * as the given kernel) and combines them.  The partial results are then combined pairwise in parallel and finally
+     * copied into the given kernel.  Since the kernels are not shared between threads, no synchronization on the node
+     * table or the operation caches is required.  For all other formulas or a single thread, this method behaves like
+     * {@link #build(Formula, BDDKernel)}.
+     * <p>
+     * The worker kernels do not perform any automatic reordering.  The formula factory is not accessed concurrently.
+     * @param formula    the formula
+     * @param kernel     the BDD kernel to use, or {@code null} if a new kernel should be created
+     * @param numThreads the number of worker threads
+     * @return the BDD for the formula in the given kernel
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public static BDD buildParallel(final Formula formula, final BDDKernel kernel, final int numThreads) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("The number of threads must be positive: " + numThreads);
+        }
+        final int varNum = formula.variables().size();
+        final BDDKernel bddKernel = kernel == null
+                ? new BDDKernel(formula.factory(), varNum, varNum * 30, varNum * 20)
+                : kernel;
+        if (numThreads == 1 || (formula.type() != FType.AND && formula.type() != FType.OR) || formula.numberOfOperands() < 2 * numThreads) {
+            return build(formula, bddKernel, null);
+        }
+        final List<Variable> order = new ArrayList<>(formula.variables());
+        for (final Variable var : order) {
+            bddKernel.getOrAddVarIndex(var);
+        }
+        order.sort(Comparator.comparingInt(bddKernel::getLevel));
+        final List<Formula> operands = new ArrayList<>(formula.numberOfOperands());
+        for (final Formula op : formula) {
+            operands.add(op.holds(ContainsPBCPredicate.get()) ? op.nnf() : op);
+        }
+        final boolean isAnd = formula.type() == FType.AND;
+        final int numWorkers = Math.min(numThreads, operands.size());
+        final BDDKernel[] kernels = new BDDKernel[numWorkers];
+        final int[] results = new int[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            kernels[i] = new BDDKernel(formula.factory(), order, Math.max(order.size() * 30, 1000), Math.max(order.size() * 20, 1000));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(numWorkers);
+        try {
+            final AtomicInteger nextOperand = new AtomicInteger();
+            final AtomicBoolean absorbed = new AtomicBoolean();
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < numWorkers; i++) {
+                final int worker = i;
+                futures.add(executor.submit(() -> {
+                    results[worker] = buildOperands(operands, isAnd, kernels[worker], nextOperand, absorbed);
+                }));
+            }
+            waitFor(futures);
+            for (int stride = 1; stride < numWorkers; stride *= 2) {
+                futures.clear();
+                for (int i = 0; i + stride < numWorkers; i += 2 * stride) {
+                    final int target = i;
+                    final int source = i + stride;
+                    futures.add(executor.submit(() -> {
+                        results[target] = combine(kernels[target], results[target], kernels[source], results[source], isAnd);
+                    }));
+                }
+                waitFor(futures);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        final int res = bddKernel.addRef(new BDDConstruction(bddKernel).importBdd(kernels[0], results[0]), null);
+        return new BDD(res, bddKernel);
+    }
+
+    private static int buildOperands(final List<Formula> operands, final boolean isAnd, final BDDKernel kernel,
+                                     final AtomicInteger nextOperand, final AtomicBoolean absorbed) {
+        final BDDConstruction construction = new BDDConstruction(kernel);
+        final int absorbing = isAnd ? BDDKernel.BDD_FALSE : BDDKernel.BDD_TRUE;
+        int res = isAnd ? BDDKernel.BDD_TRUE : BDDKernel.BDD_FALSE;
+        int i;
+        while (!absorbed.get() && (i = nextOperand.getAndIncrement()) < operands.size()) {
+            final int operand = buildRec(operands.get(i), kernel, construction, null);
+            final int previous = res;
+            res = kernel.addRef(isAnd ? construction.and(res, operand) : construction.or(res, operand), null);
+            kernel.delRef(previous);
+            kernel.delRef(operand);
+            if (res == absorbing) {
+                absorbed.set(true);
+            }
+        }
+        return res;
+    }
+
+    private static int combine(final BDDKernel target, final int targetRoot, final BDDKernel source, final int sourceRoot, final boolean isAnd) {
+        final BDDConstruction construction = new BDDConstruction(target);
+        final int imported = target.addRef(construction.importBdd(source, sourceRoot), null);
+        final int res = target.addRef(isAnd ? construction.and(targetRoot, imported) : construction.or(targetRoot, imported), null);
+        target.delRef(targetRoot);
+        target.delRef(imported);
+        return res;
+    }
+
+    private static void waitFor(final List<Future<?>> futures) {
+        try {
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel BDD construction was interrupted", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Parallel BDD construction failed", e.getCause());
+        }
+    }
+
     /**
      * Recursive build procedure for the BDD.
      * <p>
@@ -37,10 +37,12 @@ import org.logicng.knowledgecompilation.bdds.jbuddy.BDDOperations;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
- * Superclass for the normal form generation from a BDD.
- * @version 2.3.0
+ * Superclass for the normal form generation from a BDD.  The paths of the BDD are enumerated one by one without
+ * recursion, so no list of all paths is held in memory.
+ * @version 2.5.0
  * @since 2.3.0
  */
 public abstract class BDDNormalFormFunction {
@@ -54,11 +56,8 @@ public abstract class BDDNormalFormFunction {
     protected static Formula compute(final BDD bdd, final boolean cnf) {
         final BDDKernel kernel = bdd.underlyingKernel();
         final FormulaFactory f = kernel.factory();
-        final List<byte[]> pathsToConstant = cnf
-                ? new BDDOperations(kernel).allUnsat(bdd.index())
-                : new BDDOperations(kernel).allSat(bdd.index());
         final List<Formula> terms = new ArrayList<>();
-        for (final byte[] path : pathsToConstant) {
+        final Predicate<byte[]> termCollector = path -> {
             final List<Formula> literals = new ArrayList<>();
             for (int i = 0; i < path.length; i++) {
                 final Variable var = kernel.getVariableForIndex(i);
@@ -68,8 +67,13 @@ public abstract class BDDNormalFormFunction {
                     literals.add(cnf ? var.negate() : var);
                 }
             }
-            final Formula term = cnf ? f.or(literals) : f.and(literals);
-            terms.add(term);
+            terms.add(cnf ? f.or(literals) : f.and(literals));
+            return true;
+        };
+        if (cnf) {
+            new BDDOperations(kernel).allUnsat(bdd.index(), termCollector);
+        } else {
+            new BDDOperations(kernel).allSat(bdd.index(), termCollector);
         }
         return cnf ? f.and(terms) : f.or(terms);
     }
@@ -36,13 +36,9 @@ import org.logicng.knowledgecompilation.bdds.datastructures.BDDNode;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDOperations;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
-
 /**
- * Creates a LogicNG internal BDD data structure of a given BDD.
- * @version 2.3.0
+ * Creates a LogicNG internal BDD data structure of a given BDD.  The nodes are created bottom-up without recursion.
+ * @version 2.5.0
  * @since 2.0.0
  */
 public final class LngBDDFunction implements BDDFunction<BDDNode> {
@@ -69,30 +65,16 @@ public final class LngBDDFunction implements BDDFunction<BDDNode> {
     @Override
     public BDDNode apply(final BDD bdd) {
         final BDDKernel kernel = bdd.underlyingKernel();
-        final int index = bdd.index();
-        final Map<Integer, int[]> kernelNodeMap = new BDDOperations(kernel).allNodes(index).stream()
-                .collect(Collectors.toMap(node -> node[0], node -> node));
-        return buildBDDNode(index, kernel, kernelNodeMap, new HashMap<>());
-    }
-
-    private BDDNode buildBDDNode(final int index, final BDDKernel kernel, final Map<Integer, int[]> kernelNodeMap,
-                                 final Map<Integer, BDDNode> nodeMap) {
-        BDDNode node = nodeMap.get(index);
-        if (node != null) {
-            return node;
-        }
-        if (index == BDDKernel.BDD_FALSE) {
-            node = BDDConstant.getFalsumNode(kernel.factory());
-        } else if (index == BDDKernel.BDD_TRUE) {
-            node = BDDConstant.getVerumNode(kernel.factory());
-        } else {
-            final int[] kernelNode = kernelNodeMap.get(index);
-            final Variable variable = kernel.getVariableForIndex(kernelNode[1]);
-            final BDDNode lowNode = buildBDDNode(kernelNode[2], kernel, kernelNodeMap, nodeMap);
-            final BDDNode highNode = buildBDDNode(kernelNode[3], kernel, kernelNodeMap, nodeMap);
-            node = new BDDInnerNode(variable, lowNode, highNode);
+        final int[] varOrder = kernel.getCurrentVarOrder();
+        final int[] rootIds = new int[1];
+        final int[] kernelNodes = new BDDOperations(kernel).exportNodes(new int[]{bdd.index()}, rootIds);
+        final BDDNode[] nodes = new BDDNode[kernelNodes.length / 3 + 2];
+        nodes[BDDKernel.BDD_FALSE] = BDDConstant.getFalsumNode(kernel.factory());
+        nodes[BDDKernel.BDD_TRUE] = BDDConstant.getVerumNode(kernel.factory());
+        for (int i = 2; i < nodes.length; i++) {
+            final Variable variable = kernel.getVariableForIndex(varOrder[kernelNodes[3 * (i - 2)]]);
+            nodes[i] = new BDDInnerNode(variable, nodes[kernelNodes[3 * (i - 2) + 1]], nodes[kernelNodes[3 * (i - 2) + 2]]);
         }
-        nodeMap.put(index, node);
-        return node;
+        return nodes[rootIds[0]];
     }
 }
@@ -0,0 +1,403 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.io;
+
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.knowledgecompilation.bdds.BDD;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDConstruction;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDOperations;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A binary serializer for BDDs.
+ * <p>
+ * One or more BDDs of the same kernel are written together, so nodes shared between the BDDs are only written once.
+ * The binary format consists of a header (magic number and format version), the variable order of the kernel, the
+ * number of root nodes and inner nodes, the inner nodes level by level starting with the bottommost level, and the
+ * root nodes.  A node is written as the numbers of its low and high child: the constants have the numbers {@code 0}
+ * and {@code 1} and the i-th written node the number {@code i + 2}, so the children of a node are always written before
+ * the node itself.  All integers are written in big-endian byte order.
+ * <p>
+ * Reading a file re-interns the nodes into a kernel in a single linear pass.  The nodes can be read into a fresh kernel
+ * with the variable order of the file or into an existing kernel whose variable order is compatible with the one of the
+ * file.  Variables which are not yet known in an existing kernel are added to it.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class BDDSerializer {
+
+    private static final int MAGIC = 0x4C4E4742; // "LNGB"
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Private constructor.
+     */
+    private BDDSerializer() {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Writes the given BDD to a file.
+     * @param path the path of the file
+     * @param bdd  the BDD
+     * @throws IOException if there was a problem writing the file
+     */
+    public static void write(final Path path, final BDD bdd) throws IOException {
+        write(path, Collections.singletonList(bdd));
+    }
+
+    /**
+     * Writes the given BDDs to a file.  All BDDs must belong to the same kernel.
+     * @param path the path of the file
+     * @param bdds the BDDs
+     * @throws IOException              if there was a problem writing the file
+     * @throws IllegalArgumentException if the BDDs belong to different kernels
+     */
+    public static void write(final Path path, final Collection<BDD> bdds) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(channel, bdds);
+        }
+    }
+
+    /**
+     * Writes the given BDDs to a channel.  All BDDs must belong to the same kernel.  The channel is not closed by this
+     * method.
+     * @param channel the channel
+     * @param bdds    the BDDs
+     * @throws IOException              if there was a problem writing to the channel
+     * @throws IllegalArgumentException if the BDDs belong to different kernels
+     */
+    public static void write(final WritableByteChannel channel, final Collection<BDD> bdds) throws IOException {
+        if (bdds.isEmpty()) {
+            throw new IllegalArgumentException("Cannot write an empty collection of BDDs");
+        }
+        final BDDKernel kernel = bdds.iterator().next().underlyingKernel();
+        final int[] roots = new int[bdds.size()];
+        int i = 0;
+        for (final BDD bdd : bdds) {
+            if (bdd.underlyingKernel() != kernel) {
+                throw new IllegalArgumentException("All BDDs must belong to the same kernel");
+            }
+            roots[i++] = bdd.index();
+        }
+        final int[] rootIds = new int[roots.length];
+        final int[] nodes = new BDDOperations(kernel).exportNodes(roots, rootIds);
+        final int[] order = kernel.getCurrentVarOrder();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(order.length);
+        for (final int index : order) {
+            final Variable variable = kernel.getVariableForIndex(index);
+            ensureRemaining(channel, buffer, Integer.BYTES);
+            if (variable == null) {
+                buffer.putInt(-1);
+                continue;
+            }
+            final byte[] bytes = variable.name().getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length);
+            int pos = 0;
+            while (pos < bytes.length) {
+                ensureRemaining(channel, buffer, 1);
+                final int len = Math.min(buffer.remaining(), bytes.length - pos);
+                buffer.put(bytes, pos, len);
+                pos += len;
+            }
+        }
+        ensureRemaining(channel, buffer, 2 * Integer.BYTES);
+        buffer.putInt(roots.length).putInt(nodes.length / 3);
+        int pos = 0;
+        for (int level = order.length - 1; level >= 0; level--) {
+            int end = pos;
+            while (end < nodes.length && nodes[end] == level) {
+                end += 3;
+            }
+            ensureRemaining(channel, buffer, Integer.BYTES);
+            buffer.putInt((end - pos) / 3);
+            for (; pos < end; pos += 3) {
+                ensureRemaining(channel, buffer, 2 * Integer.BYTES);
+                buffer.putInt(nodes[pos + 1]).putInt(nodes[pos + 2]);
+            }
+        }
+        for (final int rootId : rootIds) {
+            ensureRemaining(channel, buffer, Integer.BYTES);
+            buffer.putInt(rootId);
+        }
+        flush(channel, buffer);
+    }
+
+    /**
+     * Reads BDDs from a file into a fresh kernel with the variable order of the file.  The file is memory-mapped for
+     * reading if it is small enough, otherwise it is read via a file channel.
+     * @param path the path of the file
+     * @param f    the formula factory for the variables of the new kernel
+     * @return the BDDs in the order they were written
+     * @throws IOException if there was a problem reading the file or the file is no valid BDD file
+     */
+    public static List<BDD> read(final Path path, final FormulaFactory f) throws IOException {
+        return read(path, f, null);
+    }
+
+    /**
+     * Reads BDDs from a file into the given kernel.  The file is memory-mapped for reading if it is small enough,
+     * otherwise it is read via a file channel.
+     * @param path   the path of the file
+     * @param kernel the kernel
+     * @return the BDDs in the order they were written
+     * @throws IOException              if there was a problem reading the file, the file is no valid BDD file, or the
+     *                                  variable order of the file is not compatible with the variable order of the kernel
+     * @throws IllegalArgumentException if variables of the file cannot be added to the kernel
+     */
+    public static List<BDD> read(final Path path, final BDDKernel kernel) throws IOException {
+        return read(path, kernel.factory(), kernel);
+    }
+
+    private static List<BDD> read(final Path path, final FormulaFactory f, final BDDKernel kernel) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return new Reader(channel, ByteBuffer.allocate(BUFFER_SIZE)).read(f, kernel);
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new Reader(null, buffer).read(f, kernel);
+        }
+    }
+
+    /**
+     * Reads BDDs from a byte buffer, e.g. a memory-mapped file, into a fresh kernel with the variable order of the
+     * buffer.  The buffer's position is advanced to the end of the BDDs.
+     * @param buffer the byte buffer
+     * @param f      the formula factory for the variables of the new kernel
+     * @return the BDDs in the order they were written
+     * @throws IOException if the buffer does not contain valid BDDs
+     */
+    public static List<BDD> read(final ByteBuffer buffer, final FormulaFactory f) throws IOException {
+        return new Reader(null, buffer).read(f, null);
+    }
+
+    /**
+     * Reads BDDs from a byte buffer, e.g. a memory-mapped file, into the given kernel.  The buffer's position is
+     * advanced to the end of the BDDs.
+     * @param buffer the byte buffer
+     * @param kernel the kernel
+     * @return the BDDs in the order they were written
+     * @throws IOException              if the buffer does not contain valid BDDs or the variable order of the buffer is
+     *                                  not compatible with the variable order of the kernel
+     * @throws IllegalArgumentException if variables of the buffer cannot be added to the kernel
+     */
+    public static List<BDD> read(final ByteBuffer buffer, final BDDKernel kernel) throws IOException {
+        return new Reader(null, buffer).read(kernel.factory(), kernel);
+    }
+
+    /**
+     * Reads BDDs from a channel into a fresh kernel with the variable order of the channel.  The channel is not closed
+     * by this method.
+     * @param channel the channel
+     * @param f       the formula factory for the variables of the new kernel
+     * @return the BDDs in the order they were written
+     * @throws IOException if there was a problem reading from the channel or the channel does not contain valid BDDs
+     */
+    public static List<BDD> read(final ReadableByteChannel channel, final FormulaFactory f) throws IOException {
+        return new Reader(channel, emptyBuffer()).read(f, null);
+    }
+
+    /**
+     * Reads BDDs from a channel into the given kernel.  The channel is not closed by this method.
+     * @param channel the channel
+     * @param kernel  the kernel
+     * @return the BDDs in the order they were written
+     * @throws IOException              if there was a problem reading from the channel, the channel does not contain
+     *                                  valid BDDs, or the variable order of the channel is not compatible with the
+     *                                  variable order of the kernel
+     * @throws IllegalArgumentException if variables of the channel cannot be added to the kernel
+     */
+    public static List<BDD> read(final ReadableByteChannel channel, final BDDKernel kernel) throws IOException {
+        return new Reader(channel, emptyBuffer()).read(kernel.factory(), kernel);
+    }
+
+    private static ByteBuffer emptyBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void ensureRemaining(final WritableByteChannel channel, final ByteBuffer buffer, final int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(final WritableByteChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * A reader for serialized BDDs from a buffer which is refilled from a channel if a channel is given.
+     */
+    private static final class Reader {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        private Reader(final ReadableByteChannel channel, final ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private List<BDD> read(final FormulaFactory f, final BDDKernel target) throws IOException {
+            if (readInt() != MAGIC) {
+                throw new IOException("Not a BDD file");
+            }
+            final int version = readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported BDD format version: " + version);
+            }
+            final Variable[] variables = new Variable[checkSize(readInt())];
+            final List<Variable> ordering = new ArrayList<>();
+            for (int i = 0; i < variables.length; i++) {
+                final int length = readInt();
+                if (length >= 0) {
+                    variables[i] = f.variable(new String(readBytes(length), StandardCharsets.UTF_8));
+                    ordering.add(variables[i]);
+                }
+            }
+            final int numRoots = checkSize(readInt());
+            final int numNodes = checkSize(readInt());
+            final BDDKernel kernel = target != null ? target
+                    : new BDDKernel(f, ordering, numNodes + numNodes / 4 + 2 * ordering.size() + 10, Math.max(numNodes / 10, 1000));
+            final int[] levels = new int[variables.length];
+            for (int i = 0; i < variables.length; i++) {
+                if (variables[i] == null) {
+                    levels[i] = -1;
+                } else {
+                    kernel.getOrAddVarIndex(variables[i]);
+                    levels[i] = kernel.getLevel(variables[i]);
+                }
+            }
+            final BDDConstruction construction = new BDDConstruction(kernel);
+            final int[] mapping = new int[numNodes + 2];
+            mapping[BDDKernel.BDD_TRUE] = BDDKernel.BDD_TRUE;
+            int id = 2;
+            try {
+                for (int level = variables.length - 1; level >= 0; level--) {
+                    final int count = readInt();
+                    if (count < 0 || count > numNodes + 2 - id || count > 0 && levels[level] < 0) {
+                        throw new IOException("Invalid number of nodes on level " + level + ": " + count);
+                    }
+                    for (int i = 0; i < count; i++, id++) {
+                        final int low = readInt();
+                        final int high = readInt();
+                        if (low < 0 || low >= id || high < 0 || high >= id) {
+                            throw new IOException("Invalid children of node " + id + ": " + low + ", " + high);
+                        }
+                        try {
+                            mapping[id] = kernel.addRef(construction.makeNode(levels[level], mapping[low], mapping[high]), null);
+                        } catch (final IllegalArgumentException e) {
+                            throw new IOException("The variable order of the BDD file is not compatible with the variable order of the kernel", e);
+                        }
+                    }
+                }
+                if (id != numNodes + 2) {
+                    throw new IOException("Invalid number of nodes: " + (id - 2) + " instead of " + numNodes);
+                }
+                final List<BDD> result = new ArrayList<>(numRoots);
+                for (int i = 0; i < numRoots; i++) {
+                    final int root = readInt();
+                    if (root < 0 || root >= id) {
+                        throw new IOException("Invalid root node: " + root);
+                    }
+                    result.add(new BDD(kernel.addRef(mapping[root], null), kernel));
+                }
+                return result;
+            } finally {
+                for (int i = 2; i < id; i++) {
+                    kernel.delRef(mapping[i]);
+                }
+            }
+        }
+
+        private static int checkSize(final int size) throws IOException {
+            if (size < 0 || size > Integer.MAX_VALUE - 2) {
+                throw new IOException("Invalid size in BDD file: " + size);
+            }
+            return size;
+        }
+
+        private int readInt() throws IOException {
+            fill(Integer.BYTES);
+            return this.buffer.getInt();
+        }
+
+        private byte[] readBytes(final int length) throws IOException {
+            final byte[] bytes = new byte[length];
+            int pos = 0;
+            while (pos < length) {
+                fill(1);
+                final int len = Math.min(this.buffer.remaining(), length - pos);
+                this.buffer.get(bytes, pos, len);
+                pos += len;
+            }
+            return bytes;
+        }
+
+        private void fill(final int bytes) throws IOException {
+            if (this.buffer.remaining() >= bytes) {
+                return;
+            }
+            if (this.channel == null) {
+                throw new EOFException("Unexpected end of BDD data");
+            }
+            this.buffer.compact();
+            while (this.buffer.position() < bytes) {
+                if (this.channel.read(this.buffer) < 0) {
+                    throw new EOFException("Unexpected end of BDD stream");
+                }
+            }
+            this.buffer.flip();
+        }
+    }
+}
@@ -59,12 +59,15 @@ package org.logicng.knowledgecompilation.bdds.jbuddy;
 
 /**
  * BDD Cache.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.4.0
  */
 public class BDDCache {
     private final BDDPrime prime;
     protected BDDCacheEntry[] table;
+    protected long lookups; // Number of lookups
+    protected long hits; // Number of lookups which found the requested entry
+    protected long occupiedLookups; // Number of lookups which returned an entry holding some result
 
     /**
      * Constructs a new BDD cache of a given size (number of entries in the cache).
@@ -105,6 +108,36 @@ public class BDDCache {
      * @return the respective entry in the cache
      */
     protected BDDCacheEntry lookup(final int hash) {
+        final BDDCacheEntry entry = this.table[Math.abs(hash % this.table.length)];
+        this.lookups++;
+        if (entry.a != -1) {
+            this.occupiedLookups++;
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the cache entry for a given hash value without recording a lookup.  This is used to store a result
+     * which was computed after an unsuccessful {@link #lookup(int) lookup} of the same hash value.
+     * @param hash the hash value.
+     * @return the respective entry in the cache
+     */
+    protected BDDCacheEntry entry(final int hash) {
         return this.table[Math.abs(hash % this.table.length)];
     }
+
+    /**
+     * Records that the last lookup found the requested entry.
+     */
+    protected void hit() {
+        this.hits++;
+    }
+
+    /**
+     * Returns the number of entries of this cache.
+     * @return the number of entries
+     */
+    protected int size() {
+        return this.table.length;
+    }
 }
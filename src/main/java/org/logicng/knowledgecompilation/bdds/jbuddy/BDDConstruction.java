@@ -31,9 +31,15 @@ package org.logicng.knowledgecompilation.bdds.jbuddy;
 import static org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel.CACHEID_FORALL;
 import static org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel.CACHEID_RESTRICT;
 
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Variable;
+
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class provides abstractions for the construction of BDDs.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 2.0.0
  */
 public class BDDConstruction {
@@ -160,6 +166,18 @@ public class BDDConstruction {
     }
 
     protected int notRec(final int r) throws BDDKernel.BddReorderRequest {
+        return notRec(r, 0);
+    }
+
+    /**
+     * Computes the negation of a BDD.  Up to a recursion depth of {@link BDDKernel#MAX_RECURSION_DEPTH} the
+     * negation is computed recursively, deeper sub-diagrams are processed by the non-recursive {@link #notIter(int)}.
+     * @param r     the BDD
+     * @param depth the current recursion depth
+     * @return the negation of the BDD
+     * @throws BDDKernel.BddReorderRequest if a reordering is requested during the node creation
+     */
+    protected int notRec(final int r, final int depth) throws BDDKernel.BddReorderRequest {
         if (this.k.isZero(r)) {
             return BDDKernel.BDD_TRUE;
         }
@@ -168,10 +186,14 @@ public class BDDConstruction {
         }
         final BDDCacheEntry entry = this.k.applycache.lookup(r);
         if (entry.a == r && entry.c == BDDKernel.Operand.NOT.v) {
+            this.k.applycache.hit();
             return entry.res;
         }
-        this.k.pushRef(notRec(this.k.low(r)));
-        this.k.pushRef(notRec(this.k.high(r)));
+        if (depth >= BDDKernel.MAX_RECURSION_DEPTH) {
+            return notIter(r);
+        }
+        this.k.pushRef(notRec(this.k.low(r), depth + 1));
+        this.k.pushRef(notRec(this.k.high(r), depth + 1));
         final int res = this.k.makeNode(this.k.level(r), this.k.readRef(2), this.k.readRef(1));
         this.k.popref(2);
         entry.a = r;
@@ -180,6 +202,69 @@ public class BDDConstruction {
         return res;
     }
 
+    /**
+     * Computes the negation of a BDD which is neither constant nor cached.  The nodes are traversed with an explicit
+     * stack of frames (node and number of already negated children) instead of recursion, so the depth of the BDD
+     * is not limited by the thread stack size.
+     * @param r the BDD
+     * @return the negation of the BDD
+     * @throws BDDKernel.BddReorderRequest if a reordering is requested during the node creation
+     */
+    protected int notIter(final int r) throws BDDKernel.BddReorderRequest {
+        int res = -1;
+        final LNGIntVector stack = new LNGIntVector();
+        stack.push(r);
+        stack.push(0);
+        while (true) {
+            final int node = stack.get(stack.size() - 2);
+            final int state = stack.back();
+            if (state == 2) {
+                this.k.pushRef(res);
+                res = this.k.makeNode(this.k.level(node), this.k.readRef(2), this.k.readRef(1));
+                this.k.popref(2);
+                final BDDCacheEntry entry = this.k.applycache.entry(node);
+                entry.a = node;
+                entry.c = BDDKernel.Operand.NOT.v;
+                entry.res = res;
+                stack.removeElements(2);
+                if (stack.empty()) {
+                    return res;
+                }
+                continue;
+            }
+            if (state == 1) {
+                this.k.pushRef(res);
+            }
+            stack.set(stack.size() - 1, state + 1);
+            final int child = state == 0 ? this.k.low(node) : this.k.high(node);
+            res = notTerminal(child);
+            if (res < 0) {
+                stack.push(child);
+                stack.push(0);
+            }
+        }
+    }
+
+    /**
+     * Returns the negation of a BDD if it is a constant or found in the apply cache, otherwise {@code -1}.
+     * @param r the BDD
+     * @return the negation or {@code -1} if the negation has to be computed
+     */
+    protected int notTerminal(final int r) {
+        if (this.k.isZero(r)) {
+            return BDDKernel.BDD_TRUE;
+        }
+        if (this.k.isOne(r)) {
+            return BDDKernel.BDD_FALSE;
+        }
+        final BDDCacheEntry entry = this.k.applycache.lookup(r);
+        if (entry.a == r && entry.c == BDDKernel.Operand.NOT.v) {
+            this.k.applycache.hit();
+            return entry.res;
+        }
+        return -1;
+    }
+
     /**
      * Restricts the variables in the BDD {@code r} to constants true or false.  The restriction is submitted in the BDD
      * {@code var}.
@@ -202,6 +287,7 @@ public class BDDConstruction {
         }
         final BDDCacheEntry entry = this.k.misccache.lookup(this.k.pair(r, miscid));
         if (entry.a == r && entry.c == miscid) {
+            this.k.misccache.hit();
             return entry.res;
         }
         if (insvarset(this.k.level(r))) {
@@ -257,6 +343,7 @@ public class BDDConstruction {
         }
         final BDDCacheEntry entry = this.k.quantcache.lookup(r);
         if (entry.a == r && entry.c == quantid) {
+            this.k.quantcache.hit();
             return entry.res;
         }
         this.k.pushRef(quantRec(this.k.low(r), op, quantid));
@@ -273,6 +360,340 @@ public class BDDConstruction {
         return res;
     }
 
+    /**
+     * Returns the if-then-else of three BDDs, i.e. the BDD for {@code (f & g) | (~f & h)}.
+     * @param f the condition
+     * @param g the then-branch
+     * @param h the else-branch
+     * @return the if-then-else of the three BDDs
+     */
+    public int ite(final int f, final int g, final int h) {
+        return this.k.doWithPotentialReordering(() -> iteRec(f, g, h));
+    }
+
+    protected int iteRec(final int f, final int g, final int h) throws BDDKernel.BddReorderRequest {
+        if (this.k.isOne(f)) {
+            return g;
+        }
+        if (this.k.isZero(f)) {
+            return h;
+        }
+        if (g == h) {
+            return g;
+        }
+        if (this.k.isOne(g) && this.k.isZero(h)) {
+            return f;
+        }
+        if (this.k.isZero(g) && this.k.isOne(h)) {
+            return notRec(f);
+        }
+        final BDDCacheEntry entry = this.k.itecache.lookup(this.k.triple(f, g, h));
+        if (entry.a == f && entry.b == g && entry.c == h) {
+            this.k.itecache.hit();
+            return entry.res;
+        }
+        final int level = Math.min(this.k.level(f), Math.min(this.k.level(g), this.k.level(h)));
+        this.k.pushRef(iteRec(lowAt(f, level), lowAt(g, level), lowAt(h, level)));
+        this.k.pushRef(iteRec(highAt(f, level), highAt(g, level), highAt(h, level)));
+        final int res = this.k.makeNode(level, this.k.readRef(2), this.k.readRef(1));
+        this.k.popref(2);
+        entry.a = f;
+        entry.b = g;
+        entry.c = h;
+        entry.res = res;
+        return res;
+    }
+
+    /**
+     * Returns the relational product of two BDDs, i.e. the existential quantification of the variables in
+     * {@code var} from the conjunction of {@code l} and {@code r}.  The conjunction is never built explicitly, the
+     * quantification is performed during the conjunction.
+     * @param l   the first BDD
+     * @param r   the second BDD
+     * @param var the variables to eliminate
+     * @return the BDD for the conjunction with the eliminated variables
+     */
+    public int andExists(final int l, final int r, final int var) {
+        if (var < 2) {
+            return and(l, r);
+        }
+        return this.k.doWithPotentialReordering(() -> {
+            varset2vartable(var);
+            return andExistsRec(l, r, var);
+        });
+    }
+
+    protected int andExistsRec(final int l, final int r, final int var) throws BDDKernel.BddReorderRequest {
+        if (this.k.isZero(l) || this.k.isZero(r)) {
+            return BDDKernel.BDD_FALSE;
+        }
+        if (l == r || this.k.isOne(r)) {
+            return quantRec(l, BDDKernel.Operand.OR, var << 3);
+        }
+        if (this.k.isOne(l)) {
+            return quantRec(r, BDDKernel.Operand.OR, var << 3);
+        }
+        final int level = Math.min(this.k.level(l), this.k.level(r));
+        if (level > this.k.quantlast) {
+            return this.k.applyRec(l, r, BDDKernel.Operand.AND);
+        }
+        final BDDCacheEntry entry = this.k.appexcache.lookup(this.k.triple(l, r, var));
+        if (entry.a == l && entry.b == r && entry.c == var) {
+            this.k.appexcache.hit();
+            return entry.res;
+        }
+        final int res;
+        this.k.pushRef(andExistsRec(lowAt(l, level), lowAt(r, level), var));
+        if (invarset(level)) {
+            if (this.k.isOne(this.k.readRef(1))) {
+                res = BDDKernel.BDD_TRUE;
+            } else {
+                this.k.pushRef(andExistsRec(highAt(l, level), highAt(r, level), var));
+                res = this.k.applyRec(this.k.readRef(2), this.k.readRef(1), BDDKernel.Operand.OR);
+                this.k.popref(1);
+            }
+        } else {
+            this.k.pushRef(andExistsRec(highAt(l, level), highAt(r, level), var));
+            res = this.k.makeNode(level, this.k.readRef(2), this.k.readRef(1));
+            this.k.popref(1);
+        }
+        this.k.popref(1);
+        entry.a = l;
+        entry.b = r;
+        entry.c = var;
+        entry.res = res;
+        return res;
+    }
+
+    /**
+     * Returns the functional composition of two BDDs, i.e. the BDD {@code f} where the variable with index {@code var}
+     * is substituted by the BDD {@code g}.
+     * @param f   the BDD
+     * @param g   the BDD to substitute the variable with
+     * @param var the index of the variable to substitute
+     * @return the composition of the two BDDs
+     * @throws IllegalArgumentException if the variable index is not within the range of variables
+     */
+    public int compose(final int f, final int g, final int var) {
+        if (var < 0 || var >= this.k.varnum) {
+            throw new IllegalArgumentException("Illegal variable number: " + var);
+        }
+        return this.k.doWithPotentialReordering(() -> composeRec(f, g, var));
+    }
+
+    protected int composeRec(final int f, final int g, final int var) throws BDDKernel.BddReorderRequest {
+        final int composeLevel = this.k.var2level[var];
+        if (this.k.level(f) > composeLevel) {
+            return f;
+        }
+        final BDDCacheEntry entry = this.k.replacecache.lookup(this.k.triple(f, g, var));
+        if (entry.a == f && entry.b == g && entry.c == var) {
+            this.k.replacecache.hit();
+            return entry.res;
+        }
+        final int res;
+        if (this.k.level(f) == composeLevel) {
+            res = iteRec(g, this.k.high(f), this.k.low(f));
+        } else {
+            final int level = Math.min(this.k.level(f), this.k.level(g));
+            this.k.pushRef(composeRec(lowAt(f, level), lowAt(g, level), var));
+            this.k.pushRef(composeRec(highAt(f, level), highAt(g, level), var));
+            res = this.k.makeNode(level, this.k.readRef(2), this.k.readRef(1));
+            this.k.popref(2);
+        }
+        entry.a = f;
+        entry.b = g;
+        entry.c = var;
+        entry.res = res;
+        return res;
+    }
+
+    /**
+     * Returns the simultaneous functional composition of a BDD with a vector of BDDs, i.e. the BDD {@code f} where each
+     * variable with index {@code i} is substituted by the BDD {@code composition[i]}.  Variables with a negative entry
+     * or without an entry in the composition are not substituted.
+     * @param f           the BDD
+     * @param composition the BDDs to substitute the variables with, indexed by the variable index
+     * @return the composition
+     */
+    public int vectorCompose(final int f, final int[] composition) {
+        return this.k.doWithPotentialReordering(() -> {
+            final int[] levelComposition = new int[this.k.varnum];
+            int lastLevel = -1;
+            for (int var = 0; var < this.k.varnum; var++) {
+                final int level = this.k.var2level[var];
+                if (var < composition.length && composition[var] >= 0) {
+                    levelComposition[level] = composition[var];
+                    lastLevel = Math.max(lastLevel, level);
+                } else {
+                    levelComposition[level] = this.k.vars[2 * var];
+                }
+            }
+            this.k.replacecache.reset();
+            return vectorComposeRec(f, levelComposition, lastLevel);
+        });
+    }
+
+    protected int vectorComposeRec(final int f, final int[] levelComposition, final int lastLevel) throws BDDKernel.BddReorderRequest {
+        if (this.k.level(f) > lastLevel) {
+            return f;
+        }
+        final BDDCacheEntry entry = this.k.replacecache.lookup(f);
+        if (entry.a == f && entry.c == -1) {
+            this.k.replacecache.hit();
+            return entry.res;
+        }
+        this.k.pushRef(vectorComposeRec(this.k.low(f), levelComposition, lastLevel));
+        this.k.pushRef(vectorComposeRec(this.k.high(f), levelComposition, lastLevel));
+        final int res = iteRec(levelComposition[this.k.level(f)], this.k.readRef(1), this.k.readRef(2));
+        this.k.popref(2);
+        entry.a = f;
+        entry.c = -1;
+        entry.res = res;
+        return res;
+    }
+
+    /**
+     * Returns the generalized cofactor of the BDD {@code f} with respect to the care set {@code c} (also known as the
+     * constrain operator).  The result agrees with {@code f} on all assignments satisfying {@code c} and is often
+     * considerably smaller than {@code f}.  If {@code c} is a contradiction, the result is a contradiction, too.
+     * @param f the BDD
+     * @param c the care set
+     * @return the generalized cofactor
+     */
+    public int constrain(final int f, final int c) {
+        return this.k.doWithPotentialReordering(() -> constrainRec(f, c));
+    }
+
+    protected int constrainRec(final int f, final int c) throws BDDKernel.BddReorderRequest {
+        if (this.k.isZero(c)) {
+            return BDDKernel.BDD_FALSE;
+        }
+        if (this.k.isOne(c) || this.k.isConst(f)) {
+            return f;
+        }
+        if (c == f) {
+            return BDDKernel.BDD_TRUE;
+        }
+        final BDDCacheEntry entry = this.k.constraincache.lookup(this.k.pair(f, c));
+        if (entry.a == f && entry.b == c) {
+            this.k.constraincache.hit();
+            return entry.res;
+        }
+        final int res;
+        final int level = Math.min(this.k.level(f), this.k.level(c));
+        if (this.k.level(c) == level && this.k.isZero(this.k.low(c))) {
+            res = constrainRec(highAt(f, level), this.k.high(c));
+        } else if (this.k.level(c) == level && this.k.isZero(this.k.high(c))) {
+            res = constrainRec(lowAt(f, level), this.k.low(c));
+        } else {
+            this.k.pushRef(constrainRec(lowAt(f, level), lowAt(c, level)));
+            this.k.pushRef(constrainRec(highAt(f, level), highAt(c, level)));
+            res = this.k.makeNode(level, this.k.readRef(2), this.k.readRef(1));
+            this.k.popref(2);
+        }
+        entry.a = f;
+        entry.b = c;
+        entry.res = res;
+        return res;
+    }
+
+    protected int lowAt(final int r, final int level) {
+        return this.k.level(r) == level ? this.k.low(r) : r;
+    }
+
+    protected int highAt(final int r, final int level) {
+        return this.k.level(r) == level ? this.k.high(r) : r;
+    }
+
+    /**
+     * Returns the node with the given level and children, creating it if it does not yet exist.  The node is not
+     * referenced, so callers building larger BDDs node by node have to {@link BDDKernel#addRef add references} to the
+     * nodes they still need.  No reordering is performed during this method.
+     * @param level the level of the node
+     * @param low   the low child
+     * @param high  the high child
+     * @return the node
+     * @throws IllegalArgumentException if the level is not above the levels of the children
+     */
+    public int makeNode(final int level, final int low, final int high) {
+        if (level < 0 || level >= this.k.level(low) || level >= this.k.level(high)) {
+            throw new IllegalArgumentException("Illegal level " + level + " for a node with children " + low + " and " + high);
+        }
+        this.k.reordering.disableReorder();
+        try {
+            return this.k.makeNode(level, low, high);
+        } finally {
+            this.k.reordering.enableReorder();
+        }
+    }
+
+    /**
+     * Copies the BDD with the given root node from another kernel into the kernel of this object.  The variables of
+     * the BDD are added to this kernel if they are not yet known.  The copy is performed in a single non-recursive pass
+     * over the nodes of the BDD.  The order of the variables of the BDD in this kernel must be the same as in the
+     * source kernel, otherwise an exception is thrown.
+     * <p>
+     * The source kernel is only read, so different threads can copy from the same source kernel as long as it is not
+     * modified concurrently.
+     * @param source the source kernel
+     * @param root   the root node of the BDD in the source kernel
+     * @return the root node of the copied BDD in this kernel
+     * @throws IllegalArgumentException if the variable orders of the two kernels are not compatible
+     */
+    public int importBdd(final BDDKernel source, final int root) {
+        if (root < 2) {
+            return root;
+        }
+        final int[] levelMap = new int[source.varnum + 1];
+        for (int level = 0; level < source.varnum; level++) {
+            final Variable var = source.idx2var.get(source.level2var[level]);
+            levelMap[level] = var == null ? -1 : this.k.var2level[this.k.getOrAddVarIndex(var)];
+        }
+        final Map<Integer, Integer> mapping = new HashMap<>();
+        mapping.put(BDDKernel.BDD_FALSE, BDDKernel.BDD_FALSE);
+        mapping.put(BDDKernel.BDD_TRUE, BDDKernel.BDD_TRUE);
+        final LNGIntVector created = new LNGIntVector();
+        final LNGIntVector stack = new LNGIntVector();
+        stack.push(root);
+        this.k.reordering.disableReorder();
+        try {
+            while (!stack.empty()) {
+                final int node = stack.back();
+                if (mapping.containsKey(node)) {
+                    stack.pop();
+                    continue;
+                }
+                final Integer low = mapping.get(source.low(node));
+                final Integer high = mapping.get(source.high(node));
+                if (low == null || high == null) {
+                    if (low == null) {
+                        stack.push(source.low(node));
+                    }
+                    if (high == null) {
+                        stack.push(source.high(node));
+                    }
+                    continue;
+                }
+                stack.pop();
+                final int level = levelMap[source.level(node)];
+                if (level < 0 || level >= this.k.level(low) || level >= this.k.level(high)) {
+                    throw new IllegalArgumentException("The variable orders of the two kernels are not compatible");
+                }
+                final int res = this.k.makeNode(level, low, high);
+                this.k.incRef(res);
+                created.push(res);
+                mapping.put(node, res);
+            }
+        } finally {
+            for (int i = 0; i < created.size(); i++) {
+                this.k.decRef(created.get(i));
+            }
+            this.k.reordering.enableReorder();
+        }
+        return mapping.get(root);
+    }
+
     protected void varset2svartable(final int r) {
         if (r < 2) {
             throw new IllegalArgumentException("Illegal variable: " + r);
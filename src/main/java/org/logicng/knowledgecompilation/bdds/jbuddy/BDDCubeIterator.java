@@ -0,0 +1,127 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.jbuddy;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the paths of a BDD to the constant {@code true} (satisfying cubes) or to the constant
+ * {@code false} (falsifying cubes).  The cubes are computed directly on the node table of the kernel with an
+ * explicit path stack, so apart from this stack no memory is allocated during the iteration.
+ * <p>
+ * A cube is returned as byte array indexed by the variable index of the kernel with the entries {@code 0}
+ * (variable is false), {@code 1} (variable is true) and {@code -1} (variable does not occur on the path).  <b>The
+ * same array is returned on each call of {@link #next()}</b>, so it must be copied if it should be kept.  The
+ * kernel must not be modified (no new nodes, no reordering) during the iteration.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class BDDCubeIterator implements Iterator<byte[]> {
+
+    private final BDDKernel k;
+    private final int terminal;
+    private final byte[] cube;
+    private final int[] nodes;
+    private final byte[] states;
+    private int depth;
+    private boolean ready;
+
+    /**
+     * Constructs a new cube iterator.
+     * @param k    the kernel
+     * @param r    the BDD root node
+     * @param sat  {@code true} if the paths to {@code true} should be enumerated, {@code false} if the paths to
+     *             {@code false} should be enumerated
+     */
+    public BDDCubeIterator(final BDDKernel k, final int r, final boolean sat) {
+        this.k = k;
+        this.terminal = sat ? BDDKernel.BDD_TRUE : BDDKernel.BDD_FALSE;
+        this.cube = new byte[k.varnum];
+        Arrays.fill(this.cube, (byte) -1);
+        this.nodes = new int[k.varnum + 1];
+        this.states = new byte[k.varnum + 1];
+        if (r == this.terminal) {
+            this.ready = true;
+        } else if (r >= 2) {
+            this.nodes[0] = r;
+            this.depth = 1;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.ready) {
+            this.ready = advance();
+        }
+        return this.ready;
+    }
+
+    @Override
+    public byte[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.ready = false;
+        return this.cube;
+    }
+
+    /**
+     * Continues the depth-first search until the next path to the terminal is found.
+     * @return {@code true} if a path was found, {@code false} if all paths were enumerated
+     */
+    private boolean advance() {
+        while (this.depth > 0) {
+            final int node = this.nodes[this.depth - 1];
+            final byte state = this.states[this.depth - 1];
+            if (state == 2) {
+                this.depth--;
+                continue;
+            }
+            this.states[this.depth - 1]++;
+            final int child = state == 0 ? this.k.low(node) : this.k.high(node);
+            if (child < 2 && child != this.terminal) {
+                continue;
+            }
+            final int level = this.k.level(node);
+            this.cube[this.k.level2var[level]] = state;
+            for (int v = this.k.level(child) - 1; v > level; --v) {
+                this.cube[this.k.level2var[v]] = -1;
+            }
+            if (child == this.terminal) {
+                return true;
+            }
+            this.nodes[this.depth] = child;
+            this.states[this.depth] = 0;
+            this.depth++;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,73 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.jbuddy;
+
+/**
+ * A node table storing all nodes in a single Java array.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+final class BDDHeapNodeTable extends BDDNodeTable {
+
+    private static final int MAX_NODES = (Integer.MAX_VALUE - 8) / NODE_SIZE;
+
+    private int[] nodes = new int[0];
+
+    @Override
+    public int maxNodes() {
+        return MAX_NODES;
+    }
+
+    @Override
+    public int capacity() {
+        return this.nodes.length / NODE_SIZE;
+    }
+
+    @Override
+    protected void ensureCapacity(final int numNodes) {
+        if (numNodes > MAX_NODES) {
+            throw new IllegalStateException("Cannot allocate more space for more nodes.");
+        }
+        if (numNodes > capacity()) {
+            final int[] newNodes = new int[numNodes * NODE_SIZE];
+            System.arraycopy(this.nodes, 0, newNodes, 0, this.nodes.length);
+            this.nodes = newNodes;
+        }
+    }
+
+    @Override
+    protected int get(final int node, final int field) {
+        return this.nodes[NODE_SIZE * node + field];
+    }
+
+    @Override
+    protected void set(final int node, final int field, final int value) {
+        this.nodes[NODE_SIZE * node + field] = value;
+    }
+}
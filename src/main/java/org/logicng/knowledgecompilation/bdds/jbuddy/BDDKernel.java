@@ -62,13 +62,16 @@ import org.logicng.formulas.Variable;
 import org.logicng.handlers.BDDHandler;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
 /**
  * The jBuddy kernel.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.4.0
  */
 public class BDDKernel {
@@ -105,6 +108,9 @@ public class BDDKernel {
     public static final int CACHEID_PATHCOU_ZERO = 0x8;
     public static final int CACHEID_FORALL = 0x1;
 
+    protected static final int MAX_RECURSION_DEPTH = 256; // Max. recursion depth before switching to an explicit stack
+    protected static final int APPLY_FRAME = 8; // Number of entries of a frame of the non-recursive apply
+
     protected final BDDPrime prime;
     protected final FormulaFactory f;
     protected final SortedMap<Variable, Integer> var2idx;
@@ -112,11 +118,12 @@ public class BDDKernel {
 
     protected BDDReordering reordering;
 
-    protected int[] nodes; // All the bdd nodes
+    protected final BDDNodeTable nodes; // All the bdd nodes
     protected int[] vars; // Set of defined BDD variables
     protected final int minfreenodes; // Minimal % of nodes that has to be left after a garbage collection
     protected int gbcollectnum; // Number of garbage collections
-    protected final int cachesize; // Size of the operator caches
+    protected int cachesize; // Size of the operator caches
+    protected int cacheratio; // Number of nodes per cache entry if the caches grow with the node table, 0 for fixed caches
     protected int nodesize; // Number of allocated nodes
     protected final int maxnodeincrease; // Max. # of nodes used to inc. table
     protected int freepos; // First free node
@@ -125,6 +132,10 @@ public class BDDKernel {
     protected int varnum; // Number of defined BDD variables
     protected int[] refstack; // Internal node reference stack
     protected int refstacktop; // Internal node reference stack top
+    protected int[] applystack = new int[4 * APPLY_FRAME]; // Frame stack of the non-recursive apply
+    protected BDDCacheEntry[] applyentries = new BDDCacheEntry[4]; // Cache entries of the frames of the non-recursive apply
+    protected BDDCacheEntry applyentry; // Cache entry of the last unsuccessful apply cache lookup
+    protected int[] markstack = new int[32]; // Node stack of the non-recursive marking
     protected int[] level2var; // Level -> variable table
     protected int[] var2level; // Variable -> level table
 
@@ -138,6 +149,8 @@ public class BDDKernel {
     protected BDDCache appexcache; // Cache for appex/appall results
     protected BDDCache replacecache; // Cache for replace results
     protected BDDCache misccache; // Cache for other results
+    protected BDDCache constraincache; // Cache for constrain results
+    protected boolean reorderable; // Whether a reorder request may be thrown, i.e. an outermost operation can be restarted
 
     /**
      * Constructor for the BDD kernel.
@@ -147,13 +160,26 @@ public class BDDKernel {
      * @param cacheSize the fixed size of the internal caches
      */
     public BDDKernel(final FormulaFactory f, final int numVars, final int nodeSize, final int cacheSize) {
+        this(f, numVars, nodeSize, cacheSize, BDDNodeTable.onHeap());
+    }
+
+    /**
+     * Constructor for the BDD kernel with a given node table.
+     * @param f         the formula factory to use
+     * @param numVars   the number of variables
+     * @param nodeSize  the initial number of nodes in the nodetable
+     * @param cacheSize the fixed size of the internal caches
+     * @param nodeTable the (empty) node table to store the nodes in, e.g. an {@link BDDNodeTable#offHeap() off-heap table}
+     */
+    public BDDKernel(final FormulaFactory f, final int numVars, final int nodeSize, final int cacheSize, final BDDNodeTable nodeTable) {
         this.f = f;
         this.prime = new BDDPrime();
         this.var2idx = new TreeMap<>();
         this.idx2var = new TreeMap<>();
         this.reordering = new BDDReordering(this);
         this.nodesize = prime.primeGTE(Math.max(nodeSize, 3));
-        this.nodes = new int[this.nodesize * 6];
+        this.nodes = nodeTable;
+        this.nodes.ensureCapacity(this.nodesize);
         this.minfreenodes = 20;
         for (int n = 0; n < this.nodesize; n++) {
             setRefcou(n, 0);
@@ -188,7 +214,19 @@ public class BDDKernel {
      * @param cacheSize the fixed size of the internal caches
      */
     public BDDKernel(final FormulaFactory f, final List<Variable> ordering, final int nodeSize, final int cacheSize) {
-        this(f, ordering.size(), nodeSize, cacheSize);
+        this(f, ordering, nodeSize, cacheSize, BDDNodeTable.onHeap());
+    }
+
+    /**
+     * Constructor for the BDD kernel with a given node table.
+     * @param f         the formula factory to use
+     * @param ordering  the variable ordering
+     * @param nodeSize  the initial number of nodes in the nodetable
+     * @param cacheSize the fixed size of the internal caches
+     * @param nodeTable the (empty) node table to store the nodes in, e.g. an {@link BDDNodeTable#offHeap() off-heap table}
+     */
+    public BDDKernel(final FormulaFactory f, final List<Variable> ordering, final int nodeSize, final int cacheSize, final BDDNodeTable nodeTable) {
+        this(f, ordering.size(), nodeSize, cacheSize, nodeTable);
         for (final Variable var : ordering) {
             getOrAddVarIndex(var);
         }
@@ -209,6 +247,9 @@ public class BDDKernel {
         this.var2level = new int[num + 1];
         this.refstack = new int[num * 2 + 4];
         this.refstacktop = 0;
+        this.applystack = new int[APPLY_FRAME * (num + 2)];
+        this.applyentries = new BDDCacheEntry[num + 2];
+        this.markstack = new int[2 * (num + 2)];
         while (this.varnum < num) {
             this.vars[this.varnum * 2] = pushRef(makeNode(this.varnum, 0, 1));
             this.vars[this.varnum * 2 + 1] = makeNode(this.varnum, 1, 0);
@@ -319,11 +360,24 @@ public class BDDKernel {
         return Arrays.copyOf(this.level2var, this.level2var.length - 1); // last var is always 0
     }
 
+    /**
+     * Performs the given operation.  If the operation requests a reordering, the reordering is performed and the
+     * operation is restarted with reordering disabled.  Reorder requests are only thrown by {@link #makeNode} within
+     * the outermost operation, since only this one can be restarted with a clean reference stack.  Nested operations
+     * are performed directly on the reference stack of the outer operation.
+     * @param operation the operation
+     * @return the result of the operation
+     */
     protected int doWithPotentialReordering(final BddOperation operation) {
+        if (this.reorderable) {
+            return operation.perform();
+        }
+        this.reorderable = true;
         try {
             initRef();
             return operation.perform();
         } catch (final BddReorderRequest reorderRequest) {
+            this.reorderable = false;
             this.reordering.checkReorder();
             initRef();
             this.reordering.disableReorder();
@@ -334,6 +388,8 @@ public class BDDKernel {
             } finally {
                 this.reordering.enableReorder();
             }
+        } finally {
+            this.reorderable = false;
         }
     }
 
@@ -342,6 +398,22 @@ public class BDDKernel {
     }
 
     protected int applyRec(final int l, final int r, final Operand op) throws BddReorderRequest {
+        return applyRec(l, r, op, 0);
+    }
+
+    /**
+     * Applies the given operator to the two BDDs.  Up to a recursion depth of {@link #MAX_RECURSION_DEPTH} the
+     * Shannon expansion is performed recursively, deeper sub-diagrams are processed by the non-recursive
+     * {@link #applyIter(int, int, Operand)}.  So the thread stack usage is bounded independently of the number of
+     * variables while the common case of shallow diagrams keeps the speed of the recursive formulation.
+     * @param l     the left BDD
+     * @param r     the right BDD
+     * @param op    the operator
+     * @param depth the current recursion depth
+     * @return the result BDD
+     * @throws BddReorderRequest if a reordering is requested during the node creation
+     */
+    protected int applyRec(final int l, final int r, final Operand op, final int depth) throws BddReorderRequest {
         final int res;
         switch (op) {
             case AND:
@@ -389,19 +461,24 @@ public class BDDKernel {
         } else {
             final BDDCacheEntry entry = this.applycache.lookup(triple(l, r, op.v));
             if (entry.a == l && entry.b == r && entry.c == op.v) {
+                this.applycache.hit();
                 return entry.res;
             }
+            if (depth >= MAX_RECURSION_DEPTH) {
+                this.applyentry = entry;
+                return applyIter(l, r, op);
+            }
             if (level(l) == level(r)) {
-                pushRef(applyRec(low(l), low(r), op));
-                pushRef(applyRec(high(l), high(r), op));
+                pushRef(applyRec(low(l), low(r), op, depth + 1));
+                pushRef(applyRec(high(l), high(r), op, depth + 1));
                 res = makeNode(level(l), readRef(2), readRef(1));
             } else if (level(l) < level(r)) {
-                pushRef(applyRec(low(l), r, op));
-                pushRef(applyRec(high(l), r, op));
+                pushRef(applyRec(low(l), r, op, depth + 1));
+                pushRef(applyRec(high(l), r, op, depth + 1));
                 res = makeNode(level(l), readRef(2), readRef(1));
             } else {
-                pushRef(applyRec(l, low(r), op));
-                pushRef(applyRec(l, high(r), op));
+                pushRef(applyRec(l, low(r), op, depth + 1));
+                pushRef(applyRec(l, high(r), op, depth + 1));
                 res = makeNode(level(r), readRef(2), readRef(1));
             }
             popref(2);
@@ -413,6 +490,155 @@ public class BDDKernel {
         return res;
     }
 
+    /**
+     * Applies the given operator to the two BDDs for which the result is neither trivial nor cached.  The Shannon
+     * expansion is performed with an explicit stack of frames instead of recursion, so the depth of the BDDs is not
+     * limited by the thread stack size.  Each frame consists of the two operands, their top level, the operands for
+     * the low and the high child and the number of children which were already computed.  As in the recursive
+     * formulation, the result of the low child is kept on the reference stack while the high child is computed.
+     * The cache entry of the operands must be stored in {@link #applyentry} (by {@link #applyTerminal}).
+     * @param l  the left BDD
+     * @param r  the right BDD
+     * @param op the operator
+     * @return the result BDD
+     * @throws BddReorderRequest if a reordering is requested during the node creation
+     */
+    protected int applyIter(final int l, final int r, final Operand op) throws BddReorderRequest {
+        int res = -1;
+        int[] stack = this.applystack;
+        BDDCacheEntry[] entries = this.applyentries;
+        entries[0] = this.applyentry;
+        pushApplyFrame(stack, 0, l, r);
+        int top = APPLY_FRAME;
+        while (true) {
+            final int frame = top - APPLY_FRAME;
+            final int state = stack[frame + 7];
+            if (state == 2) {
+                pushRef(res);
+                res = makeNode(stack[frame + 2], readRef(2), readRef(1));
+                popref(2);
+                final BDDCacheEntry entry = entries[frame / APPLY_FRAME];
+                entry.a = stack[frame];
+                entry.b = stack[frame + 1];
+                entry.c = op.v;
+                entry.res = res;
+                top = frame;
+                if (top == 0) {
+                    return res;
+                }
+                continue;
+            }
+            if (state == 1) {
+                pushRef(res);
+            }
+            stack[frame + 7] = state + 1;
+            final int cl = stack[frame + 3 + 2 * state];
+            final int cr = stack[frame + 4 + 2 * state];
+            res = applyTerminal(cl, cr, op);
+            if (res < 0) {
+                if (top + APPLY_FRAME > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                    entries = Arrays.copyOf(entries, entries.length * 2);
+                    this.applystack = stack;
+                    this.applyentries = entries;
+                }
+                entries[top / APPLY_FRAME] = this.applyentry;
+                pushApplyFrame(stack, top, cl, cr);
+                top += APPLY_FRAME;
+            }
+        }
+    }
+
+    private void pushApplyFrame(final int[] stack, final int frame, final int l, final int r) {
+        final int levelL = level(l);
+        final int levelR = level(r);
+        stack[frame] = l;
+        stack[frame + 1] = r;
+        stack[frame + 7] = 0;
+        if (levelL == levelR) {
+            stack[frame + 2] = levelL;
+            stack[frame + 3] = low(l);
+            stack[frame + 4] = low(r);
+            stack[frame + 5] = high(l);
+            stack[frame + 6] = high(r);
+        } else if (levelL < levelR) {
+            stack[frame + 2] = levelL;
+            stack[frame + 3] = low(l);
+            stack[frame + 4] = r;
+            stack[frame + 5] = high(l);
+            stack[frame + 6] = r;
+        } else {
+            stack[frame + 2] = levelR;
+            stack[frame + 3] = l;
+            stack[frame + 4] = low(r);
+            stack[frame + 5] = l;
+            stack[frame + 6] = high(r);
+        }
+    }
+
+    /**
+     * Returns the result of the given operator for two BDDs if it is determined by the terminal cases or found in the
+     * apply cache, otherwise {@code -1}.  In the latter case, the cache entry for the result is stored in
+     * {@link #applyentry}.
+     * @param l  the left BDD
+     * @param r  the right BDD
+     * @param op the operator
+     * @return the result or {@code -1} if the result has to be computed
+     */
+    protected int applyTerminal(final int l, final int r, final Operand op) {
+        switch (op) {
+            case AND:
+                if (l == r) {
+                    return l;
+                }
+                if (isZero(l) || isZero(r)) {
+                    return 0;
+                }
+                if (isOne(l)) {
+                    return r;
+                }
+                if (isOne(r)) {
+                    return l;
+                }
+                break;
+            case OR:
+                if (l == r) {
+                    return l;
+                }
+                if (isOne(l) || isOne(r)) {
+                    return 1;
+                }
+                if (isZero(l)) {
+                    return r;
+                }
+                if (isZero(r)) {
+                    return l;
+                }
+                break;
+            case IMP:
+                if (isZero(l)) {
+                    return 1;
+                }
+                if (isOne(l)) {
+                    return r;
+                }
+                if (isOne(r)) {
+                    return 1;
+                }
+                break;
+        }
+        if (isConst(l) && isConst(r)) {
+            return op.tt[l << 1 | r];
+        }
+        final BDDCacheEntry entry = this.applycache.lookup(triple(l, r, op.v));
+        if (entry.a == l && entry.b == r && entry.c == op.v) {
+            this.applycache.hit();
+            return entry.res;
+        }
+        this.applyentry = entry;
+        return -1;
+    }
+
     /**
      * Adds a reference for a given node.  Reference counting is done on externally referenced nodes only and the count for
      * a specific node {@code r} can and must be increased using this function to avoid losing the node in the next
@@ -488,7 +714,7 @@ public class BDDKernel {
         }
         if (this.freepos == 0) {
             gbc();
-            if ((this.nodesize - this.freenum) >= this.reordering.usedNodesNextReorder && this.reordering.reorderReady()) {
+            if (this.reorderable && (this.nodesize - this.freenum) >= this.reordering.usedNodesNextReorder && this.reordering.reorderReady()) {
                 throw new BddReorderRequest();
             }
             if ((this.freenum * 100) / this.nodesize <= this.minfreenodes) {
@@ -499,6 +725,9 @@ public class BDDKernel {
                 throw new IllegalStateException("Cannot allocate more space for more nodes.");
             }
         }
+        if (this.reorderable && this.reordering.autoReorder && (this.nodesize - this.freenum) >= this.reordering.usedNodesNextReorder && this.reordering.reorderReady()) {
+            throw new BddReorderRequest();
+        }
         res = this.freepos;
         this.freepos = next(this.freepos);
         this.freenum--;
@@ -511,29 +740,55 @@ public class BDDKernel {
         return res;
     }
 
+    /**
+     * Unmarks all marked nodes reachable from the given node over marked nodes.  The nodes are traversed with an
+     * explicit stack instead of recursion.
+     * @param i the node
+     */
     protected void unmark(final int i) {
-        if (i < 2) {
-            return;
-        }
-        if (!marked(i) || low(i) == -1) {
-            return;
+        int[] stack = this.markstack;
+        int top = 0;
+        stack[top++] = i;
+        while (top > 0) {
+            final int n = stack[--top];
+            if (n < 2 || !marked(n) || low(n) == -1) {
+                continue;
+            }
+            unmarkNode(n);
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+                this.markstack = stack;
+            }
+            stack[top++] = high(n);
+            stack[top++] = low(n);
         }
-        unmarkNode(i);
-        unmark(low(i));
-        unmark(high(i));
     }
 
+    /**
+     * Marks all unmarked nodes reachable from the given node and returns their number.  The nodes are traversed
+     * with an explicit stack instead of recursion.
+     * @param i the node
+     * @return the number of newly marked nodes
+     */
     protected int markCount(final int i) {
-        if (i < 2) {
-            return 0;
-        }
-        if (marked(i) || low(i) == -1) {
-            return 0;
+        int[] stack = this.markstack;
+        int top = 0;
+        int count = 0;
+        stack[top++] = i;
+        while (top > 0) {
+            final int n = stack[--top];
+            if (n < 2 || marked(n) || low(n) == -1) {
+                continue;
+            }
+            setMark(n);
+            count++;
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+                this.markstack = stack;
+            }
+            stack[top++] = high(n);
+            stack[top++] = low(n);
         }
-        setMark(i);
-        int count = 1;
-        count += markCount(low(i));
-        count += markCount(high(i));
         return count;
     }
 
@@ -582,29 +837,28 @@ public class BDDKernel {
         }
     }
 
+    /**
+     * Marks all nodes reachable from the given node.  The nodes are traversed with an explicit stack instead of
+     * recursion, so the depth of the BDDs is not limited by the thread stack size.
+     * @param i the node
+     */
     protected void mark(final int i) {
-        if (i < 2) {
-            return;
-        }
-        if ((level(i) & MARKON) != 0 || low(i) == -1) {
-            return;
-        }
-        setLevel(i, level(i) | MARKON);
-        mark(low(i));
-        mark(high(i));
+        markCount(i);
     }
 
     protected void nodeResize(final boolean doRehash) {
         final int oldsize = this.nodesize;
         int n;
-        this.nodesize = this.nodesize << 1;
-        if (this.nodesize > oldsize + this.maxnodeincrease) {
-            this.nodesize = oldsize + this.maxnodeincrease;
-        }
-        this.nodesize = prime.primeLTE(this.nodesize);
-        final int[] newnodes = new int[this.nodesize * 6];
-        System.arraycopy(this.nodes, 0, newnodes, 0, this.nodes.length);
-        this.nodes = newnodes;
+        final long newsize = Math.min(Math.min((long) oldsize << 1, (long) oldsize + this.maxnodeincrease), this.nodes.maxNodes());
+        if (newsize <= oldsize) {
+            return;
+        }
+        this.nodesize = prime.primeLTE((int) newsize);
+        if (this.nodesize <= oldsize) {
+            this.nodesize = oldsize;
+            return;
+        }
+        this.nodes.ensureCapacity(this.nodesize);
         if (doRehash) {
             for (n = 0; n < oldsize; n++) {
                 setHash(n, 0);
@@ -623,54 +877,57 @@ public class BDDKernel {
         if (doRehash) {
             gbcRehash();
         }
+        if (this.cacheratio > 0) {
+            resizeCaches(this.nodesize / this.cacheratio);
+        }
     }
 
     protected int refcou(final int node) {
-        return this.nodes[6 * node];
+        return this.nodes.get(node, BDDNodeTable.REFCOU);
     }
 
     protected int level(final int node) {
-        return this.nodes[6 * node + 1];
+        return this.nodes.get(node, BDDNodeTable.LEVEL);
     }
 
     protected int low(final int node) {
-        return this.nodes[6 * node + 2];
+        return this.nodes.get(node, BDDNodeTable.LOW);
     }
 
     protected int high(final int node) {
-        return this.nodes[6 * node + 3];
+        return this.nodes.get(node, BDDNodeTable.HIGH);
     }
 
     protected int hash(final int node) {
-        return this.nodes[6 * node + 4];
+        return this.nodes.get(node, BDDNodeTable.HASH);
     }
 
     protected int next(final int node) {
-        return this.nodes[6 * node + 5];
+        return this.nodes.get(node, BDDNodeTable.NEXT);
     }
 
     protected void setRefcou(final int node, final int refcou) {
-        this.nodes[6 * node] = refcou;
+        this.nodes.set(node, BDDNodeTable.REFCOU, refcou);
     }
 
     protected void setLevel(final int node, final int level) {
-        this.nodes[6 * node + 1] = level;
+        this.nodes.set(node, BDDNodeTable.LEVEL, level);
     }
 
     protected void setLow(final int node, final int low) {
-        this.nodes[6 * node + 2] = low;
+        this.nodes.set(node, BDDNodeTable.LOW, low);
     }
 
     protected void setHigh(final int node, final int high) {
-        this.nodes[6 * node + 3] = high;
+        this.nodes.set(node, BDDNodeTable.HIGH, high);
     }
 
     protected void setHash(final int node, final int hash) {
-        this.nodes[6 * node + 4] = hash;
+        this.nodes.set(node, BDDNodeTable.HASH, hash);
     }
 
     protected void setNext(final int node, final int next) {
-        this.nodes[6 * node + 5] = next;
+        this.nodes.set(node, BDDNodeTable.NEXT, next);
     }
 
     protected void initRef() {
@@ -737,10 +994,50 @@ public class BDDKernel {
         this.appexcache = new BDDCache(cachesize);
         this.replacecache = new BDDCache(cachesize);
         this.misccache = new BDDCache(cachesize);
+        this.constraincache = new BDDCache(cachesize);
         this.quantvarsetID = 0;
         this.quantvarset = null;
     }
 
+    /**
+     * Sets the cache ratio of this kernel.  If the ratio is positive, the operation caches grow with the node table such
+     * that there is one cache entry for {@code ratio} nodes (but never fewer entries than the initial cache size).  A
+     * ratio of {@code 0} (the default) keeps the caches at their current size.
+     * @param ratio the number of nodes per cache entry, or {@code 0} for fixed caches
+     * @throws IllegalArgumentException if the ratio is negative
+     */
+    public void setCacheRatio(final int ratio) {
+        if (ratio < 0) {
+            throw new IllegalArgumentException("Cache ratio must not be negative: " + ratio);
+        }
+        this.cacheratio = ratio;
+        if (ratio > 0) {
+            resizeCaches(this.nodesize / ratio);
+        }
+    }
+
+    /**
+     * Returns the cache ratio of this kernel.
+     * @return the number of nodes per cache entry, or {@code 0} for fixed caches
+     */
+    public int getCacheRatio() {
+        return this.cacheratio;
+    }
+
+    protected void resizeCaches(final int size) {
+        if (size <= this.cachesize) {
+            return;
+        }
+        this.cachesize = size;
+        this.applycache.resize(size);
+        this.itecache.resize(size);
+        this.quantcache.resize(size);
+        this.appexcache.resize(size);
+        this.replacecache.resize(size);
+        this.misccache.resize(size);
+        this.constraincache.resize(size);
+    }
+
     protected void resetCaches() {
         this.applycache.reset();
         this.itecache.reset();
@@ -748,6 +1045,7 @@ public class BDDKernel {
         this.appexcache.reset();
         this.replacecache.reset();
         this.misccache.reset();
+        this.constraincache.reset();
     }
 
     protected void varResize() {
@@ -767,6 +1065,15 @@ public class BDDKernel {
         statistics.varnum = this.varnum;
         statistics.cachesize = this.cachesize;
         statistics.gbcollectnum = this.gbcollectnum;
+        statistics.reorderings = this.reordering.reorderings;
+        statistics.reorderingTime = this.reordering.getReorderingTime();
+        statistics.cacheStatistics.put("apply", new BDDCacheStatistics(this.applycache));
+        statistics.cacheStatistics.put("ite", new BDDCacheStatistics(this.itecache));
+        statistics.cacheStatistics.put("quant", new BDDCacheStatistics(this.quantcache));
+        statistics.cacheStatistics.put("appex", new BDDCacheStatistics(this.appexcache));
+        statistics.cacheStatistics.put("replace", new BDDCacheStatistics(this.replacecache));
+        statistics.cacheStatistics.put("misc", new BDDCacheStatistics(this.misccache));
+        statistics.cacheStatistics.put("constrain", new BDDCacheStatistics(this.constraincache));
         return statistics;
     }
 
@@ -780,6 +1087,9 @@ public class BDDKernel {
         protected int varnum;
         protected int cachesize;
         protected int gbcollectnum;
+        protected int reorderings;
+        protected long reorderingTime;
+        protected final Map<String, BDDCacheStatistics> cacheStatistics = new LinkedHashMap<>();
 
         /**
          * Returns the number of produced nodes.
@@ -829,6 +1139,22 @@ public class BDDKernel {
             return this.gbcollectnum;
         }
 
+        /**
+         * Returns the number of reorderings.
+         * @return the number of reorderings
+         */
+        public int reorderings() {
+            return this.reorderings;
+        }
+
+        /**
+         * Returns the total time spent in reorderings in milliseconds.
+         * @return the total reordering time in milliseconds
+         */
+        public long reorderingTime() {
+            return this.reorderingTime;
+        }
+
         /**
          * Returns the number of used nodes.
          * @return the number of used nodes
@@ -837,6 +1163,15 @@ public class BDDKernel {
             return this.nodesize - this.freenum;
         }
 
+        /**
+         * Returns the statistics of the operation caches, indexed by the name of the cache ({@code apply},
+         * {@code ite}, {@code quant}, {@code appex}, {@code replace}, {@code misc}, and {@code constrain}).
+         * @return the statistics of the operation caches
+         */
+        public Map<String, BDDCacheStatistics> cacheStatistics() {
+            return Collections.unmodifiableMap(this.cacheStatistics);
+        }
+
         @Override
         public String toString() {
             return "BDDStatistics{" +
@@ -850,6 +1185,88 @@ public class BDDKernel {
         }
     }
 
+    /**
+     * A class for the statistics of a single operation cache.  The counters are accumulated over the whole lifetime of
+     * the kernel.
+     */
+    public static class BDDCacheStatistics {
+        protected final int size;
+        protected final long lookups;
+        protected final long hits;
+        protected final long overwrites;
+
+        /**
+         * Constructs the statistics for the given cache.
+         * @param cache the cache
+         */
+        protected BDDCacheStatistics(final BDDCache cache) {
+            this.size = cache.size();
+            this.lookups = cache.lookups;
+            this.hits = cache.hits;
+            this.overwrites = cache.occupiedLookups - cache.hits;
+        }
+
+        /**
+         * Returns the current number of entries of the cache.
+         * @return the number of entries
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Returns the number of lookups in the cache.
+         * @return the number of lookups
+         */
+        public long lookups() {
+            return this.lookups;
+        }
+
+        /**
+         * Returns the number of lookups which found the requested result.
+         * @return the number of hits
+         */
+        public long hits() {
+            return this.hits;
+        }
+
+        /**
+         * Returns the number of lookups which did not find the requested result.
+         * @return the number of misses
+         */
+        public long misses() {
+            return this.lookups - this.hits;
+        }
+
+        /**
+         * Returns the number of misses on an entry holding the result of another operation, which is overwritten by
+         * the new result.
+         * @return the number of overwrites
+         */
+        public long overwrites() {
+            return this.overwrites;
+        }
+
+        /**
+         * Returns the ratio of hits to lookups or {@code 0} if there were no lookups.
+         * @return the hit rate
+         */
+        public double hitRate() {
+            return this.lookups == 0 ? 0 : (double) this.hits / this.lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "BDDCacheStatistics{" +
+                    "size=" + this.size +
+                    ", lookups=" + this.lookups +
+                    ", hits=" + this.hits +
+                    ", misses=" + misses() +
+                    ", overwrites=" + this.overwrites +
+                    '}';
+        }
+    }
+
     /**
      * Replaces the calls in Buddy for setjmp and longjmp.
      */
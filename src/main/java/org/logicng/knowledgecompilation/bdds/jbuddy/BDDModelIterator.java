@@ -0,0 +1,145 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.jbuddy;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An iterator over the models of a BDD over a given sequence of variables.  A model is returned as bit set in
+ * which bit {@code i} is set iff the {@code i}-th variable is true.  The satisfying cubes of the BDD are
+ * enumerated by a {@link BDDCubeIterator} and each cube is expanded to all its models by counting over its
+ * don't-care variables, so no cubes or models are stored.
+ * <p>
+ * The BDD must only depend on the given variables, otherwise models are reported more than once.  Variables which
+ * do not occur in the BDD (or are unknown to the kernel) take both values.  The kernel must not be modified during
+ * the iteration.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class BDDModelIterator implements Iterator<BitSet> {
+
+    private final BDDCubeIterator cubes;
+    private final int[] varIndices;
+    private final int[] dontCares;
+    private final BitSet model;
+    private int numDontCares;
+    private boolean started;
+    private boolean ready;
+
+    /**
+     * Constructs a new model iterator.
+     * @param k          the kernel
+     * @param r          the BDD root node
+     * @param varIndices the kernel index of each variable of the models, or -1 for a variable unknown to the kernel
+     */
+    public BDDModelIterator(final BDDKernel k, final int r, final int[] varIndices) {
+        this.cubes = new BDDCubeIterator(k, r, true);
+        this.varIndices = varIndices;
+        this.dontCares = new int[varIndices.length];
+        this.model = new BitSet(varIndices.length);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.ready) {
+            this.ready = advance();
+        }
+        return this.ready;
+    }
+
+    /**
+     * Returns the next model as a new bit set.
+     * @return the next model
+     */
+    @Override
+    public BitSet next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.ready = false;
+        return (BitSet) this.model.clone();
+    }
+
+    /**
+     * Passes all remaining models to the given consumer until the consumer returns {@code false}.  In contrast to
+     * {@link #next()}, <b>the same bit set is passed for each model</b>, so it must be copied if it should be kept.
+     * @param consumer the consumer of the models
+     * @return {@code true} if all models were enumerated, {@code false} if the consumer aborted the enumeration
+     */
+    public boolean enumerate(final Predicate<BitSet> consumer) {
+        while (hasNext()) {
+            this.ready = false;
+            if (!consumer.test(this.model)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean advance() {
+        if (this.started && nextCompletion()) {
+            return true;
+        }
+        if (!this.cubes.hasNext()) {
+            return false;
+        }
+        this.started = true;
+        final byte[] cube = this.cubes.next();
+        this.model.clear();
+        this.numDontCares = 0;
+        for (int i = 0; i < this.varIndices.length; i++) {
+            final int idx = this.varIndices[i];
+            if (idx < 0 || cube[idx] == -1) {
+                this.dontCares[this.numDontCares++] = i;
+            } else if (cube[idx] == 1) {
+                this.model.set(i);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Increments the don't-care variables of the current cube as binary counter.
+     * @return {@code true} if there is another completion of the cube, {@code false} otherwise
+     */
+    private boolean nextCompletion() {
+        for (int i = 0; i < this.numDontCares; i++) {
+            final int pos = this.dontCares[i];
+            if (!this.model.get(pos)) {
+                this.model.set(pos);
+                return true;
+            }
+            this.model.clear(pos);
+        }
+        return false;
+    }
+}
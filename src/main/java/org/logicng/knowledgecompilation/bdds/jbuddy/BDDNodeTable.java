@@ -0,0 +1,130 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.jbuddy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The storage of the nodes of a {@link BDDKernel}.
+ * <p>
+ * Each node consists of six integer fields: reference count, level, low child, high child, hash entry and next
+ * pointer.  The default table stores all nodes in a single Java array on the heap.  For very large diagrams an
+ * off-heap table can be chosen at kernel construction which stores the nodes in fixed-size segments of direct or
+ * memory-mapped buffers.  Such a table grows by appending new segments, so existing nodes are never copied and the
+ * number of nodes is only limited by the integer node indices and the available (virtual) memory.
+ * <p>
+ * A node table must only be used by a single kernel.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public abstract class BDDNodeTable implements Closeable {
+
+    protected static final int REFCOU = 0;
+    protected static final int LEVEL = 1;
+    protected static final int LOW = 2;
+    protected static final int HIGH = 3;
+    protected static final int HASH = 4;
+    protected static final int NEXT = 5;
+    protected static final int NODE_SIZE = 6;
+
+    /**
+     * Returns a new node table which stores the nodes in a Java array on the heap.  This is the default node table of
+     * a BDD kernel.
+     * @return the node table
+     */
+    public static BDDNodeTable onHeap() {
+        return new BDDHeapNodeTable();
+    }
+
+    /**
+     * Returns a new node table which stores the nodes in direct byte buffers outside the Java heap.
+     * @return the node table
+     */
+    public static BDDNodeTable offHeap() {
+        return new BDDOffHeapNodeTable();
+    }
+
+    /**
+     * Returns a new node table which stores the nodes in a memory-mapped file.  The file is created if it does not
+     * exist, its previous content is overwritten.  The file is not deleted when the table is closed.
+     * @param file the file
+     * @return the node table
+     * @throws IOException if the file could not be opened
+     */
+    public static BDDNodeTable memoryMapped(final Path file) throws IOException {
+        return new BDDOffHeapNodeTable(file);
+    }
+
+    /**
+     * Returns the maximal number of nodes this table can store.
+     * @return the maximal number of nodes
+     */
+    public abstract int maxNodes();
+
+    /**
+     * Returns the number of nodes this table can currently store without growing.
+     * @return the current capacity in nodes
+     */
+    public abstract int capacity();
+
+    /**
+     * Grows the table such that it can store at least the given number of nodes.  The content of all existing nodes
+     * is preserved, the content of new nodes is undefined.
+     * @param numNodes the number of nodes
+     * @throws IllegalStateException if the table cannot store the given number of nodes
+     */
+    protected abstract void ensureCapacity(int numNodes);
+
+    /**
+     * Returns a field of a node.
+     * @param node  the node
+     * @param field the field
+     * @return the value of the field
+     */
+    protected abstract int get(int node, int field);
+
+    /**
+     * Sets a field of a node.
+     * @param node  the node
+     * @param field the field
+     * @param value the new value
+     */
+    protected abstract void set(int node, int field, int value);
+
+    /**
+     * Releases the resources of this table.  The default implementation does nothing.
+     * @throws IOException if the resources could not be released
+     */
+    @Override
+    public void close() throws IOException {
+        // nothing to release
+    }
+}
@@ -0,0 +1,131 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.jbuddy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A node table storing the nodes in fixed-size segments of direct or memory-mapped buffers.  Growing the table only
+ * allocates new segments, existing segments are never copied.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+final class BDDOffHeapNodeTable extends BDDNodeTable {
+
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_NODES = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_NODES - 1;
+    private static final int SEGMENT_BYTES = SEGMENT_NODES * NODE_SIZE * Integer.BYTES;
+
+    private final FileChannel channel;
+    private IntBuffer[] segments = new IntBuffer[0];
+
+    /**
+     * Constructs a new off-heap node table with direct buffers.
+     */
+    BDDOffHeapNodeTable() {
+        this.channel = null;
+    }
+
+    /**
+     * Constructs a new off-heap node table mapped to the given file.
+     * @param file the file to map the nodes to
+     * @throws IOException if the file could not be opened
+     */
+    BDDOffHeapNodeTable(final Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    @Override
+    public int maxNodes() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int capacity() {
+        return (int) Math.min((long) this.segments.length * SEGMENT_NODES, Integer.MAX_VALUE);
+    }
+
+    @Override
+    protected void ensureCapacity(final int numNodes) {
+        if (numNodes < 0) {
+            throw new IllegalStateException("Cannot allocate more space for more nodes.");
+        }
+        final int numSegments = (int) (((long) numNodes + SEGMENT_NODES - 1) >>> SEGMENT_SHIFT);
+        if (numSegments <= this.segments.length) {
+            return;
+        }
+        final int oldLength = this.segments.length;
+        this.segments = Arrays.copyOf(this.segments, numSegments);
+        for (int i = oldLength; i < numSegments; i++) {
+            this.segments[i] = allocate(i);
+        }
+    }
+
+    private IntBuffer allocate(final int segment) {
+        final ByteBuffer buffer;
+        if (this.channel == null) {
+            buffer = ByteBuffer.allocateDirect(SEGMENT_BYTES);
+        } else {
+            try {
+                buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, (long) segment * SEGMENT_BYTES, SEGMENT_BYTES);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return buffer.order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    @Override
+    protected int get(final int node, final int field) {
+        return this.segments[node >>> SEGMENT_SHIFT].get((node & SEGMENT_MASK) * NODE_SIZE + field);
+    }
+
+    @Override
+    protected void set(final int node, final int field, final int value) {
+        this.segments[node >>> SEGMENT_SHIFT].put((node & SEGMENT_MASK) * NODE_SIZE + field, value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.segments = new IntBuffer[0];
+        if (this.channel != null) {
+            this.channel.close();
+        }
+    }
+}
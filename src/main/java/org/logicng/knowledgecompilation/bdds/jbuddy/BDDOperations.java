@@ -34,24 +34,29 @@ import static org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel.CACHEID_SAT
 import static org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel.MARKOFF;
 import static org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel.MARKON;
 
+import org.logicng.collections.LNGIntVector;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.formulas.Variable;
+import org.logicng.knowledgecompilation.semirings.LiteralWeights;
+import org.logicng.knowledgecompilation.semirings.Semiring;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * A collection of operations on a BDD kernel.
- * @version 2.4.0
+ * @version 2.5.0
  * @since 2.0.0
  */
 public class BDDOperations {
     protected final BDDKernel k;
 
-    protected byte[] allunsatProfile;
     protected int supportID; // Current ID (true value) for support
     protected int supportMax; // Max. used level in support calc.
     protected int[] supportSet; // The found support set
@@ -189,38 +194,21 @@ public class BDDOperations {
      * @return all models for the BDD
      */
     public List<byte[]> allSat(final int r) {
-        final byte[] allsatProfile = new byte[this.k.varnum];
-        for (int v = this.k.level(r) - 1; v >= 0; --v) {
-            allsatProfile[this.k.level2var[v]] = -1;
-        }
-        this.k.initRef();
         final List<byte[]> allSat = new ArrayList<>();
-        allSatRec(r, allSat, allsatProfile);
+        allSat(r, model -> allSat.add(Arrays.copyOf(model, model.length)));
         return allSat;
     }
 
-    protected void allSatRec(final int r, final List<byte[]> models, final byte[] allsatProfile) {
-        if (this.k.isOne(r)) {
-            models.add(Arrays.copyOf(allsatProfile, allsatProfile.length));
-            return;
-        }
-        if (this.k.isZero(r)) {
-            return;
-        }
-        if (!this.k.isZero(this.k.low(r))) {
-            allsatProfile[this.k.level2var[this.k.level(r)]] = 0;
-            for (int v = this.k.level(this.k.low(r)) - 1; v > this.k.level(r); --v) {
-                allsatProfile[this.k.level2var[v]] = -1;
-            }
-            allSatRec(this.k.low(r), models, allsatProfile);
-        }
-        if (!this.k.isZero(this.k.high(r))) {
-            allsatProfile[this.k.level2var[this.k.level(r)]] = 1;
-            for (int v = this.k.level(this.k.high(r)) - 1; v > this.k.level(r); --v) {
-                allsatProfile[this.k.level2var[v]] = -1;
-            }
-            allSatRec(this.k.high(r), models, allsatProfile);
-        }
+    /**
+     * Passes all models (satisfying cubes) of a given BDD to a consumer until the consumer returns {@code false}.
+     * In contrast to {@link #allSat(int)}, the models are not collected, and <b>the same array is passed for each
+     * model</b>.  See {@link BDDCubeIterator} for the format of the cubes.
+     * @param r        the BDD root node
+     * @param consumer the consumer of the models
+     * @return {@code true} if all models were enumerated, {@code false} if the consumer aborted the enumeration
+     */
+    public boolean allSat(final int r, final Predicate<byte[]> consumer) {
+        return enumerateCubes(new BDDCubeIterator(this.k, r, true), consumer);
     }
 
     /**
@@ -234,24 +222,65 @@ public class BDDOperations {
     }
 
     protected BigInteger satCountRec(final int root, final int miscid) {
-        if (root < 2) {
-            return BigInteger.valueOf(root);
-        }
-        final BDDCacheEntry entry = this.k.misccache.lookup(root);
-        if (entry.a == root && entry.c == miscid) {
-            return entry.bdres;
-        }
-        BigInteger size = BigInteger.ZERO;
-        BigInteger s = BigInteger.ONE;
-        s = s.multiply(BigInteger.valueOf(2).pow(this.k.level(this.k.low(root)) - this.k.level(root) - 1));
-        size = size.add(s.multiply(satCountRec(this.k.low(root), miscid)));
-        s = BigInteger.ONE;
-        s = s.multiply(BigInteger.valueOf(2).pow(this.k.level(this.k.high(root)) - this.k.level(root) - 1));
-        size = size.add(s.multiply(satCountRec(this.k.high(root), miscid)));
-        entry.a = root;
-        entry.c = miscid;
-        entry.bdres = size;
-        return size;
+        return count(root, miscid, true, BigInteger.ZERO, BigInteger.ONE);
+    }
+
+    /**
+     * Evaluates the given BDD in the given semiring, i.e. computes the sum over all models (over all variables of the
+     * kernel) of the product of the literal weights.  The evaluation is performed in one non-recursive pass over the
+     * nodes of the BDD.
+     * @param r         the BDD root node
+     * @param semiring  the semiring
+     * @param weights   the literal weights, indexed by the variable indices of the kernel
+     * @param <T>       the type of the semiring elements
+     * @return the value of the BDD in the semiring
+     */
+    public <T> T evaluate(final int r, final Semiring<T> semiring, final LiteralWeights<T> weights) {
+        final int varnum = this.k.varnum;
+        final List<T> posWeights = new ArrayList<>(varnum);
+        final List<T> negWeights = new ArrayList<>(varnum);
+        final List<T> levelSums = new ArrayList<>(varnum);
+        for (int level = 0; level < varnum; level++) {
+            final int var = this.k.level2var[level];
+            posWeights.add(weights.weight(var, true));
+            negWeights.add(weights.weight(var, false));
+            levelSums.add(semiring.plus(posWeights.get(level), negWeights.get(level)));
+        }
+        final LevelProducts<T> gaps = new LevelProducts<>(semiring, levelSums);
+        if (r < 2) {
+            return r == 0 ? semiring.zero() : gaps.product(0, varnum);
+        }
+        final Map<Integer, T> values = new HashMap<>();
+        values.put(BDDKernel.BDD_FALSE, semiring.zero());
+        values.put(BDDKernel.BDD_TRUE, semiring.one());
+        final LNGIntVector stack = new LNGIntVector();
+        stack.push(r);
+        while (!stack.empty()) {
+            final int node = stack.back();
+            if (values.containsKey(node)) {
+                stack.pop();
+                continue;
+            }
+            final int low = this.k.low(node);
+            final int high = this.k.high(node);
+            final T lowValue = values.get(low);
+            final T highValue = values.get(high);
+            if (lowValue == null || highValue == null) {
+                if (lowValue == null) {
+                    stack.push(low);
+                }
+                if (highValue == null) {
+                    stack.push(high);
+                }
+                continue;
+            }
+            stack.pop();
+            final int level = this.k.level(node);
+            final T lowBranch = semiring.times(negWeights.get(level), semiring.times(gaps.product(level + 1, this.k.level(low)), lowValue));
+            final T highBranch = semiring.times(posWeights.get(level), semiring.times(gaps.product(level + 1, this.k.level(high)), highValue));
+            values.put(node, semiring.plus(lowBranch, highBranch));
+        }
+        return semiring.times(gaps.product(0, this.k.level(r)), values.get(r));
     }
 
     /**
@@ -264,22 +293,7 @@ public class BDDOperations {
     }
 
     protected BigInteger pathCountRecOne(final int r, final int miscid) {
-        final BigInteger size;
-        if (this.k.isZero(r)) {
-            return BigInteger.ZERO;
-        }
-        if (this.k.isOne(r)) {
-            return BigInteger.ONE;
-        }
-        final BDDCacheEntry entry = this.k.misccache.lookup(r);
-        if (entry.a == r && entry.c == miscid) {
-            return entry.bdres;
-        }
-        size = pathCountRecOne(this.k.low(r), miscid).add(pathCountRecOne(this.k.high(r), miscid));
-        entry.a = r;
-        entry.c = miscid;
-        entry.bdres = size;
-        return size;
+        return count(r, miscid, false, BigInteger.ZERO, BigInteger.ONE);
     }
 
     /**
@@ -292,22 +306,72 @@ public class BDDOperations {
     }
 
     protected BigInteger pathCountRecZero(final int r, final int miscid) {
-        final BigInteger size;
-        if (this.k.isZero(r)) {
-            return BigInteger.ONE;
-        }
-        if (this.k.isOne(r)) {
-            return BigInteger.ZERO;
-        }
-        final BDDCacheEntry entry = this.k.misccache.lookup(r);
-        if (entry.a == r && entry.c == miscid) {
-            return entry.bdres;
+        return count(r, miscid, false, BigInteger.ONE, BigInteger.ZERO);
+    }
+
+    /**
+     * Counts the models or paths of a BDD bottom-up.  The nodes are traversed in post-order with an explicit stack
+     * instead of recursion, so the depth of the BDD is not limited by the thread stack size.  A node on the stack is
+     * replaced by its complement as soon as its children were pushed, so it is computed when it is on top again.
+     * @param root      the BDD root node
+     * @param miscid    the id of the count in the misc cache
+     * @param models    {@code true} if models should be counted (weighting each edge with the number of skipped
+     *                  levels), {@code false} if paths should be counted
+     * @param zeroValue the count of the terminal {@code false}
+     * @param oneValue  the count of the terminal {@code true}
+     * @return the count
+     */
+    protected BigInteger count(final int root, final int miscid, final boolean models,
+                               final BigInteger zeroValue, final BigInteger oneValue) {
+        if (root < 2) {
+            return root == 0 ? zeroValue : oneValue;
+        }
+        final Map<Integer, BigInteger> counts = new HashMap<>();
+        counts.put(0, zeroValue);
+        counts.put(1, oneValue);
+        final LNGIntVector stack = new LNGIntVector();
+        stack.push(root);
+        while (!stack.empty()) {
+            final int n = stack.back();
+            if (n >= 0) {
+                if (counts.containsKey(n)) {
+                    stack.pop();
+                    continue;
+                }
+                final BDDCacheEntry entry = this.k.misccache.lookup(n);
+                if (entry.a == n && entry.c == miscid) {
+                    this.k.misccache.hit();
+                    counts.put(n, entry.bdres);
+                    stack.pop();
+                    continue;
+                }
+                stack.set(stack.size() - 1, ~n);
+                if (!counts.containsKey(this.k.low(n))) {
+                    stack.push(this.k.low(n));
+                }
+                if (!counts.containsKey(this.k.high(n))) {
+                    stack.push(this.k.high(n));
+                }
+            } else {
+                stack.pop();
+                final int node = ~n;
+                final int low = this.k.low(node);
+                final int high = this.k.high(node);
+                BigInteger lowCount = counts.get(low);
+                BigInteger highCount = counts.get(high);
+                if (models) {
+                    lowCount = lowCount.shiftLeft(this.k.level(low) - this.k.level(node) - 1);
+                    highCount = highCount.shiftLeft(this.k.level(high) - this.k.level(node) - 1);
+                }
+                final BigInteger size = lowCount.add(highCount);
+                counts.put(node, size);
+                final BDDCacheEntry entry = this.k.misccache.entry(node);
+                entry.a = node;
+                entry.c = miscid;
+                entry.bdres = size;
+            }
         }
-        size = pathCountRecZero(this.k.low(r), miscid).add(pathCountRecZero(this.k.high(r), miscid));
-        entry.a = r;
-        entry.c = miscid;
-        entry.bdres = size;
-        return size;
+        return counts.get(root);
     }
 
     /**
@@ -316,38 +380,30 @@ public class BDDOperations {
      * @return all unsatisfiable assignments for the BDD
      */
     public List<byte[]> allUnsat(final int r) {
-        this.allunsatProfile = new byte[this.k.varnum];
-        for (int v = this.k.level(r) - 1; v >= 0; --v) {
-            this.allunsatProfile[this.k.level2var[v]] = -1;
-        }
-        this.k.initRef();
         final List<byte[]> allUnsat = new ArrayList<>();
-        allUnsatRec(r, allUnsat);
+        allUnsat(r, model -> allUnsat.add(Arrays.copyOf(model, model.length)));
         return allUnsat;
     }
 
-    protected void allUnsatRec(final int r, final List<byte[]> models) {
-        if (this.k.isZero(r)) {
-            models.add(Arrays.copyOf(this.allunsatProfile, this.allunsatProfile.length));
-            return;
-        }
-        if (this.k.isOne(r)) {
-            return;
-        }
-        if (!this.k.isOne(this.k.low(r))) {
-            this.allunsatProfile[this.k.level2var[this.k.level(r)]] = 0;
-            for (int v = this.k.level(this.k.low(r)) - 1; v > this.k.level(r); --v) {
-                this.allunsatProfile[this.k.level2var[v]] = -1;
-            }
-            allUnsatRec(this.k.low(r), models);
-        }
-        if (!this.k.isOne(this.k.high(r))) {
-            this.allunsatProfile[this.k.level2var[this.k.level(r)]] = 1;
-            for (int v = this.k.level(this.k.high(r)) - 1; v > this.k.level(r); --v) {
-                this.allunsatProfile[this.k.level2var[v]] = -1;
+    /**
+     * Passes all unsatisfiable assignments (falsifying cubes) of a given BDD to a consumer until the consumer
+     * returns {@code false}.  In contrast to {@link #allUnsat(int)}, the assignments are not collected, and <b>the
+     * same array is passed for each assignment</b>.  See {@link BDDCubeIterator} for the format of the cubes.
+     * @param r        the BDD root node
+     * @param consumer the consumer of the unsatisfiable assignments
+     * @return {@code true} if all assignments were enumerated, {@code false} if the consumer aborted the enumeration
+     */
+    public boolean allUnsat(final int r, final Predicate<byte[]> consumer) {
+        return enumerateCubes(new BDDCubeIterator(this.k, r, false), consumer);
+    }
+
+    protected static boolean enumerateCubes(final BDDCubeIterator cubes, final Predicate<byte[]> consumer) {
+        while (cubes.hasNext()) {
+            if (!consumer.test(cubes.next())) {
+                return false;
             }
-            allUnsatRec(this.k.high(r), models);
         }
+        return true;
     }
 
     /**
@@ -460,6 +516,58 @@ public class BDDOperations {
         return result;
     }
 
+    /**
+     * Exports the nodes of the BDDs with the given root nodes level by level, starting with the bottommost level.
+     * <p>
+     * The nodes are renumbered in the order of the export: the constants keep their numbers {@code 0} and {@code 1}
+     * and the i-th exported node gets the number {@code i + 2}.  Since the nodes are exported bottom-up, the children
+     * of a node always have smaller numbers than the node itself.  The result array contains three entries for each
+     * node: its level and the new numbers of its low and high child.
+     * @param roots   the BDD root nodes
+     * @param rootIds an array of the same length as {@code roots} which is filled with the new numbers of the root nodes
+     * @return the exported nodes
+     */
+    public int[] exportNodes(final int[] roots, final int[] rootIds) {
+        for (final int root : roots) {
+            this.k.mark(root);
+        }
+        final int[] levelCount = new int[this.k.varnum + 1];
+        int numNodes = 0;
+        for (int n = 2; n < this.k.nodesize; n++) {
+            if ((this.k.level(n) & MARKON) != 0) {
+                levelCount[this.k.level(n) & MARKOFF]++;
+                numNodes++;
+            }
+        }
+        final int[] levelStart = new int[this.k.varnum + 1];
+        int pos = 0;
+        for (int level = this.k.varnum - 1; level >= 0; level--) {
+            levelStart[level] = pos;
+            pos += levelCount[level];
+        }
+        final int[] order = new int[numNodes];
+        for (int n = 2; n < this.k.nodesize; n++) {
+            if ((this.k.level(n) & MARKON) != 0) {
+                this.k.unmarkNode(n);
+                order[levelStart[this.k.level(n)]++] = n;
+            }
+        }
+        final int[] ids = new int[this.k.nodesize];
+        ids[BDDKernel.BDD_TRUE] = BDDKernel.BDD_TRUE;
+        final int[] result = new int[3 * numNodes];
+        for (int i = 0; i < numNodes; i++) {
+            final int n = order[i];
+            ids[n] = i + 2;
+            result[3 * i] = this.k.level(n);
+            result[3 * i + 1] = ids[this.k.low(n)];
+            result[3 * i + 2] = ids[this.k.high(n)];
+        }
+        for (int i = 0; i < roots.length; i++) {
+            rootIds[i] = ids[roots[i]];
+        }
+        return result;
+    }
+
     /**
      * Returns a formula representation of this BDD.  This is done by using the Shannon expansion.
      * If {@code followPathsToTrue} is activated, the paths leading to the {@code true} terminal are followed to generate the formula.
@@ -476,27 +584,95 @@ public class BDDOperations {
         return followPathsToTrue ? formula : formula.negate();
     }
 
+    /**
+     * Computes the Shannon expansion of the given BDD.  The nodes are traversed in post-order with an explicit stack
+     * instead of recursion and the formula of each node is computed only once.
+     * @param r                 the BDD root node
+     * @param followPathsToTrue the extraction style
+     * @return the formula
+     */
     protected Formula toFormulaRec(final int r, final boolean followPathsToTrue) {
         final FormulaFactory f = this.k.factory();
-        if (this.k.isOne(r)) {
-            return f.constant(followPathsToTrue);
+        final Map<Integer, Formula> formulas = new HashMap<>();
+        formulas.put(BDDKernel.BDD_FALSE, f.constant(!followPathsToTrue));
+        formulas.put(BDDKernel.BDD_TRUE, f.constant(followPathsToTrue));
+        final LNGIntVector stack = new LNGIntVector();
+        stack.push(r);
+        while (!stack.empty()) {
+            final int n = stack.back();
+            if (n >= 0) {
+                if (formulas.containsKey(n)) {
+                    stack.pop();
+                    continue;
+                }
+                stack.set(stack.size() - 1, ~n);
+                if (!formulas.containsKey(this.k.low(n))) {
+                    stack.push(this.k.low(n));
+                }
+                if (!formulas.containsKey(this.k.high(n))) {
+                    stack.push(this.k.high(n));
+                }
+            } else {
+                stack.pop();
+                final int node = ~n;
+                final Variable var = this.k.idx2var.get(this.k.level(node));
+                final int low = this.k.low(node);
+                final Formula lowFormula = isRelevant(low, followPathsToTrue)
+                        ? f.and(var.negate(), formulas.get(low))
+                        : f.falsum();
+                final int high = this.k.high(node);
+                final Formula rightFormula = isRelevant(high, followPathsToTrue)
+                        ? f.and(var, formulas.get(high))
+                        : f.falsum();
+                formulas.put(node, f.or(lowFormula, rightFormula));
+            }
         }
-        if (this.k.isZero(r)) {
-            return f.constant(!followPathsToTrue);
-        }
-        final Variable var = this.k.idx2var.get(this.k.level(r));
-        final int low = this.k.low(r);
-        final Formula lowFormula = isRelevant(low, followPathsToTrue)
-                ? f.and(var.negate(), toFormulaRec(low, followPathsToTrue))
-                : f.falsum();
-        final int high = this.k.high(r);
-        final Formula rightFormula = isRelevant(high, followPathsToTrue)
-                ? f.and(var, toFormulaRec(high, followPathsToTrue))
-                : f.falsum();
-        return f.or(lowFormula, rightFormula);
+        return formulas.get(r);
     }
 
     private boolean isRelevant(final int r, final boolean followPathsToTrue) {
         return followPathsToTrue && !this.k.isZero(r) || !followPathsToTrue && !this.k.isOne(r);
     }
+    /**
+     * A segment tree over the levels of the kernel which computes the semiring product of the sums of the literal
+     * weights for a range of levels (the variables skipped by an edge) in logarithmic time.
+     * @param <T> the type of the semiring elements
+     */
+    private static final class LevelProducts<T> {
+        private final Semiring<T> semiring;
+        private final int size;
+        private final List<T> tree;
+
+        private LevelProducts(final Semiring<T> semiring, final List<T> values) {
+            this.semiring = semiring;
+            this.size = values.size();
+            this.tree = new ArrayList<>(2 * this.size);
+            for (int i = 0; i < this.size; i++) {
+                this.tree.add(semiring.one());
+            }
+            this.tree.addAll(values);
+            for (int i = this.size - 1; i > 0; i--) {
+                this.tree.set(i, semiring.times(this.tree.get(2 * i), this.tree.get(2 * i + 1)));
+            }
+        }
+
+        /**
+         * Returns the product of the values for the levels {@code from} (inclusive) to {@code to} (exclusive).
+         * @param from the first level
+         * @param to   the level after the last level
+         * @return the product
+         */
+        private T product(final int from, final int to) {
+            T result = this.semiring.one();
+            for (int l = from + this.size, r = to + this.size; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) {
+                    result = this.semiring.times(result, this.tree.get(l++));
+                }
+                if ((r & 1) == 1) {
+                    result = this.semiring.times(result, this.tree.get(--r));
+                }
+            }
+            return result;
+        }
+    }
 }
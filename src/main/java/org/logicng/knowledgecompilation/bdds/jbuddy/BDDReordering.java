@@ -33,7 +33,10 @@ import static org.logicng.knowledgecompilation.bdds.jbuddy.BDDTree.addRange;
 
 import org.logicng.util.Pair;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -47,16 +50,23 @@ import java.util.Random;
  * <ul>
  *     <li>Swapping two variables in the kernel can be performed via {@link #swapVariables}</li>
  *     <li>Reordering all variables can be performed via {@link #reorder}</li>
- *     <li>Reordering during construction of the BDD can be configured via {@link #setReorderDuringConstruction}</li>
+ *     <li>Reordering during construction of the BDD can be configured via {@link #setReorderDuringConstruction}
+ *     or {@link #setAutoReorder}</li>
  * </ul>
  * The last two operations only have an effect, if variable blocks were added. {@link #addVariableBlock(int, int, boolean) The docuentation}
  * gives more information on variable blocks.
  * To make all variables freely movable, {@link #addVariableBlockAll()} can be used.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 2.0.0
  */
 public class BDDReordering {
 
+    /**
+     * The default maximum growth of the number of nodes (in percent) which is allowed while moving a block during
+     * sifting.
+     */
+    public static final int DEFAULT_MAX_GROWTH = 20;
+
     protected final BDDKernel k;
 
     /* Current auto reord. method and number of automatic reorderings left */
@@ -72,6 +82,7 @@ public class BDDReordering {
 
     /* Store for the ref.cou. of the external roots */
     protected int[] extRoots;
+    protected int[] extRootRefs;
     protected int extRootSize;
 
     protected LevelData[] levels; /* Indexed by variable! */
@@ -88,6 +99,19 @@ public class BDDReordering {
 
     protected int usedNodesNextReorder;
 
+    /* Automatic reordering policy: minimal number of live nodes which triggers a reordering */
+    protected boolean autoReorder;
+    protected int autoReorderThreshold;
+
+    /* Time budget (in ms, 0 = unlimited) and max. growth (in percent) of a single reordering */
+    protected long maxReorderTime;
+    protected int maxGrowth;
+    protected long reorderDeadline;
+
+    /* Reordering statistics */
+    protected int reorderings;
+    protected long reorderingTime;
+
     /**
      * Creates a new reordering object for the given kernel.
      * @param k the kernel
@@ -102,6 +126,10 @@ public class BDDReordering {
         this.varTree = null;
         clrVarBlocks();
         setReorderDuringConstruction(BDDReorderingMethod.BDD_REORDER_NONE, 0);
+        this.maxReorderTime = 0;
+        this.maxGrowth = DEFAULT_MAX_GROWTH;
+        this.reorderings = 0;
+        this.reorderingTime = 0;
         this.usednumBefore = this.usednumAfter = 0;
         this.blockId = 0;
     }
@@ -166,12 +194,17 @@ public class BDDReordering {
      * <p>
      * If the reordering should be performed without any restrictions,
      * {@link #addVariableBlockAll()} can be called before this method.
+     * <p>
+     * If a {@link #setMaxReorderTime time budget} is set, the reordering stops as soon as the budget is exhausted
+     * and keeps the best order found so far.
      * @param method the method to be used for the reordering
      */
     public void reorder(final BDDReorderingMethod method) {
         final BDDTree top;
         final BDDReorderingMethod savemethod = this.reorderMethod;
         final int savetimes = this.bddreorderTimes;
+        final long start = System.nanoTime();
+        this.reorderDeadline = this.maxReorderTime > 0 ? start + this.maxReorderTime * 1_000_000L : 0;
         this.reorderMethod = method;
         this.bddreorderTimes = 1;
         top = new BDDTree(-1);
@@ -191,6 +224,8 @@ public class BDDReordering {
         reorderDone();
         this.reorderMethod = savemethod;
         this.bddreorderTimes = savetimes;
+        this.reorderings++;
+        this.reorderingTime += System.nanoTime() - start;
     }
 
     /**
@@ -205,6 +240,94 @@ public class BDDReordering {
     public void setReorderDuringConstruction(final BDDReorderingMethod method, final int num) {
         this.reorderMethod = method;
         this.bddreorderTimes = num;
+        this.autoReorder = false;
+    }
+
+    /**
+     * Activates or deactivates the automatic reordering policy during the construction of a BDD.
+     * <p>
+     * In contrast to {@link #setReorderDuringConstruction}, the number of automatic reorderings is not bounded.
+     * Instead, a reordering is triggered as soon as the number of live nodes in the kernel reaches a dynamic
+     * threshold.  Initially, this threshold is the given {@code threshold}.  After each reordering it is set to
+     * twice the number of nodes alive after the reordering (and even higher if the reordering gained less than
+     * 20%), but never below {@code threshold}.
+     * <p>
+     * Automatic reordering can be deactivated by passing {@link BDDReorderingMethod#BDD_REORDER_NONE} for the
+     * {@code method} parameter.  The duration and the growth during each reordering can be bounded by
+     * {@link #setMaxReorderTime} and {@link #setMaxGrowth}.  As for all reorderings, only variable blocks are
+     * reordered.
+     * @param method    the method to be used for reordering
+     * @param threshold the minimal number of live nodes at which a reordering is triggered
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public void setAutoReorder(final BDDReorderingMethod method, final int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("The reordering threshold must be positive: " + threshold);
+        }
+        this.reorderMethod = method;
+        this.autoReorder = method != BDDReorderingMethod.BDD_REORDER_NONE;
+        this.bddreorderTimes = this.autoReorder ? -1 : 0;
+        this.autoReorderThreshold = threshold;
+        this.usedNodesNextReorder = threshold;
+    }
+
+    /**
+     * Sets the time budget for a single reordering in milliseconds.  A reordering which exceeds this budget is
+     * stopped after the current block has been moved to its best position.  A value of 0 means no limit.
+     * @param millis the maximum time for a single reordering in milliseconds
+     * @throws IllegalArgumentException if the time is negative
+     */
+    public void setMaxReorderTime(final long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("The maximum reordering time must not be negative: " + millis);
+        }
+        this.maxReorderTime = millis;
+    }
+
+    /**
+     * Returns the time budget for a single reordering in milliseconds, or 0 if there is no limit.
+     * @return the time budget for a single reordering
+     */
+    public long getMaxReorderTime() {
+        return this.maxReorderTime;
+    }
+
+    /**
+     * Sets the maximum growth (in percent) of the number of nodes which is allowed while a block is moved during
+     * sifting.  As soon as the number of nodes exceeds the best size found so far by more than this factor, the
+     * block is not moved further in the current direction.  The default is {@link #DEFAULT_MAX_GROWTH}.
+     * @param percent the maximum growth in percent
+     * @throws IllegalArgumentException if the growth is negative
+     */
+    public void setMaxGrowth(final int percent) {
+        if (percent < 0) {
+            throw new IllegalArgumentException("The maximum growth must not be negative: " + percent);
+        }
+        this.maxGrowth = percent;
+    }
+
+    /**
+     * Returns the maximum growth (in percent) of the number of nodes during sifting.
+     * @return the maximum growth in percent
+     */
+    public int getMaxGrowth() {
+        return this.maxGrowth;
+    }
+
+    /**
+     * Returns the number of reorderings (explicit and automatic) performed so far.
+     * @return the number of reorderings
+     */
+    public int getReorderings() {
+        return this.reorderings;
+    }
+
+    /**
+     * Returns the total time spent in reorderings so far in milliseconds.
+     * @return the total reordering time in milliseconds
+     */
+    public long getReorderingTime() {
+        return this.reorderingTime / 1_000_000L;
     }
 
     /**
@@ -347,6 +470,15 @@ public class BDDReordering {
                 case BDD_REORDER_RANDOM:
                     t.setNextlevel(reorderRandom(t.getNextlevel()));
                     break;
+                case BDD_REORDER_SYMSIFT:
+                    t.setNextlevel(reorderSymSift(t.getNextlevel()));
+                    break;
+                case BDD_REORDER_GROUPSIFT:
+                    t.setNextlevel(reorderGroupSift(t.getNextlevel()));
+                    break;
+                case BDD_REORDER_ANNEALING:
+                    t.setNextlevel(reorderAnnealing(t.getNextlevel()));
+                    break;
             }
         }
         for (thisTree = t.getNextlevel(); thisTree != null; thisTree = thisTree.getNext()) {
@@ -368,12 +500,14 @@ public class BDDReordering {
     }
 
     protected void reorderDone() {
+        /* Restore the external ref.cou. of the roots, the children's ref.cou. from mark_roots must not remain */
         for (int n = 0; n < this.extRootSize; n++) {
             this.k.setMark(this.extRoots[n]);
+            this.k.setRefcou(this.extRoots[n], this.extRootRefs[n]);
         }
         for (int n = 2; n < this.k.nodesize; n++) {
             if (this.k.marked(n)) {
-                this.k.unmark(n);
+                this.k.unmarkNode(n);
             } else {
                 this.k.setRefcou(n, 0);
             }
@@ -389,7 +523,7 @@ public class BDDReordering {
         if (t == null) {
             return null;
         }
-        while (thisTree.getNext() != null) {
+        while (thisTree.getNext() != null && !reorderTimeExceeded()) {
             final int best = reorderNodenum();
             blockdown(thisTree);
             if (best < reorderNodenum()) {
@@ -413,7 +547,7 @@ public class BDDReordering {
         do {
             lastsize = reorderNodenum();
             thisTree = t;
-            while (thisTree.getNext() != null) {
+            while (thisTree.getNext() != null && !reorderTimeExceeded()) {
                 final int best = reorderNodenum();
 
                 blockdown(thisTree);
@@ -426,7 +560,7 @@ public class BDDReordering {
                 }
             }
         }
-        while (reorderNodenum() != lastsize);
+        while (reorderNodenum() != lastsize && !reorderTimeExceeded());
 
         return first;
     }
@@ -439,7 +573,7 @@ public class BDDReordering {
             return null;
         }
 
-        while (thisTree.getNext() != null) {
+        while (thisTree.getNext() != null && !reorderTimeExceeded()) {
             final Pair<BDDTree, BDDTree> swapResult = reorderSwapwin3(thisTree);
             thisTree = swapResult.first();
             first = swapResult.second() != null ? swapResult.second() : first;
@@ -461,13 +595,13 @@ public class BDDReordering {
             lastsize = reorderNodenum();
             thisTree = first;
 
-            while (thisTree.getNext() != null && thisTree.getNext().getNext() != null) {
+            while (thisTree.getNext() != null && thisTree.getNext().getNext() != null && !reorderTimeExceeded()) {
                 final Pair<BDDTree, BDDTree> swapResult = reorderSwapwin3(thisTree);
                 thisTree = swapResult.first();
                 first = swapResult.second() != null ? swapResult.second() : first;
             }
         }
-        while (reorderNodenum() != lastsize);
+        while (reorderNodenum() != lastsize && !reorderTimeExceeded());
         return first;
     }
 
@@ -589,7 +723,7 @@ public class BDDReordering {
             lastsize = reorderNodenum();
             first = reorderSift(first);
         }
-        while (reorderNodenum() != lastsize);
+        while (reorderNodenum() != lastsize && !reorderTimeExceeded());
 
         return first;
     }
@@ -657,7 +791,7 @@ public class BDDReordering {
             return null;
         }
 
-        for (n = 0; n < num; n++) {
+        for (n = 0; n < num && !reorderTimeExceeded(); n++) {
             reorderSiftBestpos(seq[n], num / 2);
         }
 
@@ -677,7 +811,7 @@ public class BDDReordering {
      */
     protected void reorderSiftBestpos(final BDDTree blk, final int middlePos) {
         int best = reorderNodenum();
-        int maxAllowed = best / 5 + best;
+        int maxAllowed = maxAllowedNodenum(best);
         int bestpos = 0;
         boolean dirIsUp = true;
         int n;
@@ -701,7 +835,7 @@ public class BDDReordering {
                     if (reorderNodenum() < best) {
                         best = reorderNodenum();
                         bestpos = 0;
-                        maxAllowed = best / 5 + best;
+                        maxAllowed = maxAllowedNodenum(best);
                     }
                 }
             } else {
@@ -714,7 +848,7 @@ public class BDDReordering {
                     if (reorderNodenum() < best) {
                         best = reorderNodenum();
                         bestpos = 0;
-                        maxAllowed = best / 5 + best;
+                        maxAllowed = maxAllowedNodenum(best);
                     }
                 }
             }
@@ -732,6 +866,14 @@ public class BDDReordering {
         }
     }
 
+    protected int maxAllowedNodenum(final int best) {
+        return (int) Math.min(Integer.MAX_VALUE, best + (long) best * this.maxGrowth / 100);
+    }
+
+    protected boolean reorderTimeExceeded() {
+        return this.reorderDeadline != 0 && System.nanoTime() - this.reorderDeadline > 0;
+    }
+
     protected int siftTestCmp(final BDDSizePair a, final BDDSizePair b) {
         return Integer.compare(a.val, b.val);
     }
@@ -757,7 +899,7 @@ public class BDDReordering {
         }
 
         final Random random = new Random(42);
-        for (n = 0; n < 4 * num; n++) {
+        for (n = 0; n < 4 * num && !reorderTimeExceeded(); n++) {
             final int blk = random.nextInt(num);
             if (seq[blk].getNext() != null) {
                 blockdown(seq[blk]);
@@ -772,6 +914,286 @@ public class BDDReordering {
         return thisTree;
     }
 
+    /*
+     * === Symmetric and lazy group sifting =============
+     */
+
+    /**
+     * Symmetric sifting: adjacent blocks whose boundary variables are symmetric
+     * are grouped and sifted together.
+     * @param t the input BDD tree
+     * @return the sifted BDD tree
+     */
+    protected BDDTree reorderSymSift(final BDDTree t) {
+        if (t == null) {
+            return null;
+        }
+        final BlockGroup first = groupSymmetricNeighbours(groupBlocks(t), false);
+        return ungroupBlocks(reorderSiftGroups(first, false));
+    }
+
+    /**
+     * Lazy group sifting: like symmetric sifting, but groups are also formed for
+     * negatively symmetric variables and only after a group was sifted to its
+     * best position.  In the end, the groups are dissolved again and the single
+     * blocks are sifted once more.
+     * @param t the input BDD tree
+     * @return the sifted BDD tree
+     */
+    protected BDDTree reorderGroupSift(final BDDTree t) {
+        if (t == null) {
+            return null;
+        }
+        final BDDTree first = ungroupBlocks(reorderSiftGroups(groupBlocks(t), true));
+        return reorderTimeExceeded() ? first : reorderSift(first);
+    }
+
+    /**
+     * Sifts all groups in the order of decreasing size and merges each group
+     * with its neighbours if they are symmetric after the group was placed.
+     * @param t        the first group
+     * @param extended whether negative symmetries are taken into account
+     * @return the first group after sifting
+     */
+    protected BlockGroup reorderSiftGroups(final BlockGroup t, final boolean extended) {
+        final List<BlockGroup> groups = new ArrayList<>();
+        for (BDDTree thisTree = t; thisTree != null; thisTree = thisTree.getNext()) {
+            groups.add((BlockGroup) thisTree);
+        }
+        final int[] sizes = new int[this.k.varnum];
+        for (final BlockGroup group : groups) {
+            sizes[group.getSeq()[0]] = groupNodenum(group);
+        }
+        groups.sort(Comparator.comparingInt(group -> -sizes[group.getSeq()[0]]));
+        BlockGroup first = t;
+        for (final BlockGroup group : groups) {
+            if (reorderTimeExceeded()) {
+                break;
+            }
+            if (group.merged) {
+                continue;
+            }
+            int num = 0;
+            for (BDDTree thisTree = first; thisTree != null; thisTree = thisTree.getNext()) {
+                thisTree.setPos(num++);
+            }
+            reorderSiftBestpos(group, num / 2);
+            BlockGroup current = group;
+            while (current.getPrev() != null && groupsSymmetric((BlockGroup) current.getPrev(), current, extended)) {
+                current = mergeGroups((BlockGroup) current.getPrev(), current);
+            }
+            while (current.getNext() != null && groupsSymmetric(current, (BlockGroup) current.getNext(), extended)) {
+                current = mergeGroups(current, (BlockGroup) current.getNext());
+            }
+            for (first = current; first.getPrev() != null; first = (BlockGroup) first.getPrev()) {
+                /* nil */
+            }
+        }
+        return first;
+    }
+
+    protected BlockGroup groupSymmetricNeighbours(final BlockGroup t, final boolean extended) {
+        BlockGroup thisTree = t;
+        while (thisTree.getNext() != null) {
+            if (groupsSymmetric(thisTree, (BlockGroup) thisTree.getNext(), extended)) {
+                thisTree = mergeGroups(thisTree, (BlockGroup) thisTree.getNext());
+            } else {
+                thisTree = (BlockGroup) thisTree.getNext();
+            }
+        }
+        return t;
+    }
+
+    protected boolean groupsSymmetric(final BlockGroup upper, final BlockGroup lower, final boolean extended) {
+        return symmetric(upper.getSeq()[upper.getSeq().length - 1], lower.getSeq()[0], extended);
+    }
+
+    protected int groupNodenum(final BDDTree group) {
+        int num = 0;
+        for (final int v : group.getSeq()) {
+            num += this.levels[v].nodenum;
+        }
+        return num;
+    }
+
+    /**
+     * Checks whether the two adjacent variables {@code x} and {@code y} are
+     * symmetric, i.e. whether swapping their values does not change any function
+     * represented in the kernel.  The projection functions of the variables are
+     * ignored.  If {@code extended} is set, a node may also be negatively
+     * symmetric (swapping and negating the values does not change the function).
+     * @param x        the upper variable
+     * @param y        the lower variable (the variable in the level directly below {@code x})
+     * @param extended whether negative symmetries are accepted
+     * @return whether the variables are symmetric
+     */
+    protected boolean symmetric(final int x, final int y, final boolean extended) {
+        int arcs = 0;
+        for (int n = 0; n < this.levels[x].size; n++) {
+            for (int r = this.k.hash(n + this.levels[x].start); r != 0; r = this.k.next(r)) {
+                if (isProjection(r, x)) {
+                    continue;
+                }
+                final int f0 = this.k.low(r);
+                final int f1 = this.k.high(r);
+                final int f00;
+                final int f01;
+                final int f10;
+                final int f11;
+                if (var(f0) == y) {
+                    arcs++;
+                    f00 = this.k.low(f0);
+                    f01 = this.k.high(f0);
+                } else {
+                    f00 = f01 = f0;
+                }
+                if (var(f1) == y) {
+                    arcs++;
+                    f10 = this.k.low(f1);
+                    f11 = this.k.high(f1);
+                } else {
+                    f10 = f11 = f1;
+                }
+                if (f01 != f10 && (!extended || f00 != f11)) {
+                    return false;
+                }
+            }
+        }
+        /* All references to the nodes of y must come from the nodes of x */
+        int refs = 0;
+        for (int n = 0; n < this.levels[y].size; n++) {
+            for (int r = this.k.hash(n + this.levels[y].start); r != 0; r = this.k.next(r)) {
+                if (!isProjection(r, y)) {
+                    refs += this.k.refcou(r);
+                }
+            }
+        }
+        return arcs > 0 && refs == arcs;
+    }
+
+    protected boolean isProjection(final int node, final int var) {
+        return node == this.k.vars[2 * var] || node == this.k.vars[2 * var + 1];
+    }
+
+    /**
+     * Wraps each block of the given sibling list in its own group.
+     * @param t the first block
+     * @return the first group
+     */
+    protected BlockGroup groupBlocks(final BDDTree t) {
+        BlockGroup first = null;
+        BlockGroup last = null;
+        for (BDDTree thisTree = t; thisTree != null; thisTree = thisTree.getNext()) {
+            final BlockGroup group = new BlockGroup();
+            group.add(thisTree);
+            group.setPrev(last);
+            if (last == null) {
+                first = group;
+            } else {
+                last.setNext(group);
+            }
+            last = group;
+        }
+        return first;
+    }
+
+    /**
+     * Replaces the groups by their blocks in the current order.
+     * @param t the first group
+     * @return the first block
+     */
+    protected BDDTree ungroupBlocks(final BDDTree t) {
+        BDDTree first = null;
+        BDDTree last = null;
+        for (BDDTree thisTree = t; thisTree != null; thisTree = thisTree.getNext()) {
+            for (final BDDTree block : ((BlockGroup) thisTree).blocks) {
+                block.setPrev(last);
+                if (last == null) {
+                    first = block;
+                } else {
+                    last.setNext(block);
+                }
+                last = block;
+            }
+        }
+        last.setNext(null);
+        return first;
+    }
+
+    protected BlockGroup mergeGroups(final BlockGroup upper, final BlockGroup lower) {
+        for (final BDDTree block : lower.blocks) {
+            upper.add(block);
+        }
+        lower.merged = true;
+        upper.setNext(lower.getNext());
+        if (lower.getNext() != null) {
+            lower.getNext().setPrev(upper);
+        }
+        return upper;
+    }
+
+    /*
+     * === Simulated annealing =============
+     */
+
+    /**
+     * Simulated annealing on the order of the blocks.  Random adjacent blocks
+     * are swapped; a swap which increases the number of nodes is accepted with
+     * a probability which decreases with the temperature.  Swaps exceeding the
+     * {@link #setMaxGrowth maximum growth} are always undone.  In the end, the
+     * best order found is restored.
+     * @param t the input BDD tree
+     * @return the reordered BDD tree
+     */
+    protected BDDTree reorderAnnealing(final BDDTree t) {
+        BDDTree thisTree;
+        int num = 0;
+        if (t == null) {
+            return null;
+        }
+        for (thisTree = t; thisTree != null; thisTree = thisTree.getNext()) {
+            thisTree.setPos(num++);
+        }
+        final BDDTree[] seq = new BDDTree[num];
+        for (thisTree = t; thisTree != null; thisTree = thisTree.getNext()) {
+            seq[thisTree.getPos()] = thisTree;
+        }
+        BDDTree[] bestOrder = seq.clone();
+        int current = reorderNodenum();
+        int best = current;
+        final Random random = new Random(42);
+        for (double temperature = current / 100.0; temperature >= 1.0 && !reorderTimeExceeded(); temperature *= 0.9) {
+            for (int n = 0; n < 2 * num && !reorderTimeExceeded(); n++) {
+                final BDDTree blk = seq[random.nextInt(num)];
+                if (blk.getNext() == null) {
+                    continue;
+                }
+                blockdown(blk);
+                final int size = reorderNodenum();
+                if (size > maxAllowedNodenum(best) || size > current && random.nextDouble() >= Math.exp((current - size) / temperature)) {
+                    blockdown(blk.getPrev());
+                    current = reorderNodenum();
+                } else {
+                    current = size;
+                    if (size < best) {
+                        best = size;
+                        for (final BDDTree block : seq) {
+                            bestOrder[block.getPos()] = block;
+                        }
+                    }
+                }
+            }
+        }
+
+        /* Restore the best order */
+        for (int i = 0; i < num; i++) {
+            while (bestOrder[i].getPos() > i) {
+                blockdown(bestOrder[i].getPrev());
+            }
+        }
+        return bestOrder[0];
+    }
+
     /**
      * Swaps adjacent blocks
      * @param left the left BDD tree
@@ -986,7 +1408,9 @@ public class BDDReordering {
              * update local variable "hash" */
             this.k.nodeResize(false);
             this.resizedInMakenode = true;
-            assert this.k.freepos > 0;
+            if (this.k.freepos == 0) {
+                throw new IllegalStateException("Cannot allocate more space for more nodes.");
+            }
         }
 
         /* Build new node */
@@ -1094,7 +1518,9 @@ public class BDDReordering {
             return;
         }
         reorder(this.reorderMethod);
-        this.bddreorderTimes--;
+        if (this.bddreorderTimes > 0) {
+            this.bddreorderTimes--;
+        }
     }
 
     protected int reorderInit() {
@@ -1129,8 +1555,15 @@ public class BDDReordering {
             }
         }
         this.extRoots = new int[this.extRootSize];
+        this.extRootRefs = new int[this.extRootSize];
         this.interactionMatrix = new InteractionMatrix(this.k.varnum);
         this.extRootSize = 0;
+        for (int n = 2; n < this.k.nodesize; n++) {
+            if (this.k.marked(n)) {
+                this.extRootRefs[this.extRootSize++] = this.k.refcou(n);
+            }
+        }
+        this.extRootSize = 0;
         for (int n = 2; n < this.k.nodesize; n++) {
             if (this.k.marked(n)) {
                 this.k.unmarkNode(n);
@@ -1176,6 +1609,9 @@ public class BDDReordering {
         if (reorderGain() < 20) {
             this.usedNodesNextReorder += (this.usedNodesNextReorder * (20 - reorderGain())) / 20;
         }
+        if (this.autoReorder) {
+            this.usedNodesNextReorder = Math.max(this.usedNodesNextReorder, this.autoReorderThreshold);
+        }
     }
 
     protected void addrefRec(final int r, final int[] dep) {
@@ -1223,6 +1659,27 @@ public class BDDReordering {
         return (100 * (this.usednumBefore - this.usednumAfter)) / this.usednumBefore;
     }
 
+    /* A temporary group of adjacent blocks which are moved together */
+    protected static class BlockGroup extends BDDTree {
+        protected final List<BDDTree> blocks = new ArrayList<>();
+        protected boolean merged;
+
+        protected BlockGroup() {
+            super(-1);
+            this.seq = new int[0];
+        }
+
+        protected void add(final BDDTree block) {
+            final int size = block.getLast() - block.getFirst() + 1;
+            final int[] newSeq = Arrays.copyOf(this.seq, this.seq.length + size);
+            System.arraycopy(block.getSeq(), 0, newSeq, this.seq.length, size);
+            this.blocks.add(block);
+            this.seq = newSeq;
+            this.first = 0;
+            this.last = newSeq.length - 1;
+        }
+    }
+
     /* Level data */
     protected static class LevelData {
         protected int start;    /* Start of this sub-table (entry in "bddnodes") */
@@ -30,7 +30,17 @@ package org.logicng.knowledgecompilation.bdds.jbuddy;
 
 /**
  * Enumeration of BDD reordering algorithms.
- * @version 2.0.0
+ * <p>
+ * Besides the window permutation, sifting and random algorithms of BuDDy, there are three further methods:
+ * <ul>
+ *     <li>{@link #BDD_REORDER_SYMSIFT} - symmetric sifting: adjacent blocks of symmetric variables are grouped and
+ *     sifted together</li>
+ *     <li>{@link #BDD_REORDER_GROUPSIFT} - lazy group sifting: like symmetric sifting, but blocks are also grouped
+ *     if they are negatively symmetric, and the groups are dissolved again for a final sifting of the single
+ *     blocks</li>
+ *     <li>{@link #BDD_REORDER_ANNEALING} - simulated annealing on the order of the blocks</li>
+ * </ul>
+ * @version 2.5.0
  * @since 2.0.0
  */
 public enum BDDReorderingMethod {
@@ -41,5 +51,8 @@ public enum BDDReorderingMethod {
     BDD_REORDER_SIFTITE,
     BDD_REORDER_WIN3,
     BDD_REORDER_WIN3ITE,
-    BDD_REORDER_RANDOM
+    BDD_REORDER_RANDOM,
+    BDD_REORDER_SYMSIFT,
+    BDD_REORDER_GROUPSIFT,
+    BDD_REORDER_ANNEALING
 }
@@ -25,37 +25,64 @@
 //  permissions and limitations under the License.                       //
 //                                                                       //
 ///////////////////////////////////////////////////////////////////////////
-
 package org.logicng.knowledgecompilation.bdds.orderings;
 
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.FType;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.Variable;
-import org.logicng.graphs.datastructures.Hypergraph;
-import org.logicng.graphs.datastructures.HypergraphNode;
-import org.logicng.graphs.generators.HypergraphGenerator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
  * Simple implementation of the FORCE BDD variable ordering due to Aloul, Markov, and Sakallah.  This ordering only
  * works for CNF formulas.  A formula has to be converted to CNF before this ordering is called.
- * @version 2.0.0
+ * <p>
+ * The hypergraph of the CNF (one node per variable, one hyperedge per clause) is stored in primitive arrays.  If
+ * the ordering is created with a number of threads, the connected components of the hypergraph are ordered
+ * independently (and in parallel) and the orders of the components are concatenated.  Otherwise all variables are
+ * ordered together.
+ * @version 2.5.0
  * @since 1.4.0
  */
 public final class ForceOrdering implements VariableOrderingProvider {
 
-    private static final Comparator<? super Map.Entry<HypergraphNode<Variable>, Double>> COMPARATOR = Map.Entry.comparingByValue();
-
     private final DFSOrdering dfsOrdering = new DFSOrdering();
+    private final int numThreads;
+
+    /**
+     * Constructs a new FORCE ordering which orders all variables together.
+     */
+    public ForceOrdering() {
+        this.numThreads = 0;
+    }
+
+    /**
+     * Constructs a new FORCE ordering which orders the connected components of the formula independently with the
+     * given number of threads.
+     * @param numThreads the number of threads
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public ForceOrdering(final int numThreads) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("The number of threads must be positive: " + numThreads);
+        }
+        this.numThreads = numThreads;
+    }
 
     @Override
     public List<Variable> getOrder(final Formula formula) {
@@ -63,81 +90,307 @@ public final class ForceOrdering implements VariableOrderingProvider {
         final Formula nnf = formula.nnf();
         originalVariables.addAll(nnf.variables());
         final Formula cnf = nnf.cnf();
-        final Hypergraph<Variable> hypergraph = HypergraphGenerator.fromCNF(cnf);
-        final Map<Variable, HypergraphNode<Variable>> nodes = new HashMap<>();
-        for (final HypergraphNode<Variable> node : hypergraph.nodes()) {
-            nodes.put(node.content(), node);
+        final List<Variable> variables = new ArrayList<>();
+        final ForceGraph graph = createGraph(cnf, variables);
+        final int[] order = this.numThreads == 0 ? force(graph) : forceComponents(graph);
+        final List<Variable> ordering = new ArrayList<>(order.length);
+        for (final int node : order) {
+            if (originalVariables.contains(variables.get(node))) {
+                ordering.add(variables.get(node));
+            }
         }
-        final List<Variable> ordering = force(cnf, hypergraph, nodes).stream().filter(originalVariables::contains).collect(Collectors.toList());
-        originalVariables.stream().filter(v -> !ordering.contains(v)).forEach(ordering::add);
+        final Set<Variable> ordered = new HashSet<>(ordering);
+        originalVariables.stream().filter(v -> !ordered.contains(v)).forEach(ordering::add);
         return ordering;
     }
 
+    /**
+     * Creates the hypergraph for the given CNF.  The nodes are numbered in the order of their first occurrence,
+     * clauses with the same set of variables are represented by a single edge.  The initial positions of the
+     * nodes are given by a DFS ordering.
+     * @param cnf       the CNF formula
+     * @param variables the list which is filled with the variable of each node
+     * @return the hypergraph
+     */
+    private ForceGraph createGraph(final Formula cnf, final List<Variable> variables) {
+        final Map<Variable, Integer> nodes = new HashMap<>();
+        final Set<SortedSet<Variable>> clauses = new HashSet<>();
+        final LNGIntVector edgeStart = new LNGIntVector();
+        final LNGIntVector edgeNodes = new LNGIntVector();
+        final List<Formula> operands = cnf.type() == FType.AND ? cnf.stream().collect(Collectors.toList()) : Collections.singletonList(cnf);
+        for (final Formula clause : operands) {
+            if (clause.type() != FType.LITERAL && clause.type() != FType.OR) {
+                continue;
+            }
+            final SortedSet<Variable> clauseVars = clause.variables();
+            if (!clauses.add(clauseVars)) {
+                continue;
+            }
+            edgeStart.push(edgeNodes.size());
+            for (final Variable var : clauseVars) {
+                Integer node = nodes.get(var);
+                if (node == null) {
+                    node = variables.size();
+                    nodes.put(var, node);
+                    variables.add(var);
+                }
+                edgeNodes.push(node);
+            }
+        }
+        edgeStart.push(edgeNodes.size());
+        final int[] initialPositions = new int[variables.size()];
+        int pos = 0;
+        for (final Variable var : this.dfsOrdering.getOrder(cnf)) {
+            final Integer node = nodes.get(var);
+            if (node != null) {
+                initialPositions[node] = pos++;
+            }
+        }
+        return new ForceGraph(variables.size(), edgeStart.toArray(), edgeNodes.toArray(), initialPositions);
+    }
+
     /**
      * Executes the main FORCE algorithm.
-     * @param formula    the CNF formula for the ordering
-     * @param hypergraph the hypergraph for this formula
-     * @param nodes      the variable to hypergraph node mapping
-     * @return the variable ordering according to the FORCE algorithm
+     * @param graph the hypergraph
+     * @return the nodes of the hypergraph in the order computed by the FORCE algorithm
      */
-    private List<Variable> force(final Formula formula, final Hypergraph<Variable> hypergraph,
-                                 final Map<Variable, HypergraphNode<Variable>> nodes) {
-        final LinkedHashMap<HypergraphNode<Variable>, Integer> initialOrdering = createInitialOrdering(formula, nodes);
-        LinkedHashMap<HypergraphNode<Variable>, Integer> lastOrdering;
-        LinkedHashMap<HypergraphNode<Variable>, Integer> currentOrdering = initialOrdering;
-        do {
-            lastOrdering = currentOrdering;
-            final LinkedHashMap<HypergraphNode<Variable>, Double> newLocations = new LinkedHashMap<>();
-            for (final HypergraphNode<Variable> node : hypergraph.nodes()) {
-                newLocations.put(node, node.computeTentativeNewLocation(lastOrdering));
-            }
-            currentOrdering = orderingFromTentativeNewLocations(newLocations);
-        } while (shouldProceed(lastOrdering, currentOrdering));
-        final Variable[] ordering = new Variable[currentOrdering.size()];
-        for (final Map.Entry<HypergraphNode<Variable>, Integer> entry : currentOrdering.entrySet()) {
-            ordering[entry.getValue()] = entry.getKey().content();
+    private static int[] force(final ForceGraph graph) {
+        final int numNodes = graph.numNodes;
+        final int numEdges = graph.edgeStart.length - 1;
+        final double[] centers = new double[numEdges];
+        final double[] locations = new double[numNodes];
+        final int[] order = new int[numNodes];
+        final int[] buffer = new int[numNodes];
+        int[] positions = graph.initialPositions.clone();
+        int[] newPositions = new int[numNodes];
+        while (true) {
+            for (int e = 0; e < numEdges; e++) {
+                int sum = 0;
+                for (int i = graph.edgeStart[e]; i < graph.edgeStart[e + 1]; i++) {
+                    sum += positions[graph.edgeNodes[i]];
+                }
+                centers[e] = (double) sum / (graph.edgeStart[e + 1] - graph.edgeStart[e]);
+            }
+            for (int n = 0; n < numNodes; n++) {
+                double location = 0;
+                for (int i = graph.nodeEdgeStart[n]; i < graph.nodeEdgeStart[n + 1]; i++) {
+                    location += centers[graph.nodeEdges[i]];
+                }
+                locations[n] = location / (graph.nodeEdgeStart[n + 1] - graph.nodeEdgeStart[n]);
+                order[n] = n;
+            }
+            sortByLocation(order, buffer, locations);
+            for (int i = 0; i < numNodes; i++) {
+                newPositions[order[i]] = i;
+            }
+            if (Arrays.equals(positions, newPositions)) {
+                return order;
+            }
+            final int[] tmp = positions;
+            positions = newPositions;
+            newPositions = tmp;
         }
-        return Arrays.asList(ordering);
     }
 
     /**
-     * Creates an initial ordering for the variables based on a DFS.
-     * @param formula the CNF formula
-     * @param nodes   the variable to hypergraph node mapping
-     * @return the initial variable ordering
+     * Sorts the nodes stably by their tentative new locations (bottom-up merge sort).
+     * @param nodes     the nodes
+     * @param buffer    a buffer of the same size
+     * @param locations the tentative new locations
      */
-    private LinkedHashMap<HypergraphNode<Variable>, Integer> createInitialOrdering(final Formula formula, final Map<Variable, HypergraphNode<Variable>> nodes) {
-        final LinkedHashMap<HypergraphNode<Variable>, Integer> initialOrdering = new LinkedHashMap<>();
-        final List<Variable> dfsOrder = this.dfsOrdering.getOrder(formula);
-        for (int i = 0; i < dfsOrder.size(); i++) {
-            initialOrdering.put(nodes.get(dfsOrder.get(i)), i);
+    private static void sortByLocation(final int[] nodes, final int[] buffer, final double[] locations) {
+        int[] from = nodes;
+        int[] to = buffer;
+        for (int width = 1; width < nodes.length; width *= 2) {
+            for (int lo = 0; lo < nodes.length; lo += 2 * width) {
+                final int mid = Math.min(lo + width, nodes.length);
+                final int hi = Math.min(lo + 2 * width, nodes.length);
+                int i = lo;
+                int j = mid;
+                for (int k = lo; k < hi; k++) {
+                    if (i < mid && (j >= hi || Double.compare(locations[from[i]], locations[from[j]]) <= 0)) {
+                        to[k] = from[i++];
+                    } else {
+                        to[k] = from[j++];
+                    }
+                }
+            }
+            final int[] tmp = from;
+            from = to;
+            to = tmp;
+        }
+        if (from != nodes) {
+            System.arraycopy(from, 0, nodes, 0, nodes.length);
         }
-        return initialOrdering;
     }
 
     /**
-     * Generates a new integer ordering from tentative new locations of nodes with the double weighting.
-     * @param newLocations the tentative new locations
-     * @return the new integer ordering
+     * Executes the FORCE algorithm on each connected component of the hypergraph.  The components are ordered by
+     * their first node in the initial ordering.
+     * @param graph the hypergraph
+     * @return the nodes of the hypergraph in the order computed by the FORCE algorithm
      */
-    private LinkedHashMap<HypergraphNode<Variable>, Integer> orderingFromTentativeNewLocations(final LinkedHashMap<HypergraphNode<Variable>, Double> newLocations) {
-        final LinkedHashMap<HypergraphNode<Variable>, Integer> ordering = new LinkedHashMap<>();
-        final List<Map.Entry<HypergraphNode<Variable>, Double>> list = new ArrayList<>(newLocations.entrySet());
-        list.sort(COMPARATOR);
-        int count = 0;
-        for (final Map.Entry<HypergraphNode<Variable>, Double> entry : list) {
-            ordering.put(entry.getKey(), count++);
+    private int[] forceComponents(final ForceGraph graph) {
+        final List<ForceGraph> components = graph.components();
+        if (components.size() <= 1) {
+            return force(graph);
         }
-        return ordering;
+        final int[][] results = new int[components.size()][];
+        if (this.numThreads == 1) {
+            for (int i = 0; i < components.size(); i++) {
+                results[i] = force(components.get(i));
+            }
+        } else {
+            final ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.numThreads, components.size()));
+            try {
+                final List<Future<int[]>> futures = new ArrayList<>(components.size());
+                for (final ForceGraph component : components) {
+                    futures.add(executor.submit(() -> force(component)));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    results[i] = futures.get(i).get();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Parallel FORCE ordering was interrupted", e);
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException("Parallel FORCE ordering failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        final int[] order = new int[graph.numNodes];
+        int pos = 0;
+        for (int i = 0; i < components.size(); i++) {
+            for (final int node : results[i]) {
+                order[pos++] = components.get(i).nodes[node];
+            }
+        }
+        return order;
     }
 
     /**
-     * The abortion criteria for the FORCE algorithm.
-     * @param lastOrdering    the ordering of the last step
-     * @param currentOrdering the ordering of the current step
-     * @return {@code true} if the algorithm should proceed, {@code false} if it should stop
+     * A hypergraph on primitive arrays.  The edges and the incident edges of each node are stored in compressed
+     * form: the nodes of edge {@code e} are {@code edgeNodes[edgeStart[e]]...edgeNodes[edgeStart[e+1]-1]}.
      */
-    private boolean shouldProceed(final Map<HypergraphNode<Variable>, Integer> lastOrdering, final Map<HypergraphNode<Variable>, Integer> currentOrdering) {
-        return !lastOrdering.equals(currentOrdering);
+    private static final class ForceGraph {
+        private final int numNodes;
+        private final int[] edgeStart;
+        private final int[] edgeNodes;
+        private final int[] nodeEdgeStart;
+        private final int[] nodeEdges;
+        private final int[] initialPositions;
+        private int[] nodes;
+
+        private ForceGraph(final int numNodes, final int[] edgeStart, final int[] edgeNodes, final int[] initialPositions) {
+            this.numNodes = numNodes;
+            this.edgeStart = edgeStart;
+            this.edgeNodes = edgeNodes;
+            this.initialPositions = initialPositions;
+            this.nodeEdgeStart = new int[numNodes + 1];
+            for (final int node : edgeNodes) {
+                this.nodeEdgeStart[node + 1]++;
+            }
+            for (int n = 0; n < numNodes; n++) {
+                this.nodeEdgeStart[n + 1] += this.nodeEdgeStart[n];
+            }
+            this.nodeEdges = new int[edgeNodes.length];
+            final int[] fill = Arrays.copyOf(this.nodeEdgeStart, numNodes);
+            for (int e = 0; e < edgeStart.length - 1; e++) {
+                for (int i = edgeStart[e]; i < edgeStart[e + 1]; i++) {
+                    this.nodeEdges[fill[edgeNodes[i]]++] = e;
+                }
+            }
+        }
+
+        /**
+         * Splits this hypergraph in its connected components.  The nodes of each component are renumbered in
+         * their original order, {@link #nodes} maps them back to the nodes of this graph.
+         * @return the connected components, ordered by their first node in the initial ordering
+         */
+        private List<ForceGraph> components() {
+            final int[] parent = new int[this.numNodes];
+            for (int n = 0; n < this.numNodes; n++) {
+                parent[n] = n;
+            }
+            for (int e = 0; e < this.edgeStart.length - 1; e++) {
+                final int root = find(parent, this.edgeNodes[this.edgeStart[e]]);
+                for (int i = this.edgeStart[e] + 1; i < this.edgeStart[e + 1]; i++) {
+                    parent[find(parent, this.edgeNodes[i])] = root;
+                }
+            }
+            final int[] firstPosition = new int[this.numNodes];
+            Arrays.fill(firstPosition, Integer.MAX_VALUE);
+            final int[] componentSize = new int[this.numNodes];
+            for (int n = 0; n < this.numNodes; n++) {
+                final int root = find(parent, n);
+                firstPosition[root] = Math.min(firstPosition[root], this.initialPositions[n]);
+                componentSize[root]++;
+            }
+            final List<Integer> roots = new ArrayList<>();
+            for (int n = 0; n < this.numNodes; n++) {
+                if (parent[n] == n) {
+                    roots.add(n);
+                }
+            }
+            roots.sort((a, b) -> Integer.compare(firstPosition[a], firstPosition[b]));
+            final int[] localIndex = new int[this.numNodes];
+            final List<ForceGraph> components = new ArrayList<>(roots.size());
+            final Map<Integer, LNGIntVector> componentNodes = new HashMap<>();
+            for (final int root : roots) {
+                componentNodes.put(root, new LNGIntVector(componentSize[root]));
+            }
+            for (int n = 0; n < this.numNodes; n++) {
+                final LNGIntVector nodes = componentNodes.get(parent[n]);
+                localIndex[n] = nodes.size();
+                nodes.push(n);
+            }
+            final Map<Integer, LNGIntVector> componentEdgeStart = new HashMap<>();
+            final Map<Integer, LNGIntVector> componentEdgeNodes = new HashMap<>();
+            for (final int root : roots) {
+                componentEdgeStart.put(root, new LNGIntVector());
+                componentEdgeNodes.put(root, new LNGIntVector());
+            }
+            for (int e = 0; e < this.edgeStart.length - 1; e++) {
+                final int root = parent[this.edgeNodes[this.edgeStart[e]]];
+                final LNGIntVector edgeNodes = componentEdgeNodes.get(root);
+                componentEdgeStart.get(root).push(edgeNodes.size());
+                for (int i = this.edgeStart[e]; i < this.edgeStart[e + 1]; i++) {
+                    edgeNodes.push(localIndex[this.edgeNodes[i]]);
+                }
+            }
+            for (final int root : roots) {
+                final int[] nodes = componentNodes.get(root).toArray();
+                final LNGIntVector edgeStart = componentEdgeStart.get(root);
+                edgeStart.push(componentEdgeNodes.get(root).size());
+                final Integer[] byPosition = new Integer[nodes.length];
+                for (int i = 0; i < nodes.length; i++) {
+                    byPosition[i] = i;
+                }
+                Arrays.sort(byPosition, (a, b) -> Integer.compare(this.initialPositions[nodes[a]], this.initialPositions[nodes[b]]));
+                final int[] positions = new int[nodes.length];
+                for (int i = 0; i < nodes.length; i++) {
+                    positions[byPosition[i]] = i;
+                }
+                final ForceGraph component = new ForceGraph(nodes.length, edgeStart.toArray(), componentEdgeNodes.get(root).toArray(), positions);
+                component.nodes = nodes;
+                components.add(component);
+            }
+            return components;
+        }
+
+        private static int find(final int[] parent, final int node) {
+            int root = node;
+            while (parent[root] != root) {
+                root = parent[root];
+            }
+            int n = node;
+            while (parent[n] != root) {
+                final int next = parent[n];
+                parent[n] = root;
+                n = next;
+            }
+            return root;
+        }
     }
 }
@@ -0,0 +1,191 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.orderings;
+
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A variable ordering provider which caches the orders of another provider.  The cache is keyed on the set of
+ * variables of the formula, i.e. all formulas over the same variables get the same order.  Since the orders are
+ * stored by the names of the variables, a cache can be used with different formula factories and can be saved to
+ * and loaded from a file in order to reuse learned orders between runs.
+ * <p>
+ * This class is thread-safe if the underlying provider is thread-safe.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class VariableOrderingCache implements VariableOrderingProvider {
+
+    private static final int MAGIC = 0x4C4E474F;
+    private static final int VERSION = 1;
+
+    private final VariableOrderingProvider provider;
+    private final Map<Set<String>, List<String>> orders = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new cache for the given provider.
+     * @param provider the provider which computes the orders which are not in the cache
+     */
+    public VariableOrderingCache(final VariableOrderingProvider provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * Constructs a new cache for the provider of the given variable ordering.
+     * @param ordering the variable ordering
+     */
+    public VariableOrderingCache(final VariableOrdering ordering) {
+        this(ordering.provider());
+    }
+
+    @Override
+    public List<Variable> getOrder(final Formula formula) {
+        final Set<String> key = key(formula);
+        final List<String> cached = this.orders.get(key);
+        if (cached != null) {
+            final FormulaFactory f = formula.factory();
+            final List<Variable> order = new ArrayList<>(cached.size());
+            for (final String name : cached) {
+                order.add(f.variable(name));
+            }
+            return order;
+        }
+        final List<Variable> order = this.provider.getOrder(formula);
+        final List<String> names = new ArrayList<>(order.size());
+        for (final Variable var : order) {
+            names.add(var.name());
+        }
+        this.orders.put(key, Collections.unmodifiableList(names));
+        return order;
+    }
+
+    /**
+     * Returns the number of cached orders.
+     * @return the number of cached orders
+     */
+    public int size() {
+        return this.orders.size();
+    }
+
+    /**
+     * Removes all orders from the cache.
+     */
+    public void clear() {
+        this.orders.clear();
+    }
+
+    /**
+     * Writes all cached orders to the given file.
+     * @param file the file
+     * @throws IOException if the file could not be written
+     */
+    public void save(final Path file) throws IOException {
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            final Map<Set<String>, List<String>> snapshot = new HashMap<>(this.orders);
+            out.writeInt(snapshot.size());
+            for (final Map.Entry<Set<String>, List<String>> entry : snapshot.entrySet()) {
+                writeNames(out, entry.getKey());
+                writeNames(out, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Reads orders from the given file (written by {@link #save}) and adds them to the cache.  Existing orders for
+     * the same variable sets are replaced.
+     * @param file the file
+     * @throws IOException if the file could not be read or is not a valid ordering cache file
+     */
+    public void load(final Path file) throws IOException {
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a variable ordering cache file: " + file);
+            }
+            final int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported variable ordering cache version: " + version);
+            }
+            final int numOrders = in.readInt();
+            for (int i = 0; i < numOrders; i++) {
+                final Set<String> key = new HashSet<>(readNames(in));
+                final List<String> order = readNames(in);
+                this.orders.put(key, Collections.unmodifiableList(order));
+            }
+        }
+    }
+
+    private static Set<String> key(final Formula formula) {
+        final Set<Variable> variables = formula.variables();
+        final Set<String> key = new HashSet<>(variables.size() * 2);
+        for (final Variable var : variables) {
+            key.add(var.name());
+        }
+        return key;
+    }
+
+    private static void writeNames(final DataOutputStream out, final Collection<String> names) throws IOException {
+        out.writeInt(names.size());
+        for (final String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    private static List<String> readNames(final DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid number of variables: " + size);
+        }
+        final List<String> names = new ArrayList<>(Math.min(size, 1 << 16));
+        for (int i = 0; i < size; i++) {
+            names.add(in.readUTF());
+        }
+        return names;
+    }
+}
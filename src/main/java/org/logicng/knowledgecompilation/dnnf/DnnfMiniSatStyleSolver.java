@@ -46,7 +46,7 @@ import java.util.List;
 
 /**
  * A variation of the MiniSat solver used during the DNNF compilation process.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 2.0.0
  */
 public class DnnfMiniSatStyleSolver extends MiniSat2Solver implements DnnfSatSolver {
@@ -228,6 +228,7 @@ public class DnnfMiniSatStyleSolver extends MiniSat2Solver implements DnnfSatSol
     @Override
     protected void cancelUntil(final int level) {
         if (decisionLevel() > level) {
+            cancelPseudoBooleans(level);
             for (int c = this.trail.size() - 1; c >= this.trailLim.get(level); c--) {
                 final int l = this.trail.get(c);
                 this.assignment[l] = Tristate.UNDEF;
@@ -0,0 +1,1023 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.dnnf.datastructures;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.knowledgecompilation.semirings.LiteralWeights;
+import org.logicng.knowledgecompilation.semirings.Semiring;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, array-based representation of a smooth d-DNNF.
+ * <p>
+ * In contrast to {@link Dnnf}, which wraps a formula of a formula factory, this data structure stores the d-DNNF
+ * as flat integer arrays and is completely independent of any formula factory.  The nodes are stored in topological
+ * order, i.e. the children of a node always have a smaller index than the node itself, and the root node is always
+ * the last node.  Therefore, all queries are performed in a single non-recursive pass over the arrays and run in time
+ * linear in the size of the d-DNNF.
+ * <p>
+ * Literals are encoded as integers {@code 2 * var + (phase ? 0 : 1)} where {@code var} is the index of the variable
+ * in {@link #variables()}.
+ * <p>
+ * The d-DNNF is required to be deterministic and smooth, i.e. the operands of each disjunction are mutually
+ * inconsistent and mention the same variables, and the root mentions all variables.  A compact d-DNNF created by
+ * {@link #of(Dnnf)} is smoothed during the conversion.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class CompactDnnf {
+
+    /**
+     * Node kind of the constant false.
+     */
+    public static final int FALSE = 0;
+
+    /**
+     * Node kind of the constant true.
+     */
+    public static final int TRUE = 1;
+
+    /**
+     * Node kind of a literal.
+     */
+    public static final int LITERAL = 2;
+
+    /**
+     * Node kind of a conjunction.
+     */
+    public static final int AND = 3;
+
+    /**
+     * Node kind of a disjunction.
+     */
+    public static final int OR = 4;
+
+    private final String[] variables;
+    private final int[] kinds;
+    private final int[] literals;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final Map<String, Integer> name2idx;
+
+    /**
+     * Constructs a new compact d-DNNF from its raw arrays.
+     * <p>
+     * The children of node {@code i} are {@code children[childOffsets[i]]} to {@code children[childOffsets[i + 1] - 1]}.
+     * @param variables    the names of the variables
+     * @param kinds        the kind of each node
+     * @param literals     the literal of each literal node (ignored for all other nodes)
+     * @param childOffsets the offsets of the children of each node in the children array, must have one more entry than there are nodes
+     * @param children     the children of all nodes
+     * @throws IllegalArgumentException if the arrays do not describe a valid compact d-DNNF
+     */
+    public CompactDnnf(final String[] variables, final int[] kinds, final int[] literals, final int[] childOffsets, final int[] children) {
+        if (kinds.length == 0 || literals.length != kinds.length || childOffsets.length != kinds.length + 1
+                || childOffsets[0] != 0 || childOffsets[kinds.length] != children.length) {
+            throw new IllegalArgumentException("Inconsistent array sizes for a compact DNNF");
+        }
+        for (int i = 0; i < kinds.length; i++) {
+            final int kind = kinds[i];
+            if (kind < FALSE || kind > OR) {
+                throw new IllegalArgumentException("Illegal node kind " + kind + " for node " + i);
+            }
+            if (childOffsets[i] > childOffsets[i + 1] || (kind != AND && kind != OR && childOffsets[i] != childOffsets[i + 1])) {
+                throw new IllegalArgumentException("Illegal children for node " + i);
+            }
+            if (kind == LITERAL && (literals[i] < 0 || literals[i] >= 2 * variables.length)) {
+                throw new IllegalArgumentException("Illegal literal " + literals[i] + " for node " + i);
+            }
+            for (int j = childOffsets[i]; j < childOffsets[i + 1]; j++) {
+                if (children[j] < 0 || children[j] >= i) {
+                    throw new IllegalArgumentException("Nodes are not in topological order at node " + i);
+                }
+            }
+        }
+        this.variables = variables;
+        this.kinds = kinds;
+        this.literals = literals;
+        this.childOffsets = childOffsets;
+        this.children = children;
+        this.name2idx = new HashMap<>();
+        for (int i = 0; i < variables.length; i++) {
+            this.name2idx.put(variables[i], i);
+        }
+    }
+
+    /**
+     * Converts the given DNNF into a compact d-DNNF.  The result is smoothed over the original variables of the DNNF.
+     * @param dnnf the DNNF, must be deterministic (which is the case for all DNNFs compiled by the DNNF factory)
+     * @return the compact d-DNNF
+     * @throws IllegalArgumentException if the formula of the DNNF is not in negation normal form
+     */
+    public static CompactDnnf of(final Dnnf dnnf) {
+        return of(dnnf.getOriginalVariables(), dnnf.formula());
+    }
+
+    /**
+     * Converts the given DNNF formula into a compact d-DNNF.  The result is smoothed over the given variables.
+     * @param originalVariables the variables of the DNNF, must contain all variables of the formula
+     * @param formula           the DNNF formula, must be deterministic
+     * @return the compact d-DNNF
+     * @throws IllegalArgumentException if the formula is not in negation normal form or contains unknown variables
+     */
+    public static CompactDnnf of(final Collection<Variable> originalVariables, final Formula formula) {
+        return new Converter(originalVariables).convert(formula);
+    }
+
+    /**
+     * Returns a new literal with the given variable index and phase.
+     * @param var   the variable index
+     * @param phase the phase of the literal
+     * @return the literal
+     */
+    public static int mkLit(final int var, final boolean phase) {
+        return var + var + (phase ? 0 : 1);
+    }
+
+    /**
+     * Returns the variable index of a literal.
+     * @param lit the literal
+     * @return the variable index of the literal
+     */
+    public static int var(final int lit) {
+        return lit >> 1;
+    }
+
+    /**
+     * Returns the phase of a literal.
+     * @param lit the literal
+     * @return the phase of the literal
+     */
+    public static boolean phase(final int lit) {
+        return (lit & 1) == 0;
+    }
+
+    /**
+     * Returns the names of the variables of this d-DNNF.
+     * @return the names of the variables
+     */
+    public String[] variables() {
+        return Arrays.copyOf(this.variables, this.variables.length);
+    }
+
+    /**
+     * Returns the number of variables of this d-DNNF.
+     * @return the number of variables
+     */
+    public int numberOfVariables() {
+        return this.variables.length;
+    }
+
+    /**
+     * Returns the index of the variable with the given name or -1 if the variable is unknown.
+     * @param name the name of the variable
+     * @return the index of the variable
+     */
+    public int variableIndex(final String name) {
+        final Integer idx = this.name2idx.get(name);
+        return idx == null ? -1 : idx;
+    }
+
+    /**
+     * Returns the number of nodes of this d-DNNF.
+     * @return the number of nodes
+     */
+    public int numberOfNodes() {
+        return this.kinds.length;
+    }
+
+    /**
+     * Returns the number of edges of this d-DNNF.
+     * @return the number of edges
+     */
+    public int numberOfEdges() {
+        return this.children.length;
+    }
+
+    /**
+     * Returns the index of the root node.
+     * @return the index of the root node
+     */
+    public int root() {
+        return this.kinds.length - 1;
+    }
+
+    /**
+     * Returns the kind of the given node.
+     * @param node the node
+     * @return the kind of the node
+     */
+    public int kind(final int node) {
+        return this.kinds[node];
+    }
+
+    /**
+     * Returns the literal of the given literal node.
+     * @param node the node
+     * @return the literal of the node
+     */
+    public int literal(final int node) {
+        return this.literals[node];
+    }
+
+    /**
+     * Returns the number of children of the given node.
+     * @param node the node
+     * @return the number of children
+     */
+    public int numberOfChildren(final int node) {
+        return this.childOffsets[node + 1] - this.childOffsets[node];
+    }
+
+    /**
+     * Returns the i-th child of the given node.
+     * @param node the node
+     * @param i    the position of the child
+     * @return the i-th child
+     */
+    public int child(final int node, final int i) {
+        return this.children[this.childOffsets[node] + i];
+    }
+
+    /**
+     * Returns the raw node kinds.  The returned array must not be modified.
+     * @return the raw node kinds
+     */
+    public int[] rawKinds() {
+        return this.kinds;
+    }
+
+    /**
+     * Returns the raw node literals.  The returned array must not be modified.
+     * @return the raw node literals
+     */
+    public int[] rawLiterals() {
+        return this.literals;
+    }
+
+    /**
+     * Returns the raw child offsets.  The returned array must not be modified.
+     * @return the raw child offsets
+     */
+    public int[] rawChildOffsets() {
+        return this.childOffsets;
+    }
+
+    /**
+     * Returns the raw children.  The returned array must not be modified.
+     * @return the raw children
+     */
+    public int[] rawChildren() {
+        return this.children;
+    }
+
+    /**
+     * Returns the number of models of this d-DNNF over its variables.
+     * @return the model count
+     */
+    public BigInteger modelCount() {
+        final BigInteger[] values = new BigInteger[this.kinds.length];
+        for (int i = 0; i < this.kinds.length; i++) {
+            switch (this.kinds[i]) {
+                case FALSE:
+                    values[i] = BigInteger.ZERO;
+                    break;
+                case TRUE:
+                case LITERAL:
+                    values[i] = BigInteger.ONE;
+                    break;
+                case AND:
+                    BigInteger product = BigInteger.ONE;
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        product = product.multiply(values[this.children[j]]);
+                    }
+                    values[i] = product;
+                    break;
+                default:
+                    BigInteger sum = BigInteger.ZERO;
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        sum = sum.add(values[this.children[j]]);
+                    }
+                    values[i] = sum;
+            }
+        }
+        return values[root()];
+    }
+
+    /**
+     * Returns the weighted model count of this d-DNNF, i.e. the sum over all models of the product of the weights
+     * of their literals.
+     * @param positiveWeights the weights of the positive literals, indexed by variable
+     * @param negativeWeights the weights of the negative literals, indexed by variable
+     * @return the weighted model count
+     * @throws IllegalArgumentException if the number of weights does not match the number of variables
+     */
+    public double weightedModelCount(final double[] positiveWeights, final double[] negativeWeights) {
+        if (positiveWeights.length != this.variables.length || negativeWeights.length != this.variables.length) {
+            throw new IllegalArgumentException("Expected exactly one weight per variable and phase");
+        }
+        final double[] values = new double[this.kinds.length];
+        for (int i = 0; i < this.kinds.length; i++) {
+            switch (this.kinds[i]) {
+                case FALSE:
+                    values[i] = 0;
+                    break;
+                case TRUE:
+                    values[i] = 1;
+                    break;
+                case LITERAL:
+                    final int lit = this.literals[i];
+                    values[i] = phase(lit) ? positiveWeights[var(lit)] : negativeWeights[var(lit)];
+                    break;
+                case AND:
+                    double product = 1;
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        product *= values[this.children[j]];
+                    }
+                    values[i] = product;
+                    break;
+                default:
+                    double sum = 0;
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        sum += values[this.children[j]];
+                    }
+                    values[i] = sum;
+            }
+        }
+        return values[root()];
+    }
+
+    /**
+     * Evaluates this d-DNNF in the given semiring, i.e. computes the sum over all models of the product of the literal
+     * weights.  The evaluation is a single non-recursive pass over the nodes.
+     * @param semiring the semiring
+     * @param weights  the literal weights, indexed by the variable indices of this d-DNNF
+     * @param <T>      the type of the semiring elements
+     * @return the value of this d-DNNF in the semiring
+     */
+    public <T> T evaluate(final Semiring<T> semiring, final LiteralWeights<T> weights) {
+        final List<T> values = new ArrayList<>(this.kinds.length);
+        for (int i = 0; i < this.kinds.length; i++) {
+            switch (this.kinds[i]) {
+                case FALSE:
+                    values.add(semiring.zero());
+                    break;
+                case TRUE:
+                    values.add(semiring.one());
+                    break;
+                case LITERAL:
+                    values.add(weights.weight(var(this.literals[i]), phase(this.literals[i])));
+                    break;
+                case AND:
+                    T product = semiring.one();
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        product = semiring.times(product, values.get(this.children[j]));
+                    }
+                    values.add(product);
+                    break;
+                default:
+                    T sum = semiring.zero();
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        sum = semiring.plus(sum, values.get(this.children[j]));
+                    }
+                    values.add(sum);
+            }
+        }
+        return values.get(root());
+    }
+
+    /**
+     * Conditions this d-DNNF on the given partial assignment.  The variables of the assignment are removed from the
+     * variables of the result and the remaining variables are re-indexed in their original order, so model counts of
+     * the result refer to the remaining variables.
+     * @param assignment the literals of the partial assignment
+     * @return the conditioned d-DNNF
+     * @throws IllegalArgumentException if a variable of the assignment is unknown
+     */
+    public CompactDnnf condition(final Collection<Literal> assignment) {
+        final int[] lits = new int[assignment.size()];
+        int i = 0;
+        for (final Literal lit : assignment) {
+            final int var = variableIndex(lit.name());
+            if (var < 0) {
+                throw new IllegalArgumentException("Unknown variable: " + lit.name());
+            }
+            lits[i++] = mkLit(var, lit.phase());
+        }
+        return condition(lits);
+    }
+
+    /**
+     * Conditions this d-DNNF on the given partial assignment.  The variables of the assignment are removed from the
+     * variables of the result and the remaining variables are re-indexed in their original order, so model counts of
+     * the result refer to the remaining variables.
+     * @param assignment the literals of the partial assignment in their integer encoding
+     * @return the conditioned d-DNNF
+     */
+    public CompactDnnf condition(final int... assignment) {
+        final byte[] values = new byte[this.variables.length];
+        for (final int lit : assignment) {
+            values[var(lit)] = (byte) (phase(lit) ? 1 : -1);
+        }
+        final int[] newIndex = new int[this.variables.length];
+        final List<String> remaining = new ArrayList<>(this.variables.length);
+        for (int v = 0; v < this.variables.length; v++) {
+            newIndex[v] = values[v] == 0 ? remaining.size() : -1;
+            if (values[v] == 0) {
+                remaining.add(this.variables[v]);
+            }
+        }
+        final Builder builder = new Builder(remaining.toArray(new String[0]));
+        final int[] map = new int[this.kinds.length];
+        for (int i = 0; i < this.kinds.length; i++) {
+            switch (this.kinds[i]) {
+                case FALSE:
+                case TRUE:
+                    map[i] = builder.constant(this.kinds[i] == TRUE);
+                    break;
+                case LITERAL:
+                    final int lit = this.literals[i];
+                    final byte value = values[var(lit)];
+                    map[i] = value == 0 ? builder.literal(mkLit(newIndex[var(lit)], phase(lit))) : builder.constant(value == 1 == phase(lit));
+                    break;
+                default:
+                    final int[] ops = new int[this.childOffsets[i + 1] - this.childOffsets[i]];
+                    for (int j = 0; j < ops.length; j++) {
+                        ops[j] = map[this.children[this.childOffsets[i] + j]];
+                    }
+                    map[i] = this.kinds[i] == AND ? builder.and(ops) : builder.or(ops);
+            }
+        }
+        return builder.build(map[root()]);
+    }
+
+    /**
+     * Computes for each literal the number of models of this d-DNNF which contain the literal.  The result is indexed
+     * by the integer encoding of the literals, i.e. the count for the positive literal of variable {@code v} is at
+     * position {@code 2 * v} and the count for its negative literal is at position {@code 2 * v + 1}.
+     * <p>
+     * The marginal counts are computed by one upward and one downward pass (computing the partial derivatives of the
+     * counting circuit).
+     * @return the marginal counts for all literals
+     */
+    public BigInteger[] marginalCounts() {
+        final int n = this.kinds.length;
+        final BigInteger[] values = new BigInteger[n];
+        final BigInteger[] derivatives = new BigInteger[n];
+        for (int i = 0; i < n; i++) {
+            derivatives[i] = BigInteger.ZERO;
+            switch (this.kinds[i]) {
+                case FALSE:
+                    values[i] = BigInteger.ZERO;
+                    break;
+                case TRUE:
+                case LITERAL:
+                    values[i] = BigInteger.ONE;
+                    break;
+                case AND:
+                    BigInteger product = BigInteger.ONE;
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        product = product.multiply(values[this.children[j]]);
+                    }
+                    values[i] = product;
+                    break;
+                default:
+                    BigInteger sum = BigInteger.ZERO;
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        sum = sum.add(values[this.children[j]]);
+                    }
+                    values[i] = sum;
+            }
+        }
+        derivatives[n - 1] = BigInteger.ONE;
+        final BigInteger[] marginals = new BigInteger[2 * this.variables.length];
+        Arrays.fill(marginals, BigInteger.ZERO);
+        for (int i = n - 1; i >= 0; i--) {
+            final BigInteger derivative = derivatives[i];
+            if (derivative.signum() == 0) {
+                continue;
+            }
+            final int start = this.childOffsets[i];
+            final int end = this.childOffsets[i + 1];
+            switch (this.kinds[i]) {
+                case LITERAL:
+                    marginals[this.literals[i]] = marginals[this.literals[i]].add(derivative);
+                    break;
+                case AND:
+                    final BigInteger[] suffix = new BigInteger[end - start + 1];
+                    suffix[end - start] = BigInteger.ONE;
+                    for (int j = end - 1; j >= start; j--) {
+                        suffix[j - start] = suffix[j - start + 1].multiply(values[this.children[j]]);
+                    }
+                    BigInteger prefix = derivative;
+                    for (int j = start; j < end; j++) {
+                        final int child = this.children[j];
+                        derivatives[child] = derivatives[child].add(prefix.multiply(suffix[j - start + 1]));
+                        prefix = prefix.multiply(values[child]);
+                    }
+                    break;
+                case OR:
+                    for (int j = start; j < end; j++) {
+                        derivatives[this.children[j]] = derivatives[this.children[j]].add(derivative);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return marginals;
+    }
+
+    /**
+     * Returns the minimum cardinality of this d-DNNF, i.e. the minimal number of positive literals in a model.
+     * @return the minimum cardinality or -1 if the d-DNNF is unsatisfiable
+     */
+    public int minimumCardinality() {
+        final int min = computeMinimumCardinalities()[root()];
+        return min == Integer.MAX_VALUE ? -1 : min;
+    }
+
+    /**
+     * Returns a model of this d-DNNF with a minimal number of positive literals.
+     * @return the model indexed by variable or {@code null} if the d-DNNF is unsatisfiable
+     */
+    public boolean[] minimumCardinalityModel() {
+        final int[] minCards = computeMinimumCardinalities();
+        if (minCards[root()] == Integer.MAX_VALUE) {
+            return null;
+        }
+        final boolean[] model = new boolean[this.variables.length];
+        final Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(root());
+        while (!stack.isEmpty()) {
+            final int node = stack.pop();
+            switch (this.kinds[node]) {
+                case LITERAL:
+                    model[var(this.literals[node])] = phase(this.literals[node]);
+                    break;
+                case AND:
+                    for (int j = this.childOffsets[node]; j < this.childOffsets[node + 1]; j++) {
+                        stack.push(this.children[j]);
+                    }
+                    break;
+                case OR:
+                    for (int j = this.childOffsets[node]; j < this.childOffsets[node + 1]; j++) {
+                        if (minCards[this.children[j]] == minCards[node]) {
+                            stack.push(this.children[j]);
+                            break;
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Returns a new d-DNNF which represents exactly the models of this d-DNNF with minimum cardinality.
+     * @return the d-DNNF of all minimum cardinality models
+     */
+    public CompactDnnf minimizeCardinality() {
+        final int[] minCards = computeMinimumCardinalities();
+        final Builder builder = new Builder(this.variables);
+        final int[] map = new int[this.kinds.length];
+        final LNGIntVector ops = new LNGIntVector();
+        for (int i = 0; i < this.kinds.length; i++) {
+            switch (this.kinds[i]) {
+                case FALSE:
+                case TRUE:
+                    map[i] = builder.constant(this.kinds[i] == TRUE);
+                    break;
+                case LITERAL:
+                    map[i] = builder.literal(this.literals[i]);
+                    break;
+                default:
+                    ops.clear();
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        final int child = this.children[j];
+                        if (this.kinds[i] == AND || minCards[child] == minCards[i]) {
+                            ops.push(map[child]);
+                        }
+                    }
+                    map[i] = this.kinds[i] == AND ? builder.and(ops.toArray()) : builder.or(ops.toArray());
+            }
+        }
+        return builder.build(map[root()]);
+    }
+
+    private int[] computeMinimumCardinalities() {
+        final int[] values = new int[this.kinds.length];
+        for (int i = 0; i < this.kinds.length; i++) {
+            switch (this.kinds[i]) {
+                case FALSE:
+                    values[i] = Integer.MAX_VALUE;
+                    break;
+                case TRUE:
+                    values[i] = 0;
+                    break;
+                case LITERAL:
+                    values[i] = phase(this.literals[i]) ? 1 : 0;
+                    break;
+                case AND:
+                    int sum = 0;
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        final int value = values[this.children[j]];
+                        if (value == Integer.MAX_VALUE) {
+                            sum = Integer.MAX_VALUE;
+                            break;
+                        }
+                        sum += value;
+                    }
+                    values[i] = sum;
+                    break;
+                default:
+                    int min = Integer.MAX_VALUE;
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        min = Math.min(min, values[this.children[j]]);
+                    }
+                    values[i] = min;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns a formula representation of this d-DNNF in the given formula factory.
+     * @param f the formula factory
+     * @return the formula
+     */
+    public Formula toFormula(final FormulaFactory f) {
+        final Formula[] formulas = new Formula[this.kinds.length];
+        final List<Formula> ops = new ArrayList<>();
+        for (int i = 0; i < this.kinds.length; i++) {
+            switch (this.kinds[i]) {
+                case FALSE:
+                    formulas[i] = f.falsum();
+                    break;
+                case TRUE:
+                    formulas[i] = f.verum();
+                    break;
+                case LITERAL:
+                    formulas[i] = f.literal(this.variables[var(this.literals[i])], phase(this.literals[i]));
+                    break;
+                default:
+                    ops.clear();
+                    for (int j = this.childOffsets[i]; j < this.childOffsets[i + 1]; j++) {
+                        ops.add(formulas[this.children[j]]);
+                    }
+                    formulas[i] = this.kinds[i] == AND ? f.and(ops) : f.or(ops);
+            }
+        }
+        return formulas[root()];
+    }
+
+    @Override
+    public String toString() {
+        return "CompactDnnf{variables=" + this.variables.length + ", nodes=" + this.kinds.length + ", edges=" + this.children.length + "}";
+    }
+
+    /**
+     * A builder for compact d-DNNFs.  The builder performs constant propagation and shares constant and literal
+     * nodes, but it does not smooth the d-DNNF, this is the responsibility of the caller.
+     * @version 2.5.0
+     * @since 2.5.0
+     */
+    public static final class Builder {
+        private final String[] variables;
+        private final LNGIntVector kinds;
+        private final LNGIntVector literals;
+        private final LNGIntVector childOffsets;
+        private final LNGIntVector children;
+        private final int[] literalNodes;
+        private final int[] constantNodes;
+
+        /**
+         * Constructs a new builder for a d-DNNF over the given variables.
+         * @param variables the names of the variables
+         */
+        public Builder(final String[] variables) {
+            this.variables = variables;
+            this.kinds = new LNGIntVector();
+            this.literals = new LNGIntVector();
+            this.childOffsets = new LNGIntVector();
+            this.childOffsets.push(0);
+            this.children = new LNGIntVector();
+            this.literalNodes = new int[2 * variables.length];
+            Arrays.fill(this.literalNodes, -1);
+            this.constantNodes = new int[]{-1, -1};
+        }
+
+        /**
+         * Returns the number of nodes added so far.
+         * @return the number of nodes
+         */
+        public int size() {
+            return this.kinds.size();
+        }
+
+        /**
+         * Returns the node for the given constant.
+         * @param value the value of the constant
+         * @return the node
+         */
+        public int constant(final boolean value) {
+            final int idx = value ? 1 : 0;
+            if (this.constantNodes[idx] == -1) {
+                this.constantNodes[idx] = addNode(value ? TRUE : FALSE, 0);
+            }
+            return this.constantNodes[idx];
+        }
+
+        /**
+         * Returns the node for the given literal.
+         * @param lit the literal in its integer encoding
+         * @return the node
+         */
+        public int literal(final int lit) {
+            if (this.literalNodes[lit] == -1) {
+                this.literalNodes[lit] = addNode(LITERAL, lit);
+            }
+            return this.literalNodes[lit];
+        }
+
+        /**
+         * Returns a node for the conjunction of the given nodes.  Constant operands are simplified.
+         * @param operands the operands
+         * @return the node
+         */
+        public int and(final int... operands) {
+            return addOperator(AND, operands);
+        }
+
+        /**
+         * Returns a node for the disjunction of the given nodes.  Constant operands are simplified.  The operands
+         * must be mutually inconsistent.
+         * @param operands the operands
+         * @return the node
+         */
+        public int or(final int... operands) {
+            return addOperator(OR, operands);
+        }
+
+        private int addOperator(final int kind, final int[] operands) {
+            final int neutral = kind == AND ? TRUE : FALSE;
+            int count = 0;
+            int last = -1;
+            for (final int op : operands) {
+                final int opKind = this.kinds.get(op);
+                if (opKind == TRUE || opKind == FALSE) {
+                    if (opKind != neutral) {
+                        return constant(neutral == FALSE);
+                    }
+                } else {
+                    count++;
+                    last = op;
+                }
+            }
+            if (count == 0) {
+                return constant(neutral == TRUE);
+            }
+            if (count == 1) {
+                return last;
+            }
+            for (final int op : operands) {
+                final int opKind = this.kinds.get(op);
+                if (opKind != TRUE && opKind != FALSE) {
+                    this.children.push(op);
+                }
+            }
+            return addNode(kind, 0);
+        }
+
+        private int addNode(final int kind, final int lit) {
+            this.kinds.push(kind);
+            this.literals.push(lit);
+            this.childOffsets.push(this.children.size());
+            return this.kinds.size() - 1;
+        }
+
+        /**
+         * Builds the compact d-DNNF with the given root node.  All nodes which are not reachable from the root are
+         * removed.
+         * @param root the root node
+         * @return the compact d-DNNF
+         */
+        public CompactDnnf build(final int root) {
+            final boolean[] reachable = new boolean[root + 1];
+            reachable[root] = true;
+            int numNodes = 0;
+            int numEdges = 0;
+            for (int i = root; i >= 0; i--) {
+                if (reachable[i]) {
+                    numNodes++;
+                    for (int j = this.childOffsets.get(i); j < this.childOffsets.get(i + 1); j++) {
+                        reachable[this.children.get(j)] = true;
+                        numEdges++;
+                    }
+                }
+            }
+            final int[] newIndex = new int[root + 1];
+            final int[] newKinds = new int[numNodes];
+            final int[] newLiterals = new int[numNodes];
+            final int[] newOffsets = new int[numNodes + 1];
+            final int[] newChildren = new int[numEdges];
+            int node = 0;
+            int edge = 0;
+            for (int i = 0; i <= root; i++) {
+                if (reachable[i]) {
+                    newIndex[i] = node;
+                    newKinds[node] = this.kinds.get(i);
+                    newLiterals[node] = this.literals.get(i);
+                    for (int j = this.childOffsets.get(i); j < this.childOffsets.get(i + 1); j++) {
+                        newChildren[edge++] = newIndex[this.children.get(j)];
+                    }
+                    newOffsets[++node] = edge;
+                }
+            }
+            return new CompactDnnf(this.variables, newKinds, newLiterals, newOffsets, newChildren);
+        }
+    }
+
+    /**
+     * Converts and smooths a DNNF formula without recursion.
+     */
+    private static final class Converter {
+        private final String[] variables;
+        private final Map<Variable, Integer> var2idx;
+        private final Builder builder;
+        private final List<BitSet> nodeVars;
+        private final int[] tautologies;
+
+        private Converter(final Collection<Variable> originalVariables) {
+            this.variables = new String[originalVariables.size()];
+            this.var2idx = new HashMap<>();
+            int i = 0;
+            for (final Variable var : originalVariables) {
+                this.variables[i] = var.name();
+                this.var2idx.put(var, i++);
+            }
+            this.builder = new Builder(this.variables);
+            this.nodeVars = new ArrayList<>();
+            this.tautologies = new int[this.variables.length];
+            Arrays.fill(this.tautologies, -1);
+        }
+
+        private CompactDnnf convert(final Formula formula) {
+            final Map<Formula, Integer> nodes = new HashMap<>();
+            final Deque<Formula> stack = new ArrayDeque<>();
+            stack.push(formula);
+            while (!stack.isEmpty()) {
+                final Formula current = stack.peek();
+                if (nodes.containsKey(current)) {
+                    stack.pop();
+                    continue;
+                }
+                switch (current.type()) {
+                    case TRUE:
+                    case FALSE:
+                        nodes.put(current, register(this.builder.constant(current.type() == FType.TRUE), new BitSet()));
+                        stack.pop();
+                        break;
+                    case LITERAL:
+                        nodes.put(current, literal((Literal) current));
+                        stack.pop();
+                        break;
+                    case AND:
+                    case OR:
+                        boolean ready = true;
+                        for (final Formula op : current) {
+                            if (!nodes.containsKey(op)) {
+                                stack.push(op);
+                                ready = false;
+                            }
+                        }
+                        if (ready) {
+                            stack.pop();
+                            final int[] ops = new int[current.numberOfOperands()];
+                            int i = 0;
+                            for (final Formula op : current) {
+                                ops[i++] = nodes.get(op);
+                            }
+                            nodes.put(current, current.type() == FType.AND ? and(ops) : or(ops));
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Formula is not a DNNF: " + current);
+                }
+            }
+            final int root = nodes.get(formula);
+            final BitSet all = new BitSet();
+            all.set(0, this.variables.length);
+            return this.builder.build(smooth(root, all));
+        }
+
+        private int literal(final Literal literal) {
+            final Integer var = this.var2idx.get(literal.variable());
+            if (var == null) {
+                throw new IllegalArgumentException("Unknown variable in DNNF: " + literal.variable());
+            }
+            final BitSet vars = new BitSet();
+            vars.set(var);
+            return register(this.builder.literal(mkLit(var, literal.phase())), vars);
+        }
+
+        private int and(final int[] ops) {
+            final BitSet vars = new BitSet();
+            for (final int op : ops) {
+                vars.or(this.nodeVars.get(op));
+            }
+            return register(this.builder.and(ops), vars);
+        }
+
+        private int or(final int[] ops) {
+            final BitSet vars = new BitSet();
+            for (final int op : ops) {
+                if (this.builder.kinds.get(op) != FALSE) {
+                    vars.or(this.nodeVars.get(op));
+                }
+            }
+            final int[] smoothOps = new int[ops.length];
+            for (int i = 0; i < ops.length; i++) {
+                smoothOps[i] = smooth(ops[i], vars);
+            }
+            return register(this.builder.or(smoothOps), vars);
+        }
+
+        private int smooth(final int node, final BitSet vars) {
+            final BitSet missing = (BitSet) vars.clone();
+            missing.andNot(this.nodeVars.get(node));
+            if (missing.isEmpty() || this.builder.kinds.get(node) == FALSE) {
+                return node;
+            }
+            final int[] ops = new int[missing.cardinality() + 1];
+            ops[0] = node;
+            int i = 1;
+            for (int v = missing.nextSetBit(0); v >= 0; v = missing.nextSetBit(v + 1)) {
+                ops[i++] = tautology(v);
+            }
+            return register(this.builder.and(ops), (BitSet) vars.clone());
+        }
+
+        private int tautology(final int var) {
+            if (this.tautologies[var] == -1) {
+                final BitSet vars = new BitSet();
+                vars.set(var);
+                final int pos = register(this.builder.literal(mkLit(var, true)), vars);
+                final int neg = register(this.builder.literal(mkLit(var, false)), vars);
+                this.tautologies[var] = register(this.builder.or(pos, neg), vars);
+            }
+            return this.tautologies[var];
+        }
+
+        private int register(final int node, final BitSet vars) {
+            if (node == this.nodeVars.size()) {
+                final int kind = this.builder.kinds.get(node);
+                this.nodeVars.add(kind == TRUE || kind == FALSE ? new BitSet() : vars);
+            }
+            return node;
+        }
+    }
+}
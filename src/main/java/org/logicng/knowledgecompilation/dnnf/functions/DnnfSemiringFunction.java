@@ -0,0 +1,70 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.dnnf.functions;
+
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.knowledgecompilation.dnnf.datastructures.CompactDnnf;
+import org.logicng.knowledgecompilation.semirings.Semiring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.function.Function;
+
+/**
+ * A DNNF function which evaluates the DNNF in a semiring, e.g. to compute weighted model counts or the costs of a
+ * cheapest model.  The DNNF is converted to a {@link CompactDnnf} which is then evaluated without recursion.
+ * @param <T> the type of the semiring elements
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class DnnfSemiringFunction<T> implements DnnfFunction<T> {
+
+    private final Semiring<T> semiring;
+    private final Function<Literal, T> weights;
+
+    /**
+     * Constructs a new semiring function.
+     * @param semiring the semiring
+     * @param weights  the weight function for the literals
+     */
+    public DnnfSemiringFunction(final Semiring<T> semiring, final Function<Literal, T> weights) {
+        this.semiring = semiring;
+        this.weights = weights;
+    }
+
+    @Override
+    public T apply(final SortedSet<Variable> originalVariables, final Formula formula) {
+        final List<Variable> variables = new ArrayList<>(originalVariables);
+        final CompactDnnf dnnf = CompactDnnf.of(variables, formula);
+        return dnnf.evaluate(this.semiring, (var, phase) -> this.weights.apply(phase ? variables.get(var) : variables.get(var).negate()));
+    }
+}
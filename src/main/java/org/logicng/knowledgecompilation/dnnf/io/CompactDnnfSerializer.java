@@ -0,0 +1,293 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.dnnf.io;
+
+import org.logicng.knowledgecompilation.dnnf.datastructures.CompactDnnf;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A binary serializer for compact d-DNNFs.
+ * <p>
+ * The binary format consists of a header (magic number and format version), the variable names, and the four
+ * integer arrays of the {@link CompactDnnf}.  All integers are written in big-endian byte order.  Since the arrays are
+ * written as-is, reading a compact d-DNNF is a bulk copy of the arrays and does not require any re-computation.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class CompactDnnfSerializer {
+
+    private static final int MAGIC = 0x4C4E4744; // "LNGD"
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Private constructor.
+     */
+    private CompactDnnfSerializer() {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Writes the given compact d-DNNF to a file.
+     * @param path the path of the file
+     * @param dnnf the compact d-DNNF
+     * @throws IOException if there was a problem writing the file
+     */
+    public static void write(final Path path, final CompactDnnf dnnf) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(channel, dnnf);
+        }
+    }
+
+    /**
+     * Writes the given compact d-DNNF to a channel.  The channel is not closed by this method.
+     * @param channel the channel
+     * @param dnnf    the compact d-DNNF
+     * @throws IOException if there was a problem writing to the channel
+     */
+    public static void write(final WritableByteChannel channel, final CompactDnnf dnnf) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        final String[] variables = dnnf.variables();
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(variables.length);
+        for (final String variable : variables) {
+            final byte[] bytes = variable.getBytes(StandardCharsets.UTF_8);
+            ensureRemaining(channel, buffer, Integer.BYTES);
+            buffer.putInt(bytes.length);
+            int pos = 0;
+            while (pos < bytes.length) {
+                ensureRemaining(channel, buffer, 1);
+                final int len = Math.min(buffer.remaining(), bytes.length - pos);
+                buffer.put(bytes, pos, len);
+                pos += len;
+            }
+        }
+        ensureRemaining(channel, buffer, 2 * Integer.BYTES);
+        buffer.putInt(dnnf.numberOfNodes()).putInt(dnnf.numberOfEdges());
+        writeInts(channel, buffer, dnnf.rawKinds());
+        writeInts(channel, buffer, dnnf.rawLiterals());
+        writeInts(channel, buffer, dnnf.rawChildOffsets());
+        writeInts(channel, buffer, dnnf.rawChildren());
+        flush(channel, buffer);
+    }
+
+    /**
+     * Reads a compact d-DNNF from a file.  The file is memory-mapped for reading if it is small enough, otherwise it
+     * is read via a file channel.
+     * @param path the path of the file
+     * @return the compact d-DNNF
+     * @throws IOException if there was a problem reading the file or the file is no valid compact d-DNNF file
+     */
+    public static CompactDnnf read(final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return read((ReadableByteChannel) channel);
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        }
+    }
+
+    /**
+     * Reads a compact d-DNNF from a byte buffer, e.g. a memory-mapped file.  The buffer's position is advanced to the
+     * end of the compact d-DNNF.
+     * @param buffer the byte buffer
+     * @return the compact d-DNNF
+     * @throws IOException if the buffer does not contain a valid compact d-DNNF
+     */
+    public static CompactDnnf read(final ByteBuffer buffer) throws IOException {
+        try {
+            checkHeader(buffer.getInt(), buffer.getInt());
+            final String[] variables = new String[checkCount(buffer, buffer.getInt(), Integer.BYTES)];
+            for (int i = 0; i < variables.length; i++) {
+                final byte[] bytes = new byte[checkCount(buffer, buffer.getInt(), 1)];
+                buffer.get(bytes);
+                variables[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            final int numNodes = checkCount(buffer, buffer.getInt(), 3 * Integer.BYTES);
+            final int numEdges = checkCount(buffer, buffer.getInt(), Integer.BYTES);
+            if ((3L * numNodes + 1 + numEdges) * Integer.BYTES > buffer.remaining()) {
+                throw new EOFException("Unexpected end of compact DNNF data");
+            }
+            final int[] kinds = new int[numNodes];
+            final int[] literals = new int[numNodes];
+            final int[] childOffsets = new int[numNodes + 1];
+            final int[] children = new int[numEdges];
+            for (final int[] array : new int[][]{kinds, literals, childOffsets, children}) {
+                final IntBuffer ints = buffer.asIntBuffer();
+                ints.get(array);
+                buffer.position(buffer.position() + array.length * Integer.BYTES);
+            }
+            return create(variables, kinds, literals, childOffsets, children);
+        } catch (final BufferUnderflowException e) {
+            throw new EOFException("Unexpected end of compact DNNF data");
+        }
+    }
+
+    /**
+     * Reads a compact d-DNNF from a channel.  The channel is not closed by this method.
+     * @param channel the channel
+     * @return the compact d-DNNF
+     * @throws IOException if there was a problem reading from the channel or the channel does not contain a valid compact d-DNNF
+     */
+    public static CompactDnnf read(final ReadableByteChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.flip();
+        fill(channel, buffer, 3 * Integer.BYTES);
+        checkHeader(buffer.getInt(), buffer.getInt());
+        final int numVariables = checkSize(buffer.getInt());
+        final List<String> variables = new ArrayList<>(Math.min(numVariables, BUFFER_SIZE));
+        for (int i = 0; i < numVariables; i++) {
+            fill(channel, buffer, Integer.BYTES);
+            final int size = checkSize(buffer.getInt());
+            byte[] bytes = new byte[Math.min(size, BUFFER_SIZE)];
+            int pos = 0;
+            while (pos < size) {
+                fill(channel, buffer, 1);
+                if (pos == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(size, 2L * bytes.length));
+                }
+                final int len = Math.min(buffer.remaining(), bytes.length - pos);
+                buffer.get(bytes, pos, len);
+                pos += len;
+            }
+            variables.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        fill(channel, buffer, 2 * Integer.BYTES);
+        final int numNodes = checkSize(buffer.getInt());
+        final int numEdges = checkSize(buffer.getInt());
+        final int[] kinds = readInts(channel, buffer, numNodes);
+        final int[] literals = readInts(channel, buffer, numNodes);
+        final int[] childOffsets = readInts(channel, buffer, checkSize(numNodes + 1));
+        final int[] children = readInts(channel, buffer, numEdges);
+        return create(variables.toArray(new String[0]), kinds, literals, childOffsets, children);
+    }
+
+    private static CompactDnnf create(final String[] variables, final int[] kinds, final int[] literals, final int[] childOffsets,
+                                      final int[] children) throws IOException {
+        try {
+            return new CompactDnnf(variables, kinds, literals, childOffsets, children);
+        } catch (final IllegalArgumentException e) {
+            throw new IOException("Invalid compact DNNF: " + e.getMessage(), e);
+        }
+    }
+
+    private static int checkSize(final int size) throws IOException {
+        if (size < 0) {
+            throw new IOException("Invalid size in compact DNNF data: " + size);
+        }
+        return size;
+    }
+
+    private static int checkCount(final ByteBuffer buffer, final int count, final int bytesPerElement) throws IOException {
+        checkSize(count);
+        if ((long) count * bytesPerElement > buffer.remaining()) {
+            throw new EOFException("Unexpected end of compact DNNF data");
+        }
+        return count;
+    }
+
+    private static void checkHeader(final int magic, final int version) throws IOException {
+        if (magic != MAGIC) {
+            throw new IOException("Not a compact DNNF file");
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported compact DNNF format version: " + version);
+        }
+    }
+
+    private static void writeInts(final WritableByteChannel channel, final ByteBuffer buffer, final int[] array) throws IOException {
+        int pos = 0;
+        while (pos < array.length) {
+            ensureRemaining(channel, buffer, Integer.BYTES);
+            final int len = Math.min(buffer.remaining() / Integer.BYTES, array.length - pos);
+            buffer.asIntBuffer().put(array, pos, len);
+            buffer.position(buffer.position() + len * Integer.BYTES);
+            pos += len;
+        }
+    }
+
+    private static int[] readInts(final ReadableByteChannel channel, final ByteBuffer buffer, final int size) throws IOException {
+        int[] array = new int[Math.min(size, BUFFER_SIZE)];
+        int pos = 0;
+        while (pos < size) {
+            fill(channel, buffer, Integer.BYTES);
+            if (pos == array.length) {
+                array = Arrays.copyOf(array, (int) Math.min(size, 2L * array.length));
+            }
+            final int len = Math.min(buffer.remaining() / Integer.BYTES, array.length - pos);
+            buffer.asIntBuffer().get(array, pos, len);
+            buffer.position(buffer.position() + len * Integer.BYTES);
+            pos += len;
+        }
+        return array;
+    }
+
+    private static void ensureRemaining(final WritableByteChannel channel, final ByteBuffer buffer, final int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(final WritableByteChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void fill(final ReadableByteChannel channel, final ByteBuffer buffer, final int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of compact DNNF stream");
+            }
+        }
+        buffer.flip();
+    }
+}
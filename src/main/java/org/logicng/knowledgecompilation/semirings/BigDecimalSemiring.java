@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.semirings;
+
+import java.math.BigDecimal;
+
+/**
+ * The semiring of the real numbers as exact decimal values.  The evaluation yields the exact weighted model count
+ * without rounding errors.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class BigDecimalSemiring implements Semiring<BigDecimal> {
+
+    private static final BigDecimalSemiring INSTANCE = new BigDecimalSemiring();
+
+    private BigDecimalSemiring() {
+        // intentionally left empty
+    }
+
+    /**
+     * Returns the singleton instance of this semiring.
+     * @return an instance of this semiring
+     */
+    public static BigDecimalSemiring get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public BigDecimal zero() {
+        return BigDecimal.ZERO;
+    }
+
+    @Override
+    public BigDecimal one() {
+        return BigDecimal.ONE;
+    }
+
+    @Override
+    public BigDecimal plus(final BigDecimal a, final BigDecimal b) {
+        return a.add(b);
+    }
+
+    @Override
+    public BigDecimal times(final BigDecimal a, final BigDecimal b) {
+        return a.multiply(b);
+    }
+}
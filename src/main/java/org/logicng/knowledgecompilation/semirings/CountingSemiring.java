@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.semirings;
+
+import java.math.BigInteger;
+
+/**
+ * The semiring of the natural numbers with arbitrary precision.  With all literal weights set to one, the evaluation
+ * yields the model count.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class CountingSemiring implements Semiring<BigInteger> {
+
+    private static final CountingSemiring INSTANCE = new CountingSemiring();
+
+    private CountingSemiring() {
+        // intentionally left empty
+    }
+
+    /**
+     * Returns the singleton instance of this semiring.
+     * @return an instance of this semiring
+     */
+    public static CountingSemiring get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public BigInteger zero() {
+        return BigInteger.ZERO;
+    }
+
+    @Override
+    public BigInteger one() {
+        return BigInteger.ONE;
+    }
+
+    @Override
+    public BigInteger plus(final BigInteger a, final BigInteger b) {
+        return a.add(b);
+    }
+
+    @Override
+    public BigInteger times(final BigInteger a, final BigInteger b) {
+        return a.multiply(b);
+    }
+}
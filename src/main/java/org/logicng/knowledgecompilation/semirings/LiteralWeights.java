@@ -0,0 +1,48 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.semirings;
+
+/**
+ * A weight function for the literals of a compiled knowledge base.  The variables are identified by their index in
+ * the compiled structure (e.g. the variable index of a BDD kernel).
+ * @param <T> the type of the weights
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+@FunctionalInterface
+public interface LiteralWeights<T> {
+
+    /**
+     * Returns the weight of the literal with the given variable index and phase.
+     * @param var   the variable index
+     * @param phase the phase of the literal
+     * @return the weight of the literal
+     */
+    T weight(int var, boolean phase);
+}
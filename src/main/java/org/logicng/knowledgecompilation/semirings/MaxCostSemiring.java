@@ -0,0 +1,72 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.semirings;
+
+/**
+ * The (max, +) semiring.  With literal weights set to costs, the evaluation yields the costs of a most expensive
+ * model or {@link Double#NEGATIVE_INFINITY} if there is no model.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class MaxCostSemiring implements Semiring<Double> {
+
+    private static final MaxCostSemiring INSTANCE = new MaxCostSemiring();
+
+    private MaxCostSemiring() {
+        // intentionally left empty
+    }
+
+    /**
+     * Returns the singleton instance of this semiring.
+     * @return an instance of this semiring
+     */
+    public static MaxCostSemiring get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Double zero() {
+        return Double.NEGATIVE_INFINITY;
+    }
+
+    @Override
+    public Double one() {
+        return 0.0;
+    }
+
+    @Override
+    public Double plus(final Double a, final Double b) {
+        return Math.max(a, b);
+    }
+
+    @Override
+    public Double times(final Double a, final Double b) {
+        return a + b;
+    }
+}
@@ -0,0 +1,72 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.semirings;
+
+/**
+ * The semiring of the real numbers as double values.  With literal weights set to probabilities, the evaluation yields
+ * the weighted model count, i.e. the probability of the formula.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class ProbabilitySemiring implements Semiring<Double> {
+
+    private static final ProbabilitySemiring INSTANCE = new ProbabilitySemiring();
+
+    private ProbabilitySemiring() {
+        // intentionally left empty
+    }
+
+    /**
+     * Returns the singleton instance of this semiring.
+     * @return an instance of this semiring
+     */
+    public static ProbabilitySemiring get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Double zero() {
+        return 0.0;
+    }
+
+    @Override
+    public Double one() {
+        return 1.0;
+    }
+
+    @Override
+    public Double plus(final Double a, final Double b) {
+        return a + b;
+    }
+
+    @Override
+    public Double times(final Double a, final Double b) {
+        return a * b;
+    }
+}
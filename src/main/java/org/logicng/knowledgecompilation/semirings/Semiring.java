@@ -0,0 +1,71 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.semirings;
+
+/**
+ * A commutative semiring which can be used to evaluate compiled knowledge bases like BDDs and d-DNNFs.
+ * <p>
+ * The evaluation of a compiled structure with a semiring sums up (via {@link #plus}) the products (via {@link #times})
+ * of the literal weights over all models.  E.g. the {@link CountingSemiring} with all literal weights set to one
+ * yields the model count, the {@link ProbabilitySemiring} yields the weighted model count and the
+ * {@link MinCostSemiring} yields the costs of a cheapest model.
+ * @param <T> the type of the elements of the semiring
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public interface Semiring<T> {
+
+    /**
+     * Returns the neutral element of the addition.
+     * @return the neutral element of the addition
+     */
+    T zero();
+
+    /**
+     * Returns the neutral element of the multiplication.
+     * @return the neutral element of the multiplication
+     */
+    T one();
+
+    /**
+     * Returns the sum of two elements.
+     * @param a the first element
+     * @param b the second element
+     * @return the sum
+     */
+    T plus(T a, T b);
+
+    /**
+     * Returns the product of two elements.
+     * @param a the first element
+     * @param b the second element
+     * @return the product
+     */
+    T times(T a, T b);
+}
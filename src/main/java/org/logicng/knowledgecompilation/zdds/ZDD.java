@@ -0,0 +1,283 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.zdds;
+
+import org.logicng.formulas.Literal;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+
+/**
+ * The internal representation of a ZDD, i.e. a family of sets of literals.
+ * <p>
+ * A ZDD can be iterated set by set.  The iteration works directly on the nodes of the ZDD and only holds the current
+ * path in memory, so even families with a huge number of sets can be enumerated without materializing them.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class ZDD implements Iterable<SortedSet<Literal>> {
+
+    private final int index;
+    protected final ZDDKernel kernel;
+
+    /**
+     * Constructs a new ZDD with a given index.
+     * @param index  the index
+     * @param kernel the kernel of this ZDD
+     */
+    public ZDD(final int index, final ZDDKernel kernel) {
+        this.index = index;
+        this.kernel = kernel;
+    }
+
+    /**
+     * Returns the index of this ZDD.
+     * <p>
+     * The index marks the entry point of this ZDD in the {@link #underlyingKernel() underlying kernel}.
+     * @return the index of this ZDD
+     */
+    public int index() {
+        return this.index;
+    }
+
+    /**
+     * Returns the ZDD Kernel of this ZDD.  The Kernel should only be accessed when you know, what you are doing.
+     * @return the ZDD Kernel
+     */
+    public ZDDKernel underlyingKernel() {
+        return this.kernel;
+    }
+
+    /**
+     * Returns {@code true} if this ZDD is the empty family, {@code false} otherwise.
+     * @return {@code true} if this ZDD is the empty family
+     */
+    public boolean isEmpty() {
+        return this.index == ZDDKernel.ZDD_EMPTY;
+    }
+
+    /**
+     * Returns {@code true} if this ZDD contains the empty set, {@code false} otherwise.
+     * @return {@code true} if this ZDD contains the empty set
+     */
+    public boolean containsEmptySet() {
+        return this.kernel.containsEmptySet(this.index);
+    }
+
+    /**
+     * Returns {@code true} if this ZDD contains the given set, {@code false} otherwise.
+     * @param set the set
+     * @return {@code true} if this ZDD contains the given set
+     */
+    public boolean contains(final Collection<? extends Literal> set) {
+        return !intersection(this.kernel.set(set)).isEmpty();
+    }
+
+    /**
+     * Returns the union of this family and the given family.
+     * @param other the other family
+     * @return the union
+     * @throws IllegalArgumentException if the two ZDDs don't have the same kernel
+     */
+    public ZDD union(final ZDD other) {
+        checkKernel(other);
+        return new ZDD(this.kernel.union(this.index, other.index), this.kernel);
+    }
+
+    /**
+     * Returns the intersection of this family and the given family.
+     * @param other the other family
+     * @return the intersection
+     * @throws IllegalArgumentException if the two ZDDs don't have the same kernel
+     */
+    public ZDD intersection(final ZDD other) {
+        checkKernel(other);
+        return new ZDD(this.kernel.intersection(this.index, other.index), this.kernel);
+    }
+
+    /**
+     * Returns the difference of this family and the given family, i.e. all sets of this family which are not in the
+     * given family.
+     * @param other the other family
+     * @return the difference
+     * @throws IllegalArgumentException if the two ZDDs don't have the same kernel
+     */
+    public ZDD difference(final ZDD other) {
+        checkKernel(other);
+        return new ZDD(this.kernel.difference(this.index, other.index), this.kernel);
+    }
+
+    /**
+     * Returns the join of this family and the given family, i.e. the family of all unions of a set
+     * of this family and a set of the given family.
+     * @param other the other family
+     * @return the join
+     * @throws IllegalArgumentException if the two ZDDs don't have the same kernel
+     */
+    public ZDD join(final ZDD other) {
+        checkKernel(other);
+        return new ZDD(this.kernel.join(this.index, other.index), this.kernel);
+    }
+
+    /**
+     * Returns the meet of this family and the given family, i.e. the family of all intersections of a
+     * set of this family and a set of the given family.
+     * @param other the other family
+     * @return the meet
+     * @throws IllegalArgumentException if the two ZDDs don't have the same kernel
+     */
+    public ZDD meet(final ZDD other) {
+        checkKernel(other);
+        return new ZDD(this.kernel.meet(this.index, other.index), this.kernel);
+    }
+
+    /**
+     * Returns all sets of this family which contain the given element.
+     * @param element the element
+     * @return all sets of this family which contain the element
+     */
+    public ZDD containing(final Literal element) {
+        return new ZDD(this.kernel.containing(this.index, this.kernel.getOrAddElementIndex(element)), this.kernel);
+    }
+
+    /**
+     * Returns all sets of this family which do not contain the given element.
+     * @param element the element
+     * @return all sets of this family which do not contain the element
+     */
+    public ZDD notContaining(final Literal element) {
+        return new ZDD(this.kernel.notContaining(this.index, this.kernel.getOrAddElementIndex(element)), this.kernel);
+    }
+
+    /**
+     * Returns all sets of this family which are a superset of at least one set of the given family.
+     * @param other the other family
+     * @return all sets of this family which are a superset of a set of the other family
+     * @throws IllegalArgumentException if the two ZDDs don't have the same kernel
+     */
+    public ZDD supersetsOf(final ZDD other) {
+        checkKernel(other);
+        return new ZDD(this.kernel.supersets(this.index, other.index), this.kernel);
+    }
+
+    /**
+     * Returns all sets of this family which are a subset of at least one set of the given family.
+     * @param other the other family
+     * @return all sets of this family which are a subset of a set of the other family
+     * @throws IllegalArgumentException if the two ZDDs don't have the same kernel
+     */
+    public ZDD subsetsOf(final ZDD other) {
+        checkKernel(other);
+        return new ZDD(this.kernel.subsets(this.index, other.index), this.kernel);
+    }
+
+    /**
+     * Returns all sets of this family which are not a superset of any set of the given family.
+     * @param other the other family
+     * @return all sets of this family which are not a superset of a set of the other family
+     * @throws IllegalArgumentException if the two ZDDs don't have the same kernel
+     */
+    public ZDD nonSupersetsOf(final ZDD other) {
+        checkKernel(other);
+        return new ZDD(this.kernel.difference(this.index, this.kernel.supersets(this.index, other.index)), this.kernel);
+    }
+
+    /**
+     * Returns the minimal sets of this family, i.e. all sets which have no proper subset in this family.  For a
+     * family of implicants these are the prime implicants among them.
+     * @return the minimal sets of this family
+     */
+    public ZDD minimal() {
+        return new ZDD(this.kernel.minimal(this.index), this.kernel);
+    }
+
+    /**
+     * Returns the number of sets in this family.
+     * @return the number of sets
+     */
+    public BigInteger count() {
+        return this.kernel.count(this.index);
+    }
+
+    /**
+     * Returns the number of distinct nodes of this ZDD without the terminal nodes.
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return this.kernel.nodeCount(this.index);
+    }
+
+    /**
+     * Returns an iterator over the sets of this family.  The iterator computes the sets lazily on the nodes of
+     * the ZDD.
+     * @return an iterator over the sets of this family
+     */
+    @Override
+    public Iterator<SortedSet<Literal>> iterator() {
+        return new ZDDSetIterator(this.kernel, this.index);
+    }
+
+    /**
+     * Returns all sets of this family in a list.  For large families, {@link #iterator()} should be preferred.
+     * @return all sets of this family
+     */
+    public List<SortedSet<Literal>> sets() {
+        final List<SortedSet<Literal>> sets = new ArrayList<>();
+        forEach(sets::add);
+        return sets;
+    }
+
+    private void checkKernel(final ZDD other) {
+        if (this.kernel != other.kernel) {
+            throw new IllegalArgumentException("Cannot combine ZDDs of different kernels");
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.index, this.kernel);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof ZDD
+                && this.index == ((ZDD) other).index
+                && Objects.equals(this.kernel, ((ZDD) other).kernel);
+    }
+
+    @Override
+    public String toString() {
+        return "ZDD{" + this.index + "}";
+    }
+}
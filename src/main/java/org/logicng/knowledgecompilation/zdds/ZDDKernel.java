@@ -0,0 +1,730 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.zdds;
+
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.knowledgecompilation.bdds.BDD;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDOperations;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * A kernel for zero-suppressed decision diagrams (ZDDs).
+ * <p>
+ * A ZDD represents a family of sets over a totally ordered set of elements.  In this kernel the elements are
+ * literals, so a ZDD can hold e.g. the product variants of a product line (sets of selected features) or a cover of
+ * prime implicants (sets of literals).  The elements are ordered by the order in which they were added to the kernel.
+ * <p>
+ * The nodes are stored in plain integer arrays with a unique table for structural hashing and a direct-mapped cache
+ * for the results of the operations.  Nodes are never freed, so all ZDDs of a kernel stay valid as long as the kernel
+ * lives.  Independent computations should therefore use their own kernels.  The kernel is not thread-safe.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class ZDDKernel {
+
+    /**
+     * The node of the empty family.
+     */
+    public static final int ZDD_EMPTY = 0;
+
+    /**
+     * The node of the family which only contains the empty set.
+     */
+    public static final int ZDD_BASE = 1;
+
+    protected static final int TERMINAL = Integer.MAX_VALUE;
+
+    protected static final int OP_UNION = 1;
+    protected static final int OP_INTERSECTION = 2;
+    protected static final int OP_DIFFERENCE = 3;
+    protected static final int OP_JOIN = 4;
+    protected static final int OP_MEET = 5;
+    protected static final int OP_CONTAINING = 6;
+    protected static final int OP_NOT_CONTAINING = 7;
+    protected static final int OP_SUPERSETS = 8;
+    protected static final int OP_SUBSETS = 9;
+    protected static final int OP_MINIMAL = 10;
+
+    protected static final int MAX_CACHE_SIZE = 1 << 22;
+
+    protected final FormulaFactory f;
+    protected final Map<Literal, Integer> element2idx;
+    protected final List<Literal> idx2element;
+
+    protected int[] var; // The element index of each node
+    protected int[] low; // The low child of each node
+    protected int[] high; // The high child of each node
+    protected int[] next; // The next node in the same bucket of the unique table
+    protected int[] buckets; // The unique table
+    protected int nodenum; // Number of used nodes
+
+    protected int[] cacheOp;
+    protected int[] cacheA;
+    protected int[] cacheB;
+    protected int[] cacheRes;
+
+    /**
+     * Constructs a new ZDD kernel without elements.  The elements are added in the order of their first usage.
+     * @param f the formula factory
+     */
+    public ZDDKernel(final FormulaFactory f) {
+        this(f, Collections.emptyList(), 1 << 10);
+    }
+
+    /**
+     * Constructs a new ZDD kernel with a given order of elements.  Elements which are not in the given order are
+     * added behind them in the order of their first usage.
+     * @param f        the formula factory
+     * @param ordering the order of the elements
+     */
+    public ZDDKernel(final FormulaFactory f, final List<? extends Literal> ordering) {
+        this(f, ordering, 1 << 10);
+    }
+
+    /**
+     * Constructs a new ZDD kernel with a given order of elements and a given initial node table size.
+     * @param f        the formula factory
+     * @param ordering the order of the elements
+     * @param nodeSize the initial number of nodes in the node table
+     * @throws IllegalArgumentException if the node size is not positive
+     */
+    public ZDDKernel(final FormulaFactory f, final List<? extends Literal> ordering, final int nodeSize) {
+        if (nodeSize <= 0) {
+            throw new IllegalArgumentException("Illegal node size: " + nodeSize);
+        }
+        this.f = f;
+        this.element2idx = new HashMap<>();
+        this.idx2element = new ArrayList<>();
+        for (final Literal element : ordering) {
+            getOrAddElementIndex(element);
+        }
+        final int size = Integer.highestOneBit(Math.max(nodeSize, 4) - 1) << 1;
+        this.var = new int[size];
+        this.low = new int[size];
+        this.high = new int[size];
+        this.next = new int[size];
+        this.buckets = new int[size];
+        this.var[ZDD_EMPTY] = TERMINAL;
+        this.var[ZDD_BASE] = TERMINAL;
+        this.nodenum = 2;
+        initCache(Math.min(size, MAX_CACHE_SIZE));
+    }
+
+    /**
+     * Returns the formula factory of this kernel.
+     * @return the formula factory
+     */
+    public FormulaFactory factory() {
+        return this.f;
+    }
+
+    /**
+     * Returns the index of the given element and adds it as new last element if it is not yet known.
+     * @param element the element
+     * @return the index of the element
+     */
+    public int getOrAddElementIndex(final Literal element) {
+        final Integer index = this.element2idx.get(element);
+        if (index != null) {
+            return index;
+        }
+        final int newIndex = this.idx2element.size();
+        this.element2idx.put(element, newIndex);
+        this.idx2element.add(element);
+        return newIndex;
+    }
+
+    /**
+     * Returns the element with the given index.
+     * @param index the index
+     * @return the element
+     */
+    public Literal getElementForIndex(final int index) {
+        return this.idx2element.get(index);
+    }
+
+    /**
+     * Returns the elements of this kernel in their order.
+     * @return the elements of this kernel
+     */
+    public List<Literal> elements() {
+        return Collections.unmodifiableList(this.idx2element);
+    }
+
+    /**
+     * Returns the number of nodes (including the two terminal nodes) in this kernel.
+     * @return the number of nodes
+     */
+    public int numberOfNodes() {
+        return this.nodenum;
+    }
+
+    /**
+     * Returns the ZDD for the empty family.
+     * @return the ZDD for the empty family
+     */
+    public ZDD empty() {
+        return new ZDD(ZDD_EMPTY, this);
+    }
+
+    /**
+     * Returns the ZDD for the family which only contains the empty set.
+     * @return the ZDD for the family which only contains the empty set
+     */
+    public ZDD base() {
+        return new ZDD(ZDD_BASE, this);
+    }
+
+    /**
+     * Returns the ZDD for the family which only contains the set with the given single element.
+     * @param element the element
+     * @return the ZDD for the family
+     */
+    public ZDD element(final Literal element) {
+        return new ZDD(makeNode(getOrAddElementIndex(element), ZDD_EMPTY, ZDD_BASE), this);
+    }
+
+    /**
+     * Returns the ZDD for the family which only contains the given set.
+     * @param set the set
+     * @return the ZDD for the family
+     */
+    public ZDD set(final Collection<? extends Literal> set) {
+        return new ZDD(setNode(set), this);
+    }
+
+    /**
+     * Returns the ZDD for the given family of sets, e.g. the prime implicants or the cover computed by the prime
+     * compiler or the Quine-McCluskey algorithm.
+     * @param family the family of sets
+     * @return the ZDD for the family
+     */
+    public ZDD family(final Collection<? extends Collection<? extends Literal>> family) {
+        int result = ZDD_EMPTY;
+        for (final Collection<? extends Literal> set : family) {
+            result = union(result, setNode(set));
+        }
+        return new ZDD(result, this);
+    }
+
+    /**
+     * Returns the ZDD for the models of the given BDD.  Each model is represented by the set of its positive
+     * variables, i.e. the family contains one set for each model over all variables of the BDD kernel.  Variables
+     * of the BDD kernel which are not yet elements of this kernel are added in the current variable order of the BDD.
+     * <p>
+     * The BDD nodes are converted bottom-up, so the conversion is linear in the size of the BDD if the variable
+     * order of the BDD is compatible with the element order of this kernel.
+     * @param bdd the BDD
+     * @return the ZDD for the models of the BDD
+     */
+    public ZDD fromBDD(final BDD bdd) {
+        return fromBDD(bdd, bdd.underlyingKernel().var2idx().keySet());
+    }
+
+    /**
+     * Returns the ZDD for the models of the given BDD projected to the given variables.  Each model is represented
+     * by the set of its positive variables.  All other variables of the BDD kernel are existentially quantified.
+     * @param bdd       the BDD
+     * @param variables the variables of the models
+     * @return the ZDD for the projected models of the BDD
+     */
+    public ZDD fromBDD(final BDD bdd, final Collection<Variable> variables) {
+        final BDDKernel bddKernel = bdd.underlyingKernel();
+        final Set<Variable> projection = new HashSet<>(variables);
+        final List<Variable> quantified = new ArrayList<>();
+        for (final Variable variable : bddKernel.var2idx().keySet()) {
+            if (!projection.contains(variable)) {
+                quantified.add(variable);
+            }
+        }
+        final BDD projected = quantified.isEmpty() ? bdd : bdd.exists(quantified);
+        final int[] varOrder = bddKernel.getCurrentVarOrder();
+        final int varnum = varOrder.length;
+        final int[] levelNodes = new int[varnum];
+        for (int level = 0; level < varnum; level++) {
+            final Variable variable = bddKernel.getVariableForIndex(varOrder[level]);
+            levelNodes[level] = projection.contains(variable)
+                    ? makeNode(getOrAddElementIndex(variable), ZDD_EMPTY, ZDD_BASE)
+                    : ZDD_EMPTY;
+        }
+        final int[] rootIds = new int[1];
+        final int[] nodes = new BDDOperations(bddKernel).exportNodes(new int[]{projected.index()}, rootIds);
+        final int numNodes = nodes.length / 3;
+        final int[] levels = new int[numNodes + 2];
+        final int[] results = new int[numNodes + 2];
+        levels[BDDKernel.BDD_FALSE] = varnum;
+        levels[BDDKernel.BDD_TRUE] = varnum;
+        results[BDDKernel.BDD_FALSE] = ZDD_EMPTY;
+        results[BDDKernel.BDD_TRUE] = ZDD_BASE;
+        for (int i = 0; i < numNodes; i++) {
+            final int level = nodes[3 * i];
+            final int lowId = nodes[3 * i + 1];
+            final int highId = nodes[3 * i + 2];
+            final int lowResult = expandDontCares(results[lowId], level + 1, levels[lowId], levelNodes);
+            final int highResult = expandDontCares(results[highId], level + 1, levels[highId], levelNodes);
+            levels[i + 2] = level;
+            results[i + 2] = union(lowResult, join(levelNodes[level], highResult));
+        }
+        return new ZDD(expandDontCares(results[rootIds[0]], 0, levels[rootIds[0]], levelNodes), this);
+    }
+
+    /**
+     * Returns the ZDD for the models of the given formula over its variables.  Each model is represented by the set
+     * of its positive variables.  The models are computed by compiling the formula to a BDD.
+     * @param formula the formula
+     * @return the ZDD for the models of the formula
+     */
+    public ZDD models(final Formula formula) {
+        return fromBDD(formula.bdd(), formula.variables());
+    }
+
+    /**
+     * Expands the given family by the don't care variables on the levels {@code from} (inclusive) to {@code to}
+     * (exclusive), i.e. each set is combined with each subset of these variables.  Levels without a node
+     * ({@link #ZDD_EMPTY}) are not part of the projection and are skipped.
+     * @param node       the ZDD node
+     * @param from       the first level
+     * @param to         the last level (exclusive)
+     * @param levelNodes the single element ZDD nodes for the levels
+     * @return the expanded ZDD node
+     */
+    protected int expandDontCares(final int node, final int from, final int to, final int[] levelNodes) {
+        if (node == ZDD_EMPTY) {
+            return ZDD_EMPTY;
+        }
+        int result = node;
+        for (int level = to - 1; level >= from; level--) {
+            if (levelNodes[level] != ZDD_EMPTY) {
+                result = union(result, join(levelNodes[level], result));
+            }
+        }
+        return result;
+    }
+
+    protected int setNode(final Collection<? extends Literal> set) {
+        final BitSet indices = new BitSet();
+        for (final Literal element : set) {
+            indices.set(getOrAddElementIndex(element));
+        }
+        int result = ZDD_BASE;
+        for (int i = indices.length() - 1; i >= 0; i = indices.previousSetBit(i - 1)) {
+            result = makeNode(i, ZDD_EMPTY, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the node with the given element and children.  By the zero-suppression rule, no node is created if
+     * the high child is the empty family.
+     * @param v  the element index
+     * @param lo the low child (the sets without the element)
+     * @param hi the high child (the sets with the element, without the element itself)
+     * @return the node
+     */
+    protected int makeNode(final int v, final int lo, final int hi) {
+        if (hi == ZDD_EMPTY) {
+            return lo;
+        }
+        int hash = nodeHash(v, lo, hi) & (this.buckets.length - 1);
+        for (int n = this.buckets[hash]; n != 0; n = this.next[n]) {
+            if (this.var[n] == v && this.low[n] == lo && this.high[n] == hi) {
+                return n;
+            }
+        }
+        if (this.nodenum == this.var.length) {
+            resize();
+            hash = nodeHash(v, lo, hi) & (this.buckets.length - 1);
+        }
+        final int n = this.nodenum++;
+        this.var[n] = v;
+        this.low[n] = lo;
+        this.high[n] = hi;
+        this.next[n] = this.buckets[hash];
+        this.buckets[hash] = n;
+        return n;
+    }
+
+    protected void resize() {
+        final int size = this.var.length * 2;
+        if (size < 0) {
+            throw new IllegalStateException("Cannot allocate more ZDD nodes");
+        }
+        this.var = Arrays.copyOf(this.var, size);
+        this.low = Arrays.copyOf(this.low, size);
+        this.high = Arrays.copyOf(this.high, size);
+        this.next = new int[size];
+        this.buckets = new int[size];
+        for (int n = 2; n < this.nodenum; n++) {
+            final int hash = nodeHash(this.var[n], this.low[n], this.high[n]) & (size - 1);
+            this.next[n] = this.buckets[hash];
+            this.buckets[hash] = n;
+        }
+        if (this.cacheOp.length < MAX_CACHE_SIZE) {
+            initCache(Math.min(size, MAX_CACHE_SIZE));
+        }
+    }
+
+    protected void initCache(final int size) {
+        this.cacheOp = new int[size];
+        this.cacheA = new int[size];
+        this.cacheB = new int[size];
+        this.cacheRes = new int[size];
+    }
+
+    protected static int nodeHash(final int v, final int lo, final int hi) {
+        final int hash = v * 12582917 + lo * 4256249 + hi * 741457;
+        return hash ^ (hash >>> 16);
+    }
+
+    protected int cacheLookup(final int op, final int a, final int b) {
+        final int hash = nodeHash(op, a, b) & (this.cacheOp.length - 1);
+        if (this.cacheOp[hash] == op && this.cacheA[hash] == a && this.cacheB[hash] == b) {
+            return this.cacheRes[hash];
+        }
+        return -1;
+    }
+
+    protected int cacheInsert(final int op, final int a, final int b, final int result) {
+        final int hash = nodeHash(op, a, b) & (this.cacheOp.length - 1);
+        this.cacheOp[hash] = op;
+        this.cacheA[hash] = a;
+        this.cacheB[hash] = b;
+        this.cacheRes[hash] = result;
+        return result;
+    }
+
+    protected int union(final int p, final int q) {
+        if (p == ZDD_EMPTY || p == q) {
+            return q;
+        }
+        if (q == ZDD_EMPTY) {
+            return p;
+        }
+        final int a = Math.min(p, q);
+        final int b = Math.max(p, q);
+        final int cached = cacheLookup(OP_UNION, a, b);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int vp = this.var[p];
+        final int vq = this.var[q];
+        final int result;
+        if (vp < vq) {
+            result = makeNode(vp, union(this.low[p], q), this.high[p]);
+        } else if (vp > vq) {
+            result = makeNode(vq, union(p, this.low[q]), this.high[q]);
+        } else {
+            result = makeNode(vp, union(this.low[p], this.low[q]), union(this.high[p], this.high[q]));
+        }
+        return cacheInsert(OP_UNION, a, b, result);
+    }
+
+    protected int intersection(final int p, final int q) {
+        if (p == ZDD_EMPTY || q == ZDD_EMPTY) {
+            return ZDD_EMPTY;
+        }
+        if (p == q) {
+            return p;
+        }
+        final int a = Math.min(p, q);
+        final int b = Math.max(p, q);
+        final int cached = cacheLookup(OP_INTERSECTION, a, b);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int vp = this.var[p];
+        final int vq = this.var[q];
+        final int result;
+        if (vp < vq) {
+            result = intersection(this.low[p], q);
+        } else if (vp > vq) {
+            result = intersection(p, this.low[q]);
+        } else {
+            result = makeNode(vp, intersection(this.low[p], this.low[q]), intersection(this.high[p], this.high[q]));
+        }
+        return cacheInsert(OP_INTERSECTION, a, b, result);
+    }
+
+    protected int difference(final int p, final int q) {
+        if (p == ZDD_EMPTY || p == q) {
+            return ZDD_EMPTY;
+        }
+        if (q == ZDD_EMPTY) {
+            return p;
+        }
+        final int cached = cacheLookup(OP_DIFFERENCE, p, q);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int vp = this.var[p];
+        final int vq = this.var[q];
+        final int result;
+        if (vp < vq) {
+            result = makeNode(vp, difference(this.low[p], q), this.high[p]);
+        } else if (vp > vq) {
+            result = difference(p, this.low[q]);
+        } else {
+            result = makeNode(vp, difference(this.low[p], this.low[q]), difference(this.high[p], this.high[q]));
+        }
+        return cacheInsert(OP_DIFFERENCE, p, q, result);
+    }
+
+    protected int join(final int p, final int q) {
+        if (p == ZDD_EMPTY || q == ZDD_EMPTY) {
+            return ZDD_EMPTY;
+        }
+        if (p == ZDD_BASE) {
+            return q;
+        }
+        if (q == ZDD_BASE) {
+            return p;
+        }
+        final int a = Math.min(p, q);
+        final int b = Math.max(p, q);
+        final int cached = cacheLookup(OP_JOIN, a, b);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int vp = this.var[p];
+        final int vq = this.var[q];
+        final int result;
+        if (vp < vq) {
+            result = makeNode(vp, join(this.low[p], q), join(this.high[p], q));
+        } else if (vp > vq) {
+            result = makeNode(vq, join(p, this.low[q]), join(p, this.high[q]));
+        } else {
+            final int hi = union(join(this.high[p], this.high[q]),
+                    union(join(this.high[p], this.low[q]), join(this.low[p], this.high[q])));
+            result = makeNode(vp, join(this.low[p], this.low[q]), hi);
+        }
+        return cacheInsert(OP_JOIN, a, b, result);
+    }
+
+    protected int meet(final int p, final int q) {
+        if (p == ZDD_EMPTY || q == ZDD_EMPTY) {
+            return ZDD_EMPTY;
+        }
+        if (p == ZDD_BASE || q == ZDD_BASE) {
+            return ZDD_BASE;
+        }
+        final int a = Math.min(p, q);
+        final int b = Math.max(p, q);
+        final int cached = cacheLookup(OP_MEET, a, b);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int vp = this.var[p];
+        final int vq = this.var[q];
+        final int result;
+        if (vp < vq) {
+            result = meet(union(this.low[p], this.high[p]), q);
+        } else if (vp > vq) {
+            result = meet(p, union(this.low[q], this.high[q]));
+        } else {
+            final int lo = union(meet(this.low[p], this.low[q]),
+                    union(meet(this.low[p], this.high[q]), meet(this.high[p], this.low[q])));
+            result = makeNode(vp, lo, meet(this.high[p], this.high[q]));
+        }
+        return cacheInsert(OP_MEET, a, b, result);
+    }
+
+    protected int containing(final int p, final int v) {
+        final int vp = this.var[p];
+        if (vp > v) {
+            return ZDD_EMPTY;
+        }
+        if (vp == v) {
+            return makeNode(v, ZDD_EMPTY, this.high[p]);
+        }
+        final int cached = cacheLookup(OP_CONTAINING, p, v);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int result = makeNode(vp, containing(this.low[p], v), containing(this.high[p], v));
+        return cacheInsert(OP_CONTAINING, p, v, result);
+    }
+
+    protected int notContaining(final int p, final int v) {
+        final int vp = this.var[p];
+        if (vp > v) {
+            return p;
+        }
+        if (vp == v) {
+            return this.low[p];
+        }
+        final int cached = cacheLookup(OP_NOT_CONTAINING, p, v);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int result = makeNode(vp, notContaining(this.low[p], v), notContaining(this.high[p], v));
+        return cacheInsert(OP_NOT_CONTAINING, p, v, result);
+    }
+
+    protected int supersets(final int p, final int q) {
+        if (p == ZDD_EMPTY || q == ZDD_EMPTY) {
+            return ZDD_EMPTY;
+        }
+        if (q == ZDD_BASE || p == q) {
+            return p;
+        }
+        if (p == ZDD_BASE) {
+            return containsEmptySet(q) ? ZDD_BASE : ZDD_EMPTY;
+        }
+        final int cached = cacheLookup(OP_SUPERSETS, p, q);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int vp = this.var[p];
+        final int vq = this.var[q];
+        final int result;
+        if (vp < vq) {
+            result = makeNode(vp, supersets(this.low[p], q), supersets(this.high[p], q));
+        } else if (vp > vq) {
+            result = supersets(p, this.low[q]);
+        } else {
+            result = makeNode(vp, supersets(this.low[p], this.low[q]),
+                    supersets(this.high[p], union(this.low[q], this.high[q])));
+        }
+        return cacheInsert(OP_SUPERSETS, p, q, result);
+    }
+
+    protected int subsets(final int p, final int q) {
+        if (p == ZDD_EMPTY || q == ZDD_EMPTY) {
+            return ZDD_EMPTY;
+        }
+        if (p == ZDD_BASE || p == q) {
+            return p;
+        }
+        if (q == ZDD_BASE) {
+            return containsEmptySet(p) ? ZDD_BASE : ZDD_EMPTY;
+        }
+        final int cached = cacheLookup(OP_SUBSETS, p, q);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int vp = this.var[p];
+        final int vq = this.var[q];
+        final int result;
+        if (vp < vq) {
+            result = subsets(this.low[p], q);
+        } else if (vp > vq) {
+            result = subsets(p, union(this.low[q], this.high[q]));
+        } else {
+            result = makeNode(vp, subsets(this.low[p], union(this.low[q], this.high[q])),
+                    subsets(this.high[p], this.high[q]));
+        }
+        return cacheInsert(OP_SUBSETS, p, q, result);
+    }
+
+    protected int minimal(final int p) {
+        if (p < 2) {
+            return p;
+        }
+        final int cached = cacheLookup(OP_MINIMAL, p, 0);
+        if (cached >= 0) {
+            return cached;
+        }
+        final int lo = minimal(this.low[p]);
+        final int hi = minimal(this.high[p]);
+        final int result = makeNode(this.var[p], lo, difference(hi, supersets(hi, lo)));
+        return cacheInsert(OP_MINIMAL, p, 0, result);
+    }
+
+    protected boolean containsEmptySet(final int p) {
+        int n = p;
+        while (n > ZDD_BASE) {
+            n = this.low[n];
+        }
+        return n == ZDD_BASE;
+    }
+
+    protected BigInteger count(final int p) {
+        return count(p, new HashMap<>());
+    }
+
+    private BigInteger count(final int p, final Map<Integer, BigInteger> counts) {
+        if (p < 2) {
+            return BigInteger.valueOf(p);
+        }
+        final BigInteger cached = counts.get(p);
+        if (cached != null) {
+            return cached;
+        }
+        final BigInteger result = count(this.low[p], counts).add(count(this.high[p], counts));
+        counts.put(p, result);
+        return result;
+    }
+
+    protected int nodeCount(final int p) {
+        final BitSet visited = new BitSet();
+        int[] stack = new int[64];
+        int top = 0;
+        int count = 0;
+        stack[top++] = p;
+        while (top > 0) {
+            final int n = stack[--top];
+            if (n < 2 || visited.get(n)) {
+                continue;
+            }
+            visited.set(n);
+            count++;
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[top++] = this.low[n];
+            stack[top++] = this.high[n];
+        }
+        return count;
+    }
+
+    protected SortedSet<Literal> toSet(final int[] elements, final int size) {
+        final SortedSet<Literal> set = new TreeSet<>();
+        for (int i = 0; i < size; i++) {
+            set.add(this.idx2element.get(elements[i]));
+        }
+        return set;
+    }
+}
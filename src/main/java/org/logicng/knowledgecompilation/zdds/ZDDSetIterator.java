@@ -0,0 +1,136 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.zdds;
+
+import org.logicng.formulas.Literal;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * An iterator over the sets of a ZDD.  The sets are computed directly on the node table of the kernel with an
+ * explicit path stack: each path to the terminal {@link ZDDKernel#ZDD_BASE} is one set consisting of the elements
+ * whose high edge is taken on the path.  So only the current path is held in memory, independent of the number of
+ * sets in the family.  The sets are returned in the order of the paths, starting with the path following the low
+ * edges.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+final class ZDDSetIterator implements Iterator<SortedSet<Literal>> {
+
+    private final ZDDKernel k;
+    private int[] nodes;
+    private byte[] states;
+    private int[] elements;
+    private int depth;
+    private boolean ready;
+    private boolean finished;
+
+    /**
+     * Constructs a new set iterator.
+     * @param k the kernel
+     * @param r the ZDD root node
+     */
+    ZDDSetIterator(final ZDDKernel k, final int r) {
+        this.k = k;
+        this.nodes = new int[16];
+        this.states = new byte[16];
+        this.elements = new int[16];
+        if (r == ZDDKernel.ZDD_EMPTY) {
+            this.finished = true;
+        } else if (r == ZDDKernel.ZDD_BASE) {
+            this.ready = true;
+        } else {
+            this.nodes[0] = r;
+            this.depth = 1;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.ready && !this.finished) {
+            advance();
+        }
+        return this.ready;
+    }
+
+    @Override
+    public SortedSet<Literal> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.ready = false;
+        int numElements = 0;
+        for (int i = 0; i < this.depth; i++) {
+            if (this.states[i] == 2) {
+                this.elements[numElements++] = this.k.var[this.nodes[i]];
+            }
+        }
+        return this.k.toSet(this.elements, numElements);
+    }
+
+    /**
+     * Advances the path stack to the next path to the terminal {@link ZDDKernel#ZDD_BASE}.  The state of a stack
+     * frame is {@code 0} if no edge of its node was taken yet, {@code 1} if the low edge was taken and {@code 2} if
+     * the high edge was taken.
+     */
+    private void advance() {
+        while (this.depth > 0) {
+            final int top = this.depth - 1;
+            final byte state = this.states[top];
+            if (state == 2) {
+                this.depth--;
+                continue;
+            }
+            this.states[top] = (byte) (state + 1);
+            final int child = state == 0 ? this.k.low[this.nodes[top]] : this.k.high[this.nodes[top]];
+            if (child == ZDDKernel.ZDD_BASE) {
+                this.ready = true;
+                return;
+            }
+            if (child != ZDDKernel.ZDD_EMPTY) {
+                push(child);
+            }
+        }
+        this.finished = true;
+    }
+
+    private void push(final int node) {
+        if (this.depth == this.nodes.length) {
+            this.nodes = Arrays.copyOf(this.nodes, this.depth * 2);
+            this.states = Arrays.copyOf(this.states, this.depth * 2);
+            this.elements = Arrays.copyOf(this.elements, this.depth * 2);
+        }
+        this.nodes[this.depth] = node;
+        this.states[this.depth] = 0;
+        this.depth++;
+    }
+}
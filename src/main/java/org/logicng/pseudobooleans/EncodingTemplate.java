@@ -0,0 +1,191 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.pseudobooleans;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.EncodingResult;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.propositions.Proposition;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.MiniSatStyleSolver;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A variable-relative CNF encoding of a cardinality or pseudo-Boolean constraint.
+ * <p>
+ * The clauses of a template do not refer to concrete variables but to relative variable indices: the indices
+ * {@code 0 ... numInputs-1} denote the input variables of the constraint, the indices
+ * {@code numInputs ... numInputs+numAuxiliaryVariables-1} denote the auxiliary variables of the encoding.  A relative
+ * literal is stored as {@code 2 * index} for a positive and {@code 2 * index + 1} for a negative literal.
+ * <p>
+ * A template can be instantiated on any number of solvers.  The input variables are mapped to the solver variables
+ * of the given inputs, the auxiliary variables are created as a consecutive block of fresh solver variables, such
+ * that instantiating a template only requires offsetting the relative indices.
+ * <p>
+ * Templates are usually not created directly but obtained from an {@link EncodingTemplateCache}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class EncodingTemplate {
+
+    private final int numInputs;
+    private final int numAuxiliaryVariables;
+    private final int[] literals;
+    private final int[] clauseStarts;
+
+    /**
+     * Constructs a new encoding template.
+     * @param numInputs             the number of input variables
+     * @param numAuxiliaryVariables the number of auxiliary variables
+     * @param literals              the relative literals of all clauses, one clause after the other
+     * @param clauseStarts          the start positions of the clauses in {@code literals}, followed by the total
+     *                              number of literals
+     */
+    EncodingTemplate(final int numInputs, final int numAuxiliaryVariables, final int[] literals, final int[] clauseStarts) {
+        this.numInputs = numInputs;
+        this.numAuxiliaryVariables = numAuxiliaryVariables;
+        this.literals = literals;
+        this.clauseStarts = clauseStarts;
+    }
+
+    /**
+     * Returns the number of input variables of this template.
+     * @return the number of input variables of this template
+     */
+    public int numInputs() {
+        return this.numInputs;
+    }
+
+    /**
+     * Returns the number of auxiliary variables which are created for each instantiation of this template.
+     * @return the number of auxiliary variables
+     */
+    public int numAuxiliaryVariables() {
+        return this.numAuxiliaryVariables;
+    }
+
+    /**
+     * Returns the number of clauses of this template.
+     * @return the number of clauses of this template
+     */
+    public int numClauses() {
+        return this.clauseStarts.length - 1;
+    }
+
+    /**
+     * Returns the relative literals of the clause with the given index.
+     * @param index the clause index
+     * @return the relative literals of the clause
+     */
+    public int[] clause(final int index) {
+        return Arrays.copyOfRange(this.literals, this.clauseStarts[index], this.clauseStarts[index + 1]);
+    }
+
+    /**
+     * Instantiates this template on the given solver.  The auxiliary variables are created as new solver variables
+     * with consecutive indices.  Clauses which are already satisfied or falsified are handled by the underlying solver.
+     * @param miniSat     the solver
+     * @param inputs      the input variables, the i-th variable is mapped to the relative index {@code i}
+     * @param proposition the proposition of the clauses (can be {@code null})
+     * @throws IllegalArgumentException if the number of inputs does not match the number of inputs of this template
+     */
+    public void instantiate(final MiniSat miniSat, final List<Variable> inputs, final Proposition proposition) {
+        checkInputs(inputs);
+        final MiniSatStyleSolver solver = miniSat.underlyingSolver();
+        final int[] inputIndices = new int[this.numInputs];
+        for (int i = 0; i < this.numInputs; i++) {
+            final String name = inputs.get(i).name();
+            int index = solver.idxForName(name);
+            if (index == -1) {
+                index = solver.newVar(!miniSat.initialPhase(), true);
+                solver.addName(name, index);
+            }
+            inputIndices[i] = index;
+        }
+        final int offset = solver.nVars() - this.numInputs;
+        for (int i = 0; i < this.numAuxiliaryVariables; i++) {
+            final int index = solver.newVar(!miniSat.initialPhase(), true);
+            solver.addName(FormulaFactory.CC_PREFIX + "MINISAT_" + index, index);
+        }
+        final LNGIntVector clauseVec = new LNGIntVector();
+        for (int c = 0; c < this.clauseStarts.length - 1; c++) {
+            clauseVec.clear();
+            for (int i = this.clauseStarts[c]; i < this.clauseStarts[c + 1]; i++) {
+                final int lit = this.literals[i];
+                final int var = lit >> 1;
+                final int index = var < this.numInputs ? inputIndices[var] : offset + var;
+                clauseVec.push(2 * index + (lit & 1));
+            }
+            solver.addClause(clauseVec, proposition);
+        }
+        miniSat.setSolverToUndef();
+    }
+
+    /**
+     * Instantiates this template on the given encoding result.  Auxiliary variables are created via
+     * {@link EncodingResult#newVariable()}.
+     * @param result the encoding result
+     * @param inputs the input variables, the i-th variable is mapped to the relative index {@code i}
+     * @throws IllegalArgumentException if the number of inputs does not match the number of inputs of this template
+     */
+    public void instantiate(final EncodingResult result, final List<Variable> inputs) {
+        checkInputs(inputs);
+        final Variable[] vars = new Variable[this.numInputs + this.numAuxiliaryVariables];
+        for (int i = 0; i < this.numInputs; i++) {
+            vars[i] = inputs.get(i);
+        }
+        for (int i = this.numInputs; i < vars.length; i++) {
+            vars[i] = result.newVariable();
+        }
+        for (int c = 0; c < this.clauseStarts.length - 1; c++) {
+            final Literal[] clause = new Literal[this.clauseStarts[c + 1] - this.clauseStarts[c]];
+            for (int i = 0; i < clause.length; i++) {
+                final int lit = this.literals[this.clauseStarts[c] + i];
+                clause[i] = (lit & 1) == 0 ? vars[lit >> 1] : vars[lit >> 1].negate();
+            }
+            result.addClause(clause);
+        }
+    }
+
+    private void checkInputs(final List<Variable> inputs) {
+        if (inputs.size() != this.numInputs) {
+            throw new IllegalArgumentException(String.format("Template requires %d inputs, but got %d", this.numInputs, inputs.size()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EncodingTemplate{inputs=%d, auxiliaryVariables=%d, clauses=%d}", this.numInputs,
+                this.numAuxiliaryVariables, numClauses());
+    }
+}
@@ -0,0 +1,382 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.pseudobooleans;
+
+import org.logicng.cardinalityconstraints.CCConfig;
+import org.logicng.cardinalityconstraints.CCEncoder;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.EncodingResult;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.CardinalityConstraint;
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.PBConstraint;
+import org.logicng.formulas.Variable;
+import org.logicng.propositions.Proposition;
+import org.logicng.solvers.MiniSat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A cache of {@link EncodingTemplate encoding templates} for cardinality and pseudo-Boolean constraints.
+ * <p>
+ * Templates are cached by the shape of a constraint: its comparator, its right-hand side, its coefficients and the
+ * phases and identities of its literals, but not the names of its variables.  Hence, the constraints
+ * {@code a + b + c <= 1} and {@code x + y + z <= 1} share the same template.  A constraint is encoded only once on a
+ * private formula factory; each further addition of a constraint with the same shape is a cache hit and only
+ * instantiates the template by offsetting variable indices.
+ * <p>
+ * The cache is independent of any formula factory or solver and can therefore be shared between many solvers, also
+ * between solvers on different formula factories and threads.  The cache can be bounded, in this case the least
+ * recently used template is evicted if the cache is full.
+ * <p>
+ * The cache is used by a {@link MiniSat} solver if it is set via {@link MiniSat#setEncodingTemplateCache}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class EncodingTemplateCache {
+
+    private static final String INPUT_PREFIX = "@TEMPLATE_INPUT_";
+
+    private final CCConfig ccConfig;
+    private final PBConfig pbConfig;
+    private final int maxSize;
+    private final LinkedHashMap<Key, EncodingTemplate> templates;
+    private final Map<Key, CompletableFuture<EncodingTemplate>> pending;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a new unbounded cache which uses the default cardinality and pseudo-Boolean encoder configurations.
+     */
+    public EncodingTemplateCache() {
+        this(CCConfig.builder().build(), PBConfig.builder().build(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new cache.
+     * @param ccConfig the configuration of the cardinality constraint encoder
+     * @param pbConfig the configuration of the pseudo-Boolean constraint encoder
+     * @param maxSize  the maximal number of templates in this cache
+     * @throws IllegalArgumentException if the maximal size is not positive
+     */
+    public EncodingTemplateCache(final CCConfig ccConfig, final PBConfig pbConfig, final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximal size of an encoding template cache must be positive");
+        }
+        this.ccConfig = Objects.requireNonNull(ccConfig);
+        this.pbConfig = Objects.requireNonNull(pbConfig);
+        this.maxSize = maxSize;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true);
+        this.pending = new HashMap<>();
+    }
+
+    /**
+     * Returns the template for the given constraint.  If there is no template for the shape of the constraint yet,
+     * the constraint is encoded and the template is stored in the cache.  The encoding is computed without holding
+     * the lock of this cache; concurrent requests for the same shape wait for the result of the first request.
+     * @param constraint the cardinality or pseudo-Boolean constraint
+     * @return the template for the constraint, its inputs are the variables of the constraint in the order given by
+     * {@link #inputs(PBConstraint)}
+     */
+    public EncodingTemplate template(final PBConstraint constraint) {
+        final Key key = new Key(constraint);
+        final CompletableFuture<EncodingTemplate> future;
+        boolean owner = false;
+        synchronized (this) {
+            final EncodingTemplate cached = this.templates.get(key);
+            if (cached != null) {
+                this.hits++;
+                return cached;
+            }
+            final CompletableFuture<EncodingTemplate> running = this.pending.get(key);
+            if (running != null) {
+                this.hits++;
+                future = running;
+            } else {
+                this.misses++;
+                future = new CompletableFuture<>();
+                this.pending.put(key, future);
+                owner = true;
+            }
+        }
+        if (!owner) {
+            return await(future);
+        }
+        final EncodingTemplate template;
+        try {
+            template = computeTemplate(key);
+        } catch (final RuntimeException | Error e) {
+            synchronized (this) {
+                this.pending.remove(key);
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            this.pending.remove(key);
+            this.templates.put(key, template);
+            if (this.templates.size() > this.maxSize) {
+                this.templates.remove(this.templates.keySet().iterator().next());
+                this.evictions++;
+            }
+        }
+        future.complete(template);
+        return template;
+    }
+
+    /**
+     * Returns the input variables of a constraint in the order in which they are mapped to the relative variable
+     * indices of its template, i.e. the variables in the order of their first occurrence in the constraint.
+     * @param constraint the constraint
+     * @return the input variables of the constraint
+     */
+    public static List<Variable> inputs(final PBConstraint constraint) {
+        final Map<Variable, Integer> indices = inputIndices(constraint.operands());
+        return new ArrayList<>(indices.keySet());
+    }
+
+    /**
+     * Adds the encoding of the given constraint to the given solver by instantiating its cached template.
+     * @param solver      the solver
+     * @param constraint  the cardinality or pseudo-Boolean constraint
+     * @param proposition the proposition of the encoding (can be {@code null})
+     */
+    public void addToSolver(final MiniSat solver, final PBConstraint constraint, final Proposition proposition) {
+        template(constraint).instantiate(solver, inputs(constraint), proposition);
+    }
+
+    /**
+     * Encodes the given constraint on its formula factory by instantiating its cached template.
+     * @param constraint the cardinality or pseudo-Boolean constraint
+     * @return the clauses of the encoding
+     */
+    public List<Formula> encode(final PBConstraint constraint) {
+        final EncodingResult result = EncodingResult.resultForFormula(constraint.factory());
+        template(constraint).instantiate(result, inputs(constraint));
+        return result.result();
+    }
+
+    /**
+     * Returns the number of template requests which were answered from the cache.
+     * @return the number of cache hits
+     */
+    public synchronized long hits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of template requests which required a new encoding.
+     * @return the number of cache misses
+     */
+    public synchronized long misses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns the number of templates which were evicted because the cache was full.
+     * @return the number of evictions
+     */
+    public synchronized long evictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Returns the ratio of cache hits to all template requests or 0 if there were no requests yet.
+     * @return the hit rate of this cache
+     */
+    public synchronized double hitRate() {
+        final long requests = this.hits + this.misses;
+        return requests == 0 ? 0.0 : (double) this.hits / requests;
+    }
+
+    /**
+     * Returns the number of templates currently in this cache.
+     * @return the number of templates currently in this cache
+     */
+    public synchronized int size() {
+        return this.templates.size();
+    }
+
+    /**
+     * Removes all templates from this cache and resets its metrics.
+     */
+    public synchronized void clear() {
+        this.templates.clear();
+        this.hits = 0;
+        this.misses = 0;
+        this.evictions = 0;
+    }
+
+    private EncodingTemplate computeTemplate(final Key key) {
+        final FormulaFactory f = new FormulaFactory();
+        final int numInputs = key.numInputs();
+        final Map<String, Integer> relativeIndices = new HashMap<>();
+        final Variable[] inputs = new Variable[numInputs];
+        for (int i = 0; i < numInputs; i++) {
+            inputs[i] = f.variable(INPUT_PREFIX + i);
+            relativeIndices.put(inputs[i].name(), i);
+        }
+        final Literal[] lits = new Literal[key.literals.length];
+        for (int i = 0; i < lits.length; i++) {
+            final Variable var = inputs[key.literals[i] >> 1];
+            lits[i] = (key.literals[i] & 1) == 0 ? var : var.negate();
+        }
+        final Formula constraint = f.pbc(key.comparator, key.rhs, lits, key.coefficients);
+        final List<Formula> encoding;
+        if (constraint.type() != FType.PBC) {
+            encoding = Collections.singletonList(constraint.cnf());
+        } else if (((PBConstraint) constraint).isCC()) {
+            encoding = new CCEncoder(f, this.ccConfig).encode((CardinalityConstraint) constraint);
+        } else {
+            encoding = new PBEncoder(f, this.pbConfig, this.ccConfig).encode((PBConstraint) constraint);
+        }
+        final LNGIntVector literals = new LNGIntVector();
+        final LNGIntVector clauseStarts = new LNGIntVector();
+        for (final Formula formula : encoding) {
+            for (final Formula clause : formula.type() == FType.AND ? formula : Collections.singletonList(formula)) {
+                switch (clause.type()) {
+                    case TRUE:
+                        break;
+                    case FALSE:
+                        clauseStarts.push(literals.size());
+                        break;
+                    case LITERAL:
+                    case OR:
+                        clauseStarts.push(literals.size());
+                        for (final Literal lit : clause.literals()) {
+                            Integer index = relativeIndices.get(lit.name());
+                            if (index == null) {
+                                index = relativeIndices.size();
+                                relativeIndices.put(lit.name(), index);
+                            }
+                            literals.push(2 * index + (lit.phase() ? 0 : 1));
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("Encoding of a constraint is not in CNF: " + clause);
+                }
+            }
+        }
+        clauseStarts.push(literals.size());
+        return new EncodingTemplate(numInputs, relativeIndices.size() - numInputs, literals.toArray(), clauseStarts.toArray());
+    }
+
+    private static EncodingTemplate await(final CompletableFuture<EncodingTemplate> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for an encoding template was interrupted", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException("Computing an encoding template failed", e.getCause());
+        }
+    }
+
+    private static Map<Variable, Integer> inputIndices(final Literal[] operands) {
+        final Map<Variable, Integer> indices = new LinkedHashMap<>();
+        for (final Literal lit : operands) {
+            indices.putIfAbsent(lit.variable(), indices.size());
+        }
+        return indices;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("EncodingTemplateCache{size=%d, hits=%d, misses=%d, evictions=%d}", this.templates.size(),
+                this.hits, this.misses, this.evictions);
+    }
+
+    /**
+     * The shape of a constraint, i.e. the constraint with relative instead of concrete variables.
+     */
+    private static final class Key {
+        private final CType comparator;
+        private final int rhs;
+        private final int[] literals;
+        private final int[] coefficients;
+        private final int hashCode;
+
+        private Key(final PBConstraint constraint) {
+            this.comparator = constraint.comparator();
+            this.rhs = constraint.rhs();
+            final Literal[] operands = constraint.operands();
+            final Map<Variable, Integer> indices = inputIndices(operands);
+            this.literals = new int[operands.length];
+            for (int i = 0; i < operands.length; i++) {
+                this.literals[i] = 2 * indices.get(operands[i].variable()) + (operands[i].phase() ? 0 : 1);
+            }
+            this.coefficients = constraint.coefficients().clone();
+            this.hashCode = Objects.hash(this.comparator, this.rhs, Arrays.hashCode(this.literals), Arrays.hashCode(this.coefficients));
+        }
+
+        private int numInputs() {
+            int max = -1;
+            for (final int lit : this.literals) {
+                max = Math.max(max, lit >> 1);
+            }
+            return max + 1;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return this.rhs == key.rhs && this.comparator == key.comparator && Arrays.equals(this.literals, key.literals) &&
+                    Arrays.equals(this.coefficients, key.coefficients);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
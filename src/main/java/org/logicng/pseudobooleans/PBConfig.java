@@ -33,7 +33,7 @@ import org.logicng.configurations.ConfigurationType;
 
 /**
  * The configuration for a pseudo-Boolean encoder.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.1
  */
 public final class PBConfig extends Configuration {
@@ -42,7 +42,7 @@ public final class PBConfig extends Configuration {
      * The pseudo-Boolean encoder.
      */
     public enum PB_ENCODER {
-        SWC, BINARY_MERGE, ADDER_NETWORKS, BEST
+        SWC, BINARY_MERGE, ADDER_NETWORKS, BEST, GENERALIZED_TOTALIZER
     }
 
     final PB_ENCODER pbEncoder;
@@ -45,7 +45,7 @@ import java.util.List;
 
 /**
  * An encoder for pseudo-Boolean constraints.
- * @version 2.3.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class PBEncoder {
@@ -56,6 +56,7 @@ public class PBEncoder {
 
     protected PBSWC swc;
     protected PBAdderNetworks adderNetworks;
+    protected PBGeneralizedTotalizer generalizedTotalizer;
 
     /**
      * Constructs a new pseudo-Boolean encoder with given configurations.
@@ -189,6 +190,11 @@ public class PBEncoder {
                     this.adderNetworks = new PBAdderNetworks(this.f);
                 }
                 return this.adderNetworks.encode(simplifiedLits, simplifiedCoeffs, rhs, result);
+            case GENERALIZED_TOTALIZER:
+                if (this.generalizedTotalizer == null) {
+                    this.generalizedTotalizer = new PBGeneralizedTotalizer(this.f);
+                }
+                return this.generalizedTotalizer.encode(simplifiedLits, simplifiedCoeffs, rhs, result);
             default:
                 throw new IllegalStateException("Unknown pseudo-Boolean encoder: " + this.config().pbEncoder);
         }
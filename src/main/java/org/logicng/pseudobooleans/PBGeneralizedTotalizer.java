@@ -0,0 +1,129 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.pseudobooleans;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGVector;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The generalized totalizer due to Joshi, Martins, and Manquinho for the encoding of pseudo-Boolean constraints in
+ * CNF.
+ * <p>
+ * The literals are the leaves of a balanced binary tree.  Each inner node has one output variable for each sum of
+ * weights which can be reached in its subtree, where all sums greater than the right-hand side are merged into one.
+ * At the root, no output variables are created and instead all combinations exceeding the right-hand side are
+ * forbidden.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class PBGeneralizedTotalizer implements PBEncoding {
+
+    private final FormulaFactory f;
+
+    /**
+     * Constructs a new generalized totalizer encoder.
+     * @param f the formula factory
+     */
+    PBGeneralizedTotalizer(final FormulaFactory f) {
+        this.f = f;
+    }
+
+    @Override
+    public List<Formula> encode(final LNGVector<Literal> lits, final LNGIntVector coeffs, final int rhs, final List<Formula> result) {
+        assert lits.size() > 1;
+        final int split = lits.size() / 2;
+        final SortedMap<Integer, Literal> left = this.totalizer(lits, coeffs, 0, split, rhs, result);
+        final SortedMap<Integer, Literal> right = this.totalizer(lits, coeffs, split, lits.size(), rhs, result);
+        this.forbid(left, rhs, result);
+        this.forbid(right, rhs, result);
+        for (final Map.Entry<Integer, Literal> l : left.entrySet()) {
+            for (final Map.Entry<Integer, Literal> r : right.tailMap(rhs - l.getKey() + 1).entrySet()) {
+                result.add(this.f.clause(l.getValue().negate(), r.getValue().negate()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Encodes the subtree for the literals {@code from} (inclusive) to {@code to} (exclusive).
+     * @param lits   the literals
+     * @param coeffs the coefficients
+     * @param from   the first literal
+     * @param to     the end of the literals
+     * @param rhs    the right-hand side
+     * @param result the result
+     * @return the mapping from the reachable sums of the subtree to their output literals
+     */
+    private SortedMap<Integer, Literal> totalizer(final LNGVector<Literal> lits, final LNGIntVector coeffs, final int from,
+                                                  final int to, final int rhs, final List<Formula> result) {
+        final SortedMap<Integer, Literal> outputs = new TreeMap<>();
+        if (to - from == 1) {
+            outputs.put(coeffs.get(from), lits.get(from));
+            return outputs;
+        }
+        final int split = from + (to - from) / 2;
+        final SortedMap<Integer, Literal> left = this.totalizer(lits, coeffs, from, split, rhs, result);
+        final SortedMap<Integer, Literal> right = this.totalizer(lits, coeffs, split, to, rhs, result);
+        for (final Map.Entry<Integer, Literal> l : left.entrySet()) {
+            result.add(this.f.clause(l.getValue().negate(), this.output(outputs, l.getKey(), rhs)));
+        }
+        for (final Map.Entry<Integer, Literal> r : right.entrySet()) {
+            result.add(this.f.clause(r.getValue().negate(), this.output(outputs, r.getKey(), rhs)));
+        }
+        for (final Map.Entry<Integer, Literal> l : left.entrySet()) {
+            for (final Map.Entry<Integer, Literal> r : right.entrySet()) {
+                final Literal out = this.output(outputs, l.getKey() + r.getKey(), rhs);
+                result.add(this.f.clause(l.getValue().negate(), r.getValue().negate(), out));
+            }
+        }
+        return outputs;
+    }
+
+    private Literal output(final SortedMap<Integer, Literal> outputs, final int sum, final int rhs) {
+        return outputs.computeIfAbsent(Math.min(sum, rhs + 1), s -> this.f.newPBVariable());
+    }
+
+    private void forbid(final SortedMap<Integer, Literal> outputs, final int rhs, final List<Formula> result) {
+        for (final Literal lit : outputs.tailMap(rhs + 1).values()) {
+            result.add(lit.negate());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+}
@@ -49,6 +49,7 @@ import org.logicng.formulas.PBConstraint;
 import org.logicng.formulas.Variable;
 import org.logicng.handlers.SATHandler;
 import org.logicng.propositions.Proposition;
+import org.logicng.pseudobooleans.EncodingTemplateCache;
 import org.logicng.solvers.functions.SolverFunction;
 import org.logicng.solvers.sat.GlucoseConfig;
 import org.logicng.solvers.sat.GlucoseSyrup;
@@ -67,7 +68,7 @@ import java.util.TreeSet;
 
 /**
  * Wrapper for the MiniSAT-style SAT solvers.
- * @version 2.4.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class MiniSat extends SATSolver {
@@ -85,6 +86,7 @@ public class MiniSat extends SATSolver {
     protected final PlaistedGreenbaumTransformationSolver pgTransformation;
     protected final PlaistedGreenbaumTransformationSolver fullPgTransformation;
     protected boolean lastComputationWithAssumptions;
+    protected EncodingTemplateCache encodingTemplateCache;
 
     /**
      * Constructs a new SAT solver instance.
@@ -228,13 +230,25 @@ public class MiniSat extends SATSolver {
                     } else if (constraint.comparator() == CType.EQ && constraint.rhs() == 1) {
                         ((MiniCard) this.solver).addAtMost(generateClauseVector(Arrays.asList(constraint.operands())), constraint.rhs());
                         this.solver.addClause(generateClauseVector(Arrays.asList(constraint.operands())), proposition);
+                    } else if (nativePBConstraints()) {
+                        addNativePBConstraint(constraint, proposition);
+                    } else if (this.encodingTemplateCache != null) {
+                        this.encodingTemplateCache.addToSolver(this, constraint, proposition);
                     } else {
                         addFormulaAsCNF(constraint, proposition);
                     }
+                } else if (nativePBConstraints()) {
+                    addNativePBConstraint(constraint, proposition);
+                } else if (this.encodingTemplateCache != null) {
+                    this.encodingTemplateCache.addToSolver(this, constraint, proposition);
                 } else {
                     final EncodingResult result = EncodingResult.resultForMiniSat(this.f, this, proposition);
                     this.ccEncoder.encode((CardinalityConstraint) constraint, result);
                 }
+            } else if (nativePBConstraints()) {
+                addNativePBConstraint(constraint, proposition);
+            } else if (this.encodingTemplateCache != null) {
+                this.encodingTemplateCache.addToSolver(this, constraint, proposition);
             } else {
                 addFormulaAsCNF(constraint, proposition);
             }
@@ -269,6 +283,63 @@ public class MiniSat extends SATSolver {
         this.add(formula.restrict(restriction));
     }
 
+    /**
+     * Returns whether pseudo-Boolean constraints are propagated natively on the underlying solver.
+     * @return whether pseudo-Boolean constraints are propagated natively on the underlying solver
+     */
+    protected boolean nativePBConstraints() {
+        return this.config.nativePBConstraints() && !this.config.proofGeneration();
+    }
+
+    /**
+     * Adds a pseudo-Boolean constraint to the underlying solver which is propagated natively.  The constraint is
+     * translated to one or two constraints of the form {@code a_1 * l_1 + ... + a_n * l_n >= rhs}.  Upper bounds
+     * {@code a_1 * l_1 + ... + a_n * l_n <= rhs} are expressed over the negated literals as
+     * {@code a_1 * ~l_1 + ... + a_n * ~l_n >= a_1 + ... + a_n - rhs}.  The right-hand sides are computed as
+     * {@code long} values.  If a normalized constraint could exceed the integer range of the native propagation, the
+     * constraint is encoded to clauses instead.
+     * @param constraint  the pseudo-Boolean constraint
+     * @param proposition the proposition of the constraint (only used if the constraint is encoded)
+     */
+    protected void addNativePBConstraint(final PBConstraint constraint, final Proposition proposition) {
+        final LNGIntVector lits = generateClauseVector(Arrays.asList(constraint.operands()));
+        final LNGIntVector coeffs = new LNGIntVector(constraint.coefficients());
+        final LNGIntVector negLits = new LNGIntVector(lits.size());
+        long coeffSum = 0;
+        long absCoeffSum = 0;
+        for (int i = 0; i < lits.size(); i++) {
+            negLits.push(MiniSatStyleSolver.not(lits.get(i)));
+            coeffSum += coeffs.get(i);
+            absCoeffSum += Math.abs((long) coeffs.get(i));
+        }
+        final CType comparator = constraint.comparator();
+        final boolean lowerBound = comparator == CType.GE || comparator == CType.GT || comparator == CType.EQ;
+        final boolean upperBound = comparator == CType.LE || comparator == CType.LT || comparator == CType.EQ;
+        final long lowerRhs = comparator == CType.GT ? constraint.rhs() + 1L : constraint.rhs();
+        final long upperRhs = coeffSum - (comparator == CType.LT ? constraint.rhs() - 1L : constraint.rhs());
+        if (lowerBound && !fitsNativePB(lowerRhs, absCoeffSum) || upperBound && !fitsNativePB(upperRhs, absCoeffSum)) {
+            addFormulaAsCNF(constraint, proposition);
+            return;
+        }
+        if (lowerBound) {
+            this.solver.addPBConstraint(lits, coeffs, lowerRhs);
+        }
+        if (upperBound) {
+            this.solver.addPBConstraint(negLits, coeffs, upperRhs);
+        }
+    }
+
+    /**
+     * Returns whether a constraint {@code a_1 * l_1 + ... + a_n * l_n >= rhs} can be added to the native propagation.
+     * This is the case if it is trivially unsatisfiable or if its normalized right-hand side is in the integer range.
+     * @param rhs         the right-hand side
+     * @param absCoeffSum the sum of the absolute values of the coefficients
+     * @return whether the constraint can be added to the native propagation
+     */
+    private static boolean fitsNativePB(final long rhs, final long absCoeffSum) {
+        return rhs > absCoeffSum || rhs + absCoeffSum <= Integer.MAX_VALUE;
+    }
+
     @Override
     public CCIncrementalData addIncrementalCC(final CardinalityConstraint cc) {
         final EncodingResult result = EncodingResult.resultForMiniSat(this.f, this, null);
@@ -343,6 +414,8 @@ public class MiniSat extends SATSolver {
     public SolverState saveState() {
         final int id = this.nextStateId++;
         this.validStates.push(id);
+        this.pgTransformation.saveState(id);
+        this.fullPgTransformation.saveState(id);
         return new SolverState(id, this.solver.saveState());
     }
 
@@ -360,8 +433,8 @@ public class MiniSat extends SATSolver {
         this.validStates.shrinkTo(index + 1);
         this.solver.loadState(state.state());
         this.result = UNDEF;
-        this.pgTransformation.clearCache();
-        this.fullPgTransformation.clearCache();
+        this.pgTransformation.loadState(state.id());
+        this.fullPgTransformation.loadState(state.id());
     }
 
     @Override
@@ -481,6 +554,25 @@ public class MiniSat extends SATSolver {
         return this.result != UNDEF && !this.lastComputationWithAssumptions;
     }
 
+    /**
+     * Sets the cache of encoding templates for cardinality and pseudo-Boolean constraints.  If a cache is set,
+     * constraints which are not propagated natively are not encoded on each call of {@link #add(Formula, Proposition)}
+     * but instantiated from a cached template, which can be shared with other solvers.  Incremental cardinality
+     * constraints are not affected.
+     * @param cache the cache or {@code null} if constraints should be encoded directly
+     */
+    public void setEncodingTemplateCache(final EncodingTemplateCache cache) {
+        this.encodingTemplateCache = cache;
+    }
+
+    /**
+     * Returns the cache of encoding templates of this solver.
+     * @return the cache of encoding templates or {@code null} if no cache is set
+     */
+    public EncodingTemplateCache encodingTemplateCache() {
+        return this.encodingTemplateCache;
+    }
+
     /**
      * Returns this solver's configuration.
      * @return this solver's configuration
@@ -0,0 +1,195 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.solvers.datastructures;
+
+import org.logicng.collections.LNGIntVector;
+
+/**
+ * A pseudo-Boolean constraint {@code a_1 * l_1 + ... + a_n * l_n >= rhs} which is propagated natively by
+ * MiniSAT-style solvers.
+ * <p>
+ * The constraint keeps track of its slack, i.e. the sum of the coefficients of all literals which are not
+ * falsified minus the right-hand side.  If the slack drops below zero, the constraint is violated.  If it drops
+ * below the coefficient of an unassigned literal, this literal has to be satisfied.  The falsified literals are
+ * stored in the order they were falsified, so explanation clauses can be generated on demand from a prefix of them.
+ * <p>
+ * The literals are expected to be sorted by descending coefficients and the coefficients are expected to be
+ * positive and not greater than the right-hand side.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class MSPBConstraint {
+    private final LNGIntVector lits;
+    private final LNGIntVector coeffs;
+    private final int rhs;
+    private final long initialSlack;
+    private final LNGIntVector falsified;
+    private long slack;
+
+    /**
+     * Constructs a new pseudo-Boolean constraint.
+     * @param lits   the literals, sorted by descending coefficients
+     * @param coeffs the coefficients
+     * @param rhs    the right-hand side
+     */
+    public MSPBConstraint(final LNGIntVector lits, final LNGIntVector coeffs, final int rhs) {
+        this.lits = new LNGIntVector(lits);
+        this.coeffs = new LNGIntVector(coeffs);
+        this.rhs = rhs;
+        long sum = 0;
+        for (int i = 0; i < coeffs.size(); i++) {
+            sum += coeffs.get(i);
+        }
+        this.initialSlack = sum - rhs;
+        this.falsified = new LNGIntVector();
+        this.slack = this.initialSlack;
+    }
+
+    /**
+     * Returns the number of literals of this constraint.
+     * @return the number of literals
+     */
+    public int size() {
+        return this.lits.size();
+    }
+
+    /**
+     * Returns the literal at the given position.
+     * @param i the position
+     * @return the literal at the given position
+     */
+    public int get(final int i) {
+        return this.lits.get(i);
+    }
+
+    /**
+     * Returns the coefficient of the literal at the given position.
+     * @param i the position
+     * @return the coefficient of the literal at the given position
+     */
+    public int coefficient(final int i) {
+        return this.coeffs.get(i);
+    }
+
+    /**
+     * Returns the largest coefficient of this constraint.
+     * @return the largest coefficient
+     */
+    public int maxCoefficient() {
+        return this.coeffs.empty() ? 0 : this.coeffs.get(0);
+    }
+
+    /**
+     * Returns the right-hand side of this constraint.
+     * @return the right-hand side
+     */
+    public int rhs() {
+        return this.rhs;
+    }
+
+    /**
+     * Returns the current slack of this constraint.
+     * @return the current slack
+     */
+    public long slack() {
+        return this.slack;
+    }
+
+    /**
+     * Returns the number of currently falsified literals.
+     * @return the number of currently falsified literals
+     */
+    public int falsifiedSize() {
+        return this.falsified.size();
+    }
+
+    /**
+     * Records that the given literal of this constraint was falsified.
+     * @param lit         the literal
+     * @param coefficient the coefficient of the literal
+     */
+    public void falsify(final int lit, final int coefficient) {
+        this.falsified.push(lit);
+        this.slack -= coefficient;
+    }
+
+    /**
+     * Reverts the last falsification of a literal.
+     * @param coefficient the coefficient of the literal
+     */
+    public void undoFalsify(final int coefficient) {
+        this.falsified.pop();
+        this.slack += coefficient;
+    }
+
+    /**
+     * Resets this constraint to a state where no literal is falsified.
+     */
+    public void reset() {
+        this.falsified.clear();
+        this.slack = this.initialSlack;
+    }
+
+    /**
+     * Returns the explanation clause for a literal which was implied by this constraint.  The clause consists of the
+     * implied literal at the first position, followed by the first {@code size} falsified literals.
+     * @param lit  the implied literal
+     * @param size the number of falsified literals at the time of the implication
+     * @return the explanation clause
+     */
+    public MSClause explanation(final int lit, final int size) {
+        final int n = Math.min(size, this.falsified.size());
+        final LNGIntVector ps = new LNGIntVector(n + 1);
+        ps.unsafePush(lit);
+        for (int i = 0; i < n; i++) {
+            ps.unsafePush(this.falsified.get(i));
+        }
+        return new MSClause(ps, false);
+    }
+
+    /**
+     * Returns the conflict clause of this constraint, i.e. the clause of all currently falsified literals.
+     * @return the conflict clause
+     */
+    public MSClause conflictClause() {
+        return new MSClause(this.falsified, false);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("MSPBConstraint{lits=[");
+        for (int i = 0; i < this.lits.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(this.coeffs.get(i)).append("*").append(this.lits.get(i));
+        }
+        return sb.append("], rhs=").append(this.rhs).append(", slack=").append(this.slack).append("}").toString();
+    }
+}
@@ -0,0 +1,72 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.solvers.datastructures;
+
+/**
+ * A watcher for natively propagated pseudo-Boolean constraints of MiniSAT-style solvers.  In contrast to clause
+ * watchers, a pseudo-Boolean constraint is watched on the negations of all its literals, the watcher stores the
+ * coefficient by which the slack of the constraint decreases when the watched literal becomes true.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class MSPBWatcher {
+    private final MSPBConstraint constraint;
+    private final int coefficient;
+
+    /**
+     * Constructs a new watcher.
+     * @param constraint  the watched constraint
+     * @param coefficient the coefficient of the literal in the constraint
+     */
+    public MSPBWatcher(final MSPBConstraint constraint, final int coefficient) {
+        this.constraint = constraint;
+        this.coefficient = coefficient;
+    }
+
+    /**
+     * Returns the watched constraint of this watcher.
+     * @return the watched constraint
+     */
+    public MSPBConstraint constraint() {
+        return this.constraint;
+    }
+
+    /**
+     * Returns the coefficient of the watched literal in the constraint.
+     * @return the coefficient
+     */
+    public int coefficient() {
+        return this.coefficient;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MSPBWatcher{constraint=%s, coefficient=%d}", this.constraint, this.coefficient);
+    }
+}
@@ -50,13 +50,16 @@ import java.util.Locale;
 
 /**
  * A variable of the SAT solver for MiniSAT-style solvers.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.0
  */
 public final class MSVariable {
     private Tristate assignment;
     private int level;
     private MSClause reason;
+    private MSPBConstraint pbReason;
+    private int pbReasonLit;
+    private int pbReasonSize;
     private double activity;
     private boolean polarity;
     private boolean decision;
@@ -96,6 +99,21 @@ public final class MSVariable {
      */
     public void setReason(final MSClause reason) {
         this.reason = reason;
+        this.pbReason = null;
+    }
+
+    /**
+     * Sets a natively propagated pseudo-Boolean constraint as reason for this variable.  The explanation clause for
+     * the assignment is only generated when the reason is requested for the first time.
+     * @param constraint the pseudo-Boolean constraint which implied the assignment
+     * @param lit        the implied literal
+     * @param size       the number of falsified literals of the constraint at the time of the implication
+     */
+    public void setPBReason(final MSPBConstraint constraint, final int lit, final int size) {
+        this.reason = null;
+        this.pbReason = constraint;
+        this.pbReasonLit = lit;
+        this.pbReasonSize = size;
     }
 
     /**
@@ -103,6 +121,10 @@ public final class MSVariable {
      * @return the reason for this variable
      */
     public MSClause reason() {
+        if (this.pbReason != null) {
+            this.reason = this.pbReason.explanation(this.pbReasonLit, this.pbReasonSize);
+            this.pbReason = null;
+        }
         return this.reason;
     }
 
@@ -181,6 +203,6 @@ public final class MSVariable {
     @Override
     public String toString() {
         return String.format(Locale.ENGLISH, "MSVariable{assignment=%s, level=%d, reason=%s, activity=%f, polarity=%s, decision=%s}",
-                this.assignment, this.level, this.reason, this.activity, this.polarity, this.decision);
+                this.assignment, this.level, reason(), this.activity, this.polarity, this.decision);
     }
 }
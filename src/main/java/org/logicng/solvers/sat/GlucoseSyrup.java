@@ -422,7 +422,7 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
     }
 
     @Override
-    protected MSClause propagate() {
+    protected MSClause propagateClauses() {
         MSClause confl = null;
         int numProps = 0;
         while (this.qhead < this.trail.size()) {
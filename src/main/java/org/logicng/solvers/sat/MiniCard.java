@@ -65,7 +65,7 @@ import org.logicng.solvers.datastructures.MSWatcher;
 
 /**
  * A cardinality solver based on MiniCard.
- * @version 2.1.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class MiniCard extends MiniSatStyleSolver {
@@ -194,9 +194,9 @@ public class MiniCard extends MiniSatStyleSolver {
 
     /**
      * Saves and returns the solver state expressed as an integer array which stores the length of the internal data
-     * structures.  The array has length 5 and has the following layout:
+     * structures.  The array has length 6 and has the following layout:
      * <p>
-     * {@code | current solver state | #vars | #clauses | #learnt clauses | #unit clauses |}
+     * {@code | current solver state | #vars | #clauses | #learnt clauses | #unit clauses | #pb constraints |}
      * @return the current solver state
      */
     @Override
@@ -205,12 +205,13 @@ public class MiniCard extends MiniSatStyleSolver {
             throw new IllegalStateException("Cannot save a state when the incremental mode is deactivated");
         }
         final int[] state;
-        state = new int[5];
+        state = new int[6];
         state[0] = this.ok ? 1 : 0;
         state[1] = this.vars.size();
         state[2] = this.clauses.size();
         state[3] = this.learnts.size();
         state[4] = this.unitClauses.size();
+        state[5] = this.pbConstraints.size();
         return state;
     }
 
@@ -238,10 +239,17 @@ public class MiniCard extends MiniSatStyleSolver {
         }
         this.learnts.shrinkTo(newLearntsSize);
         this.watches.shrinkTo(newVarsSize * 2);
+        removePBConstraints(state[5], newVarsSize);
         this.unitClauses.shrinkTo(state[4]);
         for (i = 0; this.ok && i < this.unitClauses.size(); i++) {
-            uncheckedEnqueue(this.unitClauses.get(i), null);
-            this.ok = propagate() == null;
+            final int lit = this.unitClauses.get(i);
+            final Tristate value = value(lit);
+            if (value == Tristate.FALSE) {
+                this.ok = false;
+            } else if (value == Tristate.UNDEF) {
+                uncheckedEnqueue(lit, null);
+                this.ok = propagate() == null;
+            }
         }
     }
 
@@ -306,7 +314,7 @@ public class MiniCard extends MiniSatStyleSolver {
     }
 
     @Override
-    protected MSClause propagate() {
+    protected MSClause propagateClauses() {
         MSClause confl = null;
         int numProps = 0;
         while (this.qhead < this.trail.size()) {
@@ -870,6 +878,7 @@ public class MiniCard extends MiniSatStyleSolver {
         this.trail.clear();
         this.trailLim.clear();
         this.qhead = 0;
+        resetPseudoBooleans();
     }
 
     /**
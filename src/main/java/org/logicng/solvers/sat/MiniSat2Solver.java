@@ -65,7 +65,7 @@ import org.logicng.solvers.datastructures.MSWatcher;
  * Therefore, clause deletion and simplifications are deactivated in this mode.  This mode is most efficient on small
  * to mid-size industrial formulas (up to 50,000 variables, 100,000 clauses).  Whenever you have lots of small formulas
  * to solve or need the ability to add and delete formulas from the solver, we recommend to consider this mode.
- * @version 2.1.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class MiniSat2Solver extends MiniSatStyleSolver {
@@ -243,9 +243,9 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
 
     /**
      * Saves and returns the solver state expressed as an integer array which stores the length of the internal data
-     * structures.  The array has length 5 and has the following layout:
+     * structures.  The array has length 8 and has the following layout:
      * <p>
-     * {@code | current solver state | #vars | #clauses | #learnt clauses | #unit clauses | #pg original | #pg proof}
+     * {@code | current solver state | #vars | #clauses | #learnt clauses | #unit clauses | #pg original | #pg proof | #pb constraints}
      * @return the current solver state
      */
     @Override
@@ -254,12 +254,13 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
             throw new IllegalStateException("Cannot save a state when the incremental mode is deactivated");
         }
         final int[] state;
-        state = new int[7];
+        state = new int[8];
         state[0] = this.ok ? 1 : 0;
         state[1] = this.vars.size();
         state[2] = this.clauses.size();
         state[3] = this.learnts.size();
         state[4] = this.unitClauses.size();
+        state[7] = this.pbConstraints.size();
         if (this.config.proofGeneration) {
             state[5] = this.pgOriginalClauses.size();
             state[6] = this.pgProof.size();
@@ -291,10 +292,17 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         }
         this.learnts.shrinkTo(newLearntsSize);
         this.watches.shrinkTo(newVarsSize * 2);
+        removePBConstraints(state[7], newVarsSize);
         this.unitClauses.shrinkTo(state[4]);
         for (i = 0; this.ok && i < this.unitClauses.size(); i++) {
-            uncheckedEnqueue(this.unitClauses.get(i), null);
-            this.ok = propagate() == null;
+            final int lit = this.unitClauses.get(i);
+            final Tristate value = value(lit);
+            if (value == Tristate.FALSE) {
+                this.ok = false;
+            } else if (value == Tristate.UNDEF) {
+                uncheckedEnqueue(lit, null);
+                this.ok = propagate() == null;
+            }
         }
         if (this.config.proofGeneration) {
             final int newPgOriginalSize = Math.min(state[5], this.pgOriginalClauses.size());
@@ -356,7 +364,7 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
     }
 
     @Override
-    protected MSClause propagate() {
+    protected MSClause propagateClauses() {
         MSClause confl = null;
         int numProps = 0;
         while (this.qhead < this.trail.size()) {
@@ -746,6 +754,7 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         this.trail.clear();
         this.trailLim.clear();
         this.qhead = 0;
+        resetPseudoBooleans();
     }
 
     /**
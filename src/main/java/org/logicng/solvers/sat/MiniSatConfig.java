@@ -35,7 +35,7 @@ import org.logicng.solvers.SATSolver;
 
 /**
  * The configuration object for a MiniSAT-style SAT solver.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.0
  */
 public final class MiniSatConfig extends Configuration {
@@ -93,6 +93,7 @@ public final class MiniSatConfig extends Configuration {
     final boolean bbInitialUBCheckForRotatableLiterals;
     final boolean bbCheckForComplementModelLiterals;
     final boolean bbCheckForRotatableLiterals;
+    final boolean nativePBConstraints;
 
     /**
      * Constructs a new MiniSAT configuration from a given builder.
@@ -117,6 +118,7 @@ public final class MiniSatConfig extends Configuration {
         this.bbInitialUBCheckForRotatableLiterals = builder.bbInitialUBCheckForRotatableLiterals;
         this.bbCheckForComplementModelLiterals = builder.bbCheckForComplementModelLiterals;
         this.bbCheckForRotatableLiterals = builder.bbCheckForRotatableLiterals;
+        this.nativePBConstraints = builder.nativePBConstraints;
     }
 
     /**
@@ -167,6 +169,14 @@ public final class MiniSatConfig extends Configuration {
         return this.auxiliaryVariablesInModels;
     }
 
+    /**
+     * Returns whether pseudo-Boolean and cardinality constraints should be propagated natively by the solver.
+     * @return whether pseudo-Boolean and cardinality constraints should be propagated natively by the solver
+     */
+    public boolean nativePBConstraints() {
+        return this.nativePBConstraints;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("MiniSatConfig{").append(System.lineSeparator());
@@ -187,13 +197,14 @@ public final class MiniSatConfig extends Configuration {
         sb.append("bbInitialUBCheckForRotatableLiterals=").append(this.bbInitialUBCheckForRotatableLiterals).append(System.lineSeparator());
         sb.append("bbCheckForComplementModelLiterals=").append(this.bbCheckForComplementModelLiterals).append(System.lineSeparator());
         sb.append("bbCheckForRotatableLiterals=").append(this.bbCheckForRotatableLiterals).append(System.lineSeparator());
+        sb.append("nativePBConstraints=").append(this.nativePBConstraints).append(System.lineSeparator());
         sb.append("}");
         return sb.toString();
     }
 
     /**
      * The builder for a MiniSAT configuration.
-     * @version 2.0.0
+     * @version 2.5.0
      * @since 1.0
      */
     public static class Builder {
@@ -214,6 +225,7 @@ public final class MiniSatConfig extends Configuration {
         private boolean bbInitialUBCheckForRotatableLiterals = true;
         private boolean bbCheckForComplementModelLiterals = true;
         private boolean bbCheckForRotatableLiterals = true;
+        private boolean nativePBConstraints = false;
 
         private Builder() {
             // Initialize only via factory
@@ -406,6 +418,24 @@ public final class MiniSatConfig extends Configuration {
             return this;
         }
 
+        /**
+         * Sets whether pseudo-Boolean and cardinality constraints which are added to the solver as top-level formulas
+         * should be propagated natively by the solver instead of being encoded to clauses.  Native propagation uses
+         * counter-based watches on the slack of the constraints and generates explanation clauses only on demand during
+         * conflict analysis.  This avoids the (potentially very large) clausal encodings of constraints with large
+         * coefficients and does not introduce auxiliary variables.  On the MiniCard solver, at-most-k constraints are
+         * still handled by its native at-most clauses.  Incremental cardinality constraints and constraints nested in
+         * other formulas are still encoded.  If proof generation is activated, this option is ignored, since native
+         * constraints cannot be part of a DRUP proof.  The default value is {@code false}.
+         * @param nativePBConstraints {@code true} if pseudo-Boolean constraints should be propagated natively,
+         *                            {@code false} if they should be encoded to clauses
+         * @return the builder
+         */
+        public Builder nativePBConstraints(final boolean nativePBConstraints) {
+            this.nativePBConstraints = nativePBConstraints;
+            return this;
+        }
+
         /**
          * Builds the MiniSAT configuration.
          * @return the configuration
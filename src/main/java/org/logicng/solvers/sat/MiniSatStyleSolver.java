@@ -59,6 +59,8 @@ import org.logicng.handlers.SATHandler;
 import org.logicng.propositions.Proposition;
 import org.logicng.solvers.datastructures.LNGHeap;
 import org.logicng.solvers.datastructures.MSClause;
+import org.logicng.solvers.datastructures.MSPBConstraint;
+import org.logicng.solvers.datastructures.MSPBWatcher;
 import org.logicng.solvers.datastructures.MSVariable;
 import org.logicng.solvers.datastructures.MSWatcher;
 
@@ -74,7 +76,7 @@ import java.util.TreeSet;
 
 /**
  * The super class for all MiniSAT-style solvers.
- * @version 2.1.0
+ * @version 2.5.0
  * @since 1.0
  */
 public abstract class MiniSatStyleSolver {
@@ -110,6 +112,11 @@ public abstract class MiniSatStyleSolver {
     protected int clausesLiterals;
     protected int learntsLiterals;
 
+    // natively propagated pseudo-Boolean constraints
+    protected LNGVector<MSPBConstraint> pbConstraints;
+    protected LNGVector<LNGVector<MSPBWatcher>> pbWatches;
+    protected int pbQhead;
+
     // solver configuration
     protected double varDecay;
     protected double varInc;
@@ -252,6 +259,9 @@ public abstract class MiniSatStyleSolver {
         this.simpDBProps = 0;
         this.clausesLiterals = 0;
         this.learntsLiterals = 0;
+        this.pbConstraints = new LNGVector<>();
+        this.pbWatches = new LNGVector<>();
+        this.pbQhead = 0;
         this.name2idx = new TreeMap<>();
         this.idx2name = new TreeMap<>();
         this.canceledByHandler = false;
@@ -366,6 +376,97 @@ public abstract class MiniSatStyleSolver {
      */
     public abstract boolean addClause(final LNGIntVector ps, final Proposition proposition);
 
+    /**
+     * Adds a pseudo-Boolean constraint {@code coeffs[0] * lits[0] + ... + coeffs[n] * lits[n] >= rhs} to the solver
+     * which is propagated natively instead of being encoded to clauses.  The solver must be on decision level 0.
+     * <p>
+     * The constraint is normalized first: literals over the same variable are merged, literals which are already
+     * assigned on level 0 are removed, negative coefficients are eliminated by negating the respective literals, and
+     * coefficients are saturated by the right-hand side.  Literals which are implied by the constraint on level 0 are
+     * added as unit clauses.
+     * @param lits   the literals of the constraint
+     * @param coeffs the coefficients of the constraint
+     * @param rhs    the right-hand side of the constraint
+     * @return {@code false} if the solver is in an unsatisfiable state after adding the constraint, {@code true}
+     * otherwise
+     * @throws IllegalArgumentException if the number of literals and coefficients differ or if the normalized
+     *                                  constraint exceeds the integer range
+     */
+    public boolean addPBConstraint(final LNGIntVector lits, final LNGIntVector coeffs, final long rhs) {
+        assert decisionLevel() == 0;
+        if (lits.size() != coeffs.size()) {
+            throw new IllegalArgumentException("The number of literals and coefficients of a pseudo-Boolean constraint must be equal");
+        }
+        if (!this.ok) {
+            return false;
+        }
+        final Map<Integer, Long> weights = new TreeMap<>();
+        long normRhs = rhs;
+        for (int i = 0; i < lits.size(); i++) {
+            final int lit = lits.get(i);
+            final long coeff = coeffs.get(i);
+            weights.merge(var(lit), sign(lit) ? -coeff : coeff, Long::sum);
+            if (sign(lit)) {
+                normRhs -= coeff;
+            }
+        }
+        final List<long[]> normalized = new ArrayList<>(weights.size());
+        for (final Map.Entry<Integer, Long> entry : weights.entrySet()) {
+            final int lit = mkLit(entry.getKey(), false);
+            final long weight = entry.getValue();
+            if (value(lit) == Tristate.TRUE) {
+                normRhs -= weight;
+            } else if (weight > 0 && value(lit) == UNDEF) {
+                normalized.add(new long[]{lit, weight});
+            } else if (weight < 0 && value(lit) == UNDEF) {
+                normalized.add(new long[]{not(lit), -weight});
+                normRhs -= weight;
+            }
+        }
+        if (normRhs <= 0) {
+            return true;
+        }
+        long sum = 0;
+        for (final long[] term : normalized) {
+            term[1] = Math.min(term[1], normRhs);
+            sum += term[1];
+        }
+        if (sum < normRhs) {
+            this.ok = false;
+            return false;
+        }
+        if (normRhs > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The normalized pseudo-Boolean constraint exceeds the integer range");
+        }
+        normalized.sort((x, y) -> Long.compare(y[1], x[1]));
+        final LNGIntVector normLits = new LNGIntVector(normalized.size());
+        final LNGIntVector normCoeffs = new LNGIntVector(normalized.size());
+        for (final long[] term : normalized) {
+            normLits.unsafePush((int) term[0]);
+            normCoeffs.unsafePush((int) term[1]);
+        }
+        final MSPBConstraint constraint = new MSPBConstraint(normLits, normCoeffs, (int) normRhs);
+        if (this.pbConstraints.empty()) {
+            this.pbQhead = this.trail.size();
+        }
+        this.pbConstraints.push(constraint);
+        attachPBConstraint(constraint);
+        for (int i = 0; i < constraint.size() && constraint.coefficient(i) > constraint.slack(); i++) {
+            if (value(constraint.get(i)) == UNDEF && !addClause(constraint.get(i), null)) {
+                return false;
+            }
+        }
+        return this.ok;
+    }
+
+    /**
+     * Returns the number of natively propagated pseudo-Boolean constraints on the solver.
+     * @return the number of natively propagated pseudo-Boolean constraints
+     */
+    public int nPBConstraints() {
+        return this.pbConstraints.size();
+    }
+
     /**
      * Solves the formula currently stored in the solver.  Returns {@link Tristate#TRUE} if the formula is satisfiable (SAT),
      * {@link Tristate#FALSE} if the formula is unsatisfiable (UNSAT), or {@link Tristate#UNDEF} if the computation was canceled
@@ -624,10 +725,137 @@ public abstract class MiniSatStyleSolver {
     protected abstract void removeClause(final MSClause c);
 
     /**
-     * Performs unit propagation.
+     * Performs unit propagation on the clauses and on the natively propagated pseudo-Boolean constraints.  Clauses
+     * are always propagated first, pseudo-Boolean constraints are only propagated once the clauses reached their
+     * fixpoint.
+     * @return the conflicting clause if a conflict arose during unit propagation or {@code null} if there was none
+     */
+    protected MSClause propagate() {
+        MSClause confl = propagateClauses();
+        if (this.pbConstraints.empty()) {
+            return confl;
+        }
+        while (confl == null && this.pbQhead < this.trail.size()) {
+            confl = propagatePseudoBooleans();
+            if (confl == null) {
+                confl = propagateClauses();
+            }
+        }
+        return confl;
+    }
+
+    /**
+     * Performs unit propagation on the clauses.
      * @return the conflicting clause if a conflict arose during unit propagation or {@code null} if there was none
      */
-    protected abstract MSClause propagate();
+    protected abstract MSClause propagateClauses();
+
+    /**
+     * Propagates the natively handled pseudo-Boolean constraints for all literals on the trail which were not
+     * processed yet.  The slack of every constraint containing the negation of a processed literal is decreased.  If
+     * the slack becomes negative, the clause of all falsified literals of the constraint is returned as conflict.
+     * Otherwise, all unassigned literals with a coefficient greater than the slack are implied.  Their explanation
+     * clauses are only generated on demand during conflict analysis.
+     * @return the conflicting clause if a conflict arose during the propagation or {@code null} if there was none
+     */
+    protected MSClause propagatePseudoBooleans() {
+        MSClause confl = null;
+        while (confl == null && this.pbQhead < this.trail.size()) {
+            final int p = this.trail.get(this.pbQhead++);
+            if (p >= this.pbWatches.size()) {
+                continue;
+            }
+            final LNGVector<MSPBWatcher> ws = this.pbWatches.get(p);
+            for (int i = 0; i < ws.size(); i++) {
+                final MSPBWatcher w = ws.get(i);
+                final MSPBConstraint c = w.constraint();
+                c.falsify(not(p), w.coefficient());
+                if (confl != null) {
+                    continue;
+                }
+                final long slack = c.slack();
+                if (slack < 0) {
+                    confl = c.conflictClause();
+                } else if (slack < c.maxCoefficient()) {
+                    for (int j = 0; j < c.size() && c.coefficient(j) > slack; j++) {
+                        final int lit = c.get(j);
+                        if (value(lit) == UNDEF) {
+                            uncheckedEnqueue(lit, null);
+                            v(lit).setPBReason(c, lit, c.falsifiedSize());
+                        }
+                    }
+                }
+            }
+        }
+        return confl;
+    }
+
+    /**
+     * Attaches a natively propagated pseudo-Boolean constraint, i.e. registers a watcher for the negation of each of
+     * its literals.
+     * @param c the pseudo-Boolean constraint
+     */
+    protected void attachPBConstraint(final MSPBConstraint c) {
+        for (int i = 0; i < c.size(); i++) {
+            final int watched = not(c.get(i));
+            while (this.pbWatches.size() <= watched) {
+                this.pbWatches.push(new LNGVector<>());
+            }
+            this.pbWatches.get(watched).push(new MSPBWatcher(c, c.coefficient(i)));
+        }
+    }
+
+    /**
+     * Reverts the slack updates of the natively propagated pseudo-Boolean constraints for all literals which are
+     * removed from the trail when backtracking to the given level.
+     * @param level the level to backtrack to
+     */
+    protected void cancelPseudoBooleans(final int level) {
+        final int limit = this.trailLim.get(level);
+        for (int c = this.pbQhead - 1; c >= limit; c--) {
+            final int p = this.trail.get(c);
+            if (p < this.pbWatches.size()) {
+                final LNGVector<MSPBWatcher> ws = this.pbWatches.get(p);
+                for (int i = ws.size() - 1; i >= 0; i--) {
+                    ws.get(i).constraint().undoFalsify(ws.get(i).coefficient());
+                }
+            }
+        }
+        this.pbQhead = Math.min(this.pbQhead, limit);
+    }
+
+    /**
+     * Resets the propagation state of all natively propagated pseudo-Boolean constraints.  This method has to be
+     * called on a complete backtrack.
+     */
+    protected void resetPseudoBooleans() {
+        for (final MSPBConstraint c : this.pbConstraints) {
+            c.reset();
+        }
+        this.pbQhead = 0;
+    }
+
+    /**
+     * Removes all natively propagated pseudo-Boolean constraints which were added after the given number of
+     * constraints and their watchers.  Since watchers are only ever appended, the watchers of the removed constraints
+     * are always at the end of the watch lists.
+     * @param newSize  the number of constraints to keep
+     * @param varsSize the number of variables to keep
+     */
+    protected void removePBConstraints(final int newSize, final int varsSize) {
+        for (int i = this.pbConstraints.size() - 1; i >= newSize; i--) {
+            final MSPBConstraint c = this.pbConstraints.get(i);
+            for (int j = 0; j < c.size(); j++) {
+                final LNGVector<MSPBWatcher> ws = this.pbWatches.get(not(c.get(j)));
+                assert ws.back().constraint() == c;
+                ws.pop();
+            }
+        }
+        this.pbConstraints.shrinkTo(newSize);
+        if (this.pbWatches.size() > varsSize * 2) {
+            this.pbWatches.shrinkTo(varsSize * 2);
+        }
+    }
 
     /**
      * Returns {@code true} if a given literal is redundant in the current conflict analysis, {@code false} otherwise.
@@ -646,6 +874,7 @@ public abstract class MiniSatStyleSolver {
 
     protected void cancelUntil(final int level) {
         if (decisionLevel() > level) {
+            cancelPseudoBooleans(level);
             if (!this.computingBackbone) {
                 for (int c = this.trail.size() - 1; c >= this.trailLim.get(level); c--) {
                     final int x = var(this.trail.get(c));
@@ -1058,9 +1287,34 @@ public abstract class MiniSatStyleSolver {
                 return false;
             }
         }
+        // A rotatable literal MUST NOT be required by a pseudo-Boolean constraint
+        if (not(lit) < this.pbWatches.size()) {
+            for (final MSPBWatcher watcher : this.pbWatches.get(not(lit))) {
+                if (!satisfiedWithout(watcher)) {
+                    return false;
+                }
+            }
+        }
         return true;
     }
 
+    /**
+     * Tests whether the pseudo-Boolean constraint of the given watcher is still satisfied by the current model if the
+     * watched literal is flipped.
+     * @param watcher the watcher
+     * @return {@code true} if the constraint is still satisfied, otherwise {@code false}
+     */
+    protected boolean satisfiedWithout(final MSPBWatcher watcher) {
+        final MSPBConstraint c = watcher.constraint();
+        long sum = -watcher.coefficient();
+        for (int i = 0; i < c.size(); i++) {
+            if (this.model.get(var(c.get(i))) != sign(c.get(i))) {
+                sum += c.coefficient(i);
+            }
+        }
+        return sum >= c.rhs();
+    }
+
     /**
      * Adds the given literal to the backbone result and optionally adds the literal to the solver.
      * @param lit literal to add
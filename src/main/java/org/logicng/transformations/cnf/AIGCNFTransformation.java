@@ -0,0 +1,483 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.transformations.cnf;
+
+import static org.logicng.formulas.cache.TransformationCacheEntry.AIG_CNF;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.FormulaTransformation;
+import org.logicng.formulas.Literal;
+import org.logicng.predicates.ContainsPBCPredicate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transformation of a formula into CNF via an {@link AndInverterGraph and-inverter graph}.
+ * <p>
+ * The formula is first converted into a structurally hashed AIG with constant propagation.  Then for each AND node of
+ * the graph up to eight cuts with at most four leaves are enumerated together with the truth tables of the node in
+ * terms of the leaves.  For each cut, the number of clauses needed to encode the node is computed as the size of the
+ * irredundant sum-of-products (computed by the Minato-Morreale algorithm) of the on-set and the off-set of the truth
+ * table, i.e. the local function is minimized by two-level minimization.  The cuts which minimize the area flow are
+ * used to map the graph to clauses and each mapped node gets a new auxiliary variable.  Like in the Plaisted &amp;
+ * Greenbaum transformation, only the clauses for the required polarities of the mapped nodes are generated and the
+ * top-level conjunction is not encoded with an auxiliary variable.
+ * <p>
+ * Formulas with less atoms than the factorization boundary are transformed by factorization.  Formulas containing
+ * pseudo-Boolean constraints are converted to NNF first.
+ * <p>
+ * ATTENTION: if you mix formulas from different formula factories this can lead to clashes in the naming of newly
+ * introduced variables.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class AIGCNFTransformation implements FormulaTransformation {
+
+    private static final int CUT_SIZE = 4;
+    private static final int CUTS_PER_NODE = 8;
+    private static final int FULL = 0xFFFF;
+    private static final int[] VAR_MASKS = {0xAAAA, 0xCCCC, 0xF0F0, 0xFF00};
+    private static final int POS = 1;
+    private static final int NEG = 2;
+
+    private final int boundaryForFactorization;
+    private final CNFFactorization factorization = new CNFFactorization();
+    private int[][] covers;
+
+    /**
+     * Constructor for an AIG-based CNF transformation.
+     * @param boundaryForFactorization the boundary of number of atoms up to which classical factorization is used
+     */
+    public AIGCNFTransformation(final int boundaryForFactorization) {
+        this.boundaryForFactorization = boundaryForFactorization;
+    }
+
+    /**
+     * Constructor for an AIG-based CNF transformation with a factorization bound of 12.
+     */
+    public AIGCNFTransformation() {
+        this(12);
+    }
+
+    @Override
+    public Formula apply(final Formula formula, final boolean cache) {
+        if (formula.isCNF()) {
+            return formula;
+        }
+        final Formula cached = formula.transformationCacheEntry(AIG_CNF);
+        if (cache && cached != null) {
+            return cached;
+        }
+        final Formula input = formula.holds(ContainsPBCPredicate.get()) ? formula.nnf() : formula;
+        final Formula result;
+        if (input.numberOfAtoms() < this.boundaryForFactorization) {
+            result = input.nnf().transform(this.factorization);
+        } else {
+            final AndInverterGraph aig = new AndInverterGraph();
+            result = new Mapping(formula.factory(), aig, aig.add(input)).encode();
+        }
+        if (cache) {
+            formula.setTransformationCacheEntry(AIG_CNF, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cubes of the irredundant sum-of-products of the given truth table.  Each cube holds the positive
+     * literals in the bits 0 to 3 and the negative literals in the bits 4 to 7.
+     * @param truthTable the truth table
+     * @return the cubes
+     */
+    private int[] cover(final int truthTable) {
+        if (this.covers == null) {
+            this.covers = new int[FULL + 1][];
+        }
+        int[] cover = this.covers[truthTable];
+        if (cover == null) {
+            final LNGIntVector cubes = new LNGIntVector();
+            isop(truthTable, truthTable, CUT_SIZE - 1, cubes);
+            cover = cubes.toArray();
+            this.covers[truthTable] = cover;
+        }
+        return cover;
+    }
+
+    private int cost(final int truthTable) {
+        return cover(truthTable).length + cover(truthTable ^ FULL).length;
+    }
+
+    /**
+     * Computes an irredundant sum-of-products for the incompletely specified function between {@code lower} and
+     * {@code upper} due to Minato and Morreale.
+     * @param lower the lower bound (on-set)
+     * @param upper the upper bound (complement of the off-set)
+     * @param var   the highest variable which still has to be considered
+     * @param cubes the vector for the resulting cubes
+     * @return the truth table of the computed cover
+     */
+    private static int isop(final int lower, final int upper, final int var, final LNGIntVector cubes) {
+        if (lower == 0) {
+            return 0;
+        }
+        if (upper == FULL) {
+            cubes.push(0);
+            return FULL;
+        }
+        int v = var;
+        while (cofactor0(lower, v) == cofactor1(lower, v) && cofactor0(upper, v) == cofactor1(upper, v)) {
+            v--;
+        }
+        final int l0 = cofactor0(lower, v);
+        final int l1 = cofactor1(lower, v);
+        final int u0 = cofactor0(upper, v);
+        final int u1 = cofactor1(upper, v);
+        final int start0 = cubes.size();
+        final int f0 = isop(l0 & ~u1 & FULL, u0, v - 1, cubes);
+        for (int i = start0; i < cubes.size(); i++) {
+            cubes.set(i, cubes.get(i) | (1 << (v + CUT_SIZE)));
+        }
+        final int start1 = cubes.size();
+        final int f1 = isop(l1 & ~u0 & FULL, u1, v - 1, cubes);
+        for (int i = start1; i < cubes.size(); i++) {
+            cubes.set(i, cubes.get(i) | (1 << v));
+        }
+        final int fs = isop((l0 & ~f0 | l1 & ~f1) & FULL, u0 & u1, v - 1, cubes);
+        return fs | f0 & ~VAR_MASKS[v] & FULL | f1 & VAR_MASKS[v];
+    }
+
+    private static int cofactor0(final int truthTable, final int var) {
+        final int low = truthTable & ~VAR_MASKS[var] & FULL;
+        return low | (low << (1 << var));
+    }
+
+    private static int cofactor1(final int truthTable, final int var) {
+        final int high = truthTable & VAR_MASKS[var];
+        return high | (high >>> (1 << var));
+    }
+
+    /**
+     * A cut of a node: a set of leaves and the truth table of the node in terms of the leaves.
+     */
+    private static final class Cut {
+        private final int[] leaves;
+        private final int truthTable;
+        private double flow;
+
+        private Cut(final int[] leaves, final int truthTable) {
+            this.leaves = leaves;
+            this.truthTable = truthTable;
+        }
+
+        private boolean isSubsetOf(final Cut other) {
+            int j = 0;
+            for (final int leaf : this.leaves) {
+                while (j < other.leaves.length && other.leaves[j] < leaf) {
+                    j++;
+                }
+                if (j == other.leaves.length || other.leaves[j] != leaf) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The mapping of a single AIG to clauses.
+     */
+    private final class Mapping {
+        private final FormulaFactory f;
+        private final AndInverterGraph aig;
+        private final LNGIntVector assertions;
+        private final int[] references;
+        private final List<List<Cut>> cuts;
+        private final Cut[] bestCuts;
+        private final double[] flows;
+        private final int[] required;
+        private final Literal[] literals;
+        private final List<Formula> clauses;
+        private final List<Literal> clause;
+        private boolean conflict;
+
+        private Mapping(final FormulaFactory f, final AndInverterGraph aig, final int root) {
+            this.f = f;
+            this.aig = aig;
+            final int numNodes = aig.numberOfNodes();
+            this.assertions = new LNGIntVector();
+            this.references = new int[numNodes];
+            this.cuts = new ArrayList<>(numNodes);
+            this.bestCuts = new Cut[numNodes];
+            this.flows = new double[numNodes];
+            this.required = new int[numNodes];
+            this.literals = new Literal[numNodes];
+            this.clauses = new ArrayList<>();
+            this.clause = new ArrayList<>();
+            collectAssertions(root);
+        }
+
+        private void collectAssertions(final int root) {
+            final boolean[] seen = new boolean[this.aig.numberOfNodes() * 2];
+            final LNGIntVector stack = new LNGIntVector();
+            stack.push(root);
+            while (!stack.empty()) {
+                final int lit = stack.back();
+                stack.pop();
+                if (seen[lit]) {
+                    continue;
+                }
+                seen[lit] = true;
+                final int node = AndInverterGraph.node(lit);
+                if (!AndInverterGraph.isNegated(lit) && this.aig.isAnd(node)) {
+                    stack.push(this.aig.fanin1(node));
+                    stack.push(this.aig.fanin0(node));
+                } else {
+                    this.assertions.push(lit);
+                }
+            }
+        }
+
+        private Formula encode() {
+            computeReferences();
+            computeCuts();
+            for (int i = 0; i < this.assertions.size() && !this.conflict; i++) {
+                encodeAssertion(this.assertions.get(i));
+            }
+            for (int node = this.aig.numberOfNodes() - 1; node > 0 && !this.conflict; node--) {
+                final Cut cut = this.bestCuts[node];
+                if ((this.required[node] & POS) != 0) {
+                    addClauses(this.literals[node].negate(), cut, cut.truthTable ^ FULL);
+                }
+                if ((this.required[node] & NEG) != 0) {
+                    addClauses(this.literals[node], cut, cut.truthTable);
+                }
+            }
+            return this.conflict ? this.f.falsum() : this.f.cnf(this.clauses);
+        }
+
+        private void encodeAssertion(final int lit) {
+            if (lit == AndInverterGraph.TRUE) {
+                return;
+            }
+            if (lit == AndInverterGraph.FALSE) {
+                this.conflict = true;
+                return;
+            }
+            final int node = AndInverterGraph.node(lit);
+            final boolean phase = !AndInverterGraph.isNegated(lit);
+            if (!this.aig.isAnd(node)) {
+                this.clauses.add(phase ? this.aig.variable(node) : this.aig.variable(node).negate());
+                return;
+            }
+            final Cut cut = this.bestCuts[node];
+            addClauses(null, cut, phase ? cut.truthTable ^ FULL : cut.truthTable);
+        }
+
+        /**
+         * Adds the clauses {@code head | ~c} for each cube {@code c} of the cover of the given truth table over the
+         * leaves of the given cut.
+         * @param head       the additional literal of each clause, may be {@code null}
+         * @param cut        the cut
+         * @param truthTable the truth table
+         */
+        private void addClauses(final Literal head, final Cut cut, final int truthTable) {
+            for (final int cube : cover(truthTable)) {
+                this.clause.clear();
+                if (head != null) {
+                    this.clause.add(head);
+                }
+                for (int i = 0; i < cut.leaves.length; i++) {
+                    if ((cube & (1 << i)) != 0) {
+                        this.clause.add(leafLiteral(cut.leaves[i], false));
+                    } else if ((cube & (1 << (i + CUT_SIZE))) != 0) {
+                        this.clause.add(leafLiteral(cut.leaves[i], true));
+                    }
+                }
+                if (this.clause.isEmpty()) {
+                    this.conflict = true;
+                    return;
+                }
+                this.clauses.add(this.f.clause(this.clause));
+            }
+        }
+
+        private Literal leafLiteral(final int node, final boolean phase) {
+            if (!this.aig.isAnd(node)) {
+                return phase ? this.aig.variable(node) : this.aig.variable(node).negate();
+            }
+            if (this.literals[node] == null) {
+                this.literals[node] = this.f.newCNFVariable();
+            }
+            this.required[node] |= phase ? POS : NEG;
+            return phase ? this.literals[node] : this.literals[node].negate();
+        }
+
+        private void computeReferences() {
+            final boolean[] inCone = new boolean[this.aig.numberOfNodes()];
+            for (int i = 0; i < this.assertions.size(); i++) {
+                final int node = AndInverterGraph.node(this.assertions.get(i));
+                inCone[node] = true;
+                this.references[node]++;
+            }
+            for (int node = this.aig.numberOfNodes() - 1; node > 0; node--) {
+                if (inCone[node] && this.aig.isAnd(node)) {
+                    final int node0 = AndInverterGraph.node(this.aig.fanin0(node));
+                    final int node1 = AndInverterGraph.node(this.aig.fanin1(node));
+                    inCone[node0] = true;
+                    inCone[node1] = true;
+                    this.references[node0]++;
+                    this.references[node1]++;
+                }
+            }
+        }
+
+        private void computeCuts() {
+            for (int node = 0; node < this.aig.numberOfNodes(); node++) {
+                final List<Cut> nodeCuts = new ArrayList<>(CUTS_PER_NODE + 1);
+                if (this.references[node] > 0 && this.aig.isAnd(node)) {
+                    final int lit0 = this.aig.fanin0(node);
+                    final int lit1 = this.aig.fanin1(node);
+                    for (final Cut cut0 : this.cuts.get(AndInverterGraph.node(lit0))) {
+                        for (final Cut cut1 : this.cuts.get(AndInverterGraph.node(lit1))) {
+                            final Cut cut = merge(cut0, AndInverterGraph.isNegated(lit0), cut1, AndInverterGraph.isNegated(lit1));
+                            if (cut != null) {
+                                insert(nodeCuts, cut);
+                            }
+                        }
+                    }
+                    this.bestCuts[node] = nodeCuts.get(0);
+                    this.flows[node] = nodeCuts.get(0).flow;
+                }
+                nodeCuts.add(new Cut(new int[]{node}, VAR_MASKS[0]));
+                this.cuts.add(nodeCuts);
+            }
+        }
+
+        private void insert(final List<Cut> nodeCuts, final Cut cut) {
+            for (final Cut other : nodeCuts) {
+                if (other.isSubsetOf(cut)) {
+                    return;
+                }
+            }
+            nodeCuts.removeIf(other -> cut.isSubsetOf(other));
+            cut.flow = cost(cut.truthTable);
+            for (final int leaf : cut.leaves) {
+                cut.flow += this.flows[leaf] / Math.max(1, this.references[leaf]);
+            }
+            int pos = nodeCuts.size();
+            while (pos > 0 && (nodeCuts.get(pos - 1).flow > cut.flow
+                    || nodeCuts.get(pos - 1).flow == cut.flow && nodeCuts.get(pos - 1).leaves.length > cut.leaves.length)) {
+                pos--;
+            }
+            if (pos < CUTS_PER_NODE) {
+                nodeCuts.add(pos, cut);
+                if (nodeCuts.size() > CUTS_PER_NODE) {
+                    nodeCuts.remove(CUTS_PER_NODE);
+                }
+            }
+        }
+
+        private Cut merge(final Cut cut0, final boolean negated0, final Cut cut1, final boolean negated1) {
+            final int[] merged = new int[CUT_SIZE];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cut0.leaves.length || j < cut1.leaves.length) {
+                final int leaf;
+                if (j == cut1.leaves.length || i < cut0.leaves.length && cut0.leaves[i] < cut1.leaves[j]) {
+                    leaf = cut0.leaves[i++];
+                } else if (i == cut0.leaves.length || cut1.leaves[j] < cut0.leaves[i]) {
+                    leaf = cut1.leaves[j++];
+                } else {
+                    leaf = cut0.leaves[i++];
+                    j++;
+                }
+                if (size == CUT_SIZE) {
+                    return null;
+                }
+                merged[size++] = leaf;
+            }
+            final int truthTable0 = expand(cut0.truthTable, cut0.leaves, merged) ^ (negated0 ? FULL : 0);
+            final int truthTable1 = expand(cut1.truthTable, cut1.leaves, merged) ^ (negated1 ? FULL : 0);
+            return reduce(truthTable0 & truthTable1, merged, size);
+        }
+
+        /**
+         * Expresses the given truth table over the given leaves in terms of the merged leaves.
+         */
+        private int expand(final int truthTable, final int[] leaves, final int[] merged) {
+            final int[] positions = new int[leaves.length];
+            for (int i = 0, j = 0; i < leaves.length; i++) {
+                while (merged[j] != leaves[i]) {
+                    j++;
+                }
+                positions[i] = j;
+            }
+            int result = 0;
+            for (int minterm = 0; minterm < 1 << CUT_SIZE; minterm++) {
+                int source = 0;
+                for (int i = 0; i < positions.length; i++) {
+                    source |= ((minterm >>> positions[i]) & 1) << i;
+                }
+                result |= ((truthTable >>> source) & 1) << minterm;
+            }
+            return result & FULL;
+        }
+
+        /**
+         * Removes all leaves the truth table does not depend on.
+         */
+        private Cut reduce(final int truthTable, final int[] merged, final int size) {
+            final int[] support = new int[size];
+            int supportSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (cofactor0(truthTable, i) != cofactor1(truthTable, i)) {
+                    support[supportSize++] = i;
+                }
+            }
+            final int[] leaves = new int[supportSize];
+            for (int i = 0; i < supportSize; i++) {
+                leaves[i] = merged[support[i]];
+            }
+            if (supportSize == size) {
+                return new Cut(leaves, truthTable);
+            }
+            int result = 0;
+            for (int minterm = 0; minterm < 1 << CUT_SIZE; minterm++) {
+                int source = 0;
+                for (int i = 0; i < supportSize; i++) {
+                    source |= ((minterm >>> i) & 1) << support[i];
+                }
+                result |= ((truthTable >>> source) & 1) << minterm;
+            }
+            return new Cut(leaves, result & FULL);
+        }
+    }
+}
@@ -0,0 +1,375 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.transformations.cnf;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Equivalence;
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Implication;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Not;
+import org.logicng.formulas.Variable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An and-inverter graph (AIG) on integer node ids.
+ * <p>
+ * Each node is identified by a non-negative integer.  Node {@code 0} is the constant {@code false}, all other nodes are
+ * either inputs (representing a variable) or two-input AND gates.  Edges are represented as integer literals: the
+ * literal {@code 2 * n} refers to node {@code n}, the literal {@code 2 * n + 1} to its negation.  Hence the literal
+ * {@link #FALSE} is {@code 0} and the literal {@link #TRUE} is {@code 1}.
+ * <p>
+ * AND gates are structurally hashed, i.e. creating the same gate twice yields the same node, and constants as well
+ * as trivial cases like {@code a & a} or {@code a & ~a} are propagated on creation.  The fanins of an AND gate always
+ * have smaller node ids than the gate itself, so the node ids are a topological order of the graph.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class AndInverterGraph {
+
+    /**
+     * The literal of the constant {@code false}.
+     */
+    public static final int FALSE = 0;
+
+    /**
+     * The literal of the constant {@code true}.
+     */
+    public static final int TRUE = 1;
+
+    private static final int INPUT = -1;
+
+    private final LNGIntVector fanin0;
+    private final LNGIntVector fanin1;
+    private final List<Variable> variables;
+    private final Map<Variable, Integer> inputs;
+    private final Map<Formula, Integer> formulaLiterals;
+    private long[] hashKeys;
+    private int[] hashNodes;
+    private int numberOfAndNodes;
+
+    /**
+     * Constructs a new empty and-inverter graph which only contains the constant node.
+     */
+    public AndInverterGraph() {
+        this.fanin0 = new LNGIntVector();
+        this.fanin1 = new LNGIntVector();
+        this.variables = new ArrayList<>();
+        this.inputs = new HashMap<>();
+        this.formulaLiterals = new HashMap<>();
+        this.hashKeys = new long[1024];
+        this.hashNodes = new int[1024];
+        this.fanin0.push(INPUT);
+        this.fanin1.push(INPUT);
+        this.variables.add(null);
+    }
+
+    /**
+     * Returns the literal of the given node.
+     * @param node the node
+     * @return the positive literal of the node
+     */
+    public static int literal(final int node) {
+        return node << 1;
+    }
+
+    /**
+     * Returns the node of the given literal.
+     * @param literal the literal
+     * @return the node of the literal
+     */
+    public static int node(final int literal) {
+        return literal >> 1;
+    }
+
+    /**
+     * Returns {@code true} if the given literal is negated, {@code false} otherwise.
+     * @param literal the literal
+     * @return {@code true} if the given literal is negated
+     */
+    public static boolean isNegated(final int literal) {
+        return (literal & 1) == 1;
+    }
+
+    /**
+     * Returns the negation of the given literal.
+     * @param literal the literal
+     * @return the negation of the literal
+     */
+    public static int not(final int literal) {
+        return literal ^ 1;
+    }
+
+    /**
+     * Returns the positive literal of the input node for the given variable.  The node is created if it does not
+     * exist yet.
+     * @param variable the variable
+     * @return the positive literal of the input node
+     */
+    public int input(final Variable variable) {
+        final Integer node = this.inputs.get(variable);
+        if (node != null) {
+            return literal(node);
+        }
+        final int newNode = this.fanin0.size();
+        this.fanin0.push(INPUT);
+        this.fanin1.push(INPUT);
+        this.variables.add(variable);
+        this.inputs.put(variable, newNode);
+        return literal(newNode);
+    }
+
+    /**
+     * Returns the literal of the conjunction of two literals.
+     * @param a the first literal
+     * @param b the second literal
+     * @return the literal of the conjunction
+     */
+    public int and(final int a, final int b) {
+        if (a == FALSE || b == FALSE || a == not(b)) {
+            return FALSE;
+        }
+        if (a == TRUE || a == b) {
+            return b;
+        }
+        if (b == TRUE) {
+            return a;
+        }
+        final int lo = Math.min(a, b);
+        final int hi = Math.max(a, b);
+        final long key = ((long) lo << 32) | hi;
+        final int mask = this.hashKeys.length - 1;
+        int pos = hash(key) & mask;
+        while (this.hashNodes[pos] != 0) {
+            if (this.hashKeys[pos] == key) {
+                return literal(this.hashNodes[pos]);
+            }
+            pos = (pos + 1) & mask;
+        }
+        final int newNode = this.fanin0.size();
+        this.fanin0.push(lo);
+        this.fanin1.push(hi);
+        this.variables.add(null);
+        this.hashKeys[pos] = key;
+        this.hashNodes[pos] = newNode;
+        this.numberOfAndNodes++;
+        if (2 * this.numberOfAndNodes > this.hashKeys.length) {
+            rehash();
+        }
+        return literal(newNode);
+    }
+
+    /**
+     * Returns the literal of the disjunction of two literals.
+     * @param a the first literal
+     * @param b the second literal
+     * @return the literal of the disjunction
+     */
+    public int or(final int a, final int b) {
+        return not(and(not(a), not(b)));
+    }
+
+    /**
+     * Returns the literal of the conjunction of the given literals.  The conjunction is built as a balanced tree.
+     * @param literals the literals
+     * @return the literal of the conjunction
+     */
+    public int and(final LNGIntVector literals) {
+        if (literals.empty()) {
+            return TRUE;
+        }
+        final LNGIntVector level = new LNGIntVector(literals);
+        while (level.size() > 1) {
+            int newSize = 0;
+            for (int i = 0; i < level.size(); i += 2) {
+                level.set(newSize++, i + 1 < level.size() ? and(level.get(i), level.get(i + 1)) : level.get(i));
+            }
+            level.shrinkTo(newSize);
+        }
+        return level.get(0);
+    }
+
+    /**
+     * Returns the literal of the disjunction of the given literals.  The disjunction is built as a balanced tree.
+     * @param literals the literals
+     * @return the literal of the disjunction
+     */
+    public int or(final LNGIntVector literals) {
+        final LNGIntVector negated = new LNGIntVector(literals.size());
+        for (int i = 0; i < literals.size(); i++) {
+            negated.push(not(literals.get(i)));
+        }
+        return not(and(negated));
+    }
+
+    /**
+     * Adds the given formula to this graph and returns its literal.  Sub-formulas which were already added are reused.
+     * <p>
+     * Pseudo-Boolean constraints are added via their {@link Formula#nnf() NNF}.  Since this NNF may contain
+     * auxiliary variables of the pseudo-Boolean encoding, the resulting literal is only equisatisfiable to the
+     * formula if the constraint does not occur negatively.
+     * @param formula the formula
+     * @return the literal of the formula
+     */
+    public int add(final Formula formula) {
+        final Integer cached = this.formulaLiterals.get(formula);
+        if (cached != null) {
+            return cached;
+        }
+        final int result;
+        switch (formula.type()) {
+            case FALSE:
+                result = FALSE;
+                break;
+            case TRUE:
+                result = TRUE;
+                break;
+            case LITERAL:
+                final Literal lit = (Literal) formula;
+                final int var = input(lit.variable());
+                result = lit.phase() ? var : not(var);
+                break;
+            case NOT:
+                result = not(add(((Not) formula).operand()));
+                break;
+            case IMPL:
+                final Implication impl = (Implication) formula;
+                result = or(not(add(impl.left())), add(impl.right()));
+                break;
+            case EQUIV:
+                final Equivalence equiv = (Equivalence) formula;
+                final int left = add(equiv.left());
+                final int right = add(equiv.right());
+                result = or(and(left, right), and(not(left), not(right)));
+                break;
+            case AND:
+            case OR:
+                final LNGIntVector operands = new LNGIntVector(formula.numberOfOperands());
+                for (final Formula op : formula) {
+                    operands.push(add(op));
+                }
+                result = formula.type() == FType.AND ? and(operands) : or(operands);
+                break;
+            case PBC:
+                result = add(formula.nnf());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown formula type: " + formula.type());
+        }
+        this.formulaLiterals.put(formula, result);
+        return result;
+    }
+
+    /**
+     * Returns the number of nodes in this graph including the constant node.
+     * @return the number of nodes
+     */
+    public int numberOfNodes() {
+        return this.fanin0.size();
+    }
+
+    /**
+     * Returns the number of AND nodes in this graph.
+     * @return the number of AND nodes
+     */
+    public int numberOfAndNodes() {
+        return this.numberOfAndNodes;
+    }
+
+    /**
+     * Returns the number of input nodes in this graph.
+     * @return the number of input nodes
+     */
+    public int numberOfInputs() {
+        return this.inputs.size();
+    }
+
+    /**
+     * Returns {@code true} if the given node is an AND node, {@code false} if it is an input or the constant node.
+     * @param node the node
+     * @return {@code true} if the given node is an AND node
+     */
+    public boolean isAnd(final int node) {
+        return this.fanin0.get(node) != INPUT;
+    }
+
+    /**
+     * Returns the first fanin literal of the given AND node.
+     * @param node the AND node
+     * @return the first fanin literal
+     */
+    public int fanin0(final int node) {
+        return this.fanin0.get(node);
+    }
+
+    /**
+     * Returns the second fanin literal of the given AND node.
+     * @param node the AND node
+     * @return the second fanin literal
+     */
+    public int fanin1(final int node) {
+        return this.fanin1.get(node);
+    }
+
+    /**
+     * Returns the variable of the given input node or {@code null} if the node is not an input.
+     * @param node the node
+     * @return the variable of the node or {@code null}
+     */
+    public Variable variable(final int node) {
+        return this.variables.get(node);
+    }
+
+    private void rehash() {
+        final long[] oldKeys = this.hashKeys;
+        final int[] oldNodes = this.hashNodes;
+        this.hashKeys = new long[oldKeys.length << 1];
+        this.hashNodes = new int[oldNodes.length << 1];
+        final int mask = this.hashKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldNodes[i] != 0) {
+                int pos = hash(oldKeys[i]) & mask;
+                while (this.hashNodes[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+                this.hashKeys[pos] = oldKeys[i];
+                this.hashNodes[pos] = oldNodes[i];
+            }
+        }
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
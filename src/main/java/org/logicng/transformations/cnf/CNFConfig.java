@@ -33,7 +33,7 @@ import org.logicng.configurations.ConfigurationType;
 
 /**
  * The configuration object for the CNF encoding.
- * @version 1.2
+ * @version 2.5.0
  * @since 1.1
  */
 public final class CNFConfig extends Configuration {
@@ -42,7 +42,7 @@ public final class CNFConfig extends Configuration {
      * The algorithm for the CNF encoding.
      */
     public enum Algorithm {
-        FACTORIZATION, TSEITIN, PLAISTED_GREENBAUM, ADVANCED, BDD
+        FACTORIZATION, TSEITIN, PLAISTED_GREENBAUM, ADVANCED, BDD, AIG
     }
 
     final Algorithm algorithm;
@@ -111,15 +111,17 @@ public final class CNFConfig extends Configuration {
 
         /**
          * Sets the fallback algorithm for the advanced CNF encoding.  When the boundaries for the factorization are met, the
-         * encoding switches to this algorithm.  The default value is {@code TSEITIN}.
+         * encoding switches to this algorithm.  The default value is {@code TSEITIN}, other valid values are
+         * {@code PLAISTED_GREENBAUM} and {@code AIG}.
          * @param fallbackAlgorithmForAdvancedEncoding the fallback algorithm for the advanced CNF encoding
          * @return the builder
          */
         public Builder fallbackAlgorithmForAdvancedEncoding(final Algorithm fallbackAlgorithmForAdvancedEncoding) {
             if (fallbackAlgorithmForAdvancedEncoding != Algorithm.TSEITIN
-                    && fallbackAlgorithmForAdvancedEncoding != Algorithm.PLAISTED_GREENBAUM) {
-                throw new IllegalArgumentException("Fallback algorithm for advanced CNF encoding must be one of Tseitin or " +
-                        "Plaisted & Greenbaum");
+                    && fallbackAlgorithmForAdvancedEncoding != Algorithm.PLAISTED_GREENBAUM
+                    && fallbackAlgorithmForAdvancedEncoding != Algorithm.AIG) {
+                throw new IllegalArgumentException("Fallback algorithm for advanced CNF encoding must be one of Tseitin, " +
+                        "Plaisted & Greenbaum or AIG");
             }
             this.fallbackAlgorithmForAdvancedEncoding = fallbackAlgorithmForAdvancedEncoding;
             return this;
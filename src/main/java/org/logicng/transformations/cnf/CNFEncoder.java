@@ -28,23 +28,39 @@
 
 package org.logicng.transformations.cnf;
 
+import org.logicng.configurations.Configuration;
 import org.logicng.configurations.ConfigurationType;
 import org.logicng.formulas.FType;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.FormulaFactoryConfig;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
 import org.logicng.handlers.ComputationHandler;
 import org.logicng.handlers.FactorizationHandler;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * An encoder for conjunctive normal form (CNF).
- * @version 2.3.0
+ * @version 2.5.0
  * @since 1.1
  */
 public class CNFEncoder {
 
+    private static final int FORMULAS_PER_TASK = 128;
+
     protected final FormulaFactory f;
     protected final CNFConfig config;
 
@@ -53,6 +69,7 @@ public class CNFEncoder {
     protected BDDCNFTransformation bddCnfTransformation;
     protected TseitinTransformation tseitin;
     protected PlaistedGreenbaumTransformation plaistedGreenbaum;
+    protected AIGCNFTransformation aigCnfTransformation;
     protected int currentAtomBoundary;
     protected AdvancedFactorizationHandler factorizationHandler;
 
@@ -103,6 +120,8 @@ public class CNFEncoder {
                     this.bddCnfTransformation = new BDDCNFTransformation();
                 }
                 return formula.transform(this.bddCnfTransformation);
+            case AIG:
+                return formula.transform(aigCnfTransformation());
             case ADVANCED:
                 if (this.factorizationHandler == null) {
                     this.factorizationHandler = new AdvancedFactorizationHandler();
@@ -115,9 +134,185 @@ public class CNFEncoder {
         }
     }
 
+    /**
+     * Encodes a formula to CNF using multiple threads.
+     * <p>
+     * If the formula is a conjunction, its operands are encoded concurrently as described in
+     * {@link #encodeParallel(Collection, int)} and the conjunction of their encodings is returned.  All other
+     * formulas are encoded like in {@link #encode(Formula)}.
+     * @param formula    the formula
+     * @param numThreads the number of worker threads
+     * @return the CNF encoding of the formula
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public Formula encodeParallel(final Formula formula, final int numThreads) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("The number of threads must be positive: " + numThreads);
+        }
+        if (formula.type() != FType.AND) {
+            return encode(formula);
+        }
+        final List<Formula> operands = new ArrayList<>(formula.numberOfOperands());
+        for (final Formula op : formula) {
+            operands.add(op);
+        }
+        return this.f.and(encodeParallel(operands, numThreads));
+    }
+
+    /**
+     * Encodes each of the given formulas to CNF using multiple threads.
+     * <p>
+     * The formulas are split into fixed-size chunks which are encoded by the worker threads, each in its own private
+     * formula factory with the configurations of this encoder's factory.  Since the formula factory is not
+     * thread-safe, the auxiliary variables introduced by the workers are replaced by new auxiliary variables of this
+     * encoder's factory on the calling thread, in the order of the formulas.  Therefore, the result only depends on
+     * the formulas and not on the number of threads or the scheduling.  Sub-formulas which are shared between
+     * formulas get their own auxiliary variables in each formula.  For a single thread, the chunks are encoded on the
+     * calling thread without an executor.
+     * @param formulas   the formulas
+     * @param numThreads the number of worker threads
+     * @return the CNF encodings of the formulas in the same order
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public List<Formula> encodeParallel(final Collection<? extends Formula> formulas, final int numThreads) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("The number of threads must be positive: " + numThreads);
+        }
+        final List<Formula> result = new ArrayList<>(formulas.size());
+        final CNFConfig cnfConfig = this.config();
+        final List<Configuration> configurations = new ArrayList<>();
+        for (final ConfigurationType type : new ConfigurationType[]{ConfigurationType.CC_ENCODER, ConfigurationType.PB_ENCODER}) {
+            final Configuration configuration = this.f.configurationFor(type);
+            if (configuration != null) {
+                configurations.add(configuration);
+            }
+        }
+        final String workerName = this.f.name() + "_PARALLEL";
+        if (numThreads == 1) {
+            final Iterator<? extends Formula> iterator = formulas.iterator();
+            while (iterator.hasNext()) {
+                for (final WorkerResult workerResult : encodeChunk(nextChunk(iterator), workerName, cnfConfig, configurations)) {
+                    result.add(importEncoding(workerResult));
+                }
+            }
+            return result;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            final ArrayDeque<Future<List<WorkerResult>>> pending = new ArrayDeque<>();
+            final Iterator<? extends Formula> iterator = formulas.iterator();
+            while (true) {
+                while (iterator.hasNext() && pending.size() < 2 * numThreads) {
+                    final List<Formula> chunk = nextChunk(iterator);
+                    pending.add(executor.submit(() -> encodeChunk(chunk, workerName, cnfConfig, configurations)));
+                }
+                if (pending.isEmpty()) {
+                    return result;
+                }
+                for (final WorkerResult workerResult : await(pending.poll())) {
+                    result.add(importEncoding(workerResult));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Formula> nextChunk(final Iterator<? extends Formula> iterator) {
+        final List<Formula> chunk = new ArrayList<>(FORMULAS_PER_TASK);
+        while (iterator.hasNext() && chunk.size() < FORMULAS_PER_TASK) {
+            chunk.add(iterator.next());
+        }
+        return chunk;
+    }
+
+    private static List<WorkerResult> encodeChunk(final List<Formula> formulas, final String workerName, final CNFConfig cnfConfig,
+                                                  final List<Configuration> configurations) {
+        final FormulaFactory worker = new FormulaFactory(FormulaFactoryConfig.builder().name(workerName).build());
+        for (final Configuration configuration : configurations) {
+            worker.putConfiguration(configuration);
+        }
+        final CNFEncoder encoder = new CNFEncoder(worker, cnfConfig);
+        final List<WorkerResult> results = new ArrayList<>(formulas.size());
+        for (final Formula formula : formulas) {
+            final Formula imported = worker.importFormula(formula);
+            results.add(new WorkerResult(encoder.encode(imported), imported.variables()));
+        }
+        return results;
+    }
+
+    /**
+     * Imports the CNF of a worker into this encoder's factory and replaces all variables which do not occur in the
+     * original formula by new auxiliary variables.
+     * @param workerResult the result of the worker
+     * @return the imported CNF
+     */
+    private Formula importEncoding(final WorkerResult workerResult) {
+        final Map<Variable, Variable> auxiliaryVariables = new HashMap<>();
+        switch (workerResult.cnf.type()) {
+            case TRUE:
+            case FALSE:
+                return this.f.importFormula(workerResult.cnf);
+            case LITERAL:
+            case OR:
+                return importClause(workerResult.cnf, workerResult.variables, auxiliaryVariables);
+            case AND:
+                final List<Formula> clauses = new ArrayList<>(workerResult.cnf.numberOfOperands());
+                for (final Formula clause : workerResult.cnf) {
+                    clauses.add(importClause(clause, workerResult.variables, auxiliaryVariables));
+                }
+                return this.f.cnf(clauses);
+            default:
+                throw new IllegalStateException("Unexpected type of a CNF: " + workerResult.cnf.type());
+        }
+    }
+
+    private Formula importClause(final Formula clause, final SortedSet<Variable> variables, final Map<Variable, Variable> auxiliaryVariables) {
+        if (clause.type() == FType.LITERAL) {
+            return importLiteral((Literal) clause, variables, auxiliaryVariables);
+        }
+        final List<Literal> literals = new ArrayList<>(clause.numberOfOperands());
+        for (final Formula literal : clause) {
+            literals.add(importLiteral((Literal) literal, variables, auxiliaryVariables));
+        }
+        return this.f.clause(literals);
+    }
+
+    private Literal importLiteral(final Literal literal, final SortedSet<Variable> variables, final Map<Variable, Variable> auxiliaryVariables) {
+        final Variable variable = literal.variable();
+        if (variables.contains(variable)) {
+            return this.f.literal(literal.name(), literal.phase());
+        }
+        final Variable auxiliaryVariable = auxiliaryVariables.computeIfAbsent(variable, v -> {
+            if (v.name().startsWith(FormulaFactory.CC_PREFIX)) {
+                return this.f.newCCVariable();
+            } else if (v.name().startsWith(FormulaFactory.PB_PREFIX)) {
+                return this.f.newPBVariable();
+            } else {
+                return this.f.newCNFVariable();
+            }
+        });
+        return literal.phase() ? auxiliaryVariable : auxiliaryVariable.negate();
+    }
+
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel CNF encoding was interrupted", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Parallel CNF encoding failed", e.getCause());
+        }
+    }
+
     /**
      * Encodes the given formula to CNF by first trying to use Factorization for the single sub-formulas.  When certain
-     * user-provided boundaries are met, the method is switched to Tseitin or Plaisted &amp; Greenbaum.
+     * user-provided boundaries are met, the method is switched to Tseitin, Plaisted &amp; Greenbaum or the AIG-based
+     * transformation.
      * @param formula the formula
      * @return the CNF encoding of the formula
      */
@@ -150,6 +345,9 @@ public class CNFEncoder {
                     }
                     result = formula.transform(this.plaistedGreenbaum);
                     break;
+                case AIG:
+                    result = formula.transform(aigCnfTransformation());
+                    break;
                 default:
                     throw new IllegalStateException("Invalid fallback CNF encoding algorithm: " + this.config().fallbackAlgorithmForAdvancedEncoding);
             }
@@ -157,6 +355,14 @@ public class CNFEncoder {
         return result;
     }
 
+    private AIGCNFTransformation aigCnfTransformation() {
+        if (this.aigCnfTransformation == null || this.currentAtomBoundary != this.config().atomBoundary) {
+            this.currentAtomBoundary = this.config().atomBoundary;
+            this.aigCnfTransformation = new AIGCNFTransformation(this.config().atomBoundary);
+        }
+        return this.aigCnfTransformation;
+    }
+
     /**
      * Returns the current configuration of this encoder.  If the encoder was constructed with a given configuration, this
      * configuration will always be used.  Otherwise, the current configuration from the formula factory is used.
@@ -171,6 +377,19 @@ public class CNFEncoder {
         return this.config().toString();
     }
 
+    /**
+     * The CNF of a formula computed by a worker together with the variables of the original formula.
+     */
+    private static final class WorkerResult {
+        private final Formula cnf;
+        private final SortedSet<Variable> variables;
+
+        private WorkerResult(final Formula cnf, final SortedSet<Variable> variables) {
+            this.cnf = cnf;
+            this.variables = variables;
+        }
+    }
+
     /**
      * The factorization handler for the advanced CNF encoding.
      */
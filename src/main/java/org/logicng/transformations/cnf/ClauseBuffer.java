@@ -0,0 +1,161 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.transformations.cnf;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A clause sink which stores the clauses in primitive integer vectors.  All literals are kept in a single vector, so
+ * a clause costs only its literals and one offset instead of a formula object per clause and literal.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class ClauseBuffer implements ClauseSink {
+
+    private final Map<Variable, Integer> var2idx;
+    private final List<Variable> idx2var;
+    private final LNGIntVector literals;
+    private final LNGIntVector clauseEnds;
+
+    /**
+     * Constructs a new empty clause buffer.
+     */
+    public ClauseBuffer() {
+        this.var2idx = new HashMap<>();
+        this.idx2var = new ArrayList<>();
+        this.literals = new LNGIntVector();
+        this.clauseEnds = new LNGIntVector();
+    }
+
+    @Override
+    public int variable(final Variable variable) {
+        Integer index = this.var2idx.get(variable);
+        if (index == null) {
+            index = this.idx2var.size();
+            this.var2idx.put(variable, index);
+            this.idx2var.add(variable);
+        }
+        return index;
+    }
+
+    @Override
+    public int newVariable() {
+        this.idx2var.add(null);
+        return this.idx2var.size() - 1;
+    }
+
+    @Override
+    public void addClause(final LNGIntVector clause) {
+        for (int i = 0; i < clause.size(); i++) {
+            this.literals.push(clause.get(i));
+        }
+        this.clauseEnds.push(this.literals.size());
+    }
+
+    /**
+     * Returns the number of variables including the auxiliary variables.
+     * @return the number of variables
+     */
+    public int numberOfVariables() {
+        return this.idx2var.size();
+    }
+
+    /**
+     * Returns the number of clauses.
+     * @return the number of clauses
+     */
+    public int numberOfClauses() {
+        return this.clauseEnds.size();
+    }
+
+    /**
+     * Returns the variable with the given index or {@code null} if it is an auxiliary variable.
+     * @param index the index
+     * @return the variable with the given index
+     */
+    public Variable variableForIndex(final int index) {
+        return this.idx2var.get(index);
+    }
+
+    /**
+     * Returns the literals of the clause with the given index.
+     * @param index the index of the clause
+     * @return the literals of the clause
+     */
+    public int[] clause(final int index) {
+        final int start = index == 0 ? 0 : this.clauseEnds.get(index - 1);
+        final int end = this.clauseEnds.get(index);
+        final int[] clause = new int[end - start];
+        for (int i = start; i < end; i++) {
+            clause[i - start] = this.literals.get(i);
+        }
+        return clause;
+    }
+
+    /**
+     * Returns the conjunction of the stored clauses.  Auxiliary variables are replaced by new CNF variables of the
+     * given formula factory.  This creates the whole CNF as formula and is meant for small instances.
+     * @param f the formula factory
+     * @return the stored clauses as formula
+     */
+    public Formula toFormula(final FormulaFactory f) {
+        final Variable[] vars = new Variable[this.idx2var.size()];
+        for (int i = 0; i < vars.length; i++) {
+            final Variable var = this.idx2var.get(i);
+            vars[i] = var != null ? var : f.newCNFVariable();
+        }
+        final List<Formula> clauses = new ArrayList<>(this.clauseEnds.size());
+        final List<Literal> clause = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < this.clauseEnds.size(); i++) {
+            clause.clear();
+            for (int j = start; j < this.clauseEnds.get(i); j++) {
+                final int lit = this.literals.get(j);
+                clause.add((lit & 1) == 0 ? vars[lit >> 1] : vars[lit >> 1].negate());
+            }
+            clauses.add(f.or(clause));
+            start = this.clauseEnds.get(i);
+        }
+        return f.and(clauses);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ClauseBuffer{variables=%d, clauses=%d}", numberOfVariables(), numberOfClauses());
+    }
+}
@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.transformations.cnf;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Variable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A clause sink which only counts the clauses, literals and variables it receives.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class ClauseCounter implements ClauseSink {
+
+    private final Map<Variable, Integer> var2idx = new HashMap<>();
+    private int numberOfVariables;
+    private int numberOfAuxiliaryVariables;
+    private long numberOfClauses;
+    private long numberOfLiterals;
+
+    @Override
+    public int variable(final Variable variable) {
+        return this.var2idx.computeIfAbsent(variable, v -> this.numberOfVariables++);
+    }
+
+    @Override
+    public int newVariable() {
+        this.numberOfAuxiliaryVariables++;
+        return this.numberOfVariables++;
+    }
+
+    @Override
+    public void addClause(final LNGIntVector clause) {
+        this.numberOfClauses++;
+        this.numberOfLiterals += clause.size();
+    }
+
+    /**
+     * Returns the number of variables including the auxiliary variables.
+     * @return the number of variables
+     */
+    public int numberOfVariables() {
+        return this.numberOfVariables;
+    }
+
+    /**
+     * Returns the number of auxiliary variables.
+     * @return the number of auxiliary variables
+     */
+    public int numberOfAuxiliaryVariables() {
+        return this.numberOfAuxiliaryVariables;
+    }
+
+    /**
+     * Returns the number of clauses.
+     * @return the number of clauses
+     */
+    public long numberOfClauses() {
+        return this.numberOfClauses;
+    }
+
+    /**
+     * Returns the total number of literals in all clauses.
+     * @return the number of literals
+     */
+    public long numberOfLiterals() {
+        return this.numberOfLiterals;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ClauseCounter{variables=%d, auxiliaryVariables=%d, clauses=%d, literals=%d}", this.numberOfVariables,
+                this.numberOfAuxiliaryVariables, this.numberOfClauses, this.numberOfLiterals);
+    }
+}
@@ -0,0 +1,63 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.transformations.cnf;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Variable;
+
+/**
+ * A consumer for the clauses of a {@link StreamingCNFTransformation}.
+ * <p>
+ * A sink manages its own variable indices.  Literals are encoded as in the internal SAT solvers: the positive literal
+ * of the variable with index {@code i} is {@code 2 * i}, the negative literal is {@code 2 * i + 1}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public interface ClauseSink {
+
+    /**
+     * Returns the index of the given variable and registers the variable if it is new.
+     * @param variable the variable
+     * @return the index of the variable
+     */
+    int variable(Variable variable);
+
+    /**
+     * Returns the index of a new auxiliary variable.
+     * @return the index of the new variable
+     */
+    int newVariable();
+
+    /**
+     * Adds a clause.  The clause vector is only valid during this call, a sink which wants to keep or modify it must
+     * copy it.
+     * @param clause the literals of the clause
+     */
+    void addClause(LNGIntVector clause);
+}
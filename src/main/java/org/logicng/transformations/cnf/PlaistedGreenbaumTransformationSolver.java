@@ -28,6 +28,7 @@
 
 package org.logicng.transformations.cnf;
 
+import org.logicng.collections.LNGBooleanVector;
 import org.logicng.collections.LNGIntVector;
 import org.logicng.formulas.Equivalence;
 import org.logicng.formulas.FType;
@@ -41,14 +42,21 @@ import org.logicng.propositions.Proposition;
 import org.logicng.solvers.sat.MiniSatStyleSolver;
 import org.logicng.util.Pair;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * A Plaisted-Greenbaum CNF conversion which is performed directly on the internal SAT solver,
  * not on a formula factory.
- * @version 2.0.0
+ * <p>
+ * The transformation caches the auxiliary variables of sub-formulas together with the polarities for which their
+ * defining clauses were added to the solver.  In order to keep this cache valid when solver states are saved and
+ * loaded, the transformation has to be notified via {@link #saveState(int)} and {@link #loadState(int)}.  Loading a
+ * state then only removes the cache entries whose defining clauses were added after the state was saved.
+ * @version 2.5.0
  * @since 1.6.0
  */
 public final class PlaistedGreenbaumTransformationSolver {
@@ -57,6 +65,9 @@ public final class PlaistedGreenbaumTransformationSolver {
     private final Map<Formula, VarCacheEntry> variableCache;
     private final MiniSatStyleSolver solver;
     private final boolean initialPhase;
+    private final List<Formula> cachedFormulas;
+    private final LNGBooleanVector cachedPolarities;
+    private int currentLevel;
 
     /**
      * Constructs a new transformation for a given SAT solver.
@@ -69,6 +80,8 @@ public final class PlaistedGreenbaumTransformationSolver {
         this.variableCache = new HashMap<>();
         this.solver = solver;
         this.initialPhase = initialPhase;
+        this.cachedFormulas = new ArrayList<>();
+        this.cachedPolarities = new LNGBooleanVector();
     }
 
     /**
@@ -94,6 +107,40 @@ public final class PlaistedGreenbaumTransformationSolver {
      */
     public void clearCache() {
         this.variableCache.clear();
+        this.cachedFormulas.clear();
+        this.cachedPolarities.clear();
+    }
+
+    /**
+     * Notifies this transformation that the state of the solver was saved.  All cache entries created until now stay
+     * valid when this state is loaded.
+     * @param stateId the id of the saved state, state ids must be strictly increasing
+     */
+    public void saveState(final int stateId) {
+        this.currentLevel = stateId + 1;
+    }
+
+    /**
+     * Notifies this transformation that a previously saved state of the solver was loaded.  All cache entries whose
+     * defining clauses were added to the solver after the state was saved are removed, all other entries are kept.
+     * @param stateId the id of the loaded state
+     */
+    public void loadState(final int stateId) {
+        while (!this.cachedFormulas.isEmpty()) {
+            final int last = this.cachedFormulas.size() - 1;
+            final Formula formula = this.cachedFormulas.get(last);
+            final boolean polarity = this.cachedPolarities.get(last);
+            final VarCacheEntry entry = this.variableCache.get(formula);
+            if (entry.level(polarity) <= stateId) {
+                break;
+            }
+            if (entry.removePolarity(polarity)) {
+                this.variableCache.remove(formula);
+            }
+            this.cachedFormulas.remove(last);
+            this.cachedPolarities.pop();
+        }
+        this.currentLevel = stateId + 1;
     }
 
     private void addCNF(final Formula cnf, final Proposition proposition) {
@@ -283,7 +330,12 @@ public final class PlaistedGreenbaumTransformationSolver {
 
     private Pair<Boolean, Integer> getPgVar(final Formula formula, final boolean polarity) {
         final VarCacheEntry entry = this.variableCache.computeIfAbsent(formula, i -> new VarCacheEntry(newSolverVariable()));
-        final boolean wasCached = entry.setPolarityCached(polarity);
+        final boolean wasCached = entry.setPolarityCached(polarity, this.currentLevel);
+        if (!wasCached && this.currentLevel > 0) {
+            // entries of level 0 were created before any state was saved and can never be removed by loading a state
+            this.cachedFormulas.add(formula);
+            this.cachedPolarities.push(polarity);
+        }
         final int pgVar = entry.pgVar;
         return new Pair<>(wasCached, pgVar);
     }
@@ -349,24 +401,47 @@ public final class PlaistedGreenbaumTransformationSolver {
     }
 
     private static class VarCacheEntry {
+        private static final int NOT_CACHED = -1;
         private final Integer pgVar;
-        private boolean posPolarityCached = false;
-        private boolean negPolarityCached = false;
+        private int posPolarityLevel = NOT_CACHED;
+        private int negPolarityLevel = NOT_CACHED;
 
         public VarCacheEntry(final Integer pgVar) {
             this.pgVar = pgVar;
         }
 
-        public boolean setPolarityCached(final boolean polarity) {
+        public boolean setPolarityCached(final boolean polarity, final int level) {
             final boolean wasCached;
             if (polarity) {
-                wasCached = this.posPolarityCached;
-                this.posPolarityCached = true;
+                wasCached = this.posPolarityLevel != NOT_CACHED;
+                if (!wasCached) {
+                    this.posPolarityLevel = level;
+                }
             } else {
-                wasCached = this.negPolarityCached;
-                this.negPolarityCached = true;
+                wasCached = this.negPolarityLevel != NOT_CACHED;
+                if (!wasCached) {
+                    this.negPolarityLevel = level;
+                }
             }
             return wasCached;
         }
+
+        public int level(final boolean polarity) {
+            return polarity ? this.posPolarityLevel : this.negPolarityLevel;
+        }
+
+        /**
+         * Removes the given polarity from this entry.
+         * @param polarity the polarity
+         * @return {@code true} if no polarity is cached anymore and the entry can be removed
+         */
+        public boolean removePolarity(final boolean polarity) {
+            if (polarity) {
+                this.posPolarityLevel = NOT_CACHED;
+            } else {
+                this.negPolarityLevel = NOT_CACHED;
+            }
+            return this.posPolarityLevel == NOT_CACHED && this.negPolarityLevel == NOT_CACHED;
+        }
     }
 }
\ No newline at end of file
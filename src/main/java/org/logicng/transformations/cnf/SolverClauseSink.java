@@ -0,0 +1,92 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.transformations.cnf;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.propositions.Proposition;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.MiniSatStyleSolver;
+
+/**
+ * A clause sink which adds the clauses directly to the underlying solver of a {@link MiniSat} solver.  Variables are
+ * looked up by their name in the solver, auxiliary variables are named like the ones of the solver's own
+ * Plaisted-Greenbaum transformation.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class SolverClauseSink implements ClauseSink {
+
+    private final MiniSat solver;
+    private final MiniSatStyleSolver underlyingSolver;
+    private final Proposition proposition;
+
+    /**
+     * Constructs a new sink for the given solver.
+     * @param solver the solver
+     */
+    public SolverClauseSink(final MiniSat solver) {
+        this(solver, null);
+    }
+
+    /**
+     * Constructs a new sink for the given solver which adds all clauses with the given proposition.
+     * @param solver      the solver
+     * @param proposition the proposition of the clauses, may be {@code null}
+     */
+    public SolverClauseSink(final MiniSat solver, final Proposition proposition) {
+        this.solver = solver;
+        this.underlyingSolver = solver.underlyingSolver();
+        this.proposition = proposition;
+    }
+
+    @Override
+    public int variable(final Variable variable) {
+        int index = this.underlyingSolver.idxForName(variable.name());
+        if (index == -1) {
+            index = this.underlyingSolver.newVar(!this.solver.initialPhase(), true);
+            this.underlyingSolver.addName(variable.name(), index);
+        }
+        return index;
+    }
+
+    @Override
+    public int newVariable() {
+        final int index = this.underlyingSolver.newVar(!this.solver.initialPhase(), true);
+        this.underlyingSolver.addName(FormulaFactory.CNF_PREFIX + "MINISAT_" + index, index);
+        return index;
+    }
+
+    @Override
+    public void addClause(final LNGIntVector clause) {
+        this.solver.setSolverToUndef();
+        this.underlyingSolver.addClause(new LNGIntVector(clause), this.proposition);
+    }
+}
@@ -0,0 +1,346 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.transformations.cnf;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Literal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A CNF transformation which emits the clauses one by one into a {@link ClauseSink} instead of building the CNF as a
+ * formula.  The transformed formulas are first converted to NNF, each top-level operand of the NNF is then transformed
+ * separately, so the CNF of a large conjunction never exists as a whole.
+ * <p>
+ * The supported algorithms are {@link CNFConfig.Algorithm#FACTORIZATION FACTORIZATION},
+ * {@link CNFConfig.Algorithm#TSEITIN TSEITIN} and {@link CNFConfig.Algorithm#PLAISTED_GREENBAUM PLAISTED_GREENBAUM}.
+ * As in {@link TseitinTransformation} and {@link PlaistedGreenbaumTransformation}, operands with fewer atoms than the
+ * factorization boundary are factorized.  The factorization works on primitive clauses and keeps only the clauses of
+ * the current top-level operand in memory.
+ * <p>
+ * The auxiliary variables of sub-formulas are cached for the lifetime of the transformation, so a transformation must
+ * always be used with the same sink.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public final class StreamingCNFTransformation {
+
+    private final ClauseSink sink;
+    private final CNFConfig.Algorithm algorithm;
+    private final int boundaryForFactorization;
+    private final Map<Formula, Integer> variableCache;
+    private final LNGIntVector clause;
+    private long numberOfClauses;
+
+    /**
+     * Constructs a new streaming transformation with a factorization boundary of 12.
+     * @param sink      the sink for the clauses
+     * @param algorithm the CNF algorithm
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    public StreamingCNFTransformation(final ClauseSink sink, final CNFConfig.Algorithm algorithm) {
+        this(sink, algorithm, 12);
+    }
+
+    /**
+     * Constructs a new streaming transformation.
+     * @param sink                     the sink for the clauses
+     * @param algorithm                the CNF algorithm
+     * @param boundaryForFactorization the boundary of number of atoms up to which classical factorization is used by
+     *                                 Tseitin and Plaisted &amp; Greenbaum
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    public StreamingCNFTransformation(final ClauseSink sink, final CNFConfig.Algorithm algorithm, final int boundaryForFactorization) {
+        if (algorithm != CNFConfig.Algorithm.FACTORIZATION && algorithm != CNFConfig.Algorithm.TSEITIN
+                && algorithm != CNFConfig.Algorithm.PLAISTED_GREENBAUM) {
+            throw new IllegalArgumentException("Unsupported algorithm for a streaming CNF transformation: " + algorithm);
+        }
+        this.sink = sink;
+        this.algorithm = algorithm;
+        this.boundaryForFactorization = boundaryForFactorization;
+        this.variableCache = new HashMap<>();
+        this.clause = new LNGIntVector();
+    }
+
+    /**
+     * Transforms the given formula and emits its clauses into the sink.
+     * @param formula the formula
+     */
+    public void add(final Formula formula) {
+        final Formula nnf = formula.nnf();
+        switch (nnf.type()) {
+            case TRUE:
+                break;
+            case FALSE:
+                this.clause.clear();
+                emitClause();
+                break;
+            case AND:
+                for (final Formula op : nnf) {
+                    addConjunct(op);
+                }
+                break;
+            default:
+                addConjunct(nnf);
+        }
+    }
+
+    /**
+     * Transforms the given formulas and emits their clauses into the sink.
+     * @param formulas the formulas
+     */
+    public void add(final Collection<? extends Formula> formulas) {
+        for (final Formula formula : formulas) {
+            add(formula);
+        }
+    }
+
+    /**
+     * Returns the number of clauses emitted so far.
+     * @return the number of clauses emitted so far
+     */
+    public long numberOfClauses() {
+        return this.numberOfClauses;
+    }
+
+    /**
+     * Clears the cache of auxiliary variables.  Sub-formulas which are transformed again afterwards get new auxiliary
+     * variables.
+     */
+    public void clearCache() {
+        this.variableCache.clear();
+    }
+
+    private void addConjunct(final Formula formula) {
+        if (this.algorithm == CNFConfig.Algorithm.FACTORIZATION || formula.numberOfAtoms() < this.boundaryForFactorization) {
+            for (final Clause factorized : factorize(formula)) {
+                this.clause.clear();
+                for (final int lit : factorized.literals) {
+                    this.clause.push(lit);
+                }
+                emitClause();
+            }
+            return;
+        }
+        switch (formula.type()) {
+            case LITERAL:
+                this.clause.clear();
+                this.clause.push(literal((Literal) formula));
+                emitClause();
+                break;
+            case OR:
+                final int[] operands = definedOperands(formula);
+                this.clause.clear();
+                for (final int op : operands) {
+                    this.clause.push(op);
+                }
+                emitClause();
+                break;
+            default:
+                throw new IllegalArgumentException("Could not process the formula type " + formula.type());
+        }
+    }
+
+    /**
+     * Computes the clauses of the given formula in NNF by factorization.  Duplicate literals, tautological clauses and
+     * duplicate clauses are removed.
+     * @param formula the formula
+     * @return the clauses
+     */
+    private Set<Clause> factorize(final Formula formula) {
+        switch (formula.type()) {
+            case TRUE:
+                return new LinkedHashSet<>();
+            case FALSE:
+                return new LinkedHashSet<>(Collections.singletonList(new Clause(new int[0])));
+            case LITERAL:
+                return new LinkedHashSet<>(Collections.singletonList(new Clause(new int[]{literal((Literal) formula)})));
+            case AND: {
+                final Set<Clause> result = new LinkedHashSet<>();
+                for (final Formula op : formula) {
+                    result.addAll(factorize(op));
+                }
+                return result;
+            }
+            case OR: {
+                Set<Clause> result = null;
+                for (final Formula op : formula) {
+                    final Set<Clause> opClauses = factorize(op);
+                    if (result == null) {
+                        result = opClauses;
+                        continue;
+                    }
+                    final Set<Clause> distributed = new LinkedHashSet<>();
+                    for (final Clause clause1 : result) {
+                        for (final Clause clause2 : opClauses) {
+                            final Clause merged = clause1.merge(clause2);
+                            if (merged != null) {
+                                distributed.add(merged);
+                            }
+                        }
+                    }
+                    result = distributed;
+                }
+                return result;
+            }
+            default:
+                throw new IllegalArgumentException("Could not process the formula type " + formula.type());
+        }
+    }
+
+    private int[] definedOperands(final Formula formula) {
+        final int[] operands = new int[formula.numberOfOperands()];
+        int i = 0;
+        for (final Formula op : formula) {
+            operands[i++] = op.type() == FType.LITERAL ? literal((Literal) op) : auxiliaryVariable(op);
+        }
+        return operands;
+    }
+
+    private int auxiliaryVariable(final Formula formula) {
+        final Integer cached = this.variableCache.get(formula);
+        if (cached != null) {
+            return cached;
+        }
+        final int[] operands = definedOperands(formula);
+        final int pgVar = this.sink.newVariable() * 2;
+        this.variableCache.put(formula, pgVar);
+        switch (formula.type()) {
+            case AND:
+                // pg => (v1 & ... & vk) = (~pg | v1) & ... & (~pg | vk)
+                for (final int op : operands) {
+                    emitClause(pgVar ^ 1, op);
+                }
+                if (this.algorithm == CNFConfig.Algorithm.TSEITIN) {
+                    // (v1 & ... & vk) => pg = ~v1 | ... | ~vk | pg
+                    this.clause.clear();
+                    this.clause.push(pgVar);
+                    for (final int op : operands) {
+                        this.clause.push(op ^ 1);
+                    }
+                    emitClause();
+                }
+                break;
+            case OR:
+                // pg => (v1 | ... | vk) = ~pg | v1 | ... | vk
+                this.clause.clear();
+                this.clause.push(pgVar ^ 1);
+                for (final int op : operands) {
+                    this.clause.push(op);
+                }
+                emitClause();
+                if (this.algorithm == CNFConfig.Algorithm.TSEITIN) {
+                    // (v1 | ... | vk) => pg = (~v1 | pg) & ... & (~vk | pg)
+                    for (final int op : operands) {
+                        emitClause(pgVar, op ^ 1);
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Could not process the formula type " + formula.type());
+        }
+        return pgVar;
+    }
+
+    private int literal(final Literal literal) {
+        final int index = this.sink.variable(literal.variable());
+        return literal.phase() ? index * 2 : index * 2 + 1;
+    }
+
+    private void emitClause(final int lit1, final int lit2) {
+        this.clause.clear();
+        this.clause.push(lit1);
+        this.clause.push(lit2);
+        emitClause();
+    }
+
+    private void emitClause() {
+        this.sink.addClause(this.clause);
+        this.numberOfClauses++;
+    }
+
+    /**
+     * A clause of the factorization with sorted literals.
+     */
+    private static final class Clause {
+        private final int[] literals;
+        private final int hashCode;
+
+        private Clause(final int[] literals) {
+            this.literals = literals;
+            this.hashCode = Arrays.hashCode(literals);
+        }
+
+        /**
+         * Returns the disjunction of this clause and the given clause or {@code null} if it is a tautology.
+         * @param other the other clause
+         * @return the disjunction of both clauses
+         */
+        private Clause merge(final Clause other) {
+            final int[] merged = new int[this.literals.length + other.literals.length];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < this.literals.length || j < other.literals.length) {
+                final int lit;
+                if (j == other.literals.length || i < this.literals.length && this.literals[i] < other.literals[j]) {
+                    lit = this.literals[i++];
+                } else if (i == this.literals.length || other.literals[j] < this.literals[i]) {
+                    lit = other.literals[j++];
+                } else {
+                    lit = this.literals[i++];
+                    j++;
+                }
+                if (size > 0 && merged[size - 1] == (lit ^ 1)) {
+                    return null;
+                }
+                merged[size++] = lit;
+            }
+            return new Clause(size == merged.length ? merged : Arrays.copyOf(merged, size));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Clause && Arrays.equals(this.literals, ((Clause) other).literals);
+        }
+    }
+}
@@ -46,7 +46,7 @@ import java.util.Arrays;
 
 /**
  * Unit tests for the at-least-k configs.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class CCALKTest implements LogicNGTest {
@@ -54,10 +54,13 @@ public class CCALKTest implements LogicNGTest {
     private final CCConfig[] configs;
 
     public CCALKTest() {
-        this.configs = new CCConfig[3];
+        this.configs = new CCConfig[6];
         this.configs[0] = CCConfig.builder().alkEncoding(CCConfig.ALK_ENCODER.TOTALIZER).build();
         this.configs[1] = CCConfig.builder().alkEncoding(CCConfig.ALK_ENCODER.MODULAR_TOTALIZER).build();
         this.configs[2] = CCConfig.builder().alkEncoding(CCConfig.ALK_ENCODER.CARDINALITY_NETWORK).build();
+        this.configs[3] = CCConfig.builder().alkEncoding(CCConfig.ALK_ENCODER.SEQUENTIAL_COUNTER).build();
+        this.configs[4] = CCConfig.builder().alkEncoding(CCConfig.ALK_ENCODER.PAIRWISE_CARDINALITY_NETWORK).build();
+        this.configs[5] = CCConfig.builder().alkEncoding(CCConfig.ALK_ENCODER.SMALLEST).build();
     }
 
     @Test
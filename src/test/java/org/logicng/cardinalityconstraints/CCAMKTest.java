@@ -43,7 +43,7 @@ import org.logicng.solvers.SATSolver;
 
 /**
  * Unit tests for the at-most-k encoders.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class CCAMKTest implements LogicNGTest {
@@ -51,10 +51,13 @@ public class CCAMKTest implements LogicNGTest {
     private final CCConfig[] configs;
 
     public CCAMKTest() {
-        this.configs = new CCConfig[3];
+        this.configs = new CCConfig[6];
         this.configs[0] = CCConfig.builder().amkEncoding(CCConfig.AMK_ENCODER.TOTALIZER).build();
         this.configs[1] = CCConfig.builder().amkEncoding(CCConfig.AMK_ENCODER.MODULAR_TOTALIZER).build();
         this.configs[2] = CCConfig.builder().amkEncoding(CCConfig.AMK_ENCODER.CARDINALITY_NETWORK).build();
+        this.configs[3] = CCConfig.builder().amkEncoding(CCConfig.AMK_ENCODER.SEQUENTIAL_COUNTER).build();
+        this.configs[4] = CCConfig.builder().amkEncoding(CCConfig.AMK_ENCODER.PAIRWISE_CARDINALITY_NETWORK).build();
+        this.configs[5] = CCConfig.builder().amkEncoding(CCConfig.AMK_ENCODER.SMALLEST).build();
     }
 
     @Test
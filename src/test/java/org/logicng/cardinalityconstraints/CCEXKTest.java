@@ -41,7 +41,7 @@ import org.logicng.solvers.SATSolver;
 
 /**
  * Unit tests for the exactly-k encoders.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.1
  */
 public class CCEXKTest implements LogicNGTest {
@@ -49,9 +49,12 @@ public class CCEXKTest implements LogicNGTest {
     private final CCConfig[] configs;
 
     public CCEXKTest() {
-        this.configs = new CCConfig[2];
+        this.configs = new CCConfig[5];
         this.configs[0] = CCConfig.builder().exkEncoding(CCConfig.EXK_ENCODER.TOTALIZER).build();
         this.configs[1] = CCConfig.builder().exkEncoding(CCConfig.EXK_ENCODER.CARDINALITY_NETWORK).build();
+        this.configs[2] = CCConfig.builder().exkEncoding(CCConfig.EXK_ENCODER.SEQUENTIAL_COUNTER).build();
+        this.configs[3] = CCConfig.builder().exkEncoding(CCConfig.EXK_ENCODER.PAIRWISE_CARDINALITY_NETWORK).build();
+        this.configs[4] = CCConfig.builder().exkEncoding(CCConfig.EXK_ENCODER.SMALLEST).build();
     }
 
     @Test
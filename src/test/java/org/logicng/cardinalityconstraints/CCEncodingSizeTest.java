@@ -0,0 +1,235 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.cardinalityconstraints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.EncodingResult;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.CardinalityConstraint;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+
+import java.util.List;
+
+/**
+ * Unit tests for the size prediction of cardinality constraint encodings.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class CCEncodingSizeTest {
+
+    @Test
+    public void testPredictedAMKSizes() {
+        for (final CCConfig.AMK_ENCODER encoder : CCConfig.AMK_ENCODER.values()) {
+            for (int n = 1; n <= 14; n++) {
+                for (int k = 0; k <= n + 1; k++) {
+                    if (k != 1) {
+                        final FormulaFactory f = new FormulaFactory();
+                        final CCEncoder ccEncoder = new CCEncoder(f, CCConfig.builder().amkEncoding(encoder).build());
+                        final CCEncodingSize actual = encodingSize(f, ccEncoder, CType.LE, n, k);
+                        assertThat(ccEncoder.predictAMKSize(encoder, n, k)).as(encoder + " n=" + n + " k=" + k).isEqualTo(actual);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPredictedALKSizes() {
+        for (final CCConfig.ALK_ENCODER encoder : CCConfig.ALK_ENCODER.values()) {
+            for (int n = 1; n <= 14; n++) {
+                for (int k = 0; k <= n + 1; k++) {
+                    final FormulaFactory f = new FormulaFactory();
+                    final CCEncoder ccEncoder = new CCEncoder(f, CCConfig.builder().alkEncoding(encoder).build());
+                    final CCEncodingSize actual = encodingSize(f, ccEncoder, CType.GE, n, k);
+                    assertThat(ccEncoder.predictALKSize(encoder, n, k)).as(encoder + " n=" + n + " k=" + k).isEqualTo(actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPredictedEXKSizes() {
+        for (final CCConfig.EXK_ENCODER encoder : CCConfig.EXK_ENCODER.values()) {
+            for (int n = 1; n <= 14; n++) {
+                for (int k = 0; k <= n + 1; k++) {
+                    if (k != 1) {
+                        final FormulaFactory f = new FormulaFactory();
+                        final CCEncoder ccEncoder = new CCEncoder(f, CCConfig.builder().exkEncoding(encoder).build());
+                        final CCEncodingSize actual = encodingSize(f, ccEncoder, CType.EQ, n, k);
+                        assertThat(ccEncoder.predictEXKSize(encoder, n, k)).as(encoder + " n=" + n + " k=" + k).isEqualTo(actual);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPredictedCountedSizes() {
+        for (final int n : new int[]{33, 64, 100}) {
+            for (int k = 2; k < n; k += n / 9) {
+                final FormulaFactory fAMK = new FormulaFactory();
+                final CCEncoder amkMTO = new CCEncoder(fAMK, CCConfig.builder().amkEncoding(CCConfig.AMK_ENCODER.MODULAR_TOTALIZER).build());
+                assertThat(amkMTO.predictAMKSize(CCConfig.AMK_ENCODER.MODULAR_TOTALIZER, n, k)).as("AMK MTO n=" + n + " k=" + k)
+                        .isEqualTo(encodingSize(fAMK, amkMTO, CType.LE, n, k));
+                final FormulaFactory fALK = new FormulaFactory();
+                final CCEncoder alkMTO = new CCEncoder(fALK, CCConfig.builder().alkEncoding(CCConfig.ALK_ENCODER.MODULAR_TOTALIZER).build());
+                assertThat(alkMTO.predictALKSize(CCConfig.ALK_ENCODER.MODULAR_TOTALIZER, n, k)).as("ALK MTO n=" + n + " k=" + k)
+                        .isEqualTo(encodingSize(fALK, alkMTO, CType.GE, n, k));
+                final FormulaFactory fAMKNet = new FormulaFactory();
+                final CCEncoder amkNet = new CCEncoder(fAMKNet, CCConfig.builder().amkEncoding(CCConfig.AMK_ENCODER.CARDINALITY_NETWORK).build());
+                assertThat(amkNet.predictAMKSize(CCConfig.AMK_ENCODER.CARDINALITY_NETWORK, n, k)).as("AMK NET n=" + n + " k=" + k)
+                        .isEqualTo(encodingSize(fAMKNet, amkNet, CType.LE, n, k));
+                final FormulaFactory fALKNet = new FormulaFactory();
+                final CCEncoder alkNet = new CCEncoder(fALKNet, CCConfig.builder().alkEncoding(CCConfig.ALK_ENCODER.CARDINALITY_NETWORK).build());
+                assertThat(alkNet.predictALKSize(CCConfig.ALK_ENCODER.CARDINALITY_NETWORK, n, k)).as("ALK NET n=" + n + " k=" + k)
+                        .isEqualTo(encodingSize(fALKNet, alkNet, CType.GE, n, k));
+                final FormulaFactory fEXKNet = new FormulaFactory();
+                final CCEncoder exkNet = new CCEncoder(fEXKNet, CCConfig.builder().exkEncoding(CCConfig.EXK_ENCODER.CARDINALITY_NETWORK).build());
+                assertThat(exkNet.predictEXKSize(CCConfig.EXK_ENCODER.CARDINALITY_NETWORK, n, k)).as("EXK NET n=" + n + " k=" + k)
+                        .isEqualTo(encodingSize(fEXKNet, exkNet, CType.EQ, n, k));
+            }
+        }
+    }
+
+    @Test
+    public void testPredictionWithoutEncoding() {
+        final FormulaFactory f = new FormulaFactory();
+        final CCEncoder ccEncoder = new CCEncoder(f);
+        for (final CCConfig.AMK_ENCODER encoder : CCConfig.AMK_ENCODER.values()) {
+            assertThat(ccEncoder.predictAMKSize(encoder, 2000, 1000).clauses()).isPositive();
+        }
+        for (final CCConfig.ALK_ENCODER encoder : CCConfig.ALK_ENCODER.values()) {
+            assertThat(ccEncoder.predictALKSize(encoder, 2000, 1000).clauses()).isPositive();
+        }
+        for (final CCConfig.EXK_ENCODER encoder : CCConfig.EXK_ENCODER.values()) {
+            assertThat(ccEncoder.predictEXKSize(encoder, 2000, 1000).clauses()).isPositive();
+        }
+        assertThat(f.statistics().ccCounter()).isZero();
+    }
+
+    @Test
+    public void testSmallest() {
+        final CCEncoder ccEncoder = new CCEncoder(new FormulaFactory());
+        for (final int n : new int[]{5, 20, 64, 100}) {
+            for (int k = 2; k < n; k += Math.max(1, n / 7)) {
+                final CCEncodingSize smallestAMK = ccEncoder.predictAMKSize(CCConfig.AMK_ENCODER.SMALLEST, n, k);
+                for (final CCConfig.AMK_ENCODER encoder : CCConfig.AMK_ENCODER.values()) {
+                    assertThat(ccEncoder.predictAMKSize(encoder, n, k)).isGreaterThanOrEqualTo(smallestAMK);
+                }
+                final CCEncodingSize smallestALK = ccEncoder.predictALKSize(CCConfig.ALK_ENCODER.SMALLEST, n, k);
+                for (final CCConfig.ALK_ENCODER encoder : CCConfig.ALK_ENCODER.values()) {
+                    assertThat(ccEncoder.predictALKSize(encoder, n, k)).isGreaterThanOrEqualTo(smallestALK);
+                }
+                final CCEncodingSize smallestEXK = ccEncoder.predictEXKSize(CCConfig.EXK_ENCODER.SMALLEST, n, k);
+                for (final CCConfig.EXK_ENCODER encoder : CCConfig.EXK_ENCODER.values()) {
+                    assertThat(ccEncoder.predictEXKSize(encoder, n, k)).isGreaterThanOrEqualTo(smallestEXK);
+                }
+            }
+        }
+        assertThat(ccEncoder.smallestAMK(100, 2)).isEqualTo(CCConfig.AMK_ENCODER.SEQUENTIAL_COUNTER);
+        assertThat(ccEncoder.smallestAMK(100, 50)).isEqualTo(CCConfig.AMK_ENCODER.MODULAR_TOTALIZER);
+        assertThat(ccEncoder.smallestAMK(100, 98)).isEqualTo(CCConfig.AMK_ENCODER.CARDINALITY_NETWORK);
+    }
+
+    @Test
+    public void testSmallestIncremental() {
+        final FormulaFactory f = new FormulaFactory();
+        final CCEncoder ccEncoder = new CCEncoder(f, CCConfig.builder()
+                .amkEncoding(CCConfig.AMK_ENCODER.SMALLEST)
+                .alkEncoding(CCConfig.ALK_ENCODER.SEQUENTIAL_COUNTER)
+                .build());
+        final Variable[] vars = new Variable[10];
+        for (int i = 0; i < vars.length; i++) {
+            vars[i] = f.variable("v" + i);
+        }
+        assertThat(ccEncoder.encodeIncremental((CardinalityConstraint) f.cc(CType.LE, 5, vars)).second()).isNotNull();
+        assertThat(ccEncoder.encodeIncremental((CardinalityConstraint) f.cc(CType.GE, 5, vars)).second()).isNotNull();
+    }
+
+    @Test
+    public void testIllegalRightHandSide() {
+        final CCEncoder ccEncoder = new CCEncoder(new FormulaFactory());
+        assertThatThrownBy(() -> ccEncoder.predictAMKSize(CCConfig.AMK_ENCODER.TOTALIZER, 10, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ccEncoder.predictALKSize(CCConfig.ALK_ENCODER.TOTALIZER, 10, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ccEncoder.predictEXKSize(CCConfig.EXK_ENCODER.TOTALIZER, 10, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testEncodingSize() {
+        final CCEncodingSize size1 = new CCEncodingSize(10, 5);
+        final CCEncodingSize size2 = new CCEncodingSize(10, 6);
+        final CCEncodingSize size3 = new CCEncodingSize(11, 1);
+        assertThat(size1.clauses()).isEqualTo(10);
+        assertThat(size1.variables()).isEqualTo(5);
+        assertThat(size1).isLessThan(size2);
+        assertThat(size2).isLessThan(size3);
+        assertThat(size1).isEqualTo(new CCEncodingSize(10, 5));
+        assertThat(size1.hashCode()).isEqualTo(new CCEncodingSize(10, 5).hashCode());
+        assertThat(size1).isNotEqualTo(size2);
+        assertThat(size1.plus(size3)).isEqualTo(new CCEncodingSize(21, 6));
+        assertThat(size1.toString()).isEqualTo("CCEncodingSize{clauses=10, variables=5}");
+    }
+
+    @Test
+    public void testToString() {
+        final FormulaFactory f = new FormulaFactory();
+        final Variable[] vars = {f.variable("A"), f.variable("B"), f.variable("C")};
+        final CCAMKSequentialCounter amkCounter = new CCAMKSequentialCounter();
+        amkCounter.build(EncodingResult.resultForFormula(f), vars, 2);
+        assertThat(amkCounter.incrementalData()).isNull();
+        assertThat(amkCounter.toString()).isEqualTo("CCAMKSequentialCounter");
+        assertThat(new CCALKSequentialCounter().toString()).isEqualTo("CCALKSequentialCounter");
+        assertThat(new CCEXKSequentialCounter().toString()).isEqualTo("CCEXKSequentialCounter");
+        final CCAMKPairwiseCardinalityNetwork amkNetwork = new CCAMKPairwiseCardinalityNetwork();
+        amkNetwork.build(EncodingResult.resultForFormula(f), vars, 2);
+        assertThat(amkNetwork.incrementalData()).isNull();
+        assertThat(amkNetwork.toString()).isEqualTo("CCAMKPairwiseCardinalityNetwork");
+        assertThat(new CCALKPairwiseCardinalityNetwork().toString()).isEqualTo("CCALKPairwiseCardinalityNetwork");
+        assertThat(new CCEXKPairwiseCardinalityNetwork().toString()).isEqualTo("CCEXKPairwiseCardinalityNetwork");
+        assertThat(new CCSequentialCounter().toString()).isEqualTo("CCSequentialCounter");
+        assertThat(new CCPairwiseCardinalityNetworks().toString()).isEqualTo("CCPairwiseCardinalityNetworks");
+    }
+
+    private static CCEncodingSize encodingSize(final FormulaFactory f, final CCEncoder ccEncoder, final CType comparator, final int n, final int k) {
+        final Variable[] vars = new Variable[n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = f.variable("v" + i);
+        }
+        final Formula cc = f.cc(comparator, k, vars);
+        if (!(cc instanceof CardinalityConstraint)) {
+            return null;
+        }
+        final List<Formula> encoding = ccEncoder.encode((CardinalityConstraint) cc);
+        return new CCEncodingSize(encoding.size(), f.statistics().ccCounter());
+    }
+}
@@ -40,7 +40,7 @@ import java.util.List;
 
 /**
  * Unit tests for the package formulas.cache.
- * @version 2.3.0
+ * @version 2.5.0
  * @since 1.1
  */
 public class CacheTest {
@@ -48,6 +48,7 @@ public class CacheTest {
     @Test
     public void testDescription() {
         assertThat(TransformationCacheEntry.AIG.description()).isEqualTo("TransformationCacheEntry{description=and-inverter graph}");
+        assertThat(TransformationCacheEntry.AIG_CNF.description()).isEqualTo("TransformationCacheEntry{description=conjunctive normal form via and-inverter graph}");
         assertThat(TransformationCacheEntry.NNF.description()).isEqualTo("TransformationCacheEntry{description=negation normal form}");
         assertThat(TransformationCacheEntry.PLAISTED_GREENBAUM_POS.description()).isEqualTo("TransformationCacheEntry{description=Plaisted & Greenbaum conjunctive normal form " +
                 "(positive polarity)}");
@@ -66,7 +67,7 @@ public class CacheTest {
     @Test
     public void testValues() {
         final List<TransformationCacheEntry> valuesTrans = Arrays.asList(TransformationCacheEntry.values());
-        assertThat(valuesTrans.size()).isEqualTo(14);
+        assertThat(valuesTrans.size()).isEqualTo(15);
         assertThat(valuesTrans.contains(TransformationCacheEntry.valueOf("FACTORIZED_DNF"))).isTrue();
         assertThat(valuesTrans.contains(TransformationCacheEntry.valueOf("PLAISTED_GREENBAUM_NEG"))).isTrue();
 
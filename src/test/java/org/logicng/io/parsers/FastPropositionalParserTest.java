@@ -0,0 +1,364 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.io.parsers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.TestWithExampleFormulas;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Variable;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit Tests for the class {@link FastPropositionalParser}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class FastPropositionalParserTest extends TestWithExampleFormulas {
+
+    @Test
+    public void testExceptions() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThat(parser.parse("")).isEqualTo(this.f.verum());
+        final String s = null;
+        assertThat(parser.parse(s)).isEqualTo(this.f.verum());
+    }
+
+    @Test
+    public void testParseConstants() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThat(parser.parse("$true")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("$false")).isEqualTo(this.f.falsum());
+    }
+
+    @Test
+    public void testParseLiterals() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThat(parser.parse("A")).isEqualTo(this.f.variable("A"));
+        assertThat(parser.parse("a")).isEqualTo(this.f.variable("a"));
+        assertThat(parser.parse("a1")).isEqualTo(this.f.variable("a1"));
+        assertThat(parser.parse("aA_Bb_Cc_12_3")).isEqualTo(this.f.variable("aA_Bb_Cc_12_3"));
+        assertThat(parser.parse("~A")).isEqualTo(this.f.literal("A", false));
+        assertThat(parser.parse("~a")).isEqualTo(this.f.literal("a", false));
+        assertThat(parser.parse("~a1")).isEqualTo(this.f.literal("a1", false));
+        assertThat(parser.parse("~aA_Bb_Cc_12_3")).isEqualTo(this.f.literal("aA_Bb_Cc_12_3", false));
+        assertThat(parser.parse("~@aA_Bb_Cc_12_3")).isEqualTo(this.f.literal("@aA_Bb_Cc_12_3", false));
+        assertThat(parser.parse("#")).isEqualTo(this.f.literal("#", true));
+        assertThat(parser.parse("~#")).isEqualTo(this.f.literal("#", false));
+        assertThat(parser.parse("~A#B")).isEqualTo(this.f.literal("A#B", false));
+        assertThat(parser.parse("A#B")).isEqualTo(this.f.literal("A#B", true));
+        assertThat(parser.parse("~A#B")).isEqualTo(this.f.literal("A#B", false));
+        assertThat(parser.parse("#A#B_")).isEqualTo(this.f.literal("#A#B_", true));
+        assertThat(parser.parse("~#A#B_")).isEqualTo(this.f.literal("#A#B_", false));
+    }
+
+    @Test
+    public void testParseOperators() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThat(parser.parse("~a")).isEqualTo(this.f.not(this.f.variable("a")));
+        assertThat(parser.parse("~Var")).isEqualTo(this.f.not(this.f.variable("Var")));
+        assertThat(parser.parse("a & b")).isEqualTo(this.f.and(this.f.variable("a"), this.f.variable("b")));
+        assertThat(parser.parse("~a & ~b")).isEqualTo(this.f.and(this.f.literal("a", false), this.f.literal("b", false)));
+        assertThat(parser.parse("~a & b & ~c & d")).isEqualTo(this.f.and(this.f.literal("a", false), this.f.variable("b"), this.f.literal("c", false), this.f.variable("d")));
+        assertThat(parser.parse("a | b")).isEqualTo(this.f.or(this.f.variable("a"), this.f.variable("b")));
+        assertThat(parser.parse("~a | ~b")).isEqualTo(this.f.or(this.f.literal("a", false), this.f.literal("b", false)));
+        assertThat(parser.parse("~a | b | ~c | d")).isEqualTo(this.f.or(this.f.literal("a", false), this.f.variable("b"), this.f.literal("c", false), this.f.variable("d")));
+        assertThat(parser.parse("a => b")).isEqualTo(this.f.implication(this.f.variable("a"), this.f.variable("b")));
+        assertThat(parser.parse("~a => ~b")).isEqualTo(this.f.implication(this.f.literal("a", false), this.f.literal("b", false)));
+        assertThat(parser.parse("a <=> b")).isEqualTo(this.f.equivalence(this.f.variable("a"), this.f.variable("b")));
+        assertThat(parser.parse("~a <=> ~b")).isEqualTo(this.f.equivalence(this.f.literal("a", false), this.f.literal("b", false)));
+    }
+
+    @Test
+    public void testParsePrecedences() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThat(parser.parse("x | y & z")).isEqualTo(this.f.or(this.f.variable("x"), this.f.and(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x & y | z")).isEqualTo(this.f.or(this.f.and(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x => y & z")).isEqualTo(this.f.implication(this.f.variable("x"), this.f.and(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x & y => z")).isEqualTo(this.f.implication(this.f.and(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x <=> y & z")).isEqualTo(this.f.equivalence(this.f.variable("x"), this.f.and(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x & y <=> z")).isEqualTo(this.f.equivalence(this.f.and(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x => y | z")).isEqualTo(this.f.implication(this.f.variable("x"), this.f.or(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x | y => z")).isEqualTo(this.f.implication(this.f.or(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x <=> y | z")).isEqualTo(this.f.equivalence(this.f.variable("x"), this.f.or(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x | y <=> z")).isEqualTo(this.f.equivalence(this.f.or(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x => y => z")).isEqualTo(this.f.implication(this.f.variable("x"), this.f.implication(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x <=> y <=> z")).isEqualTo(this.f.equivalence(this.f.variable("x"), this.f.equivalence(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x | y) & z")).isEqualTo(this.f.and(this.f.or(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x & (y | z)")).isEqualTo(this.f.and(this.f.variable("x"), this.f.or(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x => y) & z")).isEqualTo(this.f.and(this.f.implication(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x & (y => z)")).isEqualTo(this.f.and(this.f.variable("x"), this.f.implication(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x => y) | z")).isEqualTo(this.f.or(this.f.implication(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x | (y => z)")).isEqualTo(this.f.or(this.f.variable("x"), this.f.implication(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x <=> y) & z")).isEqualTo(this.f.and(this.f.equivalence(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x & (y <=> z)")).isEqualTo(this.f.and(this.f.variable("x"), this.f.equivalence(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x <=> y) | z")).isEqualTo(this.f.or(this.f.equivalence(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x | (y <=> z)")).isEqualTo(this.f.or(this.f.variable("x"), this.f.equivalence(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x => y <=> z")).isEqualTo(this.f.equivalence(this.f.implication(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x => (y <=> z)")).isEqualTo(this.f.implication(this.f.variable("x"), this.f.equivalence(this.f.variable("y"), this.f.variable("z"))));
+    }
+
+    @Test
+    public void parseInputStream() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        final String string = "A & B => D | ~C";
+        final InputStream stream = new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
+        assertThat(parser.parse(stream)).isEqualTo(parser.parse(string));
+        assertThat(parser.parse((InputStream) null)).isEqualTo(this.f.verum());
+    }
+
+    @Test
+    public void parseEmptyString() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThat(parser.parse("")).isEqualTo(this.f.verum());
+        assertThat(parser.parse((String) null)).isEqualTo(this.f.verum());
+    }
+
+    @Test
+    public void testFormulaFactory() {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThat(parser.factory()).isEqualTo(this.f);
+    }
+
+    @Test
+    public void testSkipSymbols() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThat(parser.parse(" ")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("\t")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("\n")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("\r")).isEqualTo(this.f.verum());
+        assertThat(parser.parse(" \r\n\n  \t")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("a\n&\tb")).isEqualTo(this.AND1);
+        assertThat(parser.parse(" a\r=>\t\tb")).isEqualTo(this.IMP1);
+    }
+
+    @Test
+    public void testNumericalLiteral() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThat(parser.parse("12")).isEqualTo(this.f.variable("12"));
+    }
+
+    @Test
+    public void testIllegalVariable1() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("$$%")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalVariable3() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse(";;23")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalVariable4() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("{0}")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator1() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("A + B")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator2() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("A &")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator3() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("A /")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator4() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("-A")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator5() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("A * B")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalBrackets1() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("(A & B")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula1() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("((A & B)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula2() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("(A & (C & D) B)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula3() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("A | A + (C | B + C)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula4() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("A | A & (C | B & C")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula5() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("A & ~B)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula6() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("12)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula7() {
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse("ab@cd)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula8() {
+        final String string = "A & B => D | ~";
+        final InputStream stream = new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse(stream)).isInstanceOf(ParserException.class);
+
+    }
+
+    @Test
+    public void testIllegalFormula9() {
+        final String string = "@A@B";
+        final InputStream stream = new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> new FastPropositionalParser(this.f).parse(stream)).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testInputSources() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        final String string = "A & B => D | ~C";
+        final Formula expected = this.f.implication(this.f.and(this.f.variable("A"), this.f.variable("B")), this.f.or(this.f.variable("D"), this.f.literal("C", false)));
+        assertThat(parser.parse(new StringBuilder(string))).isEqualTo(expected);
+        assertThat(parser.parse(new StringReader(string))).isEqualTo(expected);
+        assertThat(parser.parse(ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8)))).isEqualTo(expected);
+        assertThat(parser.parse(new StringBuilder())).isEqualTo(this.f.verum());
+        assertThat(parser.parse((Reader) null)).isEqualTo(this.f.verum());
+        assertThat(parser.parse((ByteBuffer) null)).isEqualTo(this.f.verum());
+        assertThat(parser.parse(ByteBuffer.allocate(0))).isEqualTo(this.f.verum());
+    }
+
+    @Test
+    public void testLongFormula() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        final StringBuilder sb = new StringBuilder();
+        final List<Formula> clauses = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            final Variable a = this.f.variable("a_long_variable_name_" + i);
+            final Variable b = this.f.variable("b_long_variable_name_" + i);
+            clauses.add(this.f.or(a, b.negate()));
+            sb.append(i == 0 ? "" : " &\n").append("(").append(a.name()).append(" | ~").append(b.name()).append(")");
+        }
+        final Formula expected = this.f.and(clauses);
+        assertThat(parser.parse(sb)).isEqualTo(expected);
+        assertThat(parser.parse(new StringReader(sb.toString()))).isEqualTo(expected);
+        assertThat(parser.parse(ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8)))).isEqualTo(expected);
+    }
+
+    @Test
+    public void testDeepNegationsAndChains() throws ParserException {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        final StringBuilder negations = new StringBuilder();
+        final StringBuilder implications = new StringBuilder("x0");
+        Formula expected = this.f.variable("x10000");
+        for (int i = 0; i < 10000; i++) {
+            negations.append('~');
+            implications.append(" => x").append(i + 1);
+        }
+        for (int i = 9999; i >= 0; i--) {
+            expected = this.f.implication(this.f.variable("x" + i), expected);
+        }
+        assertThat(parser.parse(negations.append("(a & b)"))).isEqualTo(this.f.and(this.A, this.B));
+        assertThat(parser.parse(implications)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testSameFormulasAsAntlrParser() throws IOException, ParserException {
+        final FastPropositionalParser fastParser = new FastPropositionalParser(this.f);
+        final PropositionalParser antlrParser = new PropositionalParser(this.f);
+        final String[] files = {"small_formulas.txt", "large_formula.txt", "simplify_formulas.txt"};
+        for (final String file : files) {
+            try (final BufferedReader reader = new BufferedReader(new FileReader("src/test/resources/formulas/" + file))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    assertThat(fastParser.parse(line)).isEqualTo(antlrParser.parse(line));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testErrorPositions() {
+        final FastPropositionalParser parser = new FastPropositionalParser(this.f);
+        assertThatThrownBy(() -> parser.parse("A &"))
+                .isInstanceOf(ParserException.class)
+                .hasMessage("Parse cancellation exception when parsing the formula")
+                .hasRootCauseMessage("line 1:3 no viable alternative at input '<EOF>'");
+        assertThatThrownBy(() -> parser.parse("(A & B"))
+                .isInstanceOf(ParserException.class)
+                .hasRootCauseMessage("line 1:6 mismatched input '<EOF>'");
+        assertThatThrownBy(() -> parser.parse("(A & (C & D)\n\tB)"))
+                .isInstanceOf(ParserException.class)
+                .hasRootCauseMessage("line 2:1 mismatched input 'B'");
+        assertThatThrownBy(() -> parser.parse("A & $tru"))
+                .isInstanceOf(ParserException.class)
+                .hasMessage("Lexer exception when parsing the formula.")
+                .hasRootCauseMessage("line 1:4 token recognition error at: '$tru'");
+        assertThatThrownBy(() -> parser.parse("A\n <= B"))
+                .isInstanceOf(ParserException.class)
+                .hasRootCauseMessage("line 2:1 token recognition error at: '<= '");
+    }
+
+    @Test
+    public void testToStrings() {
+        assertThat(new FastPropositionalParser(this.f).toString()).isEqualTo("FastPropositionalParser");
+    }
+}
@@ -0,0 +1,355 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.io.parsers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.TestWithExampleFormulas;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit Tests for the class {@link FastPseudoBooleanParser}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class FastPseudoBooleanParserTest extends TestWithExampleFormulas {
+
+    @Test
+    public void testExceptions() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThat(parser.parse("")).isEqualTo(this.f.verum());
+        assertThat(parser.parse((String) null)).isEqualTo(this.f.verum());
+    }
+
+    @Test
+    public void testParseConstants() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThat(parser.parse("$true")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("$false")).isEqualTo(this.f.falsum());
+    }
+
+    @Test
+    public void testParseLiterals() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThat(parser.parse("A")).isEqualTo(this.f.variable("A"));
+        assertThat(parser.parse("a")).isEqualTo(this.f.variable("a"));
+        assertThat(parser.parse("a1")).isEqualTo(this.f.variable("a1"));
+        assertThat(parser.parse("aA_Bb_Cc_12_3")).isEqualTo(this.f.variable("aA_Bb_Cc_12_3"));
+        assertThat(parser.parse("~A")).isEqualTo(this.f.literal("A", false));
+        assertThat(parser.parse("~a")).isEqualTo(this.f.literal("a", false));
+        assertThat(parser.parse("~aA_Bb_Cc_12_3")).isEqualTo(this.f.literal("aA_Bb_Cc_12_3", false));
+        assertThat(parser.parse("#")).isEqualTo(this.f.literal("#", true));
+        assertThat(parser.parse("~#")).isEqualTo(this.f.literal("#", false));
+        assertThat(parser.parse("~A#B")).isEqualTo(this.f.literal("A#B", false));
+        assertThat(parser.parse("A#B")).isEqualTo(this.f.literal("A#B", true));
+        assertThat(parser.parse("~A#B")).isEqualTo(this.f.literal("A#B", false));
+        assertThat(parser.parse("#A#B_")).isEqualTo(this.f.literal("#A#B_", true));
+        assertThat(parser.parse("~#A#B_")).isEqualTo(this.f.literal("#A#B_", false));
+    }
+
+    @Test
+    public void testParseOperators() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThat(parser.parse("~a")).isEqualTo(this.f.not(this.f.variable("a")));
+        assertThat(parser.parse("~Var")).isEqualTo(this.f.not(this.f.variable("Var")));
+        assertThat(parser.parse("a & b")).isEqualTo(this.f.and(this.f.variable("a"), this.f.variable("b")));
+        assertThat(parser.parse("~a & ~b")).isEqualTo(this.f.and(this.f.literal("a", false), this.f.literal("b", false)));
+        assertThat(parser.parse("~a & b & ~c & d")).isEqualTo(this.f.and(this.f.literal("a", false), this.f.variable("b"), this.f.literal("c", false), this.f.variable("d")));
+        assertThat(parser.parse("a | b")).isEqualTo(this.f.or(this.f.variable("a"), this.f.variable("b")));
+        assertThat(parser.parse("~a | ~b")).isEqualTo(this.f.or(this.f.literal("a", false), this.f.literal("b", false)));
+        assertThat(parser.parse("~a | b | ~c | d")).isEqualTo(this.f.or(this.f.literal("a", false), this.f.variable("b"), this.f.literal("c", false), this.f.variable("d")));
+        assertThat(parser.parse("a => b")).isEqualTo(this.f.implication(this.f.variable("a"), this.f.variable("b")));
+        assertThat(parser.parse("~a => ~b")).isEqualTo(this.f.implication(this.f.literal("a", false), this.f.literal("b", false)));
+        assertThat(parser.parse("a <=> b")).isEqualTo(this.f.equivalence(this.f.variable("a"), this.f.variable("b")));
+        assertThat(parser.parse("~a <=> ~b")).isEqualTo(this.f.equivalence(this.f.literal("a", false), this.f.literal("b", false)));
+    }
+
+    @Test
+    public void testParseMultiplication() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThat(parser.parse("13 * abc = 4")).isEqualTo(this.f.pbc(CType.EQ, 4, new Literal[]{this.f.variable("abc")}, new int[]{13}));
+        assertThat(parser.parse("-13 * a = 4")).isEqualTo(this.f.pbc(CType.EQ, 4, new Literal[]{this.f.variable("a")}, new int[]{-13}));
+        assertThat(parser.parse("13 * ~abc = -442")).isEqualTo(this.f.pbc(CType.EQ, -442, new Literal[]{this.f.literal("abc", false)}, new int[]{13}));
+        assertThat(parser.parse("-13 * ~a = -442")).isEqualTo(this.f.pbc(CType.EQ, -442, new Literal[]{this.f.literal("a", false)}, new int[]{-13}));
+        assertThat(parser.parse("13 * abc = 4")).isEqualTo(this.f.pbc(CType.EQ, 4, new Literal[]{this.f.variable("abc")}, new int[]{13}));
+        assertThat(parser.parse("13 * abc > 4")).isEqualTo(this.f.pbc(CType.GT, 4, new Literal[]{this.f.variable("abc")}, new int[]{13}));
+        assertThat(parser.parse("13 * abc >= 4")).isEqualTo(this.f.pbc(CType.GE, 4, new Literal[]{this.f.variable("abc")}, new int[]{13}));
+        assertThat(parser.parse("13 * abc < 4")).isEqualTo(this.f.pbc(CType.LT, 4, new Literal[]{this.f.variable("abc")}, new int[]{13}));
+        assertThat(parser.parse("13 * abc <= 4")).isEqualTo(this.f.pbc(CType.LE, 4, new Literal[]{this.f.variable("abc")}, new int[]{13}));
+    }
+
+    @Test
+    public void testParseAddition() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThat(parser.parse("4 * c + -4 * ~d < -4")).isEqualTo(this.f.pbc(CType.LT, -4, new Literal[]{this.f.variable("c"), this.f.literal("d", false)}, new int[]{4, -4}));
+        assertThat(parser.parse("5 * c + -5 * ~c >= -5")).isEqualTo(this.f.pbc(CType.GE, -5, new Literal[]{this.f.variable("c"), this.f.literal("c", false)}, new int[]{5, -5}));
+        assertThat(parser.parse("6 * a + -6 * ~b + 12 * ~c > -6")).isEqualTo(this.f.pbc(CType.GT, -6, new Literal[]{this.f.variable("a"), this.f.literal("b", false), this.f.literal("c", false)}, new int[]{6, -6, 12}));
+        assertThat(parser.parse("c + -4 * ~d < -4")).isEqualTo(this.f.pbc(CType.LT, -4, new Literal[]{this.f.variable("c"), this.f.literal("d", false)}, new int[]{1, -4}));
+        assertThat(parser.parse("5 * c + ~c >= -5")).isEqualTo(this.f.pbc(CType.GE, -5, new Literal[]{this.f.variable("c"), this.f.literal("c", false)}, new int[]{5, 1}));
+        assertThat(parser.parse("c + d >= -5")).isEqualTo(this.f.pbc(CType.GE, -5, new Literal[]{this.f.variable("c"), this.f.literal("d", true)}, new int[]{1, 1}));
+        assertThat(parser.parse("~c + ~d >= -5")).isEqualTo(this.f.pbc(CType.GE, -5, new Literal[]{this.f.literal("c", false), this.f.literal("d", false)}, new int[]{1, 1}));
+        assertThat(parser.parse("~c = -5")).isEqualTo(this.f.pbc(CType.EQ, -5, new Literal[]{this.f.literal("c", false)}, new int[]{1}));
+        assertThat(parser.parse("~(c = -5)")).isEqualTo(this.f.not(this.f.pbc(CType.EQ, -5, new Literal[]{this.f.literal("c", true)}, new int[]{1})));
+    }
+
+    @Test
+    public void testCombination() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        final Formula pbc = this.f.pbc(CType.GT, -6, new Literal[]{this.f.variable("a"), this.f.literal("b", false), this.f.literal("c", false)}, new int[]{6, -6, 12});
+        assertThat(parser.parse("(x => y & z) & (6 * a + -6 * ~b + 12 * ~c > -6)")).isEqualTo(this.f.and(this.f.implication(this.f.variable("x"), this.f.and(this.f.variable("y"), this.f.variable("z"))), pbc));
+        assertThat(parser.parse("~(6 * a - 6 * ~b - -12 * ~c > -6)")).isEqualTo(this.f.not(pbc));
+    }
+
+    @Test
+    public void testParsePrecedences() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThat(parser.parse("x | y & z")).isEqualTo(this.f.or(this.f.variable("x"), this.f.and(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x & y | z")).isEqualTo(this.f.or(this.f.and(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x => y & z")).isEqualTo(this.f.implication(this.f.variable("x"), this.f.and(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x & y => z")).isEqualTo(this.f.implication(this.f.and(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x <=> y & z")).isEqualTo(this.f.equivalence(this.f.variable("x"), this.f.and(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x & y <=> z")).isEqualTo(this.f.equivalence(this.f.and(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x => y | z")).isEqualTo(this.f.implication(this.f.variable("x"), this.f.or(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x | y => z")).isEqualTo(this.f.implication(this.f.or(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x <=> y | z")).isEqualTo(this.f.equivalence(this.f.variable("x"), this.f.or(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x | y <=> z")).isEqualTo(this.f.equivalence(this.f.or(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x => y => z")).isEqualTo(this.f.implication(this.f.variable("x"), this.f.implication(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x <=> y <=> z")).isEqualTo(this.f.equivalence(this.f.variable("x"), this.f.equivalence(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x | y) & z")).isEqualTo(this.f.and(this.f.or(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x & (y | z)")).isEqualTo(this.f.and(this.f.variable("x"), this.f.or(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x => y) & z")).isEqualTo(this.f.and(this.f.implication(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x & (y => z)")).isEqualTo(this.f.and(this.f.variable("x"), this.f.implication(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x => y) | z")).isEqualTo(this.f.or(this.f.implication(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x | (y => z)")).isEqualTo(this.f.or(this.f.variable("x"), this.f.implication(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x <=> y) & z")).isEqualTo(this.f.and(this.f.equivalence(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x & (y <=> z)")).isEqualTo(this.f.and(this.f.variable("x"), this.f.equivalence(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("(x <=> y) | z")).isEqualTo(this.f.or(this.f.equivalence(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x | (y <=> z)")).isEqualTo(this.f.or(this.f.variable("x"), this.f.equivalence(this.f.variable("y"), this.f.variable("z"))));
+        assertThat(parser.parse("x => y <=> z")).isEqualTo(this.f.equivalence(this.f.implication(this.f.variable("x"), this.f.variable("y")), this.f.variable("z")));
+        assertThat(parser.parse("x => (y <=> z)")).isEqualTo(this.f.implication(this.f.variable("x"), this.f.equivalence(this.f.variable("y"), this.f.variable("z"))));
+    }
+
+    @Test
+    public void parseEmptyString() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThat(parser.parse("")).isEqualTo(this.f.verum());
+    }
+
+    @Test
+    public void testSkipSymbols() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThat(parser.parse(" ")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("\t")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("\n")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("\r")).isEqualTo(this.f.verum());
+        assertThat(parser.parse(" \r\n\n  \t")).isEqualTo(this.f.verum());
+        assertThat(parser.parse("a\n&\tb")).isEqualTo(this.AND1);
+        assertThat(parser.parse(" a\r=>\t\tb")).isEqualTo(this.IMP1);
+        assertThat(parser.parse(" 2\n*a\r+\n\n-4*\tb    +3*x=2")).isEqualTo(this.PBC1);
+    }
+
+    @Test
+    public void testNumberLiterals() throws ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(f);
+        assertThat(parser.parse("12 & A")).isEqualTo(f.and(f.variable("12"), f.variable("A")));
+        assertThat(parser.parse("~12 & A")).isEqualTo(f.and(f.literal("12", false), f.variable("A")));
+        assertThat(parser.parse("12 * 12 + 13 * A + 10 * B <= 25")).isEqualTo(f.pbc(CType.LE, 25, new Literal[]{f.variable("12"), f.variable("A"), f.variable("B")}, new int[]{12, 13, 10}));
+        assertThat(parser.parse("-12 * ~12 + 13 * A + 10 * B <= 25")).isEqualTo(f.pbc(CType.LE, 25, new Literal[]{f.literal("12", false), f.variable("A"), f.variable("B")}, new int[]{-12, 13, 10}));
+    }
+
+    @Test
+    public void testIllegalVariable1() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("$$%")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalVariable3() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse(";;23")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalVariable4() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("{0}")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator1() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("A + B")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator2() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("A &")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator3() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("A /")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator4() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("-A")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalOperator5() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("A * B")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalBrackets1() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("(A & B")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula1() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("((A & B)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula2() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("(A & (C & D) B)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula3() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("A | A + (C | B + C)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula4() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("A | A & (C | B & C")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula5() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("A & ~B)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula6() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("12)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalFormula7() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("ab@cd)")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testIllegalSkipPosition() {
+        assertThatThrownBy(() -> new FastPseudoBooleanParser(this.f).parse("- 1*x <= 3")).isInstanceOf(ParserException.class);
+    }
+
+    @Test
+    public void testInputSources() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        final String string = "(x => y & z) & (6 * a + -6 * ~b + 12 * ~c > -6)";
+        final Formula expected = parser.parse(string);
+        assertThat(parser.parse(new StringBuilder(string))).isEqualTo(expected);
+        assertThat(parser.parse(new StringReader(string))).isEqualTo(expected);
+        final ByteBuffer buffer = ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8));
+        assertThat(parser.parse(buffer)).isEqualTo(expected);
+        assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    @Test
+    public void testLongConstraint() throws ParserException {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        final StringBuilder sb = new StringBuilder();
+        final Literal[] literals = new Literal[5000];
+        final int[] coefficients = new int[5000];
+        for (int i = 0; i < literals.length; i++) {
+            literals[i] = this.f.literal("a_long_variable_name_" + i, i % 3 != 0);
+            coefficients[i] = i % 2 == 0 ? i + 1 : -(i + 1);
+            sb.append(i == 0 ? "" : i % 2 == 0 ? " + " : " - ").append(i + 1).append(" * ").append(i % 3 != 0 ? "" : "~").append("a_long_variable_name_").append(i);
+        }
+        sb.append(" >= -42");
+        final Formula expected = this.f.pbc(CType.GE, -42, literals, coefficients);
+        assertThat(parser.parse(sb)).isEqualTo(expected);
+        assertThat(parser.parse(new StringReader(sb.toString()))).isEqualTo(expected);
+        assertThat(parser.parse(ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8)))).isEqualTo(expected);
+    }
+
+    @Test
+    public void testSameFormulasAsAntlrParser() throws IOException, ParserException {
+        final FastPseudoBooleanParser fastParser = new FastPseudoBooleanParser(this.f);
+        final PseudoBooleanParser antlrParser = new PseudoBooleanParser(this.f);
+        final String[] files = {"formula1.txt", "formula2.txt", "formula3.txt", "small_formulas.txt", "large_formula.txt"};
+        for (final String file : files) {
+            try (final BufferedReader reader = new BufferedReader(new FileReader("src/test/resources/formulas/" + file))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    assertThat(fastParser.parse(line)).isEqualTo(antlrParser.parse(line));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testErrorPositions() {
+        final FastPseudoBooleanParser parser = new FastPseudoBooleanParser(this.f);
+        assertThatThrownBy(() -> parser.parse("A + B"))
+                .isInstanceOf(ParserException.class)
+                .hasMessage("Parse cancellation exception when parsing the formula")
+                .hasRootCauseMessage("line 1:5 mismatched input '<EOF>'");
+        assertThatThrownBy(() -> parser.parse("x &\n  3 * a >= 3 * b"))
+                .isInstanceOf(ParserException.class)
+                .hasRootCauseMessage("line 2:13 mismatched input '*'");
+        assertThatThrownBy(() -> parser.parse("3 * a >= 99999999999"))
+                .isInstanceOf(ParserException.class)
+                .hasRootCauseMessage("line 1:9 integer out of range '99999999999'");
+        assertThatThrownBy(() -> parser.parse("a & $fals"))
+                .isInstanceOf(ParserException.class)
+                .hasMessage("Lexer exception when parsing the formula.")
+                .hasRootCauseMessage("line 1:4 token recognition error at: '$fals'");
+        assertThatThrownBy(() -> parser.parse("a & b / c"))
+                .isInstanceOf(ParserException.class)
+                .hasRootCauseMessage("line 1:6 token recognition error at: '/'");
+    }
+
+    @Test
+    public void testToStrings() {
+        assertThat(new FastPseudoBooleanParser(this.f).toString()).isEqualTo("FastPseudoBooleanParser");
+    }
+}
@@ -0,0 +1,198 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.io.readers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.collections.LNGIntVector;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Unit tests for {@link DimacsParser}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class DimacsParserTest {
+
+    private static final String CNF = "c a comment\np cnf 4 3\n1 -2 0\n  3\n -4 2 0\n\t-1\t0\r\n%\n0\n";
+
+    @Test
+    public void testByteBuffer() {
+        final Collector collector = new Collector();
+        DimacsParser.parse(ByteBuffer.wrap(CNF.getBytes(StandardCharsets.US_ASCII)), collector);
+        assertThat(collector.numVars).isEqualTo(4);
+        assertThat(collector.numClauses).isEqualTo(3);
+        assertThat(collector.clauses).containsExactly(Arrays.asList(1, -2), Arrays.asList(3, -4, 2), Arrays.asList(-1));
+    }
+
+    @Test
+    public void testInputStream() throws IOException {
+        final Collector plain = new Collector();
+        DimacsParser.parse(new ByteArrayInputStream(CNF.getBytes(StandardCharsets.US_ASCII)), plain);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(CNF.getBytes(StandardCharsets.US_ASCII));
+        }
+        final Collector compressed = new Collector();
+        DimacsParser.parse(new ByteArrayInputStream(bytes.toByteArray()), compressed);
+        assertThat(plain.clauses).containsExactly(Arrays.asList(1, -2), Arrays.asList(3, -4, 2), Arrays.asList(-1));
+        assertThat(compressed.clauses).isEqualTo(plain.clauses);
+    }
+
+    @Test
+    public void testFile() throws IOException {
+        final Collector collector = new Collector();
+        DimacsParser.parse(new File("src/test/resources/sat/3col40_5_10.shuffled.cnf"), collector);
+        assertThat(collector.clauses).hasSize(collector.numClauses);
+        assertThat(collector.clauses.stream().flatMap(List::stream).mapToInt(Math::abs).max().getAsInt()).isLessThanOrEqualTo(collector.numVars);
+    }
+
+    @Test
+    public void testEmptyInput() {
+        final Collector collector = new Collector();
+        DimacsParser.parse(ByteBuffer.wrap(new byte[0]), collector);
+        DimacsParser.parse(ByteBuffer.wrap("c only a comment".getBytes(StandardCharsets.US_ASCII)), collector);
+        assertThat(collector.clauses).isEmpty();
+        assertThat(collector.numVars).isEqualTo(-1);
+    }
+
+    @Test
+    public void testEmptyClause() {
+        final Collector collector = new Collector();
+        DimacsParser.parse(ByteBuffer.wrap("1 0 0 -1 0".getBytes(StandardCharsets.US_ASCII)), collector);
+        assertThat(collector.clauses).containsExactly(Arrays.asList(1), Arrays.asList(), Arrays.asList(-1));
+    }
+
+    @Test
+    public void testIllegalInput() {
+        assertThatThrownBy(() -> parse("1 2 0\n3 x 0\n")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unexpected character 'x' in line 2.");
+        assertThatThrownBy(() -> parse("1 2 0\n 3 -4")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The last clause in line 2 is not terminated by 0.");
+        assertThatThrownBy(() -> parse("1 - 2 0")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Missing variable number after '-' in line 1.");
+        assertThatThrownBy(() -> parse("1 2147483648 0")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Literal out of range in line 1.");
+        assertThatThrownBy(() -> parse("p wcnf 3 4 5\n1 2 0")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid problem line 'p wcnf 3 4 5' in line 1.");
+        assertThatThrownBy(() -> parse("p cnf 3 x\n1 2 0")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid problem line 'p cnf 3 x' in line 1.");
+    }
+
+    @Test
+    public void testWCNF() {
+        final WeightedCollector old = new WeightedCollector();
+        DimacsParser.parseWCNF(ByteBuffer.wrap("c old format\np wcnf 3 4 10\n10 1 -2 0\n3 2\n 3 0\n12 -1 0\n1 -3 0\n".getBytes(StandardCharsets.US_ASCII)), old);
+        assertThat(old.numVars).isEqualTo(3);
+        assertThat(old.clauses).containsExactly("h [1, -2]", "3 [2, 3]", "h [-1]", "1 [-3]");
+        final WeightedCollector newFormat = new WeightedCollector();
+        DimacsParser.parseWCNF(ByteBuffer.wrap("c 2022 format\nh 1 -2 0\n3 2 3 0\nh -1 0\n9223372036854775807 -3 0\n".getBytes(StandardCharsets.US_ASCII)), newFormat);
+        assertThat(newFormat.numVars).isEqualTo(-1);
+        assertThat(newFormat.clauses).containsExactly("h [1, -2]", "3 [2, 3]", "h [-1]", "9223372036854775807 [-3]");
+        final WeightedCollector cnf = new WeightedCollector();
+        DimacsParser.parseWCNF(ByteBuffer.wrap("p cnf 3 2\n1 -2 0\n3 0\n".getBytes(StandardCharsets.US_ASCII)), cnf);
+        assertThat(cnf.clauses).containsExactly("1 [1, -2]", "1 [3]");
+    }
+
+    @Test
+    public void testIllegalWCNF() {
+        assertThatThrownBy(() -> parseWCNF("h1 2 0")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unexpected character '1' in line 1.");
+        assertThatThrownBy(() -> parseWCNF("-3 1 2 0")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Negative weight in line 1.");
+        assertThatThrownBy(() -> parseWCNF("3 1 h 0")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unexpected character 'h' in line 1.");
+        assertThatThrownBy(() -> parseWCNF("9223372036854775808 1 0")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Weight out of range in line 1.");
+        assertThatThrownBy(() -> parseWCNF("h 1 2 0\n5")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The last clause in line 2 is not terminated by 0.");
+        assertThatThrownBy(() -> parseWCNF("p wcnf 3 4 5 6\n1 2 0")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid problem line 'p wcnf 3 4 5 6' in line 1.");
+    }
+
+    private static void parseWCNF(final String input) {
+        DimacsParser.parseWCNF(ByteBuffer.wrap(input.getBytes(StandardCharsets.US_ASCII)), new WeightedCollector());
+    }
+
+    private static void parse(final String input) {
+        DimacsParser.parse(ByteBuffer.wrap(input.getBytes(StandardCharsets.US_ASCII)), new Collector());
+    }
+
+    private static final class Collector implements DimacsParser.ClauseConsumer {
+        private final List<List<Integer>> clauses = new ArrayList<>();
+        private int numVars = -1;
+        private int numClauses = -1;
+
+        @Override
+        public void header(final int numVariables, final int numClauses) {
+            this.numVars = numVariables;
+            this.numClauses = numClauses;
+        }
+
+        @Override
+        public void clause(final LNGIntVector literals) {
+            final List<Integer> clause = new ArrayList<>();
+            for (int i = 0; i < literals.size(); i++) {
+                clause.add(literals.get(i));
+            }
+            this.clauses.add(clause);
+        }
+    }
+
+    private static final class WeightedCollector implements DimacsParser.WeightedClauseConsumer {
+        private final List<String> clauses = new ArrayList<>();
+        private int numVars = -1;
+
+        @Override
+        public void header(final int numVariables, final int numClauses) {
+            this.numVars = numVariables;
+        }
+
+        @Override
+        public void hardClause(final LNGIntVector literals) {
+            this.clauses.add("h " + literals);
+        }
+
+        @Override
+        public void softClause(final LNGIntVector literals, final long weight) {
+            this.clauses.add(weight + " " + literals);
+        }
+    }
+}
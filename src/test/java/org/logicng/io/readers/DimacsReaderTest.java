@@ -28,16 +28,27 @@
 
 package org.logicng.io.readers;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.MiniSat2Solver;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Unit Tests for the class {@link DimacsReader}.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class DimacsReaderTest {
@@ -51,4 +62,55 @@ public class DimacsReaderTest {
         }).isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Line '2 -3' did not end with 0.");
     }
+
+    @Test
+    public void testReadFormulas() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final List<Formula> clauses = DimacsReader.readCNF("src/test/resources/sat/3col40_5_10.shuffled.cnf", f, "x");
+        assertThat(clauses).hasSize(346);
+        assertThat(clauses.get(0)).isEqualTo(f.or(f.literal("x4", false), f.variable("x23"), f.variable("x19"), f.literal("x42", false)));
+        final MiniSat solver = MiniSat.miniSat(f);
+        solver.add(clauses);
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+    }
+
+    @Test
+    public void testReadCompressedFormulas() throws IOException {
+        final File file = new File("src/test/resources/sat/3col40_5_10.shuffled.cnf");
+        final File compressed = new File("src/test/resources/writers/temp/3col40_5_10.shuffled.cnf.gz");
+        try (final GZIPOutputStream out = new GZIPOutputStream(new FileOutputStream(compressed))) {
+            out.write(Files.readAllBytes(file.toPath()));
+        }
+        final FormulaFactory f = new FormulaFactory();
+        assertThat(DimacsReader.readCNF(compressed, f)).isEqualTo(DimacsReader.readCNF(file, f));
+    }
+
+    @Test
+    public void testLoadIntoSolver() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final String fileName = "src/test/resources/sat/dp02s02.shuffled.cnf";
+        final List<Formula> clauses = DimacsReader.readCNF(fileName, f);
+        final MiniSat solver = MiniSat.miniSat(f);
+        DimacsReader.loadCNF(fileName, solver);
+        assertThat(solver.knownVariables()).isEqualTo(f.and(clauses).variables());
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        final Assignment model = solver.model();
+        assertThat(clauses).allMatch(clause -> clause.evaluate(model));
+
+        final MiniSat2Solver underlyingSolver = new MiniSat2Solver();
+        DimacsReader.loadCNF(new File(fileName), underlyingSolver);
+        assertThat(underlyingSolver.nVars()).isEqualTo(solver.underlyingSolver().nVars());
+        assertThat(underlyingSolver.solve(null)).isEqualTo(Tristate.TRUE);
+    }
+
+    @Test
+    public void testLoadIntoSolverWithKnownVariables() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final MiniSat solver = MiniSat.glucose(f);
+        solver.add(f.literal("a1", false));
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        DimacsReader.loadCNF(new File("src/test/resources/sat/unsat/pret60_40.cnf"), solver, "a");
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+        assertThat(solver.underlyingSolver().nVars()).isEqualTo(60);
+    }
 }
@@ -0,0 +1,160 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.io.readers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PseudoBooleanParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link FormulaBatchReader}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class FormulaBatchReaderTest {
+
+    private static final String INPUT = "a & b\n\n(x => y) & ~z\na &\n   \n2*a + -4*b + 3*x = 2\n$false | ";
+
+    @Test
+    public void testReadLines() throws IOException, ParserException {
+        for (final int numThreads : new int[]{1, 3}) {
+            final FormulaFactory f = new FormulaFactory();
+            final List<FormulaBatchReader.ParseResult> results = new ArrayList<>();
+            final FormulaBatchReader reader = FormulaBatchReader.builder(f).numThreads(numThreads).linesPerTask(2).build();
+            assertThat(reader.readLines(new StringReader(INPUT), results::add)).isEqualTo(2);
+            assertThat(results).hasSize(5);
+            assertThat(results.get(0).formula()).isEqualTo(f.parse("a & b"));
+            assertThat(results.get(0).line()).isEqualTo(1);
+            assertThat(results.get(0).file()).isNull();
+            assertThat(results.get(1).formula()).isEqualTo(f.parse("(x => y) & ~z"));
+            assertThat(results.get(1).line()).isEqualTo(3);
+            assertThat(results.get(2).successful()).isFalse();
+            assertThat(results.get(2).line()).isEqualTo(4);
+            assertThat(results.get(2).formula()).isNull();
+            assertThat(results.get(2).error()).isInstanceOf(ParserException.class);
+            assertThat(results.get(3).formula()).isEqualTo(f.parse("2*a + -4*b + 3*x = 2"));
+            assertThat(results.get(3).line()).isEqualTo(6);
+            assertThat(results.get(4).successful()).isFalse();
+            assertThat(results.get(4).line()).isEqualTo(7);
+        }
+    }
+
+    @Test
+    public void testReadLinesPropositional() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final List<FormulaBatchReader.ParseResult> results = new ArrayList<>();
+        final FormulaBatchReader reader = FormulaBatchReader.builder(f).pseudoBoolean(false).build();
+        assertThat(reader.readLines(new StringReader("a => b\n2*a + b >= 1"), results::add)).isEqualTo(1);
+        assertThat(results.get(0).formula()).isEqualTo(f.implication(f.variable("a"), f.variable("b")));
+        assertThat(results.get(1).successful()).isFalse();
+    }
+
+    @Test
+    public void testParallelLinesAreIdentical() throws IOException {
+        final File file = new File("src/test/resources/formulas/formula1.txt");
+        final FormulaFactory f = new FormulaFactory();
+        final List<Formula> sequential = new ArrayList<>();
+        final List<Formula> parallel = new ArrayList<>();
+        assertThat(FormulaBatchReader.builder(f).build().readLines(file, r -> sequential.add(r.formula()))).isZero();
+        assertThat(FormulaBatchReader.builder(f).numThreads(4).linesPerTask(100).build().readLines(file, r -> parallel.add(r.formula()))).isZero();
+        assertThat(sequential).hasSize(1830);
+        assertThat(parallel).isEqualTo(sequential);
+        for (final Formula formula : parallel) {
+            assertThat(formula.factory()).isSameAs(f);
+        }
+    }
+
+    @Test
+    public void testReadFiles() throws IOException, ParserException {
+        final File invalid = new File("src/test/resources/writers/temp/batch_invalid.txt");
+        Files.write(invalid.toPath(), "a & b\n\nc |\n".getBytes(StandardCharsets.UTF_8));
+        final List<File> files = Arrays.asList(
+                new File("src/test/resources/formulas/formula1.txt"),
+                invalid,
+                new File("src/test/resources/formulas/does_not_exist.txt"),
+                new File("src/test/resources/formulas/small_formulas.txt"));
+        for (final int numThreads : new int[]{1, 2}) {
+            final FormulaFactory f = new FormulaFactory();
+            final List<FormulaBatchReader.ParseResult> results = new ArrayList<>();
+            assertThat(FormulaBatchReader.builder(f).numThreads(numThreads).build().readFiles(files, results::add)).isEqualTo(2);
+            assertThat(results).hasSize(4);
+            assertThat(results.get(0).formula()).isEqualTo(FormulaReader.readPseudoBooleanFormula(files.get(0), f));
+            assertThat(results.get(0).file()).isEqualTo(files.get(0));
+            assertThat(results.get(1).error()).isInstanceOf(ParserException.class);
+            assertThat(results.get(1).line()).isEqualTo(3);
+            assertThat(results.get(2).error()).isInstanceOf(IOException.class);
+            assertThat(results.get(3).formula()).isEqualTo(FormulaReader.readPseudoBooleanFormula(files.get(3), f));
+        }
+    }
+
+    @Test
+    public void testWorkerFactories() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final List<FormulaFactory> workers = new ArrayList<>();
+        final FormulaBatchReader reader = FormulaBatchReader.builder(f).numThreads(2).linesPerTask(1).workerFactories(() -> {
+            final FormulaFactory worker = new FormulaFactory();
+            synchronized (workers) {
+                workers.add(worker);
+            }
+            return worker;
+        }).build();
+        final List<Formula> formulas = new ArrayList<>();
+        reader.readLines(new StringReader("a\nb\nc"), r -> formulas.add(r.formula()));
+        assertThat(workers).hasSize(3);
+        assertThat(formulas).containsExactly(f.variable("a"), f.variable("b"), f.variable("c"));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        final FormulaFactory f = new FormulaFactory();
+        assertThatThrownBy(() -> FormulaBatchReader.builder(f).numThreads(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FormulaBatchReader.builder(f).linesPerTask(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testToString() throws IOException {
+        final List<FormulaBatchReader.ParseResult> results = new ArrayList<>();
+        FormulaBatchReader.builder(new FormulaFactory()).build().readLines(new StringReader("a"), results::add);
+        assertThat(results.get(0).toString()).isEqualTo("ParseResult{file=null, line=1, formula=a, error=null}");
+    }
+}
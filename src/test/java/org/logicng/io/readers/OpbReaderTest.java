@@ -0,0 +1,144 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.io.readers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MaxSATSolver;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.maxsat.algorithms.MaxSAT;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link OpbReader}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class OpbReaderTest {
+
+    private static final File KNAPSACK = new File("src/test/resources/opb/knapsack.opb");
+
+    private final FormulaFactory f = new FormulaFactory();
+    private final Variable x1 = this.f.variable("x1");
+    private final Variable x2 = this.f.variable("x2");
+    private final Variable x3 = this.f.variable("x3");
+    private final Variable x4 = this.f.variable("x4");
+    private final Variable x5 = this.f.variable("x5");
+
+    @Test
+    public void testReadConstraints() throws IOException {
+        final List<Formula> constraints = OpbReader.readOPB(KNAPSACK, this.f);
+        assertThat(constraints).containsExactly(
+                this.f.pbc(CType.LE, 6, Arrays.asList(this.x1, this.x2, this.x3, this.x4), Arrays.asList(3, 2, 4, 1)),
+                this.f.pbc(CType.LE, 1, Arrays.asList(this.x1, this.x3), Arrays.asList(1, 1)),
+                this.f.pbc(CType.GE, 1, Arrays.asList(this.x2, this.x4, this.x5), Arrays.asList(1, 1, 1)),
+                this.f.pbc(CType.EQ, 0, Arrays.asList(this.x4, this.x5), Arrays.asList(1, -1)));
+    }
+
+    @Test
+    public void testReadObjective() throws IOException {
+        final List<Formula> constraints = new ArrayList<>();
+        final OpbReader.Objective objective = OpbReader.readOPB(KNAPSACK, this.f, constraints::add);
+        assertThat(constraints).hasSize(4);
+        assertThat(objective.minimize()).isTrue();
+        assertThat(objective.literals()).containsExactly(this.x1, this.x2, this.x3, this.x4, this.x5.negate());
+        assertThat(objective.coefficients()).containsExactly(-4, -3, -5, -2, 1);
+        assertThat(read("+1 x1 +1 x2 >= 1 ;")).isNull();
+        final OpbReader.Objective max = read("max: +2 a ;\n+1 a +1 b > 0;");
+        assertThat(max.minimize()).isFalse();
+        assertThat(max.literals()).containsExactly(this.f.variable("a"));
+    }
+
+    @Test
+    public void testLoadIntoSolver() throws IOException {
+        final MiniSat solver = MiniSat.miniSat(this.f);
+        final OpbReader.Objective objective = OpbReader.loadOPB(KNAPSACK, solver);
+        assertThat(objective.literals()).hasSize(5);
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        solver.add(this.f.and(this.x1, this.x3));
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+    }
+
+    @Test
+    public void testLoadIntoMaxSATSolver() throws IOException {
+        final MaxSATSolver solver = MaxSATSolver.oll(this.f);
+        final long offset = OpbReader.loadOPB(KNAPSACK, solver);
+        assertThat(offset).isEqualTo(-14);
+        assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
+        assertThat(solver.result() + offset).isEqualTo(-9);
+        final Assignment model = solver.model();
+        assertThat(model.positiveVariables()).contains(this.x1, this.x2, this.x4, this.x5).doesNotContain(this.x3);
+        assertThatThrownBy(() -> OpbReader.loadOPB(writeTemp("max: +1 x1 ;"), MaxSATSolver.oll(this.f)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testIllegalInput() {
+        assertThatThrownBy(() -> read("+1 x1 +1 x2 1 ;")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected a literal after the coefficient 1 in line 1.");
+        assertThatThrownBy(() -> read("+1 x1 x2 >= 1 ;")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Non-linear terms are not supported (line 1).");
+        assertThatThrownBy(() -> read("+1 x1 ;")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Missing relational operator in the constraint in line 1.");
+        assertThatThrownBy(() -> read("* comment\n+1 x1 >= 1")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected ';' after the constraint in line 2.");
+        assertThatThrownBy(() -> read("+1 x1 >= a ;")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid integer 'a' in line 1.");
+        assertThatThrownBy(() -> read("+1 x1 >= 1 ;\nmin: +1 x1 ;")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The objective function in line 2 must be the first statement.");
+        assertThatThrownBy(() -> read("+1 x1 +1")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected a literal after the coefficient +1 in line 1.");
+    }
+
+    private OpbReader.Objective read(final String input) throws IOException {
+        return OpbReader.readOPB(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), this.f, c -> {
+        });
+    }
+
+    private static File writeTemp(final String content) throws IOException {
+        final File file = new File("src/test/resources/writers/temp/objective.opb");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+}
@@ -0,0 +1,212 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.io.serializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PseudoBooleanParser;
+import org.logicng.io.readers.FormulaReader;
+import org.logicng.propositions.ExtendedProposition;
+import org.logicng.propositions.Proposition;
+import org.logicng.propositions.PropositionBackpack;
+import org.logicng.propositions.StandardProposition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Unit tests for {@link FormulaSerializer}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class FormulaSerializerTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testFileRoundTrip() throws ParserException, IOException {
+        final Formula large = FormulaReader.readPseudoBooleanFormula("src/test/resources/formulas/large_formula.txt", this.f);
+        final Formula small = FormulaReader.readPseudoBooleanFormula("src/test/resources/formulas/formula1.txt", this.f);
+        final List<Formula> formulas = Arrays.asList(large, small, large.cnf(), this.f.verum(), this.f.falsum(), this.f.literal("a", false));
+        final Path path = Paths.get("src/test/resources/writers/temp/formulas.bin");
+        FormulaSerializer.write(path, formulas);
+        final FormulaFactory g = new FormulaFactory();
+        final List<Formula> read = FormulaSerializer.read(path, g);
+        assertThat(read).hasSize(formulas.size());
+        for (int i = 0; i < formulas.size(); i++) {
+            assertThat(read.get(i).factory()).isSameAs(g);
+            assertThat(read.get(i)).isEqualTo(g.importFormula(formulas.get(i)));
+            assertThat(read.get(i).toString()).isEqualTo(formulas.get(i).toString());
+        }
+        final List<Formula> sameFactory = FormulaSerializer.read(path, this.f);
+        for (int i = 0; i < formulas.size(); i++) {
+            assertThat(sameFactory.get(i)).isSameAs(formulas.get(i));
+        }
+        FormulaSerializer.write(path, small);
+        assertThat(FormulaSerializer.read(path, this.f)).containsExactly(small);
+        Files.delete(path);
+    }
+
+    @Test
+    public void testChannelAndBufferRoundTrip() throws ParserException, IOException {
+        final PseudoBooleanParser p = new PseudoBooleanParser(this.f);
+        final List<Formula> formulas = Arrays.asList(p.parse("(a => b) <=> ~(c | ~d) & e"), p.parse("3 * a + -2 * ~b + c >= 2"),
+                p.parse("a + b + c <= 1"), p.parse("~(a + b + c <= 1) | x"), p.parse("$true"));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FormulaSerializer.write(Channels.newChannel(out), formulas);
+        assertThat(FormulaSerializer.read(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), this.f)).isEqualTo(formulas);
+        final ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        assertThat(FormulaSerializer.read(buffer, this.f)).isEqualTo(formulas);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void testSharing() throws IOException {
+        Formula formula = this.f.variable("x0");
+        for (int i = 1; i < 100; i++) {
+            formula = this.f.equivalence(formula, this.f.or(formula, this.f.variable("x" + i)));
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FormulaSerializer.write(Channels.newChannel(out), Collections.singletonList(formula));
+        assertThat(out.size()).isLessThan(5000);
+        assertThat(FormulaSerializer.read(ByteBuffer.wrap(out.toByteArray()), this.f).get(0)).isSameAs(formula);
+        final Formula read = FormulaSerializer.read(ByteBuffer.wrap(out.toByteArray()), new FormulaFactory()).get(0);
+        assertThat(read.variables()).hasSize(100);
+        assertThat(read.numberOfInternalNodes()).isEqualTo(formula.numberOfInternalNodes());
+    }
+
+    @Test
+    public void testDeepFormula() throws IOException {
+        Formula formula = this.f.variable("x0");
+        for (int i = 1; i < 100_000; i++) {
+            formula = this.f.implication(this.f.variable("x" + i), formula);
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FormulaSerializer.write(Channels.newChannel(out), Collections.singletonList(formula));
+        assertThat(FormulaSerializer.read(ByteBuffer.wrap(out.toByteArray()), this.f).get(0)).isSameAs(formula);
+    }
+
+    @Test
+    public void testPropositions() throws ParserException, IOException {
+        final PseudoBooleanParser p = new PseudoBooleanParser(this.f);
+        final List<Proposition> propositions = Arrays.asList(
+                new StandardProposition("first rule", p.parse("a => b | c")),
+                new ExtendedProposition<>(new Rule(42, "second rule"), p.parse("(b | c) & 2 * a + d <= 2")),
+                new StandardProposition(p.parse("b | c")));
+        final Path path = Paths.get("src/test/resources/writers/temp/propositions.bin");
+        FormulaSerializer.writePropositions(path, propositions, new RuleSerializer());
+        final FormulaFactory g = new FormulaFactory();
+        final List<Proposition> read = FormulaSerializer.readPropositions(path, g, new RuleSerializer());
+        assertThat(read).hasSize(3);
+        assertThat(read.get(0)).isEqualTo(new StandardProposition("first rule", g.importFormula(propositions.get(0).formula())));
+        assertThat(read.get(1)).isEqualTo(new ExtendedProposition<>(new Rule(42, "second rule"), g.importFormula(propositions.get(1).formula())));
+        assertThat(((StandardProposition) read.get(2)).description()).isEmpty();
+        assertThat(FormulaSerializer.readPropositions(path, this.f, new RuleSerializer())).isEqualTo(propositions);
+        assertThat(FormulaSerializer.read(path, this.f)).containsExactly(propositions.get(0).formula(), propositions.get(1).formula(),
+                propositions.get(2).formula());
+        assertThatThrownBy(() -> FormulaSerializer.readPropositions(path, this.f, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FormulaSerializer.writePropositions(path, propositions, null)).isInstanceOf(IllegalArgumentException.class);
+        FormulaSerializer.write(path, Collections.singletonList(this.f.variable("a")));
+        assertThatThrownBy(() -> FormulaSerializer.readPropositions(path, this.f, null)).isInstanceOf(IOException.class);
+        Files.delete(path);
+    }
+
+    @Test
+    public void testInvalidData() throws IOException {
+        assertThatThrownBy(() -> FormulaSerializer.read(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}), this.f))
+                .isInstanceOf(IOException.class).hasMessage("Not a formula file");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FormulaSerializer.write(Channels.newChannel(out), Collections.singletonList(this.f.pbc(CType.GE, 2,
+                Arrays.asList(this.f.variable("a"), this.f.variable("b")), Arrays.asList(1, 2))));
+        final byte[] bytes = out.toByteArray();
+        assertThatThrownBy(() -> FormulaSerializer.read(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 1)), this.f))
+                .isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> FormulaSerializer.read(Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(bytes, 20))), this.f))
+                .isInstanceOf(EOFException.class);
+        final byte[] version = bytes.clone();
+        version[7] = 9;
+        assertThatThrownBy(() -> FormulaSerializer.read(ByteBuffer.wrap(version), this.f))
+                .isInstanceOf(IOException.class).hasMessage("Unsupported formula format version: 9");
+        final byte[] root = bytes.clone();
+        root[root.length - 5] = 7;
+        assertThatThrownBy(() -> FormulaSerializer.read(ByteBuffer.wrap(root), this.f))
+                .isInstanceOf(IOException.class).hasMessage("Invalid reference: 7");
+    }
+
+    private static final class Rule implements PropositionBackpack {
+        private final int id;
+        private final String name;
+
+        private Rule(final int id, final String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Rule && ((Rule) other).id == this.id && ((Rule) other).name.equals(this.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.id, this.name);
+        }
+    }
+
+    private static final class RuleSerializer implements FormulaSerializer.BackpackSerializer<Rule> {
+        @Override
+        public byte[] serialize(final Rule backpack) {
+            return (backpack.id + ";" + backpack.name).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Rule deserialize(final byte[] bytes) {
+            final String[] parts = new String(bytes, StandardCharsets.UTF_8).split(";");
+            return new Rule(Integer.parseInt(parts[0]), parts[1]);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.io.writers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PropositionalParser;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.solvers.MaxSATSolver;
+import org.logicng.solvers.maxsat.algorithms.MaxSAT;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link DimacsStreamWriter}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class DimacsStreamWriterTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+    private final PropositionalParser p = new PropositionalParser(this.f);
+
+    @Test
+    public void testCNF() throws IOException, ParserException {
+        final File file = new File("src/test/resources/writers/temp/stream.cnf");
+        try (final DimacsStreamWriter writer = new DimacsStreamWriter(file)) {
+            writer.add(this.p.parse("(a | ~b) & (b | c | ~d)"));
+            writer.add(this.p.parse("$true"));
+            writer.add(Arrays.asList(this.p.parse("~a"), this.p.parse("e | d")));
+            assertThat(writer.numberOfVariables()).isEqualTo(5);
+            assertThat(writer.numberOfClauses()).isEqualTo(4);
+            assertThat(writer.variableMapping().keySet()).containsExactly(this.f.variable("a"), this.f.variable("b"), this.f.variable("c"),
+                    this.f.variable("d"), this.f.variable("e"));
+        }
+        final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertThat(lines.get(0).trim().split("\\s+")).containsExactly("p", "cnf", "5", "4");
+        assertThat(lines.subList(1, lines.size())).containsExactly("1 -2 0", "2 3 -4 0", "-1 0", "4 5 0");
+        final List<Formula> clauses = DimacsReader.readCNF(file, this.f, "x");
+        assertThat(clauses).containsExactly(this.p.parse("x1 | ~x2"), this.p.parse("x2 | x3 | ~x4"), this.p.parse("~x1"), this.p.parse("x4 | x5"));
+    }
+
+    @Test
+    public void testFalseAndMapping() throws IOException {
+        final File file = new File("src/test/resources/writers/temp/stream-false.cnf");
+        final File mapping = new File("src/test/resources/writers/temp/stream-false.map");
+        try (final DimacsStreamWriter writer = new DimacsStreamWriter(file)) {
+            writer.add(this.f.variable("x"));
+            writer.add(this.f.falsum());
+            writer.writeMapping(mapping);
+        }
+        assertThat(Files.readAllLines(file.toPath()).subList(1, 3)).containsExactly("1 0", "0");
+        assertThat(Files.readAllLines(mapping.toPath())).containsExactly("x;1");
+    }
+
+    @Test
+    public void testWCNF() throws IOException, ParserException {
+        final File file = new File("src/test/resources/writers/temp/stream.wcnf");
+        try (final DimacsStreamWriter writer = new DimacsStreamWriter(file, true)) {
+            writer.add(this.p.parse("(a | b) & (~a | ~b)"));
+            writer.addSoft(this.p.parse("a"), 3);
+            writer.addSoft(this.p.parse("b | c"), 2);
+            writer.addSoft(this.p.parse("~c"), 4);
+            writer.addSoft(this.p.parse("$true"), 4);
+        }
+        assertThat(Files.readAllLines(file.toPath())).containsExactly("h 1 2 0", "h -1 -2 0", "3 1 0", "2 2 3 0", "4 -3 0");
+        final MaxSATSolver solver = MaxSATSolver.wbo(this.f);
+        DimacsReader.loadWCNF(file, solver);
+        assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
+        assertThat(solver.result()).isEqualTo(2);
+    }
+
+    @Test
+    public void testIllegalArguments() throws IOException {
+        final Variable a = this.f.variable("a");
+        try (final DimacsStreamWriter writer = new DimacsStreamWriter(new File("src/test/resources/writers/temp/stream-illegal.cnf"))) {
+            assertThatThrownBy(() -> writer.add(this.f.equivalence(a, this.f.variable("b")))).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> writer.addSoft(a, 1)).isInstanceOf(IllegalStateException.class);
+        }
+        try (final DimacsStreamWriter writer = new DimacsStreamWriter(new File("src/test/resources/writers/temp/stream-illegal.wcnf"), true)) {
+            assertThatThrownBy(() -> writer.addSoft(a, 0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> writer.addSoft(this.f.and(a, this.f.variable("b")), 1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.io.writers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.io.readers.OpbReader;
+import org.logicng.solvers.MiniSat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for {@link OpbStreamWriter}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class OpbStreamWriterTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+    private final Variable a = this.f.variable("a");
+    private final Variable b = this.f.variable("b");
+    private final Variable c = this.f.variable("c");
+
+    @Test
+    public void testConstraints() throws IOException {
+        final File file = new File("src/test/resources/writers/temp/stream.opb");
+        try (final OpbStreamWriter writer = new OpbStreamWriter(file)) {
+            writer.writeObjective(true, Arrays.asList(this.a, this.b.negate()), Arrays.asList(3, -2));
+            writer.add(this.f.pbc(CType.LE, 4, Arrays.asList(this.a, this.b, this.c), Arrays.asList(2, 3, 4)));
+            writer.add(this.f.and(this.f.or(this.a, this.c.negate()), this.f.cc(CType.EQ, 1, this.a, this.b)));
+            writer.add(Arrays.asList(this.f.pbc(CType.GT, 1, Arrays.asList(this.a, this.b), Arrays.asList(1, 2)), this.f.verum(),
+                    this.f.pbc(CType.LT, 2, Arrays.asList(this.b, this.c), Arrays.asList(1, 1))));
+            assertThat(writer.numberOfVariables()).isEqualTo(3);
+            assertThat(writer.numberOfConstraints()).isEqualTo(5);
+        }
+        final List<String> lines = Files.readAllLines(file.toPath());
+        assertThat(lines.get(0).trim().split("\\s+")).containsExactly("*", "#variable=", "3", "#constraint=", "5");
+        assertThat(lines.subList(1, lines.size())).containsExactly(
+                "min: +3 x1 -2 ~x2 ;",
+                "-2 x1 -3 x2 -4 x3 >= -4 ;",
+                "+1 x1 +1 ~x3 >= 1 ;",
+                "+1 x1 +1 x2 = 1 ;",
+                "+1 x1 +2 x2 >= 2 ;",
+                "-1 x2 -1 x3 >= -1 ;");
+        final List<Formula> constraints = new ArrayList<>();
+        final OpbReader.Objective objective = OpbReader.readOPB(file, this.f, constraints::add);
+        final Variable x1 = this.f.variable("x1");
+        final Variable x2 = this.f.variable("x2");
+        final Variable x3 = this.f.variable("x3");
+        assertThat(objective.literals()).containsExactly(x1, x2.negate());
+        assertThat(objective.coefficients()).containsExactly(3, -2);
+        assertThat(constraints).containsExactly(
+                this.f.pbc(CType.GE, -4, Arrays.asList(x1, x2, x3), Arrays.asList(-2, -3, -4)),
+                this.f.pbc(CType.GE, 1, Arrays.asList(x1, x3.negate()), Arrays.asList(1, 1)),
+                this.f.pbc(CType.EQ, 1, Arrays.asList(x1, x2), Arrays.asList(1, 1)),
+                this.f.pbc(CType.GE, 2, Arrays.asList(x1, x2), Arrays.asList(1, 2)),
+                this.f.pbc(CType.GE, -1, Arrays.asList(x2, x3), Arrays.asList(-1, -1)));
+    }
+
+    @Test
+    public void testFalse() throws IOException {
+        final File file = new File("src/test/resources/writers/temp/stream-false.opb");
+        final File mapping = new File("src/test/resources/writers/temp/stream-false-opb.map");
+        try (final OpbStreamWriter writer = new OpbStreamWriter(file)) {
+            writer.add(this.a);
+            writer.add(this.f.falsum());
+            writer.writeMapping(mapping);
+        }
+        assertThat(Files.readAllLines(file.toPath()).subList(1, 4)).containsExactly("+1 x1 >= 1 ;", "+1 x2 >= 1 ;", "+1 ~x2 >= 1 ;");
+        assertThat(Files.readAllLines(mapping.toPath())).containsExactly("a;1");
+        final MiniSat solver = MiniSat.miniSat(this.f);
+        OpbReader.loadOPB(file, solver);
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+    }
+
+    @Test
+    public void testIllegalArguments() throws IOException {
+        try (final OpbStreamWriter writer = new OpbStreamWriter(new File("src/test/resources/writers/temp/stream-illegal.opb"))) {
+            assertThatThrownBy(() -> writer.add(this.f.implication(this.a, this.b))).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> writer.add(this.f.or(this.a, this.f.and(this.b, this.c)))).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> writer.writeObjective(true, Collections.singletonList(this.a), Collections.emptyList()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            writer.add(this.a);
+            assertThatThrownBy(() -> writer.writeObjective(true, Collections.singletonList(this.a), Collections.singletonList(1)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -33,15 +33,19 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.io.parsers.ParserException;
 import org.logicng.io.parsers.PropositionalParser;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDConstruction;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.testutils.NQueensGenerator;
+
+import java.math.BigInteger;
 
 /**
  * Unit tests for some low level BDD kernel methods.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.4.0
  */
 public class BDDLowLevelTest {
@@ -75,6 +79,42 @@ public class BDDLowLevelTest {
         assertThat(statistics.toString()).isEqualTo("BDDStatistics{produced nodes=14, allocated nodes=1009, free nodes=993, variables=3, cache size=1000, garbage collections=0}");
     }
 
+    @Test
+    public void testCacheStatistics() {
+        final BDDKernel.BDDStatistics statistics = this.bdd.underlyingKernel().statistics();
+        assertThat(statistics.cacheStatistics().keySet()).containsExactly("apply", "ite", "quant", "appex", "replace", "misc", "constrain");
+        final BDDKernel.BDDCacheStatistics apply = statistics.cacheStatistics().get("apply");
+        assertThat(apply.size()).isEqualTo(1009);
+        assertThat(apply.lookups()).isPositive();
+        assertThat(apply.hits() + apply.misses()).isEqualTo(apply.lookups());
+        assertThat(apply.overwrites()).isBetween(0L, apply.misses());
+        assertThat(apply.hitRate()).isBetween(0.0, 1.0);
+        final BDDKernel.BDDCacheStatistics constrain = statistics.cacheStatistics().get("constrain");
+        assertThat(constrain.lookups()).isZero();
+        assertThat(constrain.hitRate()).isZero();
+        this.bdd.modelCount();
+        this.bdd.modelCount();
+        final BDDKernel.BDDCacheStatistics misc = this.bdd.underlyingKernel().statistics().cacheStatistics().get("misc");
+        assertThat(misc.hits()).isPositive();
+    }
+
+    @Test
+    public void testCacheRatio() {
+        final FormulaFactory f = new FormulaFactory();
+        final Formula queens = new NQueensGenerator(f).generate(6);
+        final BDDKernel kernel = new BDDKernel(f, queens.variables().size(), 100, 100);
+        assertThat(kernel.getCacheRatio()).isZero();
+        assertThatThrownBy(() -> kernel.setCacheRatio(-1)).isInstanceOf(IllegalArgumentException.class);
+        kernel.setCacheRatio(2);
+        assertThat(kernel.getCacheRatio()).isEqualTo(2);
+        final BDD bdd = BDDFactory.build(queens, kernel);
+        assertThat(bdd.modelCount()).isEqualTo(BigInteger.valueOf(4));
+        final BDDKernel.BDDStatistics statistics = kernel.statistics();
+        assertThat(statistics.nodesize()).isGreaterThan(200);
+        assertThat(statistics.cachesize()).isEqualTo(statistics.nodesize() / 2);
+        assertThat(statistics.cacheStatistics().get("apply").size()).isGreaterThanOrEqualTo(statistics.nodesize() / 2);
+    }
+
     @Test
     public void kernelTests() {
         final BDDConstruction kernel = new BDDConstruction(this.bdd.underlyingKernel());
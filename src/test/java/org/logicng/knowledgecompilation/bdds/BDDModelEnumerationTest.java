@@ -37,18 +37,22 @@ import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.formulas.Variable;
 import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDOperations;
 import org.logicng.testutils.NQueensGenerator;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 
 /**
  * Unit tests for the BDDs.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.4.0
  */
 public class BDDModelEnumerationTest {
@@ -135,6 +139,100 @@ public class BDDModelEnumerationTest {
         assertThat(bdd.enumerateAllModels(generateVariables(100, f))).hasSize(101);
     }
 
+    @Test
+    public void testModelIterator() {
+        for (int i = 0; i < this.formulas.size(); i++) {
+            final BDDKernel kernel = new BDDKernel(this.f, this.variables.get(i).size(), 10000, 10000);
+            final BDD bdd = BDDFactory.build(this.formulas.get(i), kernel);
+            final List<Variable> vars = new ArrayList<>(this.variables.get(i));
+            final Set<Assignment> models = new HashSet<>();
+            final Iterator<BitSet> iterator = bdd.modelIterator(vars);
+            while (iterator.hasNext()) {
+                models.add(toAssignment(iterator.next(), vars));
+            }
+            assertThat(models).hasSize(this.expected[i].intValue());
+            assertThat(models).containsExactlyInAnyOrderElementsOf(bdd.enumerateAllModels());
+        }
+    }
+
+    @Test
+    public void testEnumerateModelsProjected() {
+        final FormulaFactory f = new FormulaFactory();
+        final List<Variable> vars = generateVariables(10, f);
+        final Formula constraint = f.and(f.cc(CType.EQ, 3, vars), f.or(vars.get(0), vars.get(9))).cnf();
+        final BDDKernel kernel = new BDDKernel(f, constraint.variables().size(), 10000, 10000);
+        final BDD bdd = BDDFactory.build(constraint, kernel);
+        assertThat(bdd.enumerateAllModels(vars)).hasSize(64);
+        for (final List<Variable> projection : Arrays.asList(vars, vars.subList(0, 5), Arrays.asList(vars.get(7), f.variable("x"), vars.get(2)))) {
+            final Set<Assignment> expected = new HashSet<>(bdd.enumerateAllModels(projection));
+            final List<Assignment> models = new ArrayList<>();
+            assertThat(bdd.enumerateModels(projection, model -> models.add(toAssignment(model, projection)))).isTrue();
+            assertThat(models).doesNotHaveDuplicates();
+            if (projection.contains(f.variable("x"))) {
+                assertThat(models).hasSize(2 * expected.size());
+            } else {
+                assertThat(models).containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+        final int[] count = new int[1];
+        assertThat(bdd.enumerateModels(vars, model -> ++count[0] < 5)).isFalse();
+        assertThat(count[0]).isEqualTo(5);
+    }
+
+    @Test
+    public void testEnumerateModelsLarge() {
+        final FormulaFactory f = new FormulaFactory();
+        final List<Variable> vars = generateVariables(80, f);
+        final List<Formula> clauses = new ArrayList<>();
+        for (int i = 0; i < vars.size(); i += 2) {
+            clauses.add(f.or(vars.get(i), vars.get(i + 1)));
+        }
+        final BDD bdd = BDDFactory.build(f.and(clauses));
+        assertThat(bdd.modelCount()).isEqualTo(BigInteger.valueOf(3).pow(40));
+        final long[] count = new long[1];
+        assertThat(bdd.enumerateModels(vars, model -> {
+            assertThat(model.get(0) || model.get(1)).isTrue();
+            return ++count[0] < 100000;
+        })).isFalse();
+        assertThat(count[0]).isEqualTo(100000);
+    }
+
+    @Test
+    public void testConstantModelIterators() {
+        final FormulaFactory f = new FormulaFactory();
+        final List<Variable> vars = generateVariables(2, f);
+        assertThat(BDDFactory.build(f.falsum()).modelIterator(vars).hasNext()).isFalse();
+        final Iterator<BitSet> iterator = BDDFactory.build(f.verum()).modelIterator(vars);
+        final Set<BitSet> models = new HashSet<>();
+        while (iterator.hasNext()) {
+            models.add(iterator.next());
+        }
+        assertThat(models).hasSize(4);
+    }
+
+    @Test
+    public void testStreamingCubes() {
+        for (int i = 0; i < this.formulas.size(); i++) {
+            final BDDKernel kernel = new BDDKernel(this.f, this.variables.get(i).size(), 10000, 10000);
+            final BDD bdd = BDDFactory.build(this.formulas.get(i), kernel);
+            final BDDOperations operations = new BDDOperations(kernel);
+            final List<byte[]> cubes = new ArrayList<>();
+            assertThat(operations.allSat(bdd.index(), cube -> cubes.add(cube.clone()))).isTrue();
+            assertThat(cubes).containsExactlyElementsOf(operations.allSat(bdd.index()));
+            final List<byte[]> unsatCubes = new ArrayList<>();
+            assertThat(operations.allUnsat(bdd.index(), cube -> unsatCubes.add(cube.clone()))).isTrue();
+            assertThat(unsatCubes).containsExactlyElementsOf(operations.allUnsat(bdd.index()));
+        }
+    }
+
+    private static Assignment toAssignment(final BitSet model, final List<Variable> variables) {
+        final Assignment assignment = new Assignment();
+        for (int i = 0; i < variables.size(); i++) {
+            assignment.addLiteral(model.get(i) ? variables.get(i) : variables.get(i).negate());
+        }
+        return assignment;
+    }
+
     private List<Variable> generateVariables(final int n, final FormulaFactory f) {
         final List<Variable> result = new ArrayList<>(n);
         for (int i = 0; i < n; i++) {
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.logicng.RandomTag;
 import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Substitution;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.formulas.Literal;
@@ -48,13 +49,14 @@ import java.math.BigInteger;
 import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
 
 /**
  * Unit tests for {@link BDDFactory} operations.
- * @version 2.4.0
+ * @version 2.5.0
  * @since 1.4.0
  */
 public class BDDOperationsTest {
@@ -201,6 +203,102 @@ public class BDDOperationsTest {
         assertThat(this.bddAnd.forall(resAB)).isEqualTo(this.bddFalsum);
     }
 
+    @Test
+    public void testIte() throws ParserException {
+        assertThat(this.bddVerum.ite(this.bddImpl, this.bddOr)).isEqualTo(this.bddImpl);
+        assertThat(this.bddFalsum.ite(this.bddImpl, this.bddOr)).isEqualTo(this.bddOr);
+        assertThat(this.bddPosLit.ite(this.bddVerum, this.bddFalsum)).isEqualTo(this.bddPosLit);
+        assertThat(this.bddPosLit.ite(this.bddFalsum, this.bddVerum)).isEqualTo(this.bddNegLit);
+        assertThat(this.bddPosLit.ite(this.bddEquiv, this.bddEquiv)).isEqualTo(this.bddEquiv);
+        assertThat(this.bddEquiv.ite(this.bddAnd, this.bddOr)).isEqualTo(BDDFactory.build(this.parser.parse("(A <=> ~B) & A & B & ~C | ~(A <=> ~B) & (A | B | ~C)"), this.kernel));
+        assertThat(this.bddOr.ite(this.bddNegLit, this.bddImpl)).isEqualTo(BDDFactory.build(this.parser.parse("(A | B | ~C) & ~A | ~(A | B | ~C) & (A => ~B)"), this.kernel));
+    }
+
+    @Test
+    public void testAndExists() throws ParserException {
+        final Variable a = this.f.variable("A");
+        final List<Variable> resAB = Arrays.asList(this.f.variable("A"), this.f.variable("B"));
+        assertThat(this.bddPosLit.andExists(this.bddNegLit, a)).isEqualTo(this.bddFalsum);
+        assertThat(this.bddPosLit.andExists(this.bddVerum, a)).isEqualTo(this.bddVerum);
+        assertThat(this.bddOr.andExists(this.bddEquiv, a)).isEqualTo(this.bddOr.and(this.bddEquiv).exists(a));
+        assertThat(this.bddOr.andExists(this.bddEquiv, resAB)).isEqualTo(this.bddVerum);
+        assertThat(this.bddImpl.andExists(this.bddOr)).isEqualTo(this.bddImpl.and(this.bddOr));
+        assertThat(this.bddImpl.andExists(this.bddOr, resAB)).isEqualTo(this.bddVerum);
+        assertThat(this.bddImpl.andExists(this.bddAnd, a)).isEqualTo(this.bddFalsum);
+        assertThat(this.bddOr.andExists(this.bddNegLit, a)).isEqualTo(BDDFactory.build(this.parser.parse("B | ~C"), this.kernel));
+    }
+
+    @RandomTag
+    @Test
+    public void testAndExistsRandom() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 100; i++) {
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(10).seed(i).build());
+            final BDDKernel kernel = new BDDKernel(f, 10, 1000, 1000);
+            final BDD first = BDDFactory.build(randomizer.formula(4), kernel);
+            final BDD second = BDDFactory.build(randomizer.formula(4), kernel);
+            final List<Variable> variables = Arrays.asList(randomizer.variable(), randomizer.variable(), randomizer.variable());
+            assertThat(first.andExists(second, variables)).isEqualTo(first.and(second).exists(variables));
+        }
+    }
+
+    @Test
+    public void testCompose() throws ParserException {
+        final Variable a = this.f.variable("A");
+        final Variable b = this.f.variable("B");
+        assertThat(this.bddVerum.compose(a, this.bddOr)).isEqualTo(this.bddVerum);
+        assertThat(this.bddPosLit.compose(a, this.bddOr)).isEqualTo(this.bddOr);
+        assertThat(this.bddNegLit.compose(a, this.bddOr)).isEqualTo(this.bddOr.negate());
+        assertThat(this.bddImpl.compose(a, this.bddVerum)).isEqualTo(BDDFactory.build(this.f.literal("B", false), this.kernel));
+        assertThat(this.bddImpl.compose(this.f.variable("X"), this.bddFalsum)).isEqualTo(this.bddImpl);
+        assertThat(this.bddEquiv.compose(b, this.bddAnd)).isEqualTo(BDDFactory.build(this.parser.parse("A <=> ~(A & B & ~C)"), this.kernel));
+        final Map<Variable, BDD> substitution = new HashMap<>();
+        substitution.put(a, BDDFactory.build(this.parser.parse("B | C"), this.kernel));
+        substitution.put(b, BDDFactory.build(this.parser.parse("A & C"), this.kernel));
+        assertThat(this.bddEquiv.compose(substitution)).isEqualTo(BDDFactory.build(this.parser.parse("(B | C) <=> ~(A & C)"), this.kernel));
+        assertThat(this.bddOr.compose(substitution)).isEqualTo(BDDFactory.build(this.parser.parse("B | C | A & C | ~C"), this.kernel));
+        assertThat(this.bddOr.compose(Collections.emptyMap())).isEqualTo(this.bddOr);
+    }
+
+    @RandomTag
+    @Test
+    public void testComposeRandom() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 100; i++) {
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(10).seed(i).build());
+            final BDDKernel kernel = new BDDKernel(f, 10, 1000, 1000);
+            final Formula formula = randomizer.formula(4);
+            final Substitution substitution = new Substitution();
+            final Map<Variable, BDD> bddSubstitution = new HashMap<>();
+            for (int j = 0; j < 3; j++) {
+                final Variable variable = randomizer.variable();
+                final Formula replacement = randomizer.formula(2);
+                substitution.addMapping(variable, replacement);
+                bddSubstitution.put(variable, BDDFactory.build(replacement, kernel));
+            }
+            final BDD bdd = BDDFactory.build(formula, kernel);
+            assertThat(bdd.compose(bddSubstitution)).isEqualTo(BDDFactory.build(formula.substitute(substitution), kernel));
+            final Variable variable = substitution.getMapping().keySet().iterator().next();
+            final Substitution single = new Substitution();
+            single.addMapping(variable, substitution.getSubstitution(variable));
+            assertThat(bdd.compose(variable, bddSubstitution.get(variable))).isEqualTo(BDDFactory.build(formula.substitute(single), kernel));
+        }
+    }
+
+    @Test
+    public void testConstrain() throws ParserException {
+        assertThat(this.bddOr.constrain(this.bddVerum)).isEqualTo(this.bddOr);
+        assertThat(this.bddOr.constrain(this.bddFalsum)).isEqualTo(this.bddFalsum);
+        assertThat(this.bddVerum.constrain(this.bddFalsum)).isEqualTo(this.bddFalsum);
+        assertThat(this.bddOr.constrain(this.bddOr)).isEqualTo(this.bddVerum);
+        assertThat(this.bddImpl.constrain(this.bddPosLit)).isEqualTo(BDDFactory.build(this.f.literal("B", false), this.kernel));
+        assertThat(this.bddEquiv.constrain(this.bddNegLit)).isEqualTo(BDDFactory.build(this.f.literal("B", true), this.kernel));
+        assertThat(this.bddOr.constrain(this.bddNegLit)).isEqualTo(BDDFactory.build(this.parser.parse("B | ~C"), this.kernel));
+        final BDD careSet = BDDFactory.build(this.parser.parse("A | C"), this.kernel);
+        assertThat(this.bddAnd.constrain(careSet).and(careSet)).isEqualTo(this.bddAnd.and(careSet));
+        assertThat(this.bddEquiv.constrain(careSet).and(careSet)).isEqualTo(this.bddEquiv.and(careSet));
+    }
+
     @Test
     public void testModel() {
         assertThat(this.bddVerum.model()).isEqualTo(new Assignment());
@@ -0,0 +1,114 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PropositionalParser;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDConstruction;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for the parallel BDD construction.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class BDDParallelConstructionTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testSimpleFormulas() throws ParserException {
+        final PropositionalParser parser = new PropositionalParser(this.f);
+        compare(parser.parse("$true"), 4);
+        compare(parser.parse("a"), 4);
+        compare(parser.parse("a & b"), 4);
+        compare(parser.parse("(a | b) & (~a | c) & (b | ~c) & (d | e) & (~d | ~e) & (a | e) & (~b | d) & (c | d)"), 2);
+        compare(parser.parse("(a | b) & (~a | c) & (b | ~c) & (d | e) & (~d | ~e) & (a | e) & (~b | d) & (c | d)"), 3);
+        compare(parser.parse("a & b | c & d | ~a & e | ~e & ~b | d <=> a | c & ~d | a => e | b & c"), 4);
+        compare(parser.parse("a & ~a & (b | c) & (c | d) & (d | e) & (e | f) & (f | g) & (g | h)"), 4);
+    }
+
+    @Test
+    public void testRandomFormulas() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().numVars(14).seed(42).build());
+        for (int i = 0; i < 20; i++) {
+            final List<Formula> clauses = new ArrayList<>();
+            for (int j = 0; j < 40; j++) {
+                clauses.add(this.f.or(randomizer.literal(), randomizer.literal(), randomizer.literal()));
+            }
+            compare(this.f.and(clauses), 1 + i % 5);
+            compare(this.f.or(randomizer.formula(2), randomizer.formula(2), randomizer.formula(2), randomizer.formula(2), randomizer.formula(2)), 2);
+        }
+    }
+
+    @Test
+    public void testNewKernel() throws ParserException {
+        final Formula formula = new PropositionalParser(this.f).parse("(a | b) & (~a | c) & (b | ~c) & (d | e) & (~d | ~e)");
+        final BDD bdd = BDDFactory.buildParallel(formula, null, 2);
+        assertThat(bdd.modelCount()).isEqualTo(BDDFactory.build(formula).modelCount());
+        assertThatThrownBy(() -> BDDFactory.buildParallel(formula, null, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testImportBdd() throws ParserException {
+        final Formula formula = new PropositionalParser(this.f).parse("(a | b) & (~a | c) & (b | ~c)");
+        final BDDKernel source = new BDDKernel(this.f, this.f.variables("a", "b", "c"), 100, 100);
+        final BDD bdd = BDDFactory.build(formula, source);
+        final BDDKernel target = new BDDKernel(this.f, this.f.variables("x", "a", "y", "b", "c"), 100, 100);
+        final BDD imported = new BDD(new BDDConstruction(target).importBdd(source, bdd.index()), target);
+        assertThat(imported).isEqualTo(BDDFactory.build(formula, target));
+        final BDDKernel incompatible = new BDDKernel(this.f, this.f.variables("c", "b", "a"), 100, 100);
+        assertThatThrownBy(() -> new BDDConstruction(incompatible).importBdd(source, bdd.index())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void compare(final Formula formula, final int numThreads) {
+        final List<Variable> order = new ArrayList<>(formula.variables());
+        Collections.shuffle(order, new Random(numThreads));
+        final BDD sequential = BDDFactory.build(formula, new BDDKernel(this.f, order, 1000, 1000));
+        final BDDKernel kernel = new BDDKernel(this.f, order, 1000, 1000);
+        final BDD parallel = BDDFactory.buildParallel(formula, kernel, numThreads);
+        assertThat(parallel.modelCount()).isEqualTo(sequential.modelCount());
+        assertThat(parallel.nodeCount()).isEqualTo(sequential.nodeCount());
+        assertThat(parallel).isEqualTo(BDDFactory.build(formula, kernel));
+    }
+}
@@ -63,7 +63,7 @@ import java.util.stream.Stream;
 
 /**
  * Unit Tests for the reordering algorithms of BDDs.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 2.0.0
  */
 public class BDDReorderingTest extends TestWithExampleFormulas {
@@ -72,7 +72,8 @@ public class BDDReorderingTest extends TestWithExampleFormulas {
     private static final List<BDDReorderingMethod> REORDER_METHODS =
             Arrays.asList(BDDReorderingMethod.BDD_REORDER_WIN2, BDDReorderingMethod.BDD_REORDER_WIN2ITE, BDDReorderingMethod.BDD_REORDER_WIN3, BDDReorderingMethod.BDD_REORDER_WIN3ITE,
                     BDDReorderingMethod.BDD_REORDER_SIFT,
-                    BDDReorderingMethod.BDD_REORDER_SIFTITE, BDDReorderingMethod.BDD_REORDER_RANDOM);
+                    BDDReorderingMethod.BDD_REORDER_SIFTITE, BDDReorderingMethod.BDD_REORDER_RANDOM, BDDReorderingMethod.BDD_REORDER_SYMSIFT,
+                    BDDReorderingMethod.BDD_REORDER_GROUPSIFT, BDDReorderingMethod.BDD_REORDER_ANNEALING);
 
     @Test
     public void testExceptionalBehavior() {
@@ -162,6 +163,120 @@ public class BDDReorderingTest extends TestWithExampleFormulas {
         testReorderOnBuild(25, 50, true);
     }
 
+    @Test
+    public void testAutoReorderExceptionalBehavior() {
+        final BDDReordering reordering = new BDDKernel(this.f, Arrays.asList(this.A, this.B), 100, 100).getReordering();
+        assertThatThrownBy(() -> reordering.setAutoReorder(BDDReorderingMethod.BDD_REORDER_SIFT, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reordering.setMaxReorderTime(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reordering.setMaxGrowth(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(reordering.getMaxGrowth()).isEqualTo(BDDReordering.DEFAULT_MAX_GROWTH);
+        assertThat(reordering.getMaxReorderTime()).isEqualTo(0);
+    }
+
+    @Test
+    public void testAutoReorder() {
+        for (int vars = 25; vars <= 30; vars++) {
+            final FormulaFactory f = new FormulaFactory();
+            final Formula formula = randomFormula(vars, 5, f);
+            final BigInteger modelCount = BDDFactory.build(formula).modelCount();
+            for (final BDDReorderingMethod method : REORDER_METHODS) {
+                for (final boolean withBlocks : Arrays.asList(true, false)) {
+                    final BDDKernel kernel = new BDDKernel(f, new ArrayList<>(formula.variables()), 1000, 10000);
+                    addVariableBlocks(formula.variables().size(), withBlocks, kernel);
+                    kernel.getReordering().setAutoReorder(method, 200);
+                    kernel.getReordering().setMaxGrowth(10);
+                    final BDD bdd = BDDFactory.build(formula, kernel);
+                    assertThat(kernel.statistics().reorderings()).isPositive();
+                    assertThat(kernel.statistics().reorderings()).isEqualTo(kernel.getReordering().getReorderings());
+                    assertThat(verifyBddConsistency(f, formula, bdd, modelCount)).isTrue();
+                    verifyVariableBlocks(f, formula, withBlocks, bdd);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAutoReorderLowThreshold() {
+        for (int seed = 0; seed < 200; seed++) {
+            final FormulaFactory f = new FormulaFactory();
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(8).seed(seed).build());
+            final Formula formula = randomizer.formula(4);
+            final List<Variable> ordering = new ArrayList<>(formula.variables());
+            if (ordering.isEmpty()) {
+                continue;
+            }
+            final BigInteger modelCount = BDDFactory.build(formula, new BDDKernel(f, ordering, 1000, 1000)).modelCount();
+            for (final BDDReorderingMethod method : REORDER_METHODS) {
+                final BDDKernel kernel = new BDDKernel(f, ordering, 10, 10);
+                kernel.getReordering().addVariableBlockAll();
+                kernel.getReordering().setAutoReorder(method, 5);
+                final BDD bdd = BDDFactory.build(formula, kernel);
+                assertThat(bdd.modelCount()).isEqualTo(modelCount);
+                assertThat(new BDDVerification(kernel).verify(bdd.index())).isTrue();
+            }
+        }
+    }
+
+    @Test
+    public void testAutoReorderDeactivation() {
+        final FormulaFactory f = new FormulaFactory();
+        final Formula formula = randomFormula(25, 5, f);
+        final BDDKernel kernel = new BDDKernel(f, new ArrayList<>(formula.variables()), 1000, 10000);
+        kernel.getReordering().addVariableBlockAll();
+        kernel.getReordering().setAutoReorder(BDDReorderingMethod.BDD_REORDER_SIFT, 200);
+        kernel.getReordering().setAutoReorder(BDDReorderingMethod.BDD_REORDER_NONE, 200);
+        BDDFactory.build(formula, kernel);
+        assertThat(kernel.statistics().reorderings()).isZero();
+        kernel.getReordering().reorder(BDDReorderingMethod.BDD_REORDER_SIFT);
+        assertThat(kernel.statistics().reorderings()).isEqualTo(1);
+    }
+
+    @Test
+    public void testReorderTimeBudget() {
+        final FormulaFactory f = new FormulaFactory();
+        final Formula formula = randomFormula(30, 6, f);
+        final BDDKernel kernel = new BDDKernel(f, new ArrayList<>(formula.variables()), 1000, 10000);
+        final BDD bdd = BDDFactory.build(formula, kernel);
+        final BigInteger modelCount = bdd.modelCount();
+        kernel.getReordering().addVariableBlockAll();
+        kernel.getReordering().setMaxReorderTime(1);
+        kernel.getReordering().reorder(BDDReorderingMethod.BDD_REORDER_SIFTITE);
+        assertThat(kernel.getReordering().getReorderings()).isEqualTo(1);
+        assertThat(verifyBddConsistency(f, formula, bdd, modelCount)).isTrue();
+    }
+
+    @Test
+    public void testSymmetricSifting() {
+        final FormulaFactory f = new FormulaFactory();
+        final List<Variable> order = new ArrayList<>();
+        final List<Formula> operands = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            order.add(f.variable("a" + i));
+            operands.add(f.and(f.variable("a" + i), f.variable("b" + i)));
+        }
+        for (int i = 0; i < 8; i++) {
+            order.add(f.variable("b" + i));
+        }
+        final Formula formula = f.or(operands);
+        for (final BDDReorderingMethod method : Arrays.asList(BDDReorderingMethod.BDD_REORDER_SYMSIFT, BDDReorderingMethod.BDD_REORDER_GROUPSIFT,
+                BDDReorderingMethod.BDD_REORDER_ANNEALING)) {
+            final BDDKernel kernel = new BDDKernel(f, order, 1000, 1000);
+            final BDD bdd = BDDFactory.build(formula, kernel);
+            final BigInteger count = bdd.modelCount();
+            assertThat(bdd.nodeCount()).isEqualTo(510);
+            kernel.getReordering().addVariableBlockAll();
+            kernel.getReordering().reorder(method);
+            assertThat(bdd.modelCount()).isEqualTo(count);
+            assertThat(bdd.nodeCount()).isLessThan(30);
+            if (method != BDDReorderingMethod.BDD_REORDER_ANNEALING) {
+                final List<Variable> newOrder = bdd.getVariableOrder();
+                for (int i = 0; i < 8; i++) {
+                    assertThat(Math.abs(newOrder.indexOf(f.variable("a" + i)) - newOrder.indexOf(f.variable("b" + i)))).isEqualTo(1);
+                }
+            }
+        }
+    }
+
     private void testRandomReordering(final int minVars, final int maxVars, final boolean verbose) {
         for (int vars = minVars; vars <= maxVars; vars++) {
             for (int depth = 4; depth <= 6; depth++) {
@@ -31,8 +31,10 @@ package org.logicng.knowledgecompilation.bdds;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Test;
+import org.logicng.formulas.FType;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
 import org.logicng.handlers.NumberOfNodesBDDHandler;
 import org.logicng.handlers.TimeoutBDDHandler;
 import org.logicng.io.parsers.ParserException;
@@ -41,10 +43,13 @@ import org.logicng.testutils.NQueensGenerator;
 import org.logicng.testutils.PigeonHoleGenerator;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Some more extensive tests for BDDs
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.4.0
  */
 public class LargeBDDTest {
@@ -93,6 +98,48 @@ public class LargeBDDTest {
         assertThat(bdd.modelCount()).isEqualTo(BigInteger.valueOf(models));
     }
 
+    @Test
+    public void testDeepDiagramsWithSmallStack() throws InterruptedException {
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final Thread thread = new Thread(null, () -> {
+            try {
+                testDeepDiagrams(10000);
+            } catch (final Throwable e) {
+                error.set(e);
+            }
+        }, "deep-bdd", 1 << 18);
+        thread.start();
+        thread.join();
+        assertThat(error.get()).isNull();
+    }
+
+    private void testDeepDiagrams(final int numVars) {
+        final FormulaFactory f = new FormulaFactory();
+        final List<Variable> variables = new ArrayList<>();
+        for (int i = 0; i < numVars; i++) {
+            variables.add(f.variable("v" + i));
+        }
+        final BDDKernel kernel = new BDDKernel(f, variables, 1000, 1000);
+        BDD cube = BDDFactory.build(variables.get(numVars - 1), kernel);
+        BDD clause = cube;
+        for (int i = numVars - 2; i >= 0; i--) {
+            final BDD variable = BDDFactory.build(variables.get(i), kernel);
+            cube = variable.and(cube);
+            clause = variable.or(clause);
+        }
+        assertThat(cube.nodeCount()).isEqualTo(numVars);
+        assertThat(clause.nodeCount()).isEqualTo(numVars);
+        assertThat(cube.and(clause)).isEqualTo(cube);
+        assertThat(clause.and(cube.negate()).nodeCount()).isEqualTo(2 * numVars - 1);
+        assertThat(clause.negate().negate()).isEqualTo(clause);
+        assertThat(clause.modelCount()).isEqualTo(BigInteger.ONE.shiftLeft(numVars).subtract(BigInteger.ONE));
+        assertThat(clause.pathCountOne()).isEqualTo(BigInteger.valueOf(numVars));
+        assertThat(clause.pathCountZero()).isEqualTo(BigInteger.ONE);
+        assertThat(clause.toLngBdd().label()).isEqualTo(variables.get(0));
+        assertThat(clause.toFormula().type()).isEqualTo(FType.OR);
+        assertThat(kernel.statistics().gbcollectnum()).isGreaterThan(0);
+    }
+
     @Test
     public void testTimeoutBDDHandlerSmall() {
         final FormulaFactory f = new FormulaFactory();
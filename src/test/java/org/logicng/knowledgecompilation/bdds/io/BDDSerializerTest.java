@@ -0,0 +1,147 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PropositionalParser;
+import org.logicng.knowledgecompilation.bdds.BDD;
+import org.logicng.knowledgecompilation.bdds.BDDFactory;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDReorderingMethod;
+import org.logicng.testutils.NQueensGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for {@link BDDSerializer}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class BDDSerializerTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testFileRoundTrip() throws IOException {
+        final Formula queens = new NQueensGenerator(this.f).generate(6);
+        final BDDKernel kernel = new BDDKernel(this.f, new ArrayList<>(queens.variables()), 1000, 1000);
+        final BDD bdd = BDDFactory.build(queens, kernel);
+        final Path path = Paths.get("src/test/resources/writers/temp/bdd.bin");
+        BDDSerializer.write(path, bdd);
+        final List<BDD> read = BDDSerializer.read(path, this.f);
+        assertThat(read).hasSize(1);
+        assertThat(read.get(0).modelCount()).isEqualTo(bdd.modelCount());
+        assertThat(read.get(0).nodeCount()).isEqualTo(bdd.nodeCount());
+        assertThat(read.get(0).getVariableOrder()).isEqualTo(bdd.getVariableOrder());
+        assertThat(read.get(0)).isEqualTo(BDDFactory.build(queens, read.get(0).underlyingKernel()));
+        Files.delete(path);
+    }
+
+    @Test
+    public void testChannelRoundTripWithSharedNodes() throws ParserException, IOException {
+        final PropositionalParser p = new PropositionalParser(this.f);
+        final List<Formula> formulas = Arrays.asList(p.parse("a & (b | c) & ~d"), p.parse("(b | c) & ~d"), p.parse("$true"), p.parse("$false"),
+                p.parse("(a <=> e) | ü"));
+        final BDDKernel kernel = new BDDKernel(this.f, this.f.variables("e", "a", "b", "ü", "c", "d"), 100, 100);
+        final List<BDD> bdds = new ArrayList<>();
+        for (final Formula formula : formulas) {
+            bdds.add(BDDFactory.build(formula, kernel));
+        }
+        kernel.getReordering().reorder(BDDReorderingMethod.BDD_REORDER_SIFT);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BDDSerializer.write(Channels.newChannel(out), bdds);
+        final List<BDD> read = BDDSerializer.read(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), this.f);
+        assertThat(read).hasSize(formulas.size());
+        final BDDKernel readKernel = read.get(0).underlyingKernel();
+        assertThat(readKernel.getCurrentVarOrder()).hasSize(6);
+        for (int i = 0; i < formulas.size(); i++) {
+            assertThat(read.get(i).underlyingKernel()).isSameAs(readKernel);
+            assertThat(read.get(i)).isEqualTo(BDDFactory.build(formulas.get(i), readKernel));
+        }
+    }
+
+    @Test
+    public void testReadIntoExistingKernel() throws ParserException, IOException {
+        final Formula formula = new PropositionalParser(this.f).parse("(a | b) & (~a | c) & (b | ~c)");
+        final BDD bdd = BDDFactory.build(formula, new BDDKernel(this.f, this.f.variables("a", "b", "c"), 100, 100));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BDDSerializer.write(Channels.newChannel(out), Collections.singletonList(bdd));
+        final byte[] bytes = out.toByteArray();
+
+        final BDDKernel compatible = new BDDKernel(this.f, 5, 100, 100);
+        compatible.getOrAddVarIndex(this.f.variable("x"));
+        compatible.getOrAddVarIndex(this.f.variable("a"));
+        compatible.getOrAddVarIndex(this.f.variable("b"));
+        final BDD read = BDDSerializer.read(ByteBuffer.wrap(bytes), compatible).get(0);
+        assertThat(compatible.getLevel(this.f.variable("c"))).isEqualTo(3);
+        assertThat(read).isEqualTo(BDDFactory.build(formula, compatible));
+
+        final List<Variable> reversed = this.f.variables("c", "b", "a");
+        assertThatThrownBy(() -> BDDSerializer.read(ByteBuffer.wrap(bytes), new BDDKernel(this.f, reversed, 100, 100)))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testIllegalInput() throws IOException {
+        assertThatThrownBy(() -> BDDSerializer.read(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}), this.f))
+                .isInstanceOf(IOException.class);
+        final BDD bdd = BDDFactory.build(this.f.and(this.f.variable("a"), this.f.literal("b", false)));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BDDSerializer.write(Channels.newChannel(out), Collections.singletonList(bdd));
+        final byte[] bytes = out.toByteArray();
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+        assertThatThrownBy(() -> BDDSerializer.read(Channels.newChannel(new ByteArrayInputStream(truncated)), this.f))
+                .isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> BDDSerializer.read(ByteBuffer.wrap(truncated), this.f)).isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> BDDSerializer.write(Channels.newChannel(out), Collections.emptyList()))
+                .isInstanceOf(IllegalArgumentException.class);
+        final BDD other = BDDFactory.build(this.f.variable("a"));
+        assertThatThrownBy(() -> BDDSerializer.write(Channels.newChannel(out), Arrays.asList(bdd, other)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.jbuddy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.knowledgecompilation.bdds.BDD;
+import org.logicng.knowledgecompilation.bdds.BDDFactory;
+import org.logicng.testutils.NQueensGenerator;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the different node tables of the BDD kernel.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class BDDNodeTableTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testGrowingTables() {
+        testGrowing(BDDNodeTable.onHeap());
+        testGrowing(BDDNodeTable.offHeap());
+    }
+
+    private void testGrowing(final BDDNodeTable table) {
+        assertThat(table.capacity()).isZero();
+        table.ensureCapacity(10);
+        assertThat(table.capacity()).isGreaterThanOrEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            table.set(i, BDDNodeTable.LOW, i);
+            table.set(i, BDDNodeTable.NEXT, -i);
+        }
+        table.ensureCapacity(100000);
+        assertThat(table.capacity()).isGreaterThanOrEqualTo(100000);
+        table.set(99999, BDDNodeTable.HIGH, 42);
+        for (int i = 0; i < 10; i++) {
+            assertThat(table.get(i, BDDNodeTable.LOW)).isEqualTo(i);
+            assertThat(table.get(i, BDDNodeTable.NEXT)).isEqualTo(-i);
+        }
+        assertThat(table.get(99999, BDDNodeTable.HIGH)).isEqualTo(42);
+    }
+
+    @Test
+    public void testOffHeapKernel() {
+        final NQueensGenerator generator = new NQueensGenerator(this.f);
+        final Formula queens = generator.generate(8);
+        final BDDKernel kernel = new BDDKernel(this.f, queens.variables().size(), 10, 100, BDDNodeTable.offHeap());
+        final BDD bdd = BDDFactory.build(queens, kernel);
+        assertThat(bdd.modelCount()).isEqualTo(BigInteger.valueOf(92));
+        assertThat(kernel.statistics().nodesize()).isGreaterThan(10);
+        assertThat(new BDDVerification(kernel).verify(bdd.index())).isTrue();
+    }
+
+    @Test
+    public void testMemoryMappedKernel() throws IOException {
+        final Path file = Paths.get("src/test/resources/writers/temp/bdd_nodes.bin");
+        try (final BDDNodeTable table = BDDNodeTable.memoryMapped(file)) {
+            compareWithHeap(table, 42);
+        }
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testRandomFormulas() {
+        for (int i = 0; i < 10; i++) {
+            compareWithHeap(BDDNodeTable.offHeap(), i);
+        }
+    }
+
+    private void compareWithHeap(final BDDNodeTable table, final long seed) {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().numVars(20).seed(seed).build());
+        final Formula formula = randomizer.formula(5);
+        final List<Variable> order = new ArrayList<>(formula.variables());
+        final BDD heapBdd = BDDFactory.build(formula, new BDDKernel(this.f, order, 10, 100));
+        final BDDKernel kernel = new BDDKernel(this.f, order, 10, 100, table);
+        final BDD bdd = BDDFactory.build(formula, kernel);
+        assertThat(bdd.modelCount()).isEqualTo(heapBdd.modelCount());
+        assertThat(bdd.nodeCount()).isEqualTo(heapBdd.nodeCount());
+        kernel.getReordering().reorder(BDDReorderingMethod.BDD_REORDER_SIFT);
+        assertThat(bdd.modelCount()).isEqualTo(heapBdd.modelCount());
+        assertThat(bdd.nodeCount()).isLessThanOrEqualTo(heapBdd.nodeCount());
+    }
+}
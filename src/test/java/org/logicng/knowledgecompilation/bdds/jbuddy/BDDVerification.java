@@ -103,7 +103,7 @@ public class BDDVerification {
      * @return whether the BDD is valid or not
      */
     public long verifyTree(final int root) {
-        return verifyTreeRec(root, new long[this.k.nodes.length]);
+        return verifyTreeRec(root, new long[this.k.nodesize]);
     }
 
     protected long verifyTreeRec(final int root, final long[] cache) {
@@ -156,7 +156,7 @@ public class BDDVerification {
 
     protected void hashOutput() {
         System.out.println("------------------------------------------");
-        for (int i = 0; i < this.k.nodes.length; i++) {
+        for (int i = 0; i < this.k.nodesize; i++) {
             System.out.printf("%2d: Hash = %2d, Next = %2d%n", i, this.k.hash(i), this.k.next(i));
         }
         System.out.println("------------------------------------------");
@@ -29,16 +29,20 @@
 package org.logicng.knowledgecompilation.bdds.orderings;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
 import org.logicng.io.parsers.ParserException;
 import org.logicng.io.parsers.PseudoBooleanParser;
 
+import java.util.List;
+
 /**
  * Unit tests for {@link ForceOrdering}.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 1.4.0
  */
 public class ForceOrderingTest {
@@ -83,4 +87,27 @@ public class ForceOrderingTest {
                 f.variable("F")
         );
     }
+
+    @Test
+    public void testComponents() throws ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final PseudoBooleanParser p = new PseudoBooleanParser(f);
+        final Formula formula = p.parse("(A | B) & (B | C) & (~C | A) & (X | ~Y) & (Y | Z) & (~Z | ~X) & U");
+        for (final int threads : new int[]{1, 2, 4}) {
+            final List<Variable> order = new ForceOrdering(threads).getOrder(formula);
+            assertThat(order).containsExactlyInAnyOrderElementsOf(formula.variables());
+            assertThat(order.subList(0, 3)).containsExactlyInAnyOrder(f.variable("A"), f.variable("B"), f.variable("C"));
+            assertThat(order.subList(3, 6)).containsExactlyInAnyOrder(f.variable("X"), f.variable("Y"), f.variable("Z"));
+            assertThat(order.get(6)).isEqualTo(f.variable("U"));
+        }
+        assertThat(new ForceOrdering(2).getOrder(p.parse("A & ~C & B & D"))).containsExactlyInAnyOrder(f.variable("A"), f.variable("C"), f.variable("B"), f.variable("D"));
+        assertThat(new ForceOrdering(2).getOrder(p.parse("$true"))).isEmpty();
+        final Formula complex = p.parse("(A => ~B) & ((A & C) | (D & ~C)) & (A | Y | X) & (Y <=> (X | (W + A + F < 1)))").cnf();
+        assertThat(new ForceOrdering(2).getOrder(complex)).isEqualTo(this.ordering.getOrder(complex));
+    }
+
+    @Test
+    public void testIllegalNumberOfThreads() {
+        assertThatThrownBy(() -> new ForceOrdering(0)).isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,120 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.bdds.orderings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PropositionalParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link VariableOrderingCache}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class VariableOrderingCacheTest {
+
+    @Test
+    public void testCaching() throws ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final PropositionalParser p = new PropositionalParser(f);
+        final AtomicInteger calls = new AtomicInteger();
+        final VariableOrderingCache cache = new VariableOrderingCache(formula -> {
+            calls.incrementAndGet();
+            return new DFSOrdering().getOrder(formula);
+        });
+        final List<Variable> order = cache.getOrder(p.parse("(A | B) & (~C | D)"));
+        assertThat(order).containsExactly(f.variable("A"), f.variable("B"), f.variable("C"), f.variable("D"));
+        assertThat(cache.getOrder(p.parse("D => (C & B & A)"))).isEqualTo(order);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getOrder(p.parse("D => (C & B)"))).containsExactly(f.variable("D"), f.variable("C"), f.variable("B"));
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        cache.getOrder(p.parse("(A | B) & (~C | D)"));
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testOtherFactory() throws ParserException {
+        final FormulaFactory f1 = new FormulaFactory();
+        final FormulaFactory f2 = new FormulaFactory();
+        final VariableOrderingCache cache = new VariableOrderingCache(VariableOrdering.FORCE);
+        final List<Variable> order1 = cache.getOrder(new PropositionalParser(f1).parse("(A | B) & (B | C) & (X | Y)"));
+        final List<Variable> order2 = cache.getOrder(new PropositionalParser(f2).parse("A & B & C & X & Y"));
+        assertThat(order2).hasSameSizeAs(order1);
+        for (int i = 0; i < order1.size(); i++) {
+            assertThat(order2.get(i).name()).isEqualTo(order1.get(i).name());
+            assertThat(order2.get(i).factory()).isSameAs(f2);
+        }
+    }
+
+    @Test
+    public void testSaveAndLoad() throws ParserException, IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final PropositionalParser p = new PropositionalParser(f);
+        final Path file = Paths.get("src/test/resources/writers/temp/ordering_cache.bin");
+        final VariableOrderingCache cache = new VariableOrderingCache(VariableOrdering.MIN2MAX);
+        final Formula formula1 = p.parse("(A | B) & (~A | C) & (A | ~D)");
+        final Formula formula2 = p.parse("X <=> (Y | Z)");
+        final List<Variable> order1 = cache.getOrder(formula1);
+        final List<Variable> order2 = cache.getOrder(formula2);
+        cache.save(file);
+        final VariableOrderingCache loaded = new VariableOrderingCache(formula -> {
+            throw new IllegalStateException("Order should be cached");
+        });
+        loaded.load(file);
+        assertThat(loaded.size()).isEqualTo(2);
+        assertThat(loaded.getOrder(formula1)).isEqualTo(order1);
+        assertThat(loaded.getOrder(formula2)).isEqualTo(order2);
+        assertThatThrownBy(() -> loaded.getOrder(p.parse("A & X"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testIllegalFile() throws IOException {
+        final Path file = Paths.get("src/test/resources/writers/temp/ordering_cache_illegal.bin");
+        Files.write(file, "no cache".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> new VariableOrderingCache(VariableOrdering.DFS).load(file)).isInstanceOf(IOException.class);
+    }
+}
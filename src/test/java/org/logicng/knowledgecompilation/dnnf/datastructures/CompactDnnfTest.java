@@ -0,0 +1,180 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.dnnf.datastructures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.Assignment;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PropositionalParser;
+import org.logicng.knowledgecompilation.dnnf.DnnfFactory;
+import org.logicng.knowledgecompilation.dnnf.functions.DnnfModelCountFunction;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Unit tests for {@link CompactDnnf}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class CompactDnnfTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+    private final PropositionalParser parser = new PropositionalParser(this.f);
+
+    @Test
+    public void testConstants() throws ParserException {
+        final CompactDnnf verum = compile("$true");
+        assertThat(verum.numberOfNodes()).isEqualTo(1);
+        assertThat(verum.modelCount()).isEqualTo(BigInteger.ONE);
+        assertThat(verum.minimumCardinality()).isZero();
+        final CompactDnnf falsum = compile("$false");
+        assertThat(falsum.modelCount()).isEqualTo(BigInteger.ZERO);
+        assertThat(falsum.minimumCardinality()).isEqualTo(-1);
+        assertThat(falsum.minimumCardinalityModel()).isNull();
+    }
+
+    @Test
+    public void testSmoothing() throws ParserException {
+        final CompactDnnf dnnf = compile("a | b");
+        assertThat(dnnf.numberOfVariables()).isEqualTo(2);
+        assertThat(dnnf.modelCount()).isEqualTo(BigInteger.valueOf(3));
+        for (int node = 0; node < dnnf.numberOfNodes(); node++) {
+            for (int i = 0; i < dnnf.numberOfChildren(node); i++) {
+                assertThat(dnnf.child(node, i)).isLessThan(node);
+            }
+        }
+        assertThat(dnnf.toFormula(this.f).isEquivalentTo(this.parser.parse("a | b"))).isTrue();
+    }
+
+    @Test
+    public void testModelCount() throws ParserException {
+        assertThat(compile("a & b").modelCount()).isEqualTo(BigInteger.ONE);
+        assertThat(compile("a => b").modelCount()).isEqualTo(BigInteger.valueOf(3));
+        assertThat(compile("a <=> b").modelCount()).isEqualTo(BigInteger.valueOf(2));
+        assertThat(compile("(a | b | c) & (~a | ~b) & d").modelCount()).isEqualTo(BigInteger.valueOf(5));
+    }
+
+    @Test
+    public void testWeightedModelCount() throws ParserException {
+        final CompactDnnf dnnf = compile("a | b");
+        final double[] pos = new double[]{0.5, 0.25};
+        final double[] neg = new double[]{0.5, 0.75};
+        assertThat(dnnf.weightedModelCount(pos, neg)).isEqualTo(1 - 0.5 * 0.75);
+        assertThat(dnnf.weightedModelCount(new double[]{1, 1}, new double[]{1, 1})).isEqualTo(3.0);
+        assertThatThrownBy(() -> dnnf.weightedModelCount(new double[1], new double[1])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testCondition() throws ParserException {
+        final CompactDnnf dnnf = compile("(a | b | c) & (~a | ~b)");
+        assertThat(dnnf.condition(Collections.singletonList(this.f.literal("a", true))).modelCount()).isEqualTo(BigInteger.valueOf(2));
+        assertThat(dnnf.condition(Collections.singletonList(this.f.literal("a", false))).modelCount()).isEqualTo(BigInteger.valueOf(3));
+        final CompactDnnf conditioned = dnnf.condition(Collections.singletonList(this.f.literal("a", false)));
+        assertThat(Arrays.asList(conditioned.variables())).containsExactlyInAnyOrder("b", "c");
+        assertThat(conditioned.variableIndex("a")).isEqualTo(-1);
+        assertThat(conditioned.toFormula(this.f).isEquivalentTo(this.f.or(this.f.variable("b"), this.f.variable("c")))).isTrue();
+        assertThat(conditioned.weightedModelCount(new double[]{1, 1}, new double[]{1, 1})).isEqualTo(3.0);
+        final int a = dnnf.variableIndex("a");
+        final int b = dnnf.variableIndex("b");
+        assertThat(dnnf.condition(CompactDnnf.mkLit(a, true), CompactDnnf.mkLit(b, true)).modelCount()).isEqualTo(BigInteger.ZERO);
+        assertThatThrownBy(() -> dnnf.condition(Collections.singletonList(this.f.literal("x", true)))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMarginals() throws ParserException {
+        final CompactDnnf dnnf = compile("(a | b | c) & (~a | ~b)");
+        final BigInteger[] marginals = dnnf.marginalCounts();
+        final int a = dnnf.variableIndex("a");
+        final int c = dnnf.variableIndex("c");
+        assertThat(marginals[CompactDnnf.mkLit(a, true)]).isEqualTo(BigInteger.valueOf(2));
+        assertThat(marginals[CompactDnnf.mkLit(a, false)]).isEqualTo(BigInteger.valueOf(3));
+        assertThat(marginals[CompactDnnf.mkLit(c, true)]).isEqualTo(BigInteger.valueOf(3));
+        assertThat(marginals[CompactDnnf.mkLit(c, false)]).isEqualTo(BigInteger.valueOf(2));
+    }
+
+    @Test
+    public void testMinimumCardinality() throws ParserException {
+        final CompactDnnf dnnf = compile("(a | b) & (b | c) & (c | d)");
+        assertThat(dnnf.minimumCardinality()).isEqualTo(2);
+        final boolean[] model = dnnf.minimumCardinalityModel();
+        final Assignment assignment = new Assignment();
+        int trueVars = 0;
+        for (int i = 0; i < model.length; i++) {
+            assignment.addLiteral(this.f.literal(dnnf.variables()[i], model[i]));
+            trueVars += model[i] ? 1 : 0;
+        }
+        assertThat(trueVars).isEqualTo(2);
+        assertThat(this.parser.parse("(a | b) & (b | c) & (c | d)").evaluate(assignment)).isTrue();
+        final CompactDnnf minimized = dnnf.minimizeCardinality();
+        assertThat(minimized.modelCount()).isEqualTo(BigInteger.valueOf(3));
+        assertThat(minimized.minimumCardinality()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRandomFormulas() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().numVars(8).seed(42).build());
+        for (int i = 0; i < 100; i++) {
+            final Formula formula = randomizer.formula(3);
+            final Dnnf dnnf = new DnnfFactory().compile(formula);
+            final CompactDnnf compact = CompactDnnf.of(dnnf);
+            assertThat(compact.modelCount()).isEqualTo(dnnf.execute(DnnfModelCountFunction.get()));
+            assertThat(compact.toFormula(this.f).isEquivalentTo(dnnf.formula())).isTrue();
+            final BigInteger[] marginals = compact.marginalCounts();
+            for (int v = 0; v < compact.numberOfVariables(); v++) {
+                assertThat(marginals[CompactDnnf.mkLit(v, true)].add(marginals[CompactDnnf.mkLit(v, false)])).isEqualTo(compact.modelCount());
+                assertThat(compact.condition(CompactDnnf.mkLit(v, true)).modelCount()).isEqualTo(marginals[CompactDnnf.mkLit(v, true)]);
+                assertThat(compact.condition(CompactDnnf.mkLit(v, false)).numberOfVariables()).isEqualTo(compact.numberOfVariables() - 1);
+            }
+        }
+    }
+
+    @Test
+    public void testIllegalArrays() {
+        final String[] vars = new String[]{"a"};
+        assertThatThrownBy(() -> new CompactDnnf(vars, new int[0], new int[0], new int[]{0}, new int[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CompactDnnf(vars, new int[]{CompactDnnf.LITERAL}, new int[]{2}, new int[]{0, 0}, new int[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CompactDnnf(vars, new int[]{CompactDnnf.AND}, new int[]{0}, new int[]{0, 1}, new int[]{0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CompactDnnf compile(final String formula) throws ParserException {
+        return CompactDnnf.of(new DnnfFactory().compile(this.parser.parse(formula)));
+    }
+}
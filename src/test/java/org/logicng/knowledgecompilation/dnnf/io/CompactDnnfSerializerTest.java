@@ -0,0 +1,133 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.dnnf.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.knowledgecompilation.dnnf.DnnfFactory;
+import org.logicng.knowledgecompilation.dnnf.datastructures.CompactDnnf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link CompactDnnfSerializer}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class CompactDnnfSerializerTest {
+
+    @Test
+    public void testFileRoundTrip() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final List<Formula> cnf = DimacsReader.readCNF("src/test/resources/dnnf/both_bdd_dnnf_1.cnf", f);
+        final CompactDnnf dnnf = CompactDnnf.of(new DnnfFactory().compile(f.and(cnf)));
+        final Path path = Paths.get("src/test/resources/writers/temp/compact_dnnf.bin");
+        CompactDnnfSerializer.write(path, dnnf);
+        final CompactDnnf read = CompactDnnfSerializer.read(path);
+        assertEqual(read, dnnf);
+        Files.delete(path);
+    }
+
+    @Test
+    public void testChannelRoundTrip() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final Formula formula = f.or(f.and(f.variable("a"), f.variable("ü")), f.literal("c", false));
+        final CompactDnnf dnnf = CompactDnnf.of(new DnnfFactory().compile(formula));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompactDnnfSerializer.write(Channels.newChannel(out), dnnf);
+        final CompactDnnf read = CompactDnnfSerializer.read(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        assertEqual(read, dnnf);
+        assertThat(read.toFormula(f).isEquivalentTo(formula)).isTrue();
+    }
+
+    @Test
+    public void testIllegalInput() throws IOException {
+        assertThatThrownBy(() -> CompactDnnfSerializer.read(Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}))))
+                .isInstanceOf(IOException.class);
+        final FormulaFactory f = new FormulaFactory();
+        final CompactDnnf dnnf = CompactDnnf.of(new DnnfFactory().compile(f.variable("a")));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompactDnnfSerializer.write(Channels.newChannel(out), dnnf);
+        final byte[] bytes = out.toByteArray();
+        final byte[] truncated = new byte[bytes.length - 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertThatThrownBy(() -> CompactDnnfSerializer.read(Channels.newChannel(new ByteArrayInputStream(truncated))))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testCorruptInput() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final CompactDnnf dnnf = CompactDnnf.of(new DnnfFactory().compile(f.or(f.variable("a"), f.variable("b"))));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompactDnnfSerializer.write(Channels.newChannel(out), dnnf);
+        final byte[] bytes = out.toByteArray();
+        final int countsPos = 3 * Integer.BYTES + 2 * (Integer.BYTES + 1);
+        for (int length = 0; length < bytes.length; length++) {
+            final byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThatThrownBy(() -> CompactDnnfSerializer.read(ByteBuffer.wrap(truncated))).isInstanceOf(EOFException.class);
+            assertThatThrownBy(() -> CompactDnnfSerializer.read(Channels.newChannel(new ByteArrayInputStream(truncated))))
+                    .isInstanceOf(EOFException.class);
+        }
+        for (final int[] corruption : new int[][]{{2 * Integer.BYTES, -1}, {2 * Integer.BYTES, Integer.MAX_VALUE},
+                {3 * Integer.BYTES, -5}, {countsPos, -1}, {countsPos, Integer.MAX_VALUE}, {countsPos + Integer.BYTES, -1},
+                {countsPos + Integer.BYTES, Integer.MAX_VALUE}}) {
+            final ByteBuffer corrupt = ByteBuffer.wrap(bytes.clone());
+            corrupt.putInt(corruption[0], corruption[1]);
+            assertThatThrownBy(() -> CompactDnnfSerializer.read(ByteBuffer.wrap(corrupt.array()))).isInstanceOf(IOException.class);
+            assertThatThrownBy(() -> CompactDnnfSerializer.read(Channels.newChannel(new ByteArrayInputStream(corrupt.array()))))
+                    .isInstanceOf(IOException.class);
+        }
+        assertEqual(CompactDnnfSerializer.read(ByteBuffer.wrap(bytes)), dnnf);
+    }
+
+    private static void assertEqual(final CompactDnnf actual, final CompactDnnf expected) {
+        assertThat(actual.variables()).containsExactly(expected.variables());
+        assertThat(actual.rawKinds()).containsExactly(expected.rawKinds());
+        assertThat(actual.rawLiterals()).containsExactly(expected.rawLiterals());
+        assertThat(actual.rawChildOffsets()).containsExactly(expected.rawChildOffsets());
+        assertThat(actual.rawChildren()).containsExactly(expected.rawChildren());
+        assertThat(actual.modelCount()).isEqualTo(expected.modelCount());
+    }
+}
@@ -0,0 +1,141 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.semirings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PropositionalParser;
+import org.logicng.knowledgecompilation.bdds.BDD;
+import org.logicng.knowledgecompilation.bdds.BDDFactory;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.knowledgecompilation.dnnf.DnnfFactory;
+import org.logicng.knowledgecompilation.dnnf.datastructures.CompactDnnf;
+import org.logicng.knowledgecompilation.dnnf.datastructures.Dnnf;
+import org.logicng.knowledgecompilation.dnnf.functions.DnnfModelCountFunction;
+import org.logicng.knowledgecompilation.dnnf.functions.DnnfSemiringFunction;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Unit tests for the semiring evaluation of BDDs and DNNFs.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class SemiringEvaluationTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+    private final PropositionalParser parser = new PropositionalParser(this.f);
+
+    private final Function<Literal, Double> probabilities = lit -> lit.name().equals("a") ? (lit.phase() ? 0.25 : 0.75) : 0.5;
+    private final Function<Literal, Double> costs = lit -> lit.phase() ? lit.name().charAt(0) - 'a' + 1.0 : 0.0;
+
+    @Test
+    public void testBDD() throws ParserException {
+        final BDD bdd = BDDFactory.build(this.parser.parse("(a | b | c) & (~a | ~b)"));
+        assertThat(bdd.evaluate(CountingSemiring.get(), lit -> BigInteger.ONE)).isEqualTo(BigInteger.valueOf(5));
+        assertThat(bdd.evaluate(ProbabilitySemiring.get(), this.probabilities)).isCloseTo(0.25 * 0.5 + 0.75 * 0.75, within(1e-12));
+        assertThat(bdd.evaluate(BigDecimalSemiring.get(), lit -> BigDecimal.valueOf(this.probabilities.apply(lit))))
+                .isEqualByComparingTo(new BigDecimal("0.6875"));
+        assertThat(bdd.evaluate(MinCostSemiring.get(), this.costs)).isEqualTo(1.0);
+        assertThat(bdd.evaluate(MaxCostSemiring.get(), this.costs)).isEqualTo(5.0);
+    }
+
+    @Test
+    public void testBDDConstants() {
+        final BDDKernel kernel = new BDDKernel(this.f, this.f.variables("a", "b"), 100, 100);
+        final BDD verum = BDDFactory.build(this.f.verum(), kernel);
+        final BDD falsum = BDDFactory.build(this.f.falsum(), kernel);
+        assertThat(verum.evaluate(CountingSemiring.get(), lit -> BigInteger.ONE)).isEqualTo(BigInteger.valueOf(4));
+        assertThat(falsum.evaluate(CountingSemiring.get(), lit -> BigInteger.ONE)).isEqualTo(BigInteger.ZERO);
+        assertThat(verum.evaluate(ProbabilitySemiring.get(), this.probabilities)).isCloseTo(1.0, within(1e-12));
+        assertThat(falsum.evaluate(MinCostSemiring.get(), this.costs)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(falsum.evaluate(MaxCostSemiring.get(), this.costs)).isEqualTo(Double.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    public void testDnnf() throws ParserException {
+        final Dnnf dnnf = new DnnfFactory().compile(this.parser.parse("(a | b | c) & (~a | ~b)"));
+        assertThat(dnnf.execute(new DnnfSemiringFunction<>(CountingSemiring.get(), lit -> BigInteger.ONE))).isEqualTo(BigInteger.valueOf(5));
+        assertThat(dnnf.execute(new DnnfSemiringFunction<>(ProbabilitySemiring.get(), this.probabilities))).isCloseTo(0.6875, within(1e-12));
+        assertThat(dnnf.execute(new DnnfSemiringFunction<>(MinCostSemiring.get(), this.costs))).isEqualTo(1.0);
+        assertThat(dnnf.execute(new DnnfSemiringFunction<>(MaxCostSemiring.get(), this.costs))).isEqualTo(5.0);
+        final CompactDnnf compact = CompactDnnf.of(dnnf);
+        assertThat(compact.evaluate(CountingSemiring.get(), (var, phase) -> BigInteger.ONE)).isEqualTo(compact.modelCount());
+    }
+
+    @Test
+    public void testRandomFormulas() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().numVars(8).seed(42).build());
+        for (int i = 0; i < 100; i++) {
+            final Formula formula = randomizer.formula(3);
+            final List<Variable> variables = new ArrayList<>(formula.variables());
+            final BDD bdd = BDDFactory.build(formula, new BDDKernel(this.f, variables, 1000, 1000));
+            final Dnnf dnnf = new DnnfFactory().compile(formula);
+            assertThat(bdd.evaluate(CountingSemiring.get(), lit -> BigInteger.ONE)).isEqualTo(bdd.modelCount());
+            assertThat(dnnf.execute(new DnnfSemiringFunction<>(CountingSemiring.get(), lit -> BigInteger.ONE)))
+                    .isEqualTo(dnnf.execute(DnnfModelCountFunction.get()));
+            if (dnnf.getOriginalVariables().size() == variables.size()) {
+                assertThat(dnnf.execute(new DnnfSemiringFunction<>(MinCostSemiring.get(), this.costs)))
+                        .isEqualTo(bdd.evaluate(MinCostSemiring.get(), this.costs));
+                assertThat(dnnf.execute(new DnnfSemiringFunction<>(ProbabilitySemiring.get(), this.probabilities)))
+                        .isCloseTo(bdd.evaluate(ProbabilitySemiring.get(), this.probabilities), within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    public void testDeepBDD() throws InterruptedException {
+        final List<Formula> operands = new ArrayList<>();
+        final List<Variable> variables = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            variables.add(this.f.variable("x" + i));
+            variables.add(this.f.variable("y" + i));
+            operands.add(this.f.or(this.f.variable("x" + i), this.f.variable("y" + i)));
+        }
+        final BDD bdd = BDDFactory.build(this.f.and(operands), new BDDKernel(this.f, variables, 10000, 10000));
+        final BigInteger[] result = new BigInteger[1];
+        final Thread thread = new Thread(null, () -> result[0] = bdd.evaluate(CountingSemiring.get(), lit -> BigInteger.ONE), "eval", 128 * 1024);
+        thread.start();
+        thread.join();
+        assertThat(result[0]).isEqualTo(BigInteger.valueOf(3).pow(2000));
+    }
+}
@@ -0,0 +1,246 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.knowledgecompilation.zdds;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.Assignment;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.knowledgecompilation.bdds.BDD;
+import org.logicng.knowledgecompilation.bdds.BDDFactory;
+import org.logicng.knowledgecompilation.bdds.jbuddy.BDDKernel;
+import org.logicng.primecomputation.PrimeCompiler;
+import org.logicng.primecomputation.PrimeResult;
+import org.logicng.testutils.NQueensGenerator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Unit tests for {@link ZDD} and {@link ZDDKernel}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class ZDDTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+    private final Variable a = this.f.variable("a");
+    private final Variable b = this.f.variable("b");
+    private final Variable c = this.f.variable("c");
+    private final Variable d = this.f.variable("d");
+
+    @Test
+    public void testConstants() {
+        final ZDDKernel kernel = new ZDDKernel(this.f);
+        assertThat(kernel.empty().isEmpty()).isTrue();
+        assertThat(kernel.empty().count()).isEqualTo(BigInteger.ZERO);
+        assertThat(kernel.empty().sets()).isEmpty();
+        assertThat(kernel.base().isEmpty()).isFalse();
+        assertThat(kernel.base().containsEmptySet()).isTrue();
+        assertThat(kernel.base().count()).isEqualTo(BigInteger.ONE);
+        assertThat(kernel.base().sets()).containsExactly(new TreeSet<>());
+        assertThat(kernel.element(this.a).sets()).containsExactly(set(this.a));
+        assertThat(kernel.element(this.a).nodeCount()).isEqualTo(1);
+        assertThat(kernel.set(Collections.emptyList())).isEqualTo(kernel.base());
+        assertThat(kernel.family(Collections.emptyList())).isEqualTo(kernel.empty());
+    }
+
+    @Test
+    public void testCanonicity() {
+        final ZDDKernel kernel = new ZDDKernel(this.f, Arrays.asList(this.a, this.b, this.c));
+        final ZDD family1 = kernel.family(Arrays.asList(set(this.a, this.b), set(this.c), set()));
+        final ZDD family2 = kernel.set(set(this.c)).union(kernel.base()).union(kernel.set(set(this.b, this.a)));
+        assertThat(family1).isEqualTo(family2);
+        assertThat(family1.count()).isEqualTo(BigInteger.valueOf(3));
+        assertThat(kernel.elements()).containsExactly(this.a, this.b, this.c);
+        assertThat(kernel.getElementForIndex(1)).isEqualTo(this.b);
+    }
+
+    @Test
+    public void testSetOperations() {
+        final ZDDKernel kernel = new ZDDKernel(this.f);
+        final ZDD family1 = kernel.family(Arrays.asList(set(this.a, this.b), set(this.b), set(this.c)));
+        final ZDD family2 = kernel.family(Arrays.asList(set(this.b), set(this.c, this.d), set()));
+        assertThat(toSets(family1.union(family2))).containsExactlyInAnyOrder(set(this.a, this.b), set(this.b), set(this.c), set(this.c, this.d), set());
+        assertThat(toSets(family1.intersection(family2))).containsExactlyInAnyOrder(set(this.b));
+        assertThat(toSets(family1.difference(family2))).containsExactlyInAnyOrder(set(this.a, this.b), set(this.c));
+        assertThat(toSets(family2.difference(family1))).containsExactlyInAnyOrder(set(this.c, this.d), set());
+        assertThat(family1.difference(family1).isEmpty()).isTrue();
+        assertThat(family1.contains(set(this.a, this.b))).isTrue();
+        assertThat(family1.contains(set(this.a))).isFalse();
+    }
+
+    @Test
+    public void testJoinAndMeet() {
+        final ZDDKernel kernel = new ZDDKernel(this.f);
+        final ZDD family1 = kernel.family(Arrays.asList(set(this.a), set(this.b)));
+        final ZDD family2 = kernel.family(Arrays.asList(set(this.b, this.c), set()));
+        assertThat(toSets(family1.join(family2))).containsExactlyInAnyOrder(set(this.a, this.b, this.c), set(this.b, this.c), set(this.a), set(this.b));
+        assertThat(toSets(family1.meet(family2))).containsExactlyInAnyOrder(set(), set(this.b));
+        assertThat(family1.join(kernel.base())).isEqualTo(family1);
+        assertThat(family1.join(kernel.empty()).isEmpty()).isTrue();
+        assertThat(family1.meet(kernel.base())).isEqualTo(kernel.base());
+        final ZDD powerSet = kernel.base().union(kernel.element(this.a)).join(kernel.base().union(kernel.element(this.b)));
+        assertThat(toSets(powerSet)).containsExactlyInAnyOrder(set(), set(this.a), set(this.b), set(this.a, this.b));
+    }
+
+    @Test
+    public void testFilters() {
+        final ZDDKernel kernel = new ZDDKernel(this.f);
+        final ZDD family = kernel.family(Arrays.asList(set(this.a, this.b), set(this.b), set(this.c), set(this.a, this.c, this.d)));
+        assertThat(toSets(family.containing(this.a))).containsExactlyInAnyOrder(set(this.a, this.b), set(this.a, this.c, this.d));
+        assertThat(toSets(family.notContaining(this.a))).containsExactlyInAnyOrder(set(this.b), set(this.c));
+        assertThat(family.containing(this.f.literal("a", false)).isEmpty()).isTrue();
+        final ZDD filter = kernel.family(Arrays.asList(set(this.b), set(this.c, this.d)));
+        assertThat(toSets(family.supersetsOf(filter))).containsExactlyInAnyOrder(set(this.a, this.b), set(this.b), set(this.a, this.c, this.d));
+        assertThat(toSets(family.nonSupersetsOf(filter))).containsExactlyInAnyOrder(set(this.c));
+        assertThat(toSets(family.subsetsOf(kernel.set(set(this.a, this.b, this.c))))).containsExactlyInAnyOrder(set(this.a, this.b), set(this.b), set(this.c));
+        assertThat(toSets(family.minimal())).containsExactlyInAnyOrder(set(this.b), set(this.c));
+    }
+
+    @Test
+    public void testDifferentKernels() {
+        final ZDD zdd1 = new ZDDKernel(this.f).element(this.a);
+        final ZDD zdd2 = new ZDDKernel(this.f).element(this.a);
+        assertThat(zdd1).isNotEqualTo(zdd2);
+        assertThatThrownBy(() -> zdd1.union(zdd2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ZDDKernel(this.f, Collections.emptyList(), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testModels() {
+        final NQueensGenerator generator = new NQueensGenerator(this.f);
+        final Formula queens = generator.generate(6);
+        final ZDD models = new ZDDKernel(this.f).models(queens);
+        assertThat(models.count()).isEqualTo(BigInteger.valueOf(4));
+        for (final SortedSet<Literal> model : models) {
+            assertThat(model).hasSize(6);
+            assertThat(queens.evaluate(new Assignment(model))).isTrue();
+        }
+        final Formula formula = this.f.or(this.f.and(this.a, this.b.negate()), this.c);
+        final ZDD zdd = new ZDDKernel(this.f).models(formula);
+        assertThat(toSets(zdd)).containsExactlyInAnyOrder(set(this.a), set(this.c), set(this.a, this.c), set(this.b, this.c), set(this.a, this.b, this.c));
+        assertThat(new ZDDKernel(this.f).models(this.f.verum()).sets()).containsExactly(set());
+        assertThat(new ZDDKernel(this.f).models(this.f.falsum()).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testModelsOfCardinalityConstraint() {
+        final List<Variable> variables = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            variables.add(this.f.variable("x" + i));
+        }
+        final ZDDKernel kernel = new ZDDKernel(this.f);
+        final ZDD models = kernel.models(this.f.cc(CType.LE, 3, variables));
+        assertThat(models.count()).isEqualTo(BigInteger.valueOf(1 + 10 + 45 + 120));
+        assertThat(kernel.elements()).containsExactlyInAnyOrderElementsOf(variables);
+        for (final SortedSet<Literal> model : models) {
+            assertThat(model.size()).isLessThanOrEqualTo(3);
+        }
+    }
+
+    @Test
+    public void testFromBDD() {
+        final List<Variable> order = Arrays.asList(this.a, this.b, this.c, this.d);
+        final BDDKernel bddKernel = new BDDKernel(this.f, order, 100, 100);
+        final BDD bdd = BDDFactory.build(this.f.or(this.f.and(this.a, this.b), this.d), bddKernel);
+        final ZDD zdd = new ZDDKernel(this.f).fromBDD(bdd);
+        assertThat(zdd.count()).isEqualTo(bdd.modelCount());
+        for (final Assignment model : bdd.enumerateAllModels()) {
+            assertThat(zdd.contains(model.positiveVariables())).isTrue();
+        }
+        final ZDD projected = new ZDDKernel(this.f).fromBDD(bdd, Arrays.asList(this.a, this.b));
+        assertThat(toSets(projected)).containsExactlyInAnyOrder(set(), set(this.a), set(this.b), set(this.a, this.b));
+        final ZDDKernel reversed = new ZDDKernel(this.f, Arrays.asList(this.d, this.c, this.b, this.a));
+        assertThat(toSets(reversed.fromBDD(bdd))).isEqualTo(toSets(zdd));
+    }
+
+    @Test
+    public void testPrimeImplicants() {
+        final Formula formula = this.f.or(this.f.and(this.a, this.b), this.f.and(this.a.negate(), this.c), this.f.and(this.b, this.c, this.d));
+        final PrimeResult result = PrimeCompiler.getWithMinimization().compute(formula, PrimeResult.CoverageType.IMPLICANTS_COMPLETE);
+        final ZDDKernel kernel = new ZDDKernel(this.f);
+        final ZDD primes = kernel.family(result.getPrimeImplicants());
+        assertThat(primes.count()).isEqualTo(BigInteger.valueOf(result.getPrimeImplicants().size()));
+        assertThat(primes.minimal()).isEqualTo(primes);
+        final ZDD extended = primes.join(kernel.base().union(kernel.element(this.d)));
+        assertThat(extended.minimal()).isEqualTo(primes);
+        assertThat(toSets(primes)).containsExactlyInAnyOrderElementsOf(result.getPrimeImplicants());
+    }
+
+    @Test
+    public void testLargeFamilyEnumeration() {
+        final List<Variable> variables = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            variables.add(this.f.variable("v" + i));
+        }
+        final ZDDKernel kernel = new ZDDKernel(this.f, variables);
+        ZDD powerSet = kernel.base();
+        for (final Variable variable : variables) {
+            powerSet = powerSet.join(kernel.base().union(kernel.element(variable)));
+        }
+        assertThat(powerSet.count()).isEqualTo(BigInteger.ONE.shiftLeft(100));
+        assertThat(powerSet.nodeCount()).isEqualTo(100);
+        final Iterator<SortedSet<Literal>> iterator = powerSet.iterator();
+        final Set<SortedSet<Literal>> sets = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            assertThat(iterator.hasNext()).isTrue();
+            sets.add(iterator.next());
+        }
+        assertThat(sets).hasSize(10000);
+        final Iterator<SortedSet<Literal>> emptyIterator = kernel.empty().iterator();
+        assertThat(emptyIterator.hasNext()).isFalse();
+        assertThatThrownBy(emptyIterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    private SortedSet<Literal> set(final Literal... literals) {
+        return new TreeSet<>(Arrays.asList(literals));
+    }
+
+    private static List<SortedSet<Literal>> toSets(final Iterable<SortedSet<Literal>> family) {
+        final List<SortedSet<Literal>> sets = new ArrayList<>();
+        family.forEach(sets::add);
+        return sets;
+    }
+}
@@ -0,0 +1,319 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.pseudobooleans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.cardinalityconstraints.CCConfig;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.PBConstraint;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.SolverState;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Unit tests for {@link EncodingTemplateCache} and {@link EncodingTemplate}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class EncodingTemplateCacheTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+    private final Variable a = this.f.variable("a");
+    private final Variable b = this.f.variable("b");
+    private final Variable c = this.f.variable("c");
+    private final Variable d = this.f.variable("d");
+    private final Variable x = this.f.variable("x");
+    private final Variable y = this.f.variable("y");
+    private final Variable z = this.f.variable("z");
+    private final Variable w = this.f.variable("w");
+
+    @Test
+    public void testSameShapeSharesTemplate() {
+        final EncodingTemplateCache cache = new EncodingTemplateCache();
+        final EncodingTemplate t1 = cache.template(cc(CType.LE, 1, this.a, this.b, this.c));
+        final EncodingTemplate t2 = cache.template(cc(CType.LE, 1, this.x, this.y, this.z));
+        assertThat(t2).isSameAs(t1);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.template(cc(CType.LE, 2, this.x, this.y, this.z))).isNotSameAs(t1);
+        assertThat(cache.template(cc(CType.GE, 1, this.x, this.y, this.z))).isNotSameAs(t1);
+        assertThat(cache.template(cc(CType.LE, 1, this.x, this.y, this.z, this.w))).isNotSameAs(t1);
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(4);
+        assertThat(cache.hitRate()).isEqualTo(0.2);
+        assertThat(cache.toString()).isEqualTo("EncodingTemplateCache{size=4, hits=1, misses=4, evictions=0}");
+    }
+
+    @Test
+    public void testShapeRespectsPhasesCoefficientsAndIdentities() {
+        final EncodingTemplateCache cache = new EncodingTemplateCache();
+        final EncodingTemplate t1 = cache.template(pbc(CType.GE, 3, lits(this.a, this.b.negate(), this.c), 1, 2, 3));
+        assertThat(cache.template(pbc(CType.GE, 3, lits(this.x, this.y.negate(), this.z), 1, 2, 3))).isSameAs(t1);
+        assertThat(cache.template(pbc(CType.GE, 3, lits(this.x, this.y, this.z), 1, 2, 3))).isNotSameAs(t1);
+        assertThat(cache.template(pbc(CType.GE, 3, lits(this.x, this.y.negate(), this.z), 1, 3, 2))).isNotSameAs(t1);
+        final EncodingTemplate t2 = cache.template(pbc(CType.GE, 3, lits(this.a, this.b, this.a.negate()), 2, 3, 1));
+        assertThat(t2).isNotSameAs(t1);
+        assertThat(t2.numInputs()).isEqualTo(2);
+        assertThat(cache.template(pbc(CType.GE, 3, lits(this.x, this.y, this.x.negate()), 2, 3, 1))).isSameAs(t2);
+        assertThat(cache.hits()).isEqualTo(2);
+        assertThat(cache.misses()).isEqualTo(4);
+        assertThat(EncodingTemplateCache.inputs(pbc(CType.GE, 3, lits(this.b, this.a, this.b.negate()), 2, 3, 1)))
+                .containsExactly(this.b, this.a);
+    }
+
+    @Test
+    public void testTemplateStructure() {
+        final EncodingTemplateCache cache = new EncodingTemplateCache();
+        final EncodingTemplate amo = cache.template(cc(CType.LE, 1, this.a, this.b, this.c));
+        assertThat(amo.numInputs()).isEqualTo(3);
+        assertThat(amo.numAuxiliaryVariables()).isEqualTo(0);
+        assertThat(amo.numClauses()).isEqualTo(3);
+        for (int i = 0; i < amo.numClauses(); i++) {
+            assertThat(amo.clause(i)).hasSize(2);
+            for (final int lit : amo.clause(i)) {
+                assertThat(lit & 1).isEqualTo(1);
+                assertThat(lit >> 1).isLessThan(3);
+            }
+        }
+        assertThat(amo.toString()).isEqualTo("EncodingTemplate{inputs=3, auxiliaryVariables=0, clauses=3}");
+        final EncodingTemplate alk = cache.template(cc(CType.GE, 2, this.a, this.b, this.c, this.d));
+        assertThat(alk.numInputs()).isEqualTo(4);
+        assertThat(alk.numAuxiliaryVariables()).isGreaterThan(0);
+    }
+
+    @Test
+    public void testSolverEquivalence() {
+        final EncodingTemplateCache cache = new EncodingTemplateCache();
+        final List<Variable> vars = Arrays.asList(this.a, this.b, this.c, this.d, this.x, this.y);
+        final List<PBConstraint> constraints = Arrays.asList(
+                cc(CType.LE, 2, this.a, this.b, this.c, this.d, this.x, this.y),
+                cc(CType.LT, 5, this.a, this.b, this.c, this.d, this.x, this.y),
+                cc(CType.GE, 3, this.a, this.b, this.c, this.d, this.x, this.y),
+                cc(CType.GT, 1, this.a, this.b, this.c, this.d),
+                cc(CType.EQ, 1, this.a, this.b, this.c, this.d, this.x),
+                cc(CType.EQ, 3, this.a, this.b, this.c, this.d, this.x, this.y),
+                pbc(CType.LE, 6, lits(this.a, this.b.negate(), this.c, this.d, this.x), 3, 2, 4, 1, 2),
+                pbc(CType.GE, 4, lits(this.a, this.b, this.c.negate(), this.a.negate(), this.y), 2, 3, 1, -2, 2),
+                pbc(CType.EQ, 5, lits(this.a, this.b, this.c, this.d, this.x, this.y), 1, 2, 3, 1, 2, 3));
+        for (final PBConstraint constraint : constraints) {
+            for (final MiniSat.SolverStyle style : MiniSat.SolverStyle.values()) {
+                final MiniSat plain = solver(style);
+                final MiniSat template = solver(style);
+                template.setEncodingTemplateCache(cache);
+                assertThat(template.encodingTemplateCache()).isSameAs(cache);
+                plain.add(constraint);
+                template.add(constraint);
+                assertThat(modelCount(template, vars)).isEqualTo(modelCount(plain, vars));
+            }
+            final MiniSat formulaSolver = MiniSat.miniSat(this.f);
+            formulaSolver.add(cache.encode(constraint));
+            assertThat(modelCount(formulaSolver, vars)).isEqualTo(modelCount(direct(constraint), vars));
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(constraints.size());
+        assertThat(cache.hits()).isGreaterThan(cache.misses());
+    }
+
+    @Test
+    public void testSharedAcrossSolversAndFactories() {
+        final EncodingTemplateCache cache = new EncodingTemplateCache();
+        for (int i = 0; i < 10; i++) {
+            final FormulaFactory factory = new FormulaFactory();
+            final Variable[] vars = new Variable[8];
+            for (int j = 0; j < vars.length; j++) {
+                vars[j] = factory.variable("s" + i + "_" + j);
+            }
+            final MiniSat solver = MiniSat.miniSat(factory);
+            solver.setEncodingTemplateCache(cache);
+            solver.add(factory.cc(CType.EQ, 3, vars));
+            assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+            assertThat(solver.model(Arrays.asList(vars)).positiveVariables()).hasSize(3);
+        }
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hits()).isEqualTo(9);
+        assertThat(cache.hitRate()).isEqualTo(0.9);
+        cache.clear();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.hits()).isEqualTo(0);
+        assertThat(cache.misses()).isEqualTo(0);
+        assertThat(cache.hitRate()).isEqualTo(0.0);
+    }
+
+    @Test
+    public void testAuxiliaryVariablesAreOffset() {
+        final EncodingTemplateCache cache = new EncodingTemplateCache();
+        final PBConstraint constraint = cc(CType.GE, 2, this.a, this.b, this.c, this.d);
+        final EncodingTemplate template = cache.template(constraint);
+        final MiniSat solver = MiniSat.miniSat(this.f);
+        solver.add(this.f.or(this.x, this.y));
+        final int before = solver.underlyingSolver().nVars();
+        template.instantiate(solver, EncodingTemplateCache.inputs(constraint), null);
+        assertThat(solver.underlyingSolver().nVars()).isEqualTo(before + 4 + template.numAuxiliaryVariables());
+        assertThat(solver.underlyingSolver().nameForIdx(before + 4)).startsWith(FormulaFactory.CC_PREFIX);
+        template.instantiate(solver, Arrays.asList(this.x, this.y, this.z, this.w), null);
+        assertThat(solver.underlyingSolver().nVars()).isEqualTo(before + 6 + 2 * template.numAuxiliaryVariables());
+        solver.add(this.a.negate());
+        solver.add(this.b.negate());
+        solver.add(this.x.negate());
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        final Assignment model = solver.model();
+        assertThat(model.positiveVariables()).contains(this.c, this.d, this.y);
+        assertThat(model.positiveVariables()).allMatch(v -> !v.name().startsWith(FormulaFactory.CC_PREFIX));
+        solver.add(this.z.negate());
+        solver.add(this.w.negate());
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+    }
+
+    @Test
+    public void testSaveAndLoadState() {
+        final EncodingTemplateCache cache = new EncodingTemplateCache();
+        final MiniSat solver = MiniSat.miniSat(this.f);
+        solver.setEncodingTemplateCache(cache);
+        solver.add(cc(CType.GE, 2, this.a, this.b, this.c, this.d));
+        final SolverState state = solver.saveState();
+        solver.add(cc(CType.LE, 1, this.a, this.b, this.c, this.d));
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+        solver.loadState(state);
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        solver.add(cc(CType.LE, 2, this.a, this.b, this.c, this.d));
+        assertThat(modelCount(solver, Arrays.asList(this.a, this.b, this.c, this.d))).isEqualTo(6);
+        assertThat(cache.hits()).isEqualTo(0);
+        assertThat(cache.misses()).isEqualTo(3);
+    }
+
+    @Test
+    public void testEncoderConfigurationsAndEviction() {
+        final EncodingTemplateCache cache = new EncodingTemplateCache(CCConfig.builder().amoEncoding(CCConfig.AMO_ENCODER.LADDER).build(),
+                PBConfig.builder().pbEncoding(PBConfig.PB_ENCODER.ADDER_NETWORKS).build(), 1);
+        final EncodingTemplate amo = cache.template(cc(CType.LE, 1, this.a, this.b, this.c, this.d));
+        assertThat(amo.numAuxiliaryVariables()).isEqualTo(3);
+        cache.template(cc(CType.LE, 1, this.x, this.y, this.z, this.w));
+        assertThat(cache.hits()).isEqualTo(1);
+        cache.template(pbc(CType.LE, 4, lits(this.a, this.b, this.c), 1, 2, 3));
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.evictions()).isEqualTo(1);
+        assertThat(cache.template(cc(CType.LE, 1, this.a, this.b, this.c, this.d))).isNotSameAs(amo);
+        assertThat(cache.misses()).isEqualTo(3);
+        assertThat(cache.evictions()).isEqualTo(2);
+    }
+
+    @Test
+    public void testConcurrentRequestsEncodeOnce() throws InterruptedException {
+        final EncodingTemplateCache cache = new EncodingTemplateCache();
+        final int numThreads = 8;
+        final EncodingTemplate[] templates = new EncodingTemplate[numThreads];
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            final int index = t;
+            threads[t] = new Thread(() -> {
+                final FormulaFactory factory = new FormulaFactory();
+                final Variable[] vars = new Variable[200];
+                for (int i = 0; i < vars.length; i++) {
+                    vars[i] = factory.variable("t" + index + "_" + i);
+                }
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                templates[index] = cache.template((PBConstraint) factory.cc(CType.LE, 100, vars));
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hits()).isEqualTo(numThreads - 1);
+        assertThat(cache.size()).isEqualTo(1);
+        for (final EncodingTemplate template : templates) {
+            assertThat(template).isSameAs(templates[0]);
+        }
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThatThrownBy(() -> new EncodingTemplateCache(CCConfig.builder().build(), PBConfig.builder().build(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        final EncodingTemplate template = new EncodingTemplateCache().template(cc(CType.LE, 1, this.a, this.b, this.c));
+        assertThatThrownBy(() -> template.instantiate(MiniSat.miniSat(this.f), Collections.singletonList(this.a), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MiniSat solver(final MiniSat.SolverStyle style) {
+        switch (style) {
+            case GLUCOSE:
+                return MiniSat.glucose(this.f);
+            case MINICARD:
+                return MiniSat.miniCard(this.f);
+            default:
+                return MiniSat.miniSat(this.f);
+        }
+    }
+
+    private MiniSat direct(final PBConstraint constraint) {
+        final MiniSat solver = MiniSat.miniSat(this.f);
+        solver.add(constraint);
+        return solver;
+    }
+
+    private int modelCount(final MiniSat solver, final List<Variable> vars) {
+        solver.add(this.f.or(this.f.or(vars), this.f.not(this.f.or(vars))));
+        return solver.enumerateAllModels(vars).size();
+    }
+
+    private PBConstraint cc(final CType comparator, final int rhs, final Variable... vars) {
+        return (PBConstraint) this.f.cc(comparator, rhs, vars);
+    }
+
+    private PBConstraint pbc(final CType comparator, final int rhs, final Literal[] lits, final int... coeffs) {
+        return (PBConstraint) this.f.pbc(comparator, rhs, lits, coeffs);
+    }
+
+    private static Literal[] lits(final Literal... lits) {
+        return lits;
+    }
+}
@@ -58,10 +58,11 @@ public class PBEncoderTest implements LogicNGTest {
     private final PBEncoder[] encoders;
 
     public PBEncoderTest() {
-        this.encoders = new PBEncoder[3];
+        this.encoders = new PBEncoder[4];
         this.encoders[0] = new PBEncoder(this.f, PBConfig.builder().pbEncoding(PBConfig.PB_ENCODER.SWC).build());
         this.encoders[1] = new PBEncoder(this.f, PBConfig.builder().pbEncoding(PBConfig.PB_ENCODER.BINARY_MERGE).binaryMergeUseGAC(false).build(), CCConfig.builder().amoEncoding(CCConfig.AMO_ENCODER.NESTED).build());
         this.encoders[2] = new PBEncoder(this.f, null);
+        this.encoders[3] = new PBEncoder(this.f, PBConfig.builder().pbEncoding(PBConfig.PB_ENCODER.GENERALIZED_TOTALIZER).build());
     }
 
     @Test
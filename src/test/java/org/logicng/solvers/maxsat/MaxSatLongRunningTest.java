@@ -1,11 +1,11 @@
 package org.logicng.solvers.maxsat;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.logicng.solvers.maxsat.MaxSATReader.readCnfToSolver;
 
 import org.junit.jupiter.api.Test;
 import org.logicng.LongRunningTag;
 import org.logicng.formulas.FormulaFactory;
+import org.logicng.io.readers.DimacsReader;
 import org.logicng.solvers.MaxSATSolver;
 import org.logicng.solvers.maxsat.algorithms.MaxSATConfig;
 
@@ -19,7 +19,7 @@ import java.util.Objects;
 
 /**
  * MaxSat tests with a long running time.
- * @version 2.4.0
+ * @version 2.5.0
  * @since 2.4.0
  */
 public class MaxSatLongRunningTest {
@@ -39,7 +39,7 @@ public class MaxSatLongRunningTest {
             for (final File file : Objects.requireNonNull(folder.listFiles())) {
                 if (file.getName().endsWith("wcnf")) {
                     solver.reset();
-                    readCnfToSolver(solver, file.getAbsolutePath());
+                    DimacsReader.loadWCNF(file.getAbsolutePath(), solver);
                     solver.solve();
                     assertThat(solver.result()).isEqualTo(result.get(file.getName()));
                 }
@@ -30,7 +30,6 @@ package org.logicng.solvers.maxsat;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.logicng.solvers.maxsat.MaxSATReader.readCnfToSolver;
 import static org.logicng.solvers.maxsat.algorithms.MaxSATConfig.Verbosity.SOME;
 
 import org.junit.jupiter.api.Test;
@@ -39,6 +38,7 @@ import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.handlers.TimeoutMaxSATHandler;
 import org.logicng.io.parsers.ParserException;
+import org.logicng.io.readers.DimacsReader;
 import org.logicng.solvers.MaxSATSolver;
 import org.logicng.solvers.maxsat.algorithms.MaxSAT;
 import org.logicng.solvers.maxsat.algorithms.MaxSATConfig;
@@ -50,7 +50,7 @@ import java.io.PrintStream;
 
 /**
  * Unit tests for the MaxSAT solvers.
- * @version 2.4.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class PartialMaxSATTest extends TestWithExampleFormulas {
@@ -103,7 +103,7 @@ public class PartialMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < files.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.wbo(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialmaxsat/" + files[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialmaxsat/" + files[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(results[i]);
             }
@@ -114,7 +114,7 @@ public class PartialMaxSATTest extends TestWithExampleFormulas {
     public void testOLL() throws IOException {
         for (int i = 0; i < files.length; i++) {
             final MaxSATSolver solver = MaxSATSolver.oll(this.f);
-            readCnfToSolver(solver, "src/test/resources/partialmaxsat/" + files[i]);
+            DimacsReader.loadWCNF("src/test/resources/partialmaxsat/" + files[i], solver);
             assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
             assertThat(solver.result()).isEqualTo(results[i]);
         }
@@ -127,7 +127,7 @@ public class PartialMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < files.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.incWBO(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialmaxsat/" + files[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialmaxsat/" + files[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(results[i]);
             }
@@ -144,7 +144,7 @@ public class PartialMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < files.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.linearSU(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialmaxsat/" + files[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialmaxsat/" + files[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(results[i]);
             }
@@ -160,7 +160,7 @@ public class PartialMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < files.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.linearUS(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialmaxsat/" + files[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialmaxsat/" + files[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(results[i]);
             }
@@ -176,7 +176,7 @@ public class PartialMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < files.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.msu3(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialmaxsat/" + files[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialmaxsat/" + files[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(results[i]);
             }
@@ -262,7 +262,7 @@ public class PartialMaxSATTest extends TestWithExampleFormulas {
     @Test
     public void testTimeoutHandlerSimple() throws IOException {
         MaxSATSolver solver = MaxSATSolver.wbo(this.f, MaxSATConfig.builder().verbosity(SOME).output(this.logStream).build());
-        readCnfToSolver(solver, "src/test/resources/partialmaxsat/c1355_F176gat-1278gat@1.wcnf");
+        DimacsReader.loadWCNF("src/test/resources/partialmaxsat/c1355_F176gat-1278gat@1.wcnf", solver);
         TimeoutMaxSATHandler handler = new TimeoutMaxSATHandler(1000L);
         MaxSAT.MaxSATResult result = solver.solve(handler);
         assertThat(handler.aborted()).isTrue();
@@ -270,7 +270,7 @@ public class PartialMaxSATTest extends TestWithExampleFormulas {
         assertThat(handler.lowerBoundApproximation()).isLessThan(13);
 
         solver = MaxSATSolver.wbo(this.f, MaxSATConfig.builder().verbosity(SOME).output(this.logStream).build());
-        readCnfToSolver(solver, "src/test/resources/partialmaxsat/c1355_F1229gat@1.wcnf");
+        DimacsReader.loadWCNF("src/test/resources/partialmaxsat/c1355_F1229gat@1.wcnf", solver);
         handler = new TimeoutMaxSATHandler(5000L);
         result = solver.solve(handler);
         assertThat(handler.aborted()).isFalse();
@@ -280,7 +280,7 @@ public class PartialMaxSATTest extends TestWithExampleFormulas {
     @Test
     public void testTimeoutHandlerUB() throws IOException {
         final MaxSATSolver solver = MaxSATSolver.linearSU(this.f, MaxSATConfig.builder().verbosity(SOME).output(this.logStream).build());
-        readCnfToSolver(solver, "src/test/resources/partialmaxsat/c1355_F1229gat@1.wcnf");
+        DimacsReader.loadWCNF("src/test/resources/partialmaxsat/c1355_F1229gat@1.wcnf", solver);
         final TimeoutMaxSATHandler handler = new TimeoutMaxSATHandler(5000L);
         final MaxSAT.MaxSATResult result = solver.solve(handler);
         assertThat(handler.aborted()).isFalse();
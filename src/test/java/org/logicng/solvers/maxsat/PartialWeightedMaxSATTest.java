@@ -30,7 +30,6 @@ package org.logicng.solvers.maxsat;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.logicng.solvers.maxsat.MaxSATReader.readCnfToSolver;
 import static org.logicng.solvers.maxsat.algorithms.MaxSATConfig.CardinalityEncoding;
 import static org.logicng.solvers.maxsat.algorithms.MaxSATConfig.Verbosity.SOME;
 
@@ -41,6 +40,7 @@ import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.handlers.TimeoutMaxSATHandler;
 import org.logicng.io.parsers.ParserException;
+import org.logicng.io.readers.DimacsReader;
 import org.logicng.solvers.MaxSATSolver;
 import org.logicng.solvers.maxsat.algorithms.MaxSAT;
 import org.logicng.solvers.maxsat.algorithms.MaxSATConfig;
@@ -52,7 +52,7 @@ import java.io.PrintStream;
 
 /**
  * Unit tests for the MaxSAT solvers.
- * @version 2.4.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
@@ -115,7 +115,7 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < files.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.wbo(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/" + files[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/" + files[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(results[i]);
             }
@@ -131,7 +131,7 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < files.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.incWBO(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/" + files[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/" + files[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(results[i]);
             }
@@ -146,7 +146,7 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < files.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.linearSU(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/" + files[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/" + files[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(results[i]);
             }
@@ -162,7 +162,7 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < files.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.wmsu3(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/" + files[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/" + files[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(results[i]);
             }
@@ -176,7 +176,7 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < bmoFiles.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.wmsu3(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/bmo/" + bmoFiles[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/bmo/" + bmoFiles[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(bmoResults[i]);
             }
@@ -191,7 +191,7 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (int i = 0; i < bmoFiles.length; i++) {
                 final MaxSATSolver solver = MaxSATSolver.linearSU(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/bmo/" + bmoFiles[i]);
+                DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/bmo/" + bmoFiles[i], solver);
                 assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
                 assertThat(solver.result()).isEqualTo(bmoResults[i]);
             }
@@ -202,13 +202,13 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
     public void testOLL() throws IOException {
         for (int i = 0; i < bmoFiles.length; i++) {
             final MaxSATSolver solver = MaxSATSolver.oll(this.f);
-            readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/bmo/" + bmoFiles[i]);
+            DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/bmo/" + bmoFiles[i], solver);
             assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
             assertThat(solver.result()).isEqualTo(bmoResults[i]);
         }
         for (int i = 0; i < files.length; i++) {
             final MaxSATSolver solver = MaxSATSolver.oll(this.f);
-            readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/" + files[i]);
+            DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/" + files[i], solver);
             assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
             assertThat(solver.result()).isEqualTo(results[i]);
         }
@@ -218,7 +218,7 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
     @LongRunningTag
     public void testLargeOLL1() throws IOException {
         final MaxSATSolver solver = MaxSATSolver.oll(this.f);
-        readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/large/large_industrial.wcnf");
+        DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/large/large_industrial.wcnf", solver);
         assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
         assertThat(solver.result()).isEqualTo(68974);
     }
@@ -227,7 +227,7 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
     @LongRunningTag
     public void testLargeOLL2() throws IOException {
         final MaxSATSolver solver = MaxSATSolver.oll(this.f);
-        readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/large/t3g3-5555.spn.wcnf");
+        DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/large/t3g3-5555.spn.wcnf", solver);
         assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
         assertThat(solver.result()).isEqualTo(1100610);
     }
@@ -235,7 +235,7 @@ public class PartialWeightedMaxSATTest extends TestWithExampleFormulas {
     @Test
     public void testOLLWithLargeWeights() throws IOException {
         final MaxSATSolver solver = MaxSATSolver.oll(this.f);
-        readCnfToSolver(solver, "src/test/resources/partialweightedmaxsat/large/large_weights.wcnf");
+        DimacsReader.loadWCNF("src/test/resources/partialweightedmaxsat/large/large_weights.wcnf", solver);
         assertThat(solver.solve()).isEqualTo(MaxSAT.MaxSATResult.OPTIMUM);
         assertThat(solver.result()).isEqualTo(90912);
     }
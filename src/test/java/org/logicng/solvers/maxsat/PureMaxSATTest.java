@@ -30,7 +30,6 @@ package org.logicng.solvers.maxsat;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.logicng.solvers.maxsat.MaxSATReader.readCnfToSolver;
 import static org.logicng.solvers.maxsat.algorithms.MaxSAT.MaxSATResult.OPTIMUM;
 import static org.logicng.solvers.maxsat.algorithms.MaxSATConfig.CardinalityEncoding;
 import static org.logicng.solvers.maxsat.algorithms.MaxSATConfig.Verbosity.SOME;
@@ -43,6 +42,7 @@ import org.logicng.formulas.FormulaFactory;
 import org.logicng.formulas.Variable;
 import org.logicng.io.parsers.ParserException;
 import org.logicng.io.parsers.PropositionalParser;
+import org.logicng.io.readers.DimacsReader;
 import org.logicng.solvers.MaxSATSolver;
 import org.logicng.solvers.maxsat.algorithms.MaxSAT;
 import org.logicng.solvers.maxsat.algorithms.MaxSATConfig;
@@ -53,7 +53,7 @@ import java.io.PrintStream;
 
 /**
  * Unit tests for the MaxSAT solvers.
- * @version 2.4.0
+ * @version 2.5.0
  * @since 1.0
  */
 public class PureMaxSATTest extends TestWithExampleFormulas {
@@ -155,12 +155,12 @@ public class PureMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (final String file : files) {
                 final MaxSATSolver solver = MaxSATSolver.wbo(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/maxsat/" + file);
+                DimacsReader.loadWCNF("src/test/resources/maxsat/" + file, solver);
                 assertThat(solver.solve()).isEqualTo(OPTIMUM);
                 assertThat(solver.result()).isEqualTo(1);
             }
             final MaxSATSolver solver = MaxSATSolver.wbo(this.f, config);
-            readCnfToSolver(solver, "src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf");
+            DimacsReader.loadWCNF("src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf", solver);
             assertThat(solver.solve()).isEqualTo(OPTIMUM);
             assertThat(solver.result()).isEqualTo(0);
         }
@@ -174,12 +174,12 @@ public class PureMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (final String file : files) {
                 final MaxSATSolver solver = MaxSATSolver.incWBO(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/maxsat/" + file);
+                DimacsReader.loadWCNF("src/test/resources/maxsat/" + file, solver);
                 assertThat(solver.solve()).isEqualTo(OPTIMUM);
                 assertThat(solver.result()).isEqualTo(1);
             }
             final MaxSATSolver solver = MaxSATSolver.wbo(this.f, config);
-            readCnfToSolver(solver, "src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf");
+            DimacsReader.loadWCNF("src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf", solver);
             assertThat(solver.solve()).isEqualTo(OPTIMUM);
             assertThat(solver.result()).isEqualTo(0);
         }
@@ -193,12 +193,12 @@ public class PureMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (final String file : files) {
                 final MaxSATSolver solver = MaxSATSolver.linearSU(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/maxsat/" + file);
+                DimacsReader.loadWCNF("src/test/resources/maxsat/" + file, solver);
                 assertThat(solver.solve()).isEqualTo(OPTIMUM);
                 assertThat(solver.result()).isEqualTo(1);
             }
             final MaxSATSolver solver = MaxSATSolver.wbo(this.f, config);
-            readCnfToSolver(solver, "src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf");
+            DimacsReader.loadWCNF("src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf", solver);
             assertThat(solver.solve()).isEqualTo(OPTIMUM);
             assertThat(solver.result()).isEqualTo(0);
         }
@@ -216,12 +216,12 @@ public class PureMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (final String file : files) {
                 final MaxSATSolver solver = MaxSATSolver.linearUS(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/maxsat/" + file);
+                DimacsReader.loadWCNF("src/test/resources/maxsat/" + file, solver);
                 assertThat(solver.solve()).isEqualTo(OPTIMUM);
                 assertThat(solver.result()).isEqualTo(1);
             }
             final MaxSATSolver solver = MaxSATSolver.wbo(this.f, config);
-            readCnfToSolver(solver, "src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf");
+            DimacsReader.loadWCNF("src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf", solver);
             assertThat(solver.solve()).isEqualTo(OPTIMUM);
             assertThat(solver.result()).isEqualTo(0);
         }
@@ -239,12 +239,12 @@ public class PureMaxSATTest extends TestWithExampleFormulas {
         for (final MaxSATConfig config : configs) {
             for (final String file : files) {
                 final MaxSATSolver solver = MaxSATSolver.msu3(this.f, config);
-                readCnfToSolver(solver, "src/test/resources/maxsat/" + file);
+                DimacsReader.loadWCNF("src/test/resources/maxsat/" + file, solver);
                 assertThat(solver.solve()).isEqualTo(OPTIMUM);
                 assertThat(solver.result()).isEqualTo(1);
             }
             final MaxSATSolver solver = MaxSATSolver.wbo(this.f, config);
-            readCnfToSolver(solver, "src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf");
+            DimacsReader.loadWCNF("src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf", solver);
             assertThat(solver.solve()).isEqualTo(OPTIMUM);
             assertThat(solver.result()).isEqualTo(0);
         }
@@ -254,12 +254,12 @@ public class PureMaxSATTest extends TestWithExampleFormulas {
     public void testOLL() throws IOException {
         for (final String file : files) {
             final MaxSATSolver solver = MaxSATSolver.oll(this.f);
-            readCnfToSolver(solver, "src/test/resources/maxsat/" + file);
+            DimacsReader.loadWCNF("src/test/resources/maxsat/" + file, solver);
             assertThat(solver.solve()).isEqualTo(OPTIMUM);
             assertThat(solver.result()).isEqualTo(1);
         }
         final MaxSATSolver solver = MaxSATSolver.oll(this.f);
-        readCnfToSolver(solver, "src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf");
+        DimacsReader.loadWCNF("src/test/resources/sat/9symml_gr_rcs_w6.shuffled.cnf", solver);
         assertThat(solver.solve()).isEqualTo(OPTIMUM);
         assertThat(solver.result()).isEqualTo(0);
     }
@@ -268,7 +268,7 @@ public class PureMaxSATTest extends TestWithExampleFormulas {
     public void testSingle() throws IOException {
         final MaxSATSolver solver = MaxSATSolver.incWBO(this.f, MaxSATConfig.builder().cardinality(CardinalityEncoding.MTOTALIZER)
                 .solver(MaxSATConfig.SolverType.GLUCOSE).verbosity(SOME).output(this.logStream).build());
-        readCnfToSolver(solver, "src/test/resources/maxsat/c-fat200-2.clq.cnf");
+        DimacsReader.loadWCNF("src/test/resources/maxsat/c-fat200-2.clq.cnf", solver);
         assertThat(solver.solve()).isEqualTo(OPTIMUM);
         assertThat(solver.result()).isEqualTo(26);
         final MaxSAT.Stats stats = solver.stats();
@@ -77,6 +77,7 @@ public class ConfigurationsTest extends TestWithExampleFormulas {
                 "bbInitialUBCheckForRotatableLiterals=true%n" +
                 "bbCheckForComplementModelLiterals=true%n" +
                 "bbCheckForRotatableLiterals=true%n" +
+                "nativePBConstraints=false%n" +
                 "}");
         assertThat(config.toString()).isEqualTo(expected);
     }
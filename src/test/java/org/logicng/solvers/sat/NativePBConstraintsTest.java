@@ -0,0 +1,346 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.solvers.sat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.logicng.datastructures.Tristate.FALSE;
+import static org.logicng.datastructures.Tristate.TRUE;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.LogicNGTest;
+import org.logicng.cardinalityconstraints.CCIncrementalData;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.CardinalityConstraint;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.PBConstraint;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.SolverState;
+import org.logicng.solvers.functions.OptimizationFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for the native propagation of pseudo-Boolean constraints in MiniSAT-style solvers.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class NativePBConstraintsTest implements LogicNGTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+    private final Variable[] literals10 = new Variable[10];
+    private final MiniSatConfig nativeConfig = MiniSatConfig.builder().nativePBConstraints(true).build();
+
+    public NativePBConstraintsTest() {
+        for (int i = 0; i < 10; i++) {
+            this.literals10[i] = this.f.variable("v" + i);
+        }
+    }
+
+    private List<MiniSat> solvers() {
+        final List<MiniSat> solvers = new ArrayList<>();
+        solvers.add(MiniSat.miniSat(this.f, this.nativeConfig));
+        solvers.add(MiniSat.miniCard(this.f, this.nativeConfig));
+        solvers.add(MiniSat.glucose(this.f, this.nativeConfig, GlucoseConfig.builder().build()));
+        return solvers;
+    }
+
+    @Test
+    public void testPBConstraints() {
+        final int[] coeffs10 = new int[]{3, 2, 2, 2, 2, 2, 2, 2, 2, 2};
+        for (final MiniSat solver : solvers()) {
+            assertModels(solver, this.f.pbc(CType.EQ, 5, this.literals10, coeffs10), 9);
+            assertModels(solver, this.f.pbc(CType.EQ, 7, this.literals10, coeffs10), 36);
+            assertModels(solver, this.f.pbc(CType.EQ, 1, this.literals10, coeffs10), 0);
+            assertModels(solver, this.f.pbc(CType.LE, 6, this.literals10, coeffs10), 140);
+            assertModels(solver, this.f.pbc(CType.LT, 7, this.literals10, coeffs10), 140);
+            assertModels(solver, this.f.pbc(CType.LE, 1, this.literals10, coeffs10), 1);
+            assertModels(solver, this.f.pbc(CType.GE, 17, this.literals10, coeffs10), 47);
+            assertModels(solver, this.f.pbc(CType.GT, 16, this.literals10, coeffs10), 47);
+            assertModels(solver, this.f.pbc(CType.GE, 21, this.literals10, coeffs10), 1);
+            assertModels(solver, this.f.pbc(CType.GE, 22, this.literals10, coeffs10), 0);
+        }
+    }
+
+    @Test
+    public void testPBConstraintsWithNegativeCoefficients() {
+        for (final MiniSat solver : solvers()) {
+            assertModels(solver, this.f.pbc(CType.EQ, 2, this.literals10, new int[]{2, 2, 2, 2, 2, 2, 2, 2, 2, -2}), 45);
+            assertModels(solver, this.f.pbc(CType.EQ, 4, this.literals10, new int[]{2, 2, 2, 2, 2, 2, 2, 2, 2, -2}), 120);
+            assertModels(solver, this.f.pbc(CType.EQ, 4, this.literals10, new int[]{2, 2, -3, 2, -7, 2, 2, 2, 2, -2}), 57);
+            assertModels(solver, this.f.pbc(CType.EQ, -10, this.literals10, new int[]{2, 2, -3, 2, -7, 2, 2, 2, 2, -2}), 8);
+            assertModels(solver, this.f.pbc(CType.EQ, -12, this.literals10, new int[]{2, 2, -4, 2, -6, 2, 2, 2, 2, -2}), 1);
+        }
+    }
+
+    @Test
+    public void testCardinalityConstraints() {
+        for (final MiniSat solver : solvers()) {
+            assertModels(solver, this.f.cc(CType.GE, 8, this.literals10), 56);
+            assertModels(solver, this.f.cc(CType.GT, 7, this.literals10), 56);
+            assertModels(solver, this.f.cc(CType.EQ, 4, this.literals10), 210);
+            assertModels(solver, this.f.cc(CType.LE, 2, this.literals10), 56);
+            assertModels(solver, this.f.exo(this.literals10), 10);
+        }
+    }
+
+    @Test
+    public void testLargeCoefficientsWithoutAuxiliaryVariables() {
+        final Variable[] lits = new Variable[100];
+        final int[] coeffs = new int[100];
+        for (int i = 0; i < 100; i++) {
+            lits[i] = this.f.variable("v" + i);
+            coeffs[i] = 1_000_000 + 7919 * i;
+        }
+        final PBConstraint ge = (PBConstraint) this.f.pbc(CType.GE, 60_000_000, lits, coeffs);
+        final PBConstraint le = (PBConstraint) this.f.pbc(CType.LE, 61_000_000, lits, coeffs);
+        for (final MiniSat solver : solvers()) {
+            solver.add(ge);
+            solver.add(le);
+            assertSolverSat(solver);
+            assertThat(ge.evaluate(solver.model())).isTrue();
+            assertThat(le.evaluate(solver.model())).isTrue();
+            assertThat(solver.underlyingSolver().nVars()).isEqualTo(100);
+            assertThat(solver.underlyingSolver().nPBConstraints()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testIncrementalStates() {
+        final int[] coeffs10 = new int[]{3, 2, 2, 2, 2, 2, 2, 2, 2, 2};
+        for (final MiniSat solver : solvers().subList(0, 2)) {
+            solver.add(this.f.pbc(CType.LE, 8, this.literals10, coeffs10));
+            final SolverState state = solver.saveState();
+            solver.add(this.f.pbc(CType.GE, 6, this.literals10, coeffs10));
+            assertThat(solver.enumerateAllModels(this.literals10)).hasSize(246);
+            solver.add(this.literals10[0]);
+            assertThat(solver.enumerateAllModels(this.literals10)).hasSize(36);
+            solver.add(this.f.cc(CType.GE, 4, this.literals10));
+            assertSolverUnsat(solver);
+            solver.loadState(state);
+            assertThat(solver.underlyingSolver().nPBConstraints()).isEqualTo(1);
+            assertThat(solver.enumerateAllModels(this.literals10)).hasSize(302);
+            solver.add(this.f.cc(CType.GE, 3, this.literals10));
+            assertThat(solver.enumerateAllModels(this.literals10)).hasSize(246);
+        }
+    }
+
+    @Test
+    public void testIncrementalCardinalityConstraint() {
+        final int[] coeffs10 = new int[]{3, 2, 2, 2, 2, 2, 2, 2, 2, 2};
+        for (final MiniSat solver : solvers()) {
+            solver.add(this.f.pbc(CType.GE, 9, this.literals10, coeffs10));
+            final CCIncrementalData incData = solver.addIncrementalCC((CardinalityConstraint) this.f.cc(CType.LE, 9, this.literals10));
+            assertSolverSat(solver);
+            incData.newUpperBoundForSolver(4);
+            assertSolverSat(solver);
+            assertThat(solver.model().positiveVariables()).hasSize(4).contains(this.literals10[0]);
+            incData.newUpperBoundForSolver(3);
+            assertSolverUnsat(solver);
+        }
+    }
+
+    @Test
+    public void testOptimization() {
+        final int[] coeffs10 = new int[]{3, 2, 2, 2, 2, 2, 2, 2, 2, 2};
+        for (final MiniSat solver : solvers().subList(0, 2)) {
+            solver.add(this.f.pbc(CType.GE, 9, this.literals10, coeffs10));
+            solver.add(this.f.pbc(CType.LE, 16, this.literals10, coeffs10));
+            final List<Literal> literals = new ArrayList<>();
+            for (final Variable var : this.literals10) {
+                literals.add(var);
+            }
+            final Assignment min = solver.execute(OptimizationFunction.minimize(literals));
+            assertThat(min.positiveVariables()).hasSize(4);
+            final Assignment max = solver.execute(OptimizationFunction.maximize(literals));
+            assertThat(max.positiveVariables()).hasSize(8);
+            assertThat(max.positiveVariables()).doesNotContain(this.literals10[0]);
+        }
+    }
+
+    @Test
+    public void testBackbone() {
+        for (final MiniSat solver : solvers().subList(0, 2)) {
+            solver.add(this.f.pbc(CType.GE, 10, this.literals10, new int[]{9, 1, 1, 1, 1, 1, 1, 1, 1, 1}));
+            solver.add(this.f.pbc(CType.LE, 3, this.literals10, new int[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1}));
+            assertThat(solver.backbone(Arrays.asList(this.literals10[0], this.literals10[1], this.literals10[2])).getPositiveBackbone()).containsExactly(this.literals10[0]);
+        }
+    }
+
+    @Test
+    public void testEquivalentToEncoding() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            final List<Formula> formulas = new ArrayList<>();
+            formulas.add(this.f.or(this.literals10));
+            for (int j = 0; j < 1 + random.nextInt(5); j++) {
+                formulas.add(randomPBConstraint(random));
+            }
+            final MiniSat encoded = MiniSat.miniSat(this.f);
+            final MiniSat nativeSolver = MiniSat.miniSat(this.f, this.nativeConfig);
+            encoded.add(formulas);
+            nativeSolver.add(formulas);
+            assertThat(nativeSolver.sat()).isEqualTo(encoded.sat());
+            assertThat(new HashSet<>(nativeSolver.enumerateAllModels(this.literals10)))
+                    .isEqualTo(new HashSet<>(encoded.enumerateAllModels(this.literals10)));
+        }
+    }
+
+    @Test
+    public void testProofGenerationUsesEncoding() {
+        final MiniSat solver = MiniSat.miniSat(this.f, MiniSatConfig.builder().nativePBConstraints(true).proofGeneration(true).build());
+        solver.add(this.f.pbc(CType.GE, 5, this.literals10, new int[]{3, 2, 2, 2, 2, 2, 2, 2, 2, 2}));
+        assertSolverSat(solver);
+        assertThat(solver.underlyingSolver().nPBConstraints()).isZero();
+    }
+
+    @Test
+    public void testAddPBConstraintOnSolver() {
+        final MiniSat2Solver solver = new MiniSat2Solver();
+        for (int i = 0; i < 5; i++) {
+            solver.newVar(true, true);
+        }
+        assertThatThrownBy(() -> solver.addPBConstraint(clause(1, 2), new LNGIntVector(1), 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(solver.addPBConstraint(clause(1, 2, 3), new LNGIntVector(new int[]{1, 1, 1}), 0)).isTrue();
+        assertThat(solver.nPBConstraints()).isZero();
+        assertThat(solver.addPBConstraint(clause(1, -1, 2), new LNGIntVector(new int[]{2, 2, 1}), 3)).isTrue();
+        assertThat(solver.nPBConstraints()).isEqualTo(1);
+        assertThat(solver.value(literal(2))).isEqualTo(TRUE);
+        assertThat(solver.addPBConstraint(clause(2, 3, 4), new LNGIntVector(new int[]{5, 4, 2}), 8)).isTrue();
+        assertThat(solver.nPBConstraints()).isEqualTo(2);
+        assertThat(solver.value(literal(3))).isEqualTo(TRUE);
+        assertThat(solver.value(literal(4))).isEqualTo(Tristate.UNDEF);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        assertThat(solver.solve(null, clause(-4))).isEqualTo(TRUE);
+        assertThat(solver.solve(null, clause(-3))).isEqualTo(FALSE);
+        assertThat(solver.addPBConstraint(clause(3, 4), new LNGIntVector(new int[]{-1, -1}), 0)).isFalse();
+        assertThat(solver.solve(null)).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testBoundsAtIntegerRange() {
+        final Variable[] lits = new Variable[]{this.literals10[0], this.literals10[1]};
+        final int[] coeffs = new int[]{2, 3};
+        final int[] minCoeffs = new int[]{Integer.MIN_VALUE, 1};
+        for (final MiniSat solver : solvers()) {
+            assertModels(solver, this.f.pbc(CType.GT, Integer.MAX_VALUE, lits, coeffs), 0);
+            assertModels(solver, this.f.pbc(CType.LE, Integer.MIN_VALUE, lits, coeffs), 0);
+            assertModels(solver, this.f.pbc(CType.LT, Integer.MIN_VALUE + 1, lits, coeffs), 0);
+            assertModels(solver, this.f.pbc(CType.EQ, Integer.MIN_VALUE, lits, coeffs), 0);
+            assertModels(solver, this.f.pbc(CType.GE, Integer.MIN_VALUE, lits, coeffs), 4);
+            assertModels(solver, this.f.pbc(CType.LT, Integer.MAX_VALUE, lits, coeffs), 4);
+            assertModels(solver, this.f.pbc(CType.GE, Integer.MIN_VALUE + 1, lits, minCoeffs), 3);
+            assertModels(solver, this.f.pbc(CType.GT, Integer.MIN_VALUE, lits, minCoeffs), 3);
+            assertModels(solver, this.f.pbc(CType.LE, 0, lits, minCoeffs), 3);
+            assertModels(solver, this.f.pbc(CType.LT, 1, lits, minCoeffs), 3);
+        }
+        final MiniSat2Solver solver = new MiniSat2Solver();
+        for (int i = 0; i < 3; i++) {
+            solver.newVar(true, true);
+        }
+        assertThat(solver.addPBConstraint(clause(1, 2), new LNGIntVector(new int[]{2, 3}), Integer.MAX_VALUE + 1L)).isFalse();
+        assertThat(solver.solve(null)).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testLoadStateWithUnitImpliedByPBConstraint() {
+        final MiniCard solver = new MiniCard(this.nativeConfig);
+        for (int i = 0; i < 6; i++) {
+            solver.newVar(true, true);
+        }
+        assertThat(solver.addPBConstraint(clause(1, -2, 3), new LNGIntVector(new int[]{2, 2, 1}), 2)).isTrue();
+        assertThat(solver.addPBConstraint(clause(2, 3, 4, 5), new LNGIntVector(new int[]{2, 2, 2, 1}), 3)).isTrue();
+        assertThat(solver.addAtMost(clause(1, 2), 0)).isTrue();
+        final int[] state = solver.saveState();
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        solver.loadState(state);
+        assertThat(solver.value(literal(1))).isEqualTo(FALSE);
+        assertThat(solver.value(literal(2))).isEqualTo(FALSE);
+        assertThat(solver.value(literal(4))).isEqualTo(Tristate.UNDEF);
+        assertThat(solver.solve(null, clause(-4))).isEqualTo(TRUE);
+        assertThat(solver.solve(null, clause(-3))).isEqualTo(TRUE);
+        assertThat(solver.solve(null, clause(-3, -4))).isEqualTo(FALSE);
+        solver.addClause(clause(-3), null);
+        final int[] unsatState = solver.saveState();
+        solver.addClause(clause(-4), null);
+        assertThat(solver.solve(null)).isEqualTo(FALSE);
+        solver.loadState(unsatState);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        assertThat(solver.value(literal(4))).isEqualTo(TRUE);
+    }
+
+    private void assertModels(final MiniSat solver, final Formula constraint, final int numModels) {
+        solver.reset();
+        solver.add(constraint);
+        if (numModels == 0) {
+            assertSolverUnsat(solver);
+        } else {
+            assertSolverSat(solver);
+            final List<Assignment> models = solver.enumerateAllModels(this.literals10);
+            assertThat(models).hasSize(numModels);
+            for (final Assignment model : models) {
+                assertThat(constraint.evaluate(model)).isTrue();
+            }
+        }
+    }
+
+    private Formula randomPBConstraint(final Random random) {
+        final int n = 2 + random.nextInt(6);
+        final List<Literal> lits = new ArrayList<>();
+        final List<Integer> coeffs = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            final Variable var = this.literals10[random.nextInt(10)];
+            lits.add(random.nextBoolean() ? var : var.negate());
+            coeffs.add(random.nextInt(30) - 6);
+        }
+        return this.f.pbc(CType.values()[random.nextInt(CType.values().length)], random.nextInt(40) - 5, lits, coeffs);
+    }
+
+    private LNGIntVector clause(final int... lits) {
+        final LNGIntVector c = new LNGIntVector(lits.length);
+        for (final int l : lits) {
+            c.push(literal(l));
+        }
+        return c;
+    }
+
+    private int literal(final int l) {
+        return l < 0 ? (-l * 2) ^ 1 : l * 2;
+    }
+}
@@ -0,0 +1,268 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.transformations.cnf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.TestWithExampleFormulas;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PropositionalParser;
+import org.logicng.io.parsers.PseudoBooleanParser;
+import org.logicng.predicates.satisfiability.SATPredicate;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.SATSolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit Tests for {@link AIGCNFTransformation} and {@link AndInverterGraph}.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class AIGCNFTest extends TestWithExampleFormulas {
+
+    private final AIGCNFTransformation aig = new AIGCNFTransformation(0);
+
+    @Test
+    public void testAndInverterGraph() {
+        final AndInverterGraph graph = new AndInverterGraph();
+        final int a = graph.input(this.A);
+        final int b = graph.input(this.B);
+        assertThat(graph.input(this.A)).isEqualTo(a);
+        assertThat(graph.and(a, AndInverterGraph.not(a))).isEqualTo(AndInverterGraph.FALSE);
+        assertThat(graph.and(a, a)).isEqualTo(a);
+        assertThat(graph.and(a, AndInverterGraph.TRUE)).isEqualTo(a);
+        assertThat(graph.and(AndInverterGraph.FALSE, b)).isEqualTo(AndInverterGraph.FALSE);
+        assertThat(graph.or(a, AndInverterGraph.not(a))).isEqualTo(AndInverterGraph.TRUE);
+        final int ab = graph.and(a, b);
+        assertThat(graph.and(b, a)).isEqualTo(ab);
+        assertThat(graph.numberOfAndNodes()).isEqualTo(1);
+        assertThat(graph.isAnd(AndInverterGraph.node(ab))).isTrue();
+        assertThat(graph.isAnd(AndInverterGraph.node(a))).isFalse();
+        assertThat(graph.variable(AndInverterGraph.node(b))).isEqualTo(this.B);
+        assertThat(graph.fanin0(AndInverterGraph.node(ab))).isEqualTo(a);
+        assertThat(graph.fanin1(AndInverterGraph.node(ab))).isEqualTo(b);
+        assertThat(graph.add(this.f.and(this.B, this.A))).isEqualTo(ab);
+        assertThat(graph.add(this.f.or(this.NA, this.NB))).isEqualTo(AndInverterGraph.not(ab));
+        assertThat(graph.add(this.f.implication(this.A, this.NB))).isEqualTo(AndInverterGraph.not(ab));
+        assertThat(graph.add(this.TRUE)).isEqualTo(AndInverterGraph.TRUE);
+        assertThat(graph.add(this.FALSE)).isEqualTo(AndInverterGraph.FALSE);
+        assertThat(graph.numberOfAndNodes()).isEqualTo(1);
+        assertThat(graph.numberOfInputs()).isEqualTo(2);
+        assertThat(graph.numberOfNodes()).isEqualTo(4);
+        for (int i = 0; i < 2000; i++) {
+            graph.and(graph.input(this.f.variable("v" + i)), a);
+        }
+        assertThat(graph.numberOfAndNodes()).isEqualTo(2001);
+        assertThat(graph.and(a, graph.input(this.f.variable("v1000")))).isEqualTo(graph.add(this.f.and(this.A, this.f.variable("v1000"))));
+    }
+
+    @Test
+    public void testConstants() {
+        assertThat(this.TRUE.transform(this.aig)).isEqualTo(this.TRUE);
+        assertThat(this.FALSE.transform(this.aig)).isEqualTo(this.FALSE);
+        final Formula contradiction = this.f.and(this.A, this.f.not(this.f.or(this.A, this.B)), this.C);
+        assertThat(contradiction.transform(this.aig).isCNF()).isTrue();
+        assertThat(contradiction.transform(this.aig).holds(new SATPredicate(this.f))).isFalse();
+    }
+
+    @Test
+    public void testLiterals() {
+        assertThat(this.A.transform(this.aig)).isEqualTo(this.A);
+        assertThat(this.NA.transform(this.aig)).isEqualTo(this.NA);
+    }
+
+    @Test
+    public void testBinaryOperators() {
+        for (final Formula formula : new Formula[]{this.IMP1, this.IMP2, this.IMP3, this.EQ1, this.EQ2, this.EQ3, this.EQ4}) {
+            final Formula cnf = formula.transform(this.aig);
+            assertThat(cnf.isCNF()).isTrue();
+            assertThat(equisatisfiable(formula, cnf)).isTrue();
+        }
+    }
+
+    @Test
+    public void testNAryOperators() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(this.f);
+        assertThat(this.AND1.transform(this.aig)).isEqualTo(this.AND1);
+        assertThat(this.OR1.transform(this.aig)).isEqualTo(this.OR1);
+        final Formula f1 = p.parse("(a & b & x) | (c & d & ~y)");
+        final Formula f2 = p.parse("(a & b & x) | (c & d & ~y) | (~z | (c & d & ~y)) ");
+        final Formula f3 = p.parse("a | b | (~x & ~y)");
+        final Formula f4 = p.parse("~((a | b) | ~(x | y)) | (a <=> ~(b & x)) & (y => ~z)");
+        for (final Formula formula : new Formula[]{f1, f2, f3, f4}) {
+            final Formula cnf = formula.transform(this.aig);
+            assertThat(cnf.isCNF()).isTrue();
+            assertThat(equisatisfiable(formula, cnf)).isTrue();
+        }
+    }
+
+    @Test
+    public void testTopLevelConjunction() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(this.f);
+        assertThat(p.parse("d & ~e & (a | b)").transform(this.aig)).isEqualTo(p.parse("d & ~e & (a | b)"));
+        final Formula formula = p.parse("d & ((a | b) => c)");
+        final Formula cnf = formula.transform(this.aig);
+        assertThat(cnf).isEqualTo(p.parse("d & (~a | c) & (~b | c)"));
+    }
+
+    @Test
+    public void testCC() throws ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final PseudoBooleanParser p = new PseudoBooleanParser(f);
+        assertThat(p.parse("a <=> (1 * b <= 1)").transform(this.aig)).isEqualTo(p.parse("a"));
+        assertThat(p.parse("~(1 * b <= 1)").transform(this.aig)).isEqualTo(p.parse("$false"));
+        final Formula amo = p.parse("(1 * b + 1 * c + 1 * d <= 1)");
+        assertThat(amo.transform(this.aig)).isEqualTo(p.parse("(~b | ~c) & (~b | ~d) & (~c | ~d)"));
+        final Formula formula = p.parse("x | ~(1 * b + 1 * c + 1 * d <= 1) & (y <=> b + c >= 1)");
+        final Formula cnf = formula.transform(this.aig);
+        assertThat(cnf.isCNF()).isTrue();
+        assertThat(equisatisfiable(formula, cnf)).isTrue();
+    }
+
+    @Test
+    public void testFactorization() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(this.f);
+        final AIGCNFTransformation aigf = new AIGCNFTransformation();
+        final Formula f1 = p.parse("(a | b) => c");
+        final Formula f2 = p.parse("d & ((a | b) => c) | ~x & ~y");
+        assertThat(f1.transform(aigf)).isEqualTo(p.parse("(~a | c) & (~b | c)"));
+        assertThat(f2.transform(aigf).isCNF()).isTrue();
+        assertThat(f2.transform(aigf).variables()).isEqualTo(f2.variables());
+    }
+
+    @Test
+    public void testCaching() throws ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final PropositionalParser p = new PropositionalParser(f);
+        final Formula formula = p.parse("(a <=> b) | (c <=> ~d) | (e & ~(f | g))");
+        final Formula cnf = formula.transform(this.aig);
+        assertThat(formula.transform(this.aig)).isSameAs(cnf);
+        final Formula uncached = formula.transform(this.aig, false);
+        assertThat(uncached.isCNF()).isTrue();
+        assertThat(uncached).isNotEqualTo(cnf);
+        assertThat(equisatisfiable(formula, cnf)).isTrue();
+    }
+
+    @Test
+    public void testRandomFormulas() {
+        final FormulaFactory f = new FormulaFactory();
+        final Random random = new Random(42);
+        final PlaistedGreenbaumTransformation pg = new PlaistedGreenbaumTransformation(0);
+        int aigClauses = 0;
+        int pgClauses = 0;
+        for (int i = 0; i < 200; i++) {
+            final Formula formula = randomFormula(f, random, 5);
+            final Formula cnf = formula.transform(this.aig);
+            assertThat(cnf.isCNF()).isTrue();
+            assertThat(equisatisfiable(formula, cnf)).isTrue();
+            aigClauses += cnf.numberOfOperands();
+            pgClauses += formula.transform(pg).numberOfOperands();
+        }
+        assertThat(aigClauses).isLessThan(pgClauses);
+    }
+
+    @Test
+    public void testParity() {
+        final FormulaFactory f = new FormulaFactory();
+        Formula parity = f.variable("x0");
+        for (int i = 1; i < 10; i++) {
+            parity = f.equivalence(parity, f.variable("x" + i));
+        }
+        final Formula cnf = parity.transform(this.aig);
+        assertThat(cnf.isCNF()).isTrue();
+        assertThat(equisatisfiable(parity, cnf)).isTrue();
+        assertThat(cnf.numberOfOperands()).isLessThan(parity.transform(new PlaistedGreenbaumTransformation(0)).numberOfOperands());
+        assertThat(cnf.numberOfOperands()).isLessThan(parity.transform(new TseitinTransformation(0)).numberOfOperands());
+    }
+
+    @Test
+    public void testCNFEncoder() throws ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final PropositionalParser p = new PropositionalParser(f);
+        final Formula formula = p.parse("(a <=> b) | (c <=> ~d) | (e & ~(f | g)) | (h <=> (i | j)) | (k & l & ~m & ~n)");
+        final CNFEncoder encoder = new CNFEncoder(f, CNFConfig.builder().algorithm(CNFConfig.Algorithm.AIG).build());
+        final Formula cnf = encoder.encode(formula);
+        assertThat(cnf.isCNF()).isTrue();
+        assertThat(equisatisfiable(formula, cnf)).isTrue();
+        f.putConfiguration(CNFConfig.builder().createdClauseBoundary(5).fallbackAlgorithmForAdvancedEncoding(CNFConfig.Algorithm.AIG).build());
+        final Formula advanced = formula.cnf();
+        assertThat(advanced.isCNF()).isTrue();
+        assertThat(advanced.variables().size()).isGreaterThan(formula.variables().size());
+        assertThat(equisatisfiable(formula, advanced)).isTrue();
+        assertThatThrownBy(() -> CNFConfig.builder().fallbackAlgorithmForAdvancedEncoding(CNFConfig.Algorithm.BDD))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Formula randomFormula(final FormulaFactory f, final Random random, final int depth) {
+        if (depth == 0 || random.nextInt(8) == 0) {
+            return f.literal("v" + random.nextInt(8), random.nextBoolean());
+        }
+        switch (random.nextInt(6)) {
+            case 0:
+                return f.not(randomFormula(f, random, depth - 1));
+            case 1:
+                return f.implication(randomFormula(f, random, depth - 1), randomFormula(f, random, depth - 1));
+            case 2:
+                return f.equivalence(randomFormula(f, random, depth - 1), randomFormula(f, random, depth - 1));
+            case 3:
+                return f.or(randomFormula(f, random, depth - 1), randomFormula(f, random, depth - 1), randomFormula(f, random, depth - 1));
+            default:
+                return f.and(randomFormula(f, random, depth - 1), randomFormula(f, random, depth - 1), randomFormula(f, random, depth - 1));
+        }
+    }
+
+    /**
+     * Checks that for each assignment of the original variables, the formula is satisfied iff the CNF is satisfiable.
+     */
+    private static boolean equisatisfiable(final Formula formula, final Formula cnf) {
+        final SATSolver solver = MiniSat.miniSat(formula.factory());
+        solver.add(cnf);
+        final List<Variable> vars = new ArrayList<>(formula.variables());
+        for (int model = 0; model < 1 << vars.size(); model++) {
+            final List<Literal> literals = new ArrayList<>(vars.size());
+            for (int i = 0; i < vars.size(); i++) {
+                literals.add(((model >> i) & 1) == 1 ? vars.get(i) : vars.get(i).negate());
+            }
+            if (formula.evaluate(new Assignment(literals)) != (solver.sat(literals) == Tristate.TRUE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -33,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import org.logicng.datastructures.Assignment;
+import org.logicng.formulas.CType;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.formulas.Variable;
@@ -40,13 +41,19 @@ import org.logicng.io.parsers.ParserException;
 import org.logicng.io.parsers.PropositionalParser;
 import org.logicng.solvers.MiniSat;
 import org.logicng.solvers.SATSolver;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * Unit tests for the class {@link CNFEncoder}.
- * @version 2.3.0
+ * @version 2.5.0
  * @since 1.1
  */
 public class CNFEncoderTest {
@@ -216,6 +223,99 @@ public class CNFEncoderTest {
         assertThatThrownBy(() -> CNFConfig.builder().fallbackAlgorithmForAdvancedEncoding(CNFConfig.Algorithm.FACTORIZATION).build()).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    public void testParallelEncoding() {
+        for (final CNFConfig.Algorithm algorithm : Arrays.asList(CNFConfig.Algorithm.FACTORIZATION, CNFConfig.Algorithm.TSEITIN,
+                CNFConfig.Algorithm.PLAISTED_GREENBAUM, CNFConfig.Algorithm.ADVANCED)) {
+            final FormulaFactory f = new FormulaFactory();
+            final Formula formula = randomConjunction(f, 300);
+            final Variable existingAuxVariable = f.newCNFVariable();
+            final CNFEncoder encoder = new CNFEncoder(f, CNFConfig.builder().algorithm(algorithm).atomBoundary(2).build());
+            final Formula cnf = encoder.encodeParallel(formula, 3);
+            assertThat(cnf.isCNF()).isTrue();
+            assertThat(cnf.variables()).doesNotContain(existingAuxVariable);
+            final SATSolver solver = MiniSat.miniSat(f);
+            solver.add(cnf);
+            final SATSolver expected = MiniSat.miniSat(f);
+            expected.add(formula);
+            assertThat(new HashSet<>(solver.enumerateAllModels(formula.variables()))).isEqualTo(new HashSet<>(expected.enumerateAllModels(formula.variables())));
+        }
+    }
+
+    @Test
+    public void testParallelEncodingIsDeterministic() {
+        final FormulaFactory f1 = new FormulaFactory();
+        final FormulaFactory f2 = new FormulaFactory();
+        final Formula formula1 = randomConjunction(f1, 1000);
+        final Formula formula2 = f2.importFormula(formula1);
+        final CNFConfig config = CNFConfig.builder().algorithm(CNFConfig.Algorithm.TSEITIN).atomBoundary(2).build();
+        final Formula cnf1 = new CNFEncoder(f1, config).encodeParallel(formula1, 2);
+        final Formula cnf2 = new CNFEncoder(f2, config).encodeParallel(formula2, 5);
+        assertThat(cnf1.toString()).isEqualTo(cnf2.toString());
+        assertThat(cnf1.factory()).isSameAs(f1);
+        final Formula cnf3 = new CNFEncoder(f2, config).encodeParallel(formula2, 2);
+        assertThat(cnf3.numberOfOperands()).isEqualTo(cnf2.numberOfOperands());
+        final SortedSet<Variable> auxVariables = new TreeSet<>(cnf3.variables());
+        auxVariables.removeAll(formula2.variables());
+        assertThat(auxVariables).isNotEmpty();
+        auxVariables.retainAll(cnf2.variables());
+        assertThat(auxVariables).isEmpty();
+    }
+
+    @Test
+    public void testParallelEncodingOfCollection() throws ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final PropositionalParser p = new PropositionalParser(f);
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            formulas.add(p.parse(String.format("(a%d <=> b%d) | c%d & ~a%d", i, i, i, i + 1)));
+        }
+        formulas.add(f.verum());
+        formulas.add(f.falsum());
+        formulas.add(f.pbc(CType.LE, 2, Arrays.asList(f.variable("a"), f.variable("b"), f.variable("c"), f.variable("d")),
+                Arrays.asList(1, 2, 1, 1)));
+        final List<Formula> encoded = new CNFEncoder(f, CNFConfig.builder().algorithm(CNFConfig.Algorithm.PLAISTED_GREENBAUM).build())
+                .encodeParallel(formulas, 4);
+        assertThat(encoded).hasSize(formulas.size());
+        for (int i = 0; i < formulas.size(); i++) {
+            assertThat(encoded.get(i).isCNF()).isTrue();
+            assertThat(equivalentModels(formulas.get(i), encoded.get(i), formulas.get(i).variables())).isTrue();
+        }
+        assertThat(encoded.get(500)).isEqualTo(f.verum());
+        assertThat(encoded.get(501)).isEqualTo(f.falsum());
+    }
+
+    @Test
+    public void testParallelEncodingThreadCounts() {
+        final FormulaFactory f = new FormulaFactory();
+        final Formula formula = randomConjunction(f, 500);
+        for (final CNFConfig.Algorithm algorithm : Arrays.asList(CNFConfig.Algorithm.TSEITIN, CNFConfig.Algorithm.PLAISTED_GREENBAUM,
+                CNFConfig.Algorithm.ADVANCED)) {
+            final CNFConfig config = CNFConfig.builder().algorithm(algorithm).atomBoundary(2).build();
+            final FormulaFactory f1 = new FormulaFactory();
+            final Formula cnf1 = new CNFEncoder(f1, config).encodeParallel(f1.importFormula(formula), 1);
+            for (final int numThreads : new int[]{2, 7}) {
+                final FormulaFactory fn = new FormulaFactory();
+                final Formula cnfN = new CNFEncoder(fn, config).encodeParallel(fn.importFormula(formula), numThreads);
+                assertThat(cnfN.toString()).as(algorithm + " threads=" + numThreads).isEqualTo(cnf1.toString());
+            }
+        }
+        final CNFEncoder encoder = new CNFEncoder(f);
+        assertThat(encoder.encodeParallel(f.variable("x"), 1)).isEqualTo(f.variable("x"));
+        assertThat(encoder.encodeParallel(f.variable("x"), 4)).isEqualTo(f.variable("x"));
+        assertThatThrownBy(() -> encoder.encodeParallel(formula, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> encoder.encodeParallel(Arrays.asList(formula, formula), -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Formula randomConjunction(final FormulaFactory f, final int numOperands) {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(6).seed(42).build());
+        final List<Formula> operands = new ArrayList<>();
+        for (int i = 0; i < numOperands; i++) {
+            operands.add(f.or(randomizer.formula(3), f.variable("y" + i % 5)));
+        }
+        return f.and(operands);
+    }
+
     private boolean equivalentModels(final Formula f1, final Formula f2, final SortedSet<Variable> vars) {
         final SATSolver s = MiniSat.miniSat(f1.factory());
         s.add(f1);
@@ -48,13 +48,17 @@ import org.logicng.util.FormulaCornerCases;
 import org.logicng.util.FormulaRandomizer;
 import org.logicng.util.FormulaRandomizerConfig;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Unit Tests for the class {@link PlaistedGreenbaumTransformationSolver}.
- * @version 2.0.0
+ * @version 2.5.0
  * @since 2.0.0
  */
 public class PlaistedGreenbaumTransformationSolverTest extends TestWithExampleFormulas {
@@ -111,6 +115,67 @@ public class PlaistedGreenbaumTransformationSolverTest extends TestWithExampleFo
         }
     }
 
+    @Test
+    public void testCacheAfterLoadState() {
+        final MiniSat solver = MiniSat.miniSat(this.f, MiniSatConfig.builder().cnfMethod(MiniSatConfig.CNFMethod.FULL_PG_ON_SOLVER).build());
+        final Formula shared = this.f.or(this.f.and(this.A, this.B), this.f.and(this.C, this.f.or(this.X, this.NY)));
+        final Formula formula1 = this.f.equivalence(this.X, this.f.or(shared, this.f.and(this.NA, this.Y)));
+        final Formula formula2 = this.f.or(this.f.and(shared, this.NX), this.f.and(this.C, this.NB, this.f.or(this.A, this.Y)));
+        solver.add(formula1);
+        final int varsFormula1 = solver.underlyingSolver().nVars();
+        final SolverState state = solver.saveState();
+        solver.add(formula2);
+        final int varsFormula2 = solver.underlyingSolver().nVars();
+        assertThat(varsFormula2).isGreaterThan(varsFormula1);
+        solver.loadState(state);
+        assertThat(solver.underlyingSolver().nVars()).isEqualTo(varsFormula1);
+        solver.add(formula1);
+        assertThat(solver.underlyingSolver().nVars()).isEqualTo(varsFormula1);
+        solver.add(formula2);
+        assertThat(solver.underlyingSolver().nVars()).isEqualTo(varsFormula2);
+        assertThat(solver.sat()).isEqualTo(this.f.and(formula1, formula2).holds(new SATPredicate(this.f)) ? Tristate.TRUE : Tristate.FALSE);
+        solver.loadState(state);
+        solver.add(formula2.negate());
+        assertThat(solver.sat()).isEqualTo(this.f.and(formula1, formula2.negate()).holds(new SATPredicate(this.f)) ? Tristate.TRUE : Tristate.FALSE);
+    }
+
+    @Test
+    public void testNestedStates() {
+        for (int i = 0; i < 100; i++) {
+            final FormulaFactory f = new FormulaFactory();
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(8).seed(i * 42).build());
+            final Random random = new Random(i);
+            final List<Formula> pool = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                pool.add(randomizer.formula(3));
+            }
+            final MiniSat solver = MiniSat.miniSat(f, MiniSatConfig.builder().cnfMethod(MiniSatConfig.CNFMethod.FULL_PG_ON_SOLVER).build());
+            final Deque<SolverState> states = new ArrayDeque<>();
+            final Deque<Integer> numbersOfFormulas = new ArrayDeque<>();
+            final List<Formula> added = new ArrayList<>();
+            for (int step = 0; step < 30; step++) {
+                final int action = random.nextInt(4);
+                if (action == 0) {
+                    states.push(solver.saveState());
+                    numbersOfFormulas.push(added.size());
+                } else if (action == 1 && !states.isEmpty()) {
+                    final boolean keepState = random.nextBoolean();
+                    final SolverState state = keepState ? states.peek() : states.pop();
+                    final int numberOfFormulas = keepState ? numbersOfFormulas.peek() : numbersOfFormulas.pop();
+                    solver.loadState(state);
+                    added.subList(numberOfFormulas, added.size()).clear();
+                } else {
+                    final Formula formula = pool.get(random.nextInt(pool.size()));
+                    final Formula toAdd = random.nextBoolean() ? formula : formula.negate();
+                    solver.add(toAdd);
+                    added.add(toAdd);
+                }
+                final Tristate expected = f.and(added).holds(new SATPredicate(f)) ? Tristate.TRUE : Tristate.FALSE;
+                assertThat(solver.sat()).isEqualTo(expected);
+            }
+        }
+    }
+
     private static Formula randomSATFormula(final FormulaRandomizer randomizer, final int maxDepth, final FormulaFactory f) {
         return Stream.generate(() -> randomizer.formula(maxDepth))
                 .filter(formula -> formula.holds(new SATPredicate(f)))
@@ -0,0 +1,213 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.transformations.cnf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.RandomTag;
+import org.logicng.TestWithExampleFormulas;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PropositionalParser;
+import org.logicng.io.writers.DimacsStreamWriter;
+import org.logicng.predicates.satisfiability.TautologyPredicate;
+import org.logicng.solvers.MiniSat;
+import org.logicng.util.FormulaCornerCases;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+
+/**
+ * Unit tests for {@link StreamingCNFTransformation} and the clause sinks.
+ * @version 2.5.0
+ * @since 2.5.0
+ */
+public class StreamingCNFTransformationTest extends TestWithExampleFormulas {
+
+    private static final List<CNFConfig.Algorithm> ALGORITHMS = Arrays.asList(CNFConfig.Algorithm.FACTORIZATION,
+            CNFConfig.Algorithm.TSEITIN, CNFConfig.Algorithm.PLAISTED_GREENBAUM);
+
+    @Test
+    public void testUnsupportedAlgorithm() {
+        assertThatThrownBy(() -> new StreamingCNFTransformation(new ClauseCounter(), CNFConfig.Algorithm.BDD))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StreamingCNFTransformation(new ClauseCounter(), CNFConfig.Algorithm.ADVANCED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testConstantsAndClauses() {
+        for (final CNFConfig.Algorithm algorithm : ALGORITHMS) {
+            final ClauseBuffer buffer = new ClauseBuffer();
+            final StreamingCNFTransformation transformation = new StreamingCNFTransformation(buffer, algorithm, 0);
+            transformation.add(this.TRUE);
+            assertThat(buffer.numberOfClauses()).isZero();
+            transformation.add(this.f.or(this.A, this.NB));
+            transformation.add(this.f.and(this.X, this.f.or(this.Y, this.NA)));
+            transformation.add(this.FALSE);
+            assertThat(transformation.numberOfClauses()).isEqualTo(4);
+            assertThat(buffer.numberOfClauses()).isEqualTo(4);
+            assertThat(buffer.numberOfVariables()).isEqualTo(4);
+            assertThat(buffer.clause(0)).containsExactly(0, 3);
+            assertThat(buffer.clause(1)).containsExactly(4);
+            assertThat(buffer.clause(3)).isEmpty();
+            assertThat(buffer.variableForIndex(2)).isEqualTo(this.X);
+            assertThat(buffer.toFormula(this.f)).isEqualTo(this.FALSE);
+        }
+    }
+
+    @Test
+    public void testPlaistedGreenbaum() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(this.f);
+        final ClauseBuffer buffer = new ClauseBuffer();
+        final StreamingCNFTransformation transformation = new StreamingCNFTransformation(buffer, CNFConfig.Algorithm.PLAISTED_GREENBAUM, 0);
+        transformation.add(p.parse("a & b | c"));
+        assertThat(buffer.numberOfVariables()).isEqualTo(4);
+        assertThat(buffer.variableForIndex(2)).isNull();
+        assertThat(buffer.numberOfClauses()).isEqualTo(3);
+        assertThat(buffer.clause(0)).containsExactly(5, 0);
+        assertThat(buffer.clause(1)).containsExactly(5, 2);
+        assertThat(buffer.clause(2)).containsExactly(4, 6);
+        transformation.add(p.parse("(a & b | d) & ~e"));
+        assertThat(buffer.numberOfVariables()).isEqualTo(6);
+        assertThat(buffer.numberOfClauses()).isEqualTo(5);
+        transformation.clearCache();
+        transformation.add(p.parse("a & b | d"));
+        assertThat(buffer.numberOfVariables()).isEqualTo(7);
+        assertThat(buffer.numberOfClauses()).isEqualTo(8);
+    }
+
+    @Test
+    public void testTseitin() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(this.f);
+        final ClauseCounter counter = new ClauseCounter();
+        final StreamingCNFTransformation transformation = new StreamingCNFTransformation(counter, CNFConfig.Algorithm.TSEITIN, 0);
+        transformation.add(p.parse("a & b | c"));
+        assertThat(counter.numberOfVariables()).isEqualTo(4);
+        assertThat(counter.numberOfAuxiliaryVariables()).isEqualTo(1);
+        assertThat(counter.numberOfClauses()).isEqualTo(4);
+        assertThat(counter.numberOfLiterals()).isEqualTo(9);
+        assertThat(counter.toString()).isEqualTo("ClauseCounter{variables=4, auxiliaryVariables=1, clauses=4, literals=9}");
+    }
+
+    @Test
+    public void testFactorization() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(this.f);
+        final List<Formula> formulas = Arrays.asList(p.parse("a & b | c & d | ~a"), p.parse("(a => b) <=> (c | ~d) & x"),
+                p.parse("(a | b) & (b | a) & (a | ~a | c)"), this.PBC1, this.f.not(this.EQ1));
+        for (final Formula formula : formulas) {
+            final ClauseBuffer buffer = new ClauseBuffer();
+            new StreamingCNFTransformation(buffer, CNFConfig.Algorithm.FACTORIZATION).add(formula);
+            final Formula cnf = buffer.toFormula(this.f);
+            final Formula expected = formula.transform(new CNFFactorization());
+            assertThat(cnf.numberOfOperands()).isEqualTo(expected.numberOfOperands());
+            assertThat(this.f.equivalence(cnf, expected).holds(new TautologyPredicate(this.f))).isTrue();
+        }
+    }
+
+    @Test
+    public void testCornerCases() {
+        final FormulaFactory f = new FormulaFactory();
+        final FormulaCornerCases cornerCases = new FormulaCornerCases(f);
+        for (final Formula formula : cornerCases.cornerCases()) {
+            for (final CNFConfig.Algorithm algorithm : ALGORITHMS) {
+                for (final int boundary : new int[]{0, 12}) {
+                    compareModels(f, formula, algorithm, boundary);
+                }
+            }
+        }
+    }
+
+    @Test
+    @RandomTag
+    public void testRandom() {
+        for (int i = 0; i < 200; i++) {
+            final FormulaFactory f = new FormulaFactory();
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(8).seed(i * 42).build());
+            final Formula formula = randomizer.formula(4);
+            for (final CNFConfig.Algorithm algorithm : ALGORITHMS) {
+                compareModels(f, formula, algorithm, algorithm == CNFConfig.Algorithm.FACTORIZATION ? 12 : 0);
+            }
+        }
+    }
+
+    @Test
+    public void testDimacsWriter() throws ParserException, IOException {
+        final PropositionalParser p = new PropositionalParser(this.f);
+        final File file = new File("src/test/resources/writers/temp/streaming_cnf.cnf");
+        try (final DimacsStreamWriter writer = new DimacsStreamWriter(file)) {
+            final StreamingCNFTransformation transformation = new StreamingCNFTransformation(writer, CNFConfig.Algorithm.PLAISTED_GREENBAUM, 0);
+            transformation.add(p.parse("(a & b | c) & ~d"));
+            writer.add(p.parse("~a | d"));
+            assertThat(writer.numberOfClauses()).isEqualTo(5);
+            assertThat(writer.variableMapping()).hasSize(4);
+        }
+        final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertThat(lines).containsExactly("p cnf 5          5         ", "-3 1 0", "-3 2 0", "3 4 0", "-5 0", "-1 5 0");
+        Files.delete(file.toPath());
+    }
+
+    private static void compareModels(final FormulaFactory f, final Formula formula, final CNFConfig.Algorithm algorithm, final int boundary) {
+        final SortedSet<Variable> variables = formula.nnf().variables();
+        final MiniSat expectedSolver = MiniSat.miniSat(f);
+        expectedSolver.add(formula.nnf());
+        final Tristate expectedResult = expectedSolver.sat();
+        final Set<Assignment> expectedModels = new HashSet<>(expectedSolver.enumerateAllModels(variables));
+        final MiniSat solver = MiniSat.miniSat(f);
+        final SolverClauseSink sink = new SolverClauseSink(solver);
+        variables.forEach(sink::variable);
+        final StreamingCNFTransformation transformation = new StreamingCNFTransformation(sink, algorithm, boundary);
+        transformation.add(formula);
+        assertThat(solver.sat()).isEqualTo(expectedResult);
+        assertThat(new HashSet<>(solver.enumerateAllModels(variables))).isEqualTo(expectedModels);
+        final ClauseBuffer buffer = new ClauseBuffer();
+        new StreamingCNFTransformation(buffer, algorithm, boundary).add(formula);
+        final Formula cnf = buffer.toFormula(f);
+        assertThat(cnf.isCNF()).isTrue();
+        final MiniSat bufferSolver = MiniSat.miniSat(f);
+        variables.forEach(new SolverClauseSink(bufferSolver)::variable);
+        bufferSolver.add(cnf);
+        assertThat(new HashSet<>(bufferSolver.enumerateAllModels(variables))).isEqualTo(expectedModels);
+    }
+}